@@ -0,0 +1,32 @@
+#!/bin/sh
+# CDS training run for the production image (see the Dockerfile's cds-training stage).
+#
+# Boots the AOT-processed application once against a throwaway local PostgreSQL, so the run
+# loads the same classes as a real startup (Flyway, Hibernate schema validation, security,
+# Tomcat), and exits as soon as the context is refreshed. The JVM then writes every class it
+# loaded to application.jsa. A database is required: with AOT the Flyway and JPA beans are
+# fixed at build time and cannot be switched off for the training run.
+set -eu
+
+PGDATA=/tmp/pgdata
+
+su postgres -s /bin/sh -c "initdb -D $PGDATA -U postgres --auth=trust >/dev/null"
+su postgres -s /bin/sh -c "pg_ctl -D $PGDATA -o '-k /tmp -c listen_addresses=localhost' -w start >/dev/null"
+
+# Placeholder credentials: nothing is signed or uploaded during training.
+SPRING_DATASOURCE_URL=jdbc:postgresql://localhost:5432/postgres \
+SPRING_DATASOURCE_USERNAME=postgres \
+SPRING_DATASOURCE_PASSWORD=training \
+JWT_SECRET=dHJhaW5pbmctb25seS1zZWNyZXQtbm90LXVzZWQtZm9yLXRva2Vucy0wMTIzNDU2Nzg5 \
+CLOUDFLARE_R2_ENDPOINT=http://localhost:9000 \
+CLOUDFLARE_R2_ACCESS_KEY_ID=training \
+CLOUDFLARE_R2_SECRET_ACCESS_KEY=training \
+CLOUDFLARE_R2_BUCKET_NAME=training \
+java -XX:ArchiveClassesAtExit=application.jsa \
+     -Dspring.aot.enabled=true \
+     -Dspring.context.exit=onRefresh \
+     -jar app.jar
+
+su postgres -s /bin/sh -c "pg_ctl -D $PGDATA -m fast -w stop >/dev/null"
+rm -rf "$PGDATA"
+test -s application.jsa
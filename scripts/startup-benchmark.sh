@@ -0,0 +1,84 @@
+#!/usr/bin/env bash
+# Compares startup of the standard production image against the AOT + CDS one.
+#
+# Builds both Dockerfile targets, starts a PostgreSQL container for them to boot against,
+# then starts each image RUNS times and records
+#   - time to ready: from `docker run` until /actuator/health answers UP,
+#   - Spring's own "Started ... in N seconds" figure,
+#   - resident memory of the JVM once ready (VmRSS of PID 1).
+# Prints every run and the median per image.
+#
+# Usage: scripts/startup-benchmark.sh [RUNS]   (default 5; needs docker and curl)
+set -euo pipefail
+
+RUNS=${1:-5}
+NETWORK=ufind-startup-bench
+DB=ufind-startup-bench-db
+PORT=18080
+IMAGES=(standard:production-standard fast:production)
+
+cleanup() {
+    docker rm -f "$DB" ufind-startup-bench-app >/dev/null 2>&1 || true
+    docker network rm "$NETWORK" >/dev/null 2>&1 || true
+}
+trap cleanup EXIT
+
+for entry in "${IMAGES[@]}"; do
+    docker build -q --target "${entry#*:}" -t "ufind-startup:${entry%%:*}" . >/dev/null
+done
+
+docker network create "$NETWORK" >/dev/null
+docker run -d --name "$DB" --network "$NETWORK" \
+    -e POSTGRES_DB=ufind -e POSTGRES_USER=ufind -e POSTGRES_PASSWORD=ufind \
+    postgres:16-alpine >/dev/null
+until docker exec "$DB" pg_isready -U ufind -d ufind >/dev/null 2>&1; do sleep 0.5; done
+
+now_ms() { date +%s%3N; }
+
+# Prints "<ready ms> <spring seconds> <rss MiB>" for one start of the given image.
+measure() {
+    local image=$1 started ready
+    started=$(now_ms)
+    docker run -d --name ufind-startup-bench-app --network "$NETWORK" -p "$PORT:8080" \
+        -e SPRING_DATASOURCE_URL="jdbc:postgresql://$DB:5432/ufind" \
+        -e SPRING_DATASOURCE_USERNAME=ufind -e SPRING_DATASOURCE_PASSWORD=ufind \
+        -e JWT_SECRET=c3RhcnR1cC1iZW5jaG1hcmstb25seS1zZWNyZXQtMDEyMzQ1Njc4OWFiY2RlZg== \
+        -e CLOUDFLARE_R2_ENDPOINT=http://localhost:9000 \
+        -e CLOUDFLARE_R2_ACCESS_KEY_ID=bench -e CLOUDFLARE_R2_SECRET_ACCESS_KEY=bench \
+        -e CLOUDFLARE_R2_BUCKET_NAME=bench \
+        "$image" >/dev/null
+    until curl -fs "http://localhost:$PORT/actuator/health" 2>/dev/null | grep -q '"UP"'; do
+        if [ "$(docker inspect -f '{{.State.Running}}' ufind-startup-bench-app)" != true ]; then
+            docker logs ufind-startup-bench-app >&2
+            exit 1
+        fi
+        sleep 0.05
+    done
+    ready=$(now_ms)
+    local spring rss
+    spring=$(docker logs ufind-startup-bench-app 2>&1 | sed -n 's/.*Started .* in \([0-9.]*\) seconds.*/\1/p' | head -1)
+    rss=$(docker exec ufind-startup-bench-app awk '/VmRSS/ { printf "%d", $2 / 1024 }' /proc/1/status)
+    docker rm -f ufind-startup-bench-app >/dev/null
+    echo "$((ready - started)) ${spring:-?} $rss"
+}
+
+median() { sort -n | awk '{ v[NR] = $1 } END { print (NR % 2) ? v[(NR + 1) / 2] : (v[NR / 2] + v[NR / 2 + 1]) / 2 }'; }
+
+# One unmeasured start so Flyway has migrated the schema before anything is timed.
+measure "ufind-startup:standard" >/dev/null
+
+printf '%-10s %4s %10s %10s %9s\n' image run ready_ms spring_s rss_mib
+for entry in "${IMAGES[@]}"; do
+    name=${entry%%:*}
+    results=()
+    for run in $(seq 1 "$RUNS"); do
+        result=$(measure "ufind-startup:$name")
+        results+=("$result")
+        # shellcheck disable=SC2086
+        printf '%-10s %4d %10s %10s %9s\n' "$name" "$run" $result
+    done
+    printf '%-10s %4s %10s %10s %9s\n\n' "$name" median \
+        "$(printf '%s\n' "${results[@]}" | cut -d' ' -f1 | median)" \
+        "$(printf '%s\n' "${results[@]}" | cut -d' ' -f2 | median)" \
+        "$(printf '%s\n' "${results[@]}" | cut -d' ' -f3 | median)"
+done
@@ -0,0 +1,7 @@
+package com.ufind.ufindapp.audit;
+
+public enum AuditAction {
+    ITEM_REGISTERED,
+    ITEM_CLAIMED,
+    USER_REGISTERED
+}
@@ -0,0 +1,9 @@
+package com.ufind.ufindapp.audit;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * One audited mutation. The actor is {@code null} for writes made without a signed-in user.
+ */
+public record AuditEvent(Instant occurredAt, AuditAction action, UUID subjectId, UUID actorId, String actorEmail) {}
@@ -0,0 +1,178 @@
+package com.ufind.ufindapp.audit;
+
+import com.ufind.ufindapp.config.AuditProperties;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes buffered audit events to {@code audit_events} in batches from one background thread,
+ * draining the buffer on shutdown.
+ */
+@Component
+public class AuditEventWriter implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditEventWriter.class);
+
+    private static final long POLL_TIMEOUT_MILLIS = 200;
+    private static final long STOP_TIMEOUT_MILLIS = 10_000;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO audit_events (occurred_at, action, subject_id, actor_id, actor_email)
+            VALUES (?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditProperties properties;
+    private final ArrayBlockingQueue<AuditEvent> buffer;
+
+    private final Timer flushTimer;
+    private final Counter written;
+    private final Counter droppedFull;
+    private final Counter droppedFailed;
+
+    private volatile boolean running;
+    private volatile Thread thread;
+
+    public AuditEventWriter(JdbcTemplate jdbcTemplate, AuditProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.buffer = new ArrayBlockingQueue<>(properties.getBufferSize());
+
+        Gauge.builder("audit.buffer.depth", buffer, ArrayBlockingQueue::size)
+                .description("Audit events waiting to be written")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("audit.flush")
+                .description("Time to insert one batch of audit events")
+                .register(meterRegistry);
+        this.written = Counter.builder("audit.events.written").register(meterRegistry);
+        this.droppedFull = dropped(meterRegistry, "buffer-full");
+        this.droppedFailed = dropped(meterRegistry, "write-failed");
+    }
+
+    /**
+     * Buffers {@code event} for the background writer. Returns {@code false}, and counts the
+     * event as dropped, if there was no room (after waiting, in {@code BLOCKING} mode).
+     */
+    public boolean enqueue(AuditEvent event) {
+        boolean accepted;
+        if (properties.getDurability() == AuditProperties.Durability.BLOCKING) {
+            try {
+                accepted = buffer.offer(event, properties.getBlockTimeout().toNanos(), TimeUnit.NANOSECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                accepted = false;
+            }
+        } else {
+            accepted = buffer.offer(event);
+        }
+        if (!accepted) {
+            droppedFull.increment();
+        }
+        return accepted;
+    }
+
+    /**
+     * Inserts {@code events} on the calling thread, inside its transaction if it has one.
+     */
+    public void insert(List<AuditEvent> events) {
+        flushTimer.record(() -> jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int i) throws SQLException {
+                AuditEvent event = events.get(i);
+                statement.setTimestamp(1, Timestamp.from(event.occurredAt()));
+                statement.setString(2, event.action().name());
+                statement.setObject(3, event.subjectId());
+                statement.setObject(4, event.actorId(), Types.OTHER);
+                statement.setString(5, event.actorEmail());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return events.size();
+            }
+        }));
+        written.increment(events.size());
+    }
+
+    public int depth() {
+        return buffer.size();
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::run, "audit-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread writer = thread;
+        if (writer != null) {
+            try {
+                writer.join(STOP_TIMEOUT_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (!buffer.isEmpty()) {
+                logger.warn("Shutting down with {} audit events unwritten", buffer.size());
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        List<AuditEvent> batch = new ArrayList<>(properties.getMaxBatchSize());
+        while (running || !buffer.isEmpty()) {
+            try {
+                AuditEvent first = buffer.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, properties.getMaxBatchSize() - 1);
+                insert(batch);
+            } catch (InterruptedException e) {
+                return;
+            } catch (DataAccessException e) {
+                droppedFailed.increment(batch.size());
+                logger.error("Could not write {} audit events: {}", batch.size(), e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private static Counter dropped(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("audit.events.dropped")
+                .description("Audit events that were never written")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,87 @@
+package com.ufind.ufindapp.audit;
+
+import com.ufind.ufindapp.config.AuditProperties;
+import com.ufind.ufindapp.event.ItemClaimedEvent;
+import com.ufind.ufindapp.event.ItemRegisteredEvent;
+import com.ufind.ufindapp.event.UserRegisteredEvent;
+import com.ufind.ufindapp.security.UserPrincipal;
+
+import java.time.Clock;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Records who registered or claimed an item and who registered a user, in the mutating
+ * transaction or after it commits, depending on {@code app.audit.durability}.
+ */
+@Component
+public class AuditLog {
+
+    private final AuditEventWriter writer;
+    private final AuditProperties properties;
+    private final Clock clock;
+
+    @Autowired
+    public AuditLog(AuditEventWriter writer, AuditProperties properties) {
+        this(writer, properties, Clock.systemUTC());
+    }
+
+    AuditLog(AuditEventWriter writer, AuditProperties properties, Clock clock) {
+        this.writer = writer;
+        this.properties = properties;
+        this.clock = clock;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onItemRegistered(ItemRegisteredEvent event) {
+        record(AuditAction.ITEM_REGISTERED, event.item().getId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onItemClaimed(ItemClaimedEvent event) {
+        record(AuditAction.ITEM_CLAIMED, event.item().getId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onUserRegistered(UserRegisteredEvent event) {
+        record(AuditAction.USER_REGISTERED, event.user().getId());
+    }
+
+    void record(AuditAction action, UUID subjectId) {
+        UserPrincipal actor = currentUser();
+        AuditEvent event = new AuditEvent(
+                clock.instant(),
+                action,
+                subjectId,
+                actor != null ? actor.getId() : null,
+                actor != null ? actor.getUsername() : null);
+
+        if (properties.getDurability() == AuditProperties.Durability.SYNCHRONOUS) {
+            writer.insert(List.of(event));
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                writer.enqueue(event);
+            }
+        });
+    }
+
+    private static UserPrincipal currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal;
+        }
+        return null;
+    }
+}
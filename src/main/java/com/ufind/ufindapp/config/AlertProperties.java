@@ -0,0 +1,21 @@
+package com.ufind.ufindapp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.alerts")
+@Data
+public class AlertProperties {
+    private int maxTerms = 8;
+    private int minTermLength = 2;
+    private int maxSubscriptionsPerEmail = 20;
+    private int maxMatchesReturned = 100;
+    private Duration refreshInterval = Duration.ofSeconds(30);
+    private Duration refreshOverlap = Duration.ofSeconds(30);
+    private String rebuildCron = "0 15 4 * * *";
+}
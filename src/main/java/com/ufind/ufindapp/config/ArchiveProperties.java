@@ -0,0 +1,18 @@
+package com.ufind.ufindapp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.archive")
+@Data
+public class ArchiveProperties {
+    private boolean enabled = true;
+    private Duration claimedRetention = Duration.ofDays(90);
+    private int batchSize = 500;
+    private int maxBatchesPerRun = 200;
+}
@@ -0,0 +1,27 @@
+package com.ufind.ufindapp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.audit")
+@Data
+public class AuditProperties {
+    private Durability durability = Durability.BEST_EFFORT;
+    private int bufferSize = 8192;
+    private int maxBatchSize = 500;
+    private Duration blockTimeout = Duration.ofSeconds(5);
+
+    public enum Durability {
+        /** Buffered after commit; dropped (and counted) if the buffer is full. */
+        BEST_EFFORT,
+        /** Buffered after commit; a full buffer makes the request wait up to block-timeout for room. */
+        BLOCKING,
+        /** Inserted inside the mutating transaction: never lost, but adds a statement to every write. */
+        SYNCHRONOUS
+    }
+}
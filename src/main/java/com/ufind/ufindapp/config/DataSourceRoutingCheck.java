@@ -0,0 +1,26 @@
+package com.ufind.ufindapp.config;
+
+import com.ufind.ufindapp.datasource.ReadReplicaRoutingDataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Fails startup when {@code app.datasource.routing.enabled} disagrees with whether the routing
+ * DataSource was created, as it does when an AOT-processed image runs with another setting
+ * than the one it was built with.
+ */
+@Component
+public class DataSourceRoutingCheck {
+
+    public DataSourceRoutingCheck(
+            ReadReplicaProperties properties,
+            ObjectProvider<ReadReplicaRoutingDataSource> routingDataSource) {
+        boolean routed = routingDataSource.getIfAvailable() != null;
+        if (properties.isEnabled() != routed) {
+            throw new IllegalStateException("app.datasource.routing.enabled is " + properties.isEnabled()
+                    + ", but this build was AOT-processed with routing " + (routed ? "enabled" : "disabled")
+                    + "; rebuild the image with DATASOURCE_ROUTING_ENABLED=" + properties.isEnabled());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.ufind.ufindapp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.duplicates")
+@Data
+public class DuplicateDetectionProperties {
+    // must divide the 128 signature slots; more bands catch less similar pairs
+    private int bands = 32;
+    private double similarityThreshold = 0.5;
+    private int maxCandidates = 5;
+    private int backfillBatchSize = 1000;
+    private Duration refreshInterval = Duration.ofSeconds(30);
+    private Duration refreshOverlap = Duration.ofSeconds(30);
+    private String rebuildCron = "0 45 4 * * *";
+}
@@ -0,0 +1,18 @@
+package com.ufind.ufindapp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.expiry")
+@Data
+public class ExpiryProperties {
+    private boolean enabled = true;
+    private Duration retention = Duration.ofDays(180);
+    private int batchSize = 200;
+    private int maxBatchesPerRun = 500;
+}
@@ -0,0 +1,13 @@
+package com.ufind.ufindapp.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.export")
+@Data
+public class ExportProperties {
+    private int fetchSize = 1000;
+}
@@ -0,0 +1,21 @@
+package com.ufind.ufindapp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.feed")
+@Data
+public class FeedProperties {
+    private String channel = "item_changes";
+    private int maxSubscribers = 5000;
+    private int subscriberBufferSize = 64;
+    private int senderThreads = 4;
+    private Duration heartbeatInterval = Duration.ofSeconds(20);
+    private Duration emitterTimeout = Duration.ofMinutes(30);
+    private Duration reconnectDelay = Duration.ofSeconds(5);
+}
@@ -10,6 +10,9 @@ public class JwtProperties {
     private String secret;
     private long expiration;
     private String cookieName;
+    private long refreshExpiration;
+    private String refreshCookieName;
+    private long refreshReuseGrace;
 
     public String getSecret() {
         return secret;
@@ -34,4 +37,28 @@ public class JwtProperties {
     public void setCookieName(String cookieName) {
         this.cookieName = cookieName;
     }
+
+    public long getRefreshExpiration() {
+        return refreshExpiration;
+    }
+
+    public void setRefreshExpiration(long refreshExpirationMs) {
+        this.refreshExpiration = refreshExpirationMs;
+    }
+
+    public String getRefreshCookieName() {
+        return refreshCookieName;
+    }
+
+    public void setRefreshCookieName(String refreshCookieName) {
+        this.refreshCookieName = refreshCookieName;
+    }
+
+    public long getRefreshReuseGrace() {
+        return refreshReuseGrace;
+    }
+
+    public void setRefreshReuseGrace(long refreshReuseGraceMs) {
+        this.refreshReuseGrace = refreshReuseGraceMs;
+    }
 }
@@ -0,0 +1,26 @@
+package com.ufind.ufindapp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.photo-search")
+@Data
+public class PhotoSearchProperties {
+    private int maxDistance = 10;
+    private int maxResults = 10;
+    private int hashThreads = 4;
+    private Duration fetchTimeout = Duration.ofSeconds(10);
+    private boolean allowPrivateAddresses = false;
+    private long maxImageBytes = 10L * 1024 * 1024;
+    private long maxImagePixels = 40_000_000L;
+    private int sweepBatchSize = 100;
+    private Duration sweepInterval = Duration.ofSeconds(10);
+    private Duration refreshInterval = Duration.ofSeconds(30);
+    private Duration refreshOverlap = Duration.ofSeconds(30);
+    private String rebuildCron = "0 50 4 * * *";
+}
@@ -0,0 +1,37 @@
+package com.ufind.ufindapp.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.rate-limit")
+@Data
+public class RateLimitProperties {
+    private boolean enabled = true;
+    private Duration evictionInterval = Duration.ofMinutes(1);
+    private int maxClientsPerRoute = 100_000;
+    private List<Route> routes = new ArrayList<>();
+
+    public enum ClientKey {
+        /** Every request from one address shares a bucket. */
+        IP,
+        /** Signed-in users get their own bucket; anonymous requests fall back to the address. */
+        USER_OR_IP
+    }
+
+    @Data
+    public static class Route {
+        private String name;
+        private String method;
+        private String path;
+        private int capacity;
+        private Duration period = Duration.ofMinutes(1);
+        private ClientKey key = ClientKey.USER_OR_IP;
+    }
+}
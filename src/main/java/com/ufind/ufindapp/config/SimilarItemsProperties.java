@@ -0,0 +1,24 @@
+package com.ufind.ufindapp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.similar-items")
+@Data
+public class SimilarItemsProperties {
+    private int m = 16;
+    private int efConstruction = 100;
+    private int efSearch = 64;
+    private int maxResults = 20;
+    private double minSimilarity = 0.1;
+    private String snapshotPath = "data/similar-items.snapshot";
+    private Duration snapshotInterval = Duration.ofMinutes(15);
+    private Duration refreshInterval = Duration.ofSeconds(30);
+    private Duration refreshOverlap = Duration.ofSeconds(30);
+    private String rebuildCron = "0 55 4 * * *";
+}
@@ -0,0 +1,16 @@
+package com.ufind.ufindapp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.sync")
+@Data
+public class SyncProperties {
+    private Duration commitLag = Duration.ofSeconds(30);
+    private int maxPageSize = 1000;
+}
@@ -0,0 +1,17 @@
+package com.ufind.ufindapp.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import lombok.Data;
+
+@Configuration
+@ConfigurationProperties(prefix = "app.typeahead")
+@Data
+public class TypeaheadProperties {
+    private int maxResults = 10;
+    private int minTermLength = 2;
+    private Duration rebuildInterval = Duration.ofMinutes(5);
+}
@@ -0,0 +1,51 @@
+package com.ufind.ufindapp.controller;
+
+import com.ufind.ufindapp.dto.AlertMatchDTO;
+import com.ufind.ufindapp.dto.AlertSubscriptionDTO;
+import com.ufind.ufindapp.dto.CreateAlertRequest;
+import com.ufind.ufindapp.service.AlertService;
+import jakarta.validation.Valid;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+import java.util.UUID;
+
+// Anyone can save an alert; the id handed back is what lets them read or cancel it.
+@RestController
+@RequestMapping("/api/alerts")
+public class AlertController {
+
+    private final AlertService alertService;
+
+    public AlertController(AlertService alertService) {
+        this.alertService = alertService;
+    }
+
+    @PostMapping("")
+    public ResponseEntity<AlertSubscriptionDTO> subscribe(
+        @Valid
+        @RequestBody
+        CreateAlertRequest request
+    ) {
+        return ResponseEntity.status(201).body(alertService.subscribe(request));
+    }
+
+    @GetMapping("/{id}/matches")
+    public ResponseEntity<List<AlertMatchDTO>> getMatches(@PathVariable UUID id) {
+        return ResponseEntity.ok(alertService.findMatches(id));
+    }
+
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Void> unsubscribe(@PathVariable UUID id) {
+        alertService.unsubscribe(id);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -8,6 +8,8 @@ import com.ufind.ufindapp.dto.UserInfoDTO;
 import com.ufind.ufindapp.security.UserPrincipal;
 import com.ufind.ufindapp.exception.UnauthorizedException;
 import com.ufind.ufindapp.service.AuthService;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpHeaders;
@@ -19,6 +21,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.WebUtils;
 
 import java.time.Duration;
 
@@ -26,6 +29,8 @@ import java.time.Duration;
 @RequestMapping("/api/auth")
 public class AuthController {
 
+    private static final String REFRESH_COOKIE_PATH = "/api/auth";
+
     private final AuthService authService;
     private final JwtProperties jwtProperties;
 
@@ -51,13 +56,28 @@ public class AuthController {
         HttpServletResponse response
     ) {
         LoginDTO authResponse = authService.login(request);
-        addTokenCookie(response, authResponse.token());
+        addTokenCookies(response, authResponse);
         return ResponseEntity.status(200).body(authResponse.user());
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<UserInfoDTO> refresh(HttpServletRequest request, HttpServletResponse response) {
+        String refreshToken = refreshToken(request);
+        if (refreshToken == null) {
+            throw new UnauthorizedException("Refresh token missing.");
+        }
+        LoginDTO authResponse = authService.refresh(refreshToken);
+        addTokenCookies(response, authResponse);
+        return ResponseEntity.ok(authResponse.user());
+    }
+
     @PostMapping("/logout")
-    public ResponseEntity<Void> logout(HttpServletResponse response) {
-        clearTokenCookie(response);
+    public ResponseEntity<Void> logout(HttpServletRequest request, HttpServletResponse response) {
+        String refreshToken = refreshToken(request);
+        if (refreshToken != null) {
+            authService.logout(refreshToken);
+        }
+        clearTokenCookies(response);
         return ResponseEntity.noContent().build();
     }
 
@@ -70,23 +90,31 @@ public class AuthController {
         return ResponseEntity.ok(userInfoDTO);
     }
 
-    private void addTokenCookie(HttpServletResponse response, String token) {
-        var cookie = org.springframework.http.ResponseCookie.from(jwtProperties.getCookieName(), token)
-                .httpOnly(true)
-                .path("/")
-                .maxAge(Duration.ofMillis(jwtProperties.getExpiration()))
-                .sameSite("Strict")
-                .secure(false)
-                .build();
-        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    private String refreshToken(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, jwtProperties.getRefreshCookieName());
+        return cookie == null || cookie.getValue().isEmpty() ? null : cookie.getValue();
+    }
+
+    private void addTokenCookies(HttpServletResponse response, LoginDTO tokens) {
+        addCookie(response, jwtProperties.getCookieName(), tokens.token(), "/",
+                Duration.ofMillis(jwtProperties.getExpiration()));
+        // only ever sent back to refresh or log out
+        addCookie(response, jwtProperties.getRefreshCookieName(), tokens.refreshToken(), REFRESH_COOKIE_PATH,
+                Duration.ofMillis(jwtProperties.getRefreshExpiration()));
     }
 
-    private void clearTokenCookie(HttpServletResponse response) {
-        var cookie = org.springframework.http.ResponseCookie.from(jwtProperties.getCookieName(), "")
+    private void clearTokenCookies(HttpServletResponse response) {
+        addCookie(response, jwtProperties.getCookieName(), "", "/", Duration.ZERO);
+        addCookie(response, jwtProperties.getRefreshCookieName(), "", REFRESH_COOKIE_PATH, Duration.ZERO);
+    }
+
+    private static void addCookie(HttpServletResponse response, String name, String value, String path, Duration maxAge) {
+        var cookie = org.springframework.http.ResponseCookie.from(name, value)
                 .httpOnly(true)
-                .path("/")
-                .maxAge(0)
+                .path(path)
+                .maxAge(maxAge)
                 .sameSite("Strict")
+                .secure(false)
                 .build();
         response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
     }
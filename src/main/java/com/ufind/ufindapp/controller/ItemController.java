@@ -1,13 +1,38 @@
 package com.ufind.ufindapp.controller;
 
+import com.ufind.ufindapp.dto.AutocompleteDTO;
+import com.ufind.ufindapp.dto.ExportFormat;
+import com.ufind.ufindapp.dto.ItemBatchDTO;
+import com.ufind.ufindapp.dto.ItemChangesDTO;
+import com.ufind.ufindapp.dto.ItemFacetsDTO;
+import com.ufind.ufindapp.dto.ItemField;
+import com.ufind.ufindapp.dto.ItemFilter;
+import com.ufind.ufindapp.dto.ItemImportResultDTO;
+import com.ufind.ufindapp.dto.ItemRegistrationDTO;
 import com.ufind.ufindapp.dto.MarkItemClaimedRequest;
+import com.ufind.ufindapp.dto.PhotoMatchDTO;
 import com.ufind.ufindapp.dto.RegisterItemRequest;
-import com.ufind.ufindapp.entity.Item;
+import com.ufind.ufindapp.dto.SimilarItemDTO;
+import com.ufind.ufindapp.feed.ItemChangeBroadcaster;
+import com.ufind.ufindapp.service.ItemExportService;
+import com.ufind.ufindapp.service.ItemFacetService;
+import com.ufind.ufindapp.service.ItemImportService;
 import com.ufind.ufindapp.service.ItemService;
+import com.ufind.ufindapp.service.ItemSyncService;
+import com.ufind.ufindapp.service.PhotoSearchService;
+import com.ufind.ufindapp.service.SimilarItemsService;
+import com.ufind.ufindapp.service.TypeaheadService;
 import jakarta.validation.Valid;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -15,49 +40,189 @@ import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/api/item")
 public class ItemController {
 
+    private static final MediaType SMILE = MediaType.valueOf("application/x-jackson-smile");
+
     private final ItemService itemService;
+    private final ItemFacetService itemFacetService;
+    private final TypeaheadService typeaheadService;
+    private final ItemExportService itemExportService;
+    private final ItemImportService itemImportService;
+    private final ItemChangeBroadcaster itemChangeBroadcaster;
+    private final ItemSyncService itemSyncService;
+    private final PhotoSearchService photoSearchService;
+    private final SimilarItemsService similarItemsService;
 
-    public ItemController(ItemService itemService) {
+    public ItemController(
+            ItemService itemService,
+            ItemFacetService itemFacetService,
+            TypeaheadService typeaheadService,
+            ItemExportService itemExportService,
+            ItemImportService itemImportService,
+            ItemChangeBroadcaster itemChangeBroadcaster,
+            ItemSyncService itemSyncService,
+            PhotoSearchService photoSearchService,
+            SimilarItemsService similarItemsService) {
         this.itemService = itemService;
+        this.itemFacetService = itemFacetService;
+        this.typeaheadService = typeaheadService;
+        this.itemExportService = itemExportService;
+        this.itemImportService = itemImportService;
+        this.itemChangeBroadcaster = itemChangeBroadcaster;
+        this.itemSyncService = itemSyncService;
+        this.photoSearchService = photoSearchService;
+        this.similarItemsService = similarItemsService;
     }
 
     @GetMapping("")
-    public ResponseEntity<Page<Item>> getAllItems(Pageable pageable) {
-        return ResponseEntity.ok(itemService.getAllItems(pageable));
+    public ResponseEntity<Page<?>> getAllItems(
+        ItemFilter filter,
+        @RequestParam(required = false) String fields,
+        @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
+    ) {
+        if (fields != null) {
+            return ResponseEntity.ok(itemService.getAllItems(filter, ItemField.parse(fields), pageable));
+        }
+        return ResponseEntity.ok(itemService.getAllItems(filter, pageable));
+    }
+
+    @GetMapping("/facets")
+    public ResponseEntity<ItemFacetsDTO> getFacets() {
+        return ResponseEntity.ok(itemFacetService.getFacets());
+    }
+
+    @GetMapping("/autocomplete")
+    public ResponseEntity<AutocompleteDTO> autocomplete(
+        @RequestParam String prefix,
+        @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(typeaheadService.complete(prefix, limit));
+    }
+
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportItems(
+        @RequestParam(defaultValue = "CSV") ExportFormat format
+    ) {
+        String filename = "items-" + LocalDate.now() + "." + format.extension();
+        return ResponseEntity.ok()
+                .contentType(format.mediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(out -> itemExportService.export(format, out));
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<ItemImportResultDTO> importItems(
+        @RequestPart("file") MultipartFile file,
+        @RequestParam(defaultValue = "false") boolean skipInvalid
+    ) throws IOException {
+        ItemImportResultDTO result;
+        try (InputStream csv = file.getInputStream()) {
+            result = itemImportService.importCsv(csv, skipInvalid);
+        }
+        // nothing was imported because of invalid rows: the body says which
+        HttpStatus status = result.imported() == 0 && result.rejected() > 0
+                ? HttpStatus.UNPROCESSABLE_CONTENT
+                : HttpStatus.OK;
+        return ResponseEntity.status(status).body(result);
+    }
+
+    @GetMapping("/changes")
+    public ResponseEntity<ItemChangesDTO> getChanges(
+        @RequestParam(required = false) String since,
+        @RequestParam(defaultValue = "500") int limit
+    ) {
+        return ResponseEntity.ok(itemSyncService.changesSince(since, limit));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamItemChanges() {
+        return itemChangeBroadcaster.subscribe();
+    }
+
+    @GetMapping("/batch")
+    public ResponseEntity<ItemBatchDTO> getItemsByIds(
+        @RequestParam List<UUID> ids
+    ) {
+        return ResponseEntity.ok(itemService.getItemsByIds(ids));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Item> getItemById(@PathVariable UUID id) {
+    public ResponseEntity<?> getItemById(
+        @PathVariable UUID id,
+        @RequestParam(required = false) String fields,
+        @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept
+    ) {
+        if (fields != null) {
+            return ResponseEntity.ok(itemService.getItemById(id, ItemField.parse(fields)));
+        }
+        if (prefersJson(accept)) {
+            // already serialized: written as is, past the JSON converter
+            return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(itemService.getItemJsonById(id));
+        }
         return ResponseEntity.ok(itemService.getItemById(id));
     }
 
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<List<SimilarItemDTO>> getSimilarItems(
+        @PathVariable UUID id,
+        @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(similarItemsService.findSimilar(id, limit));
+    }
+
     @GetMapping("/search")
-    public ResponseEntity<Page<Item>> searchItems(
+    public ResponseEntity<Page<?>> searchItems(
         @RequestParam String query,
-        Pageable pageable
+        @RequestParam(required = false) String fields,
+        @PageableDefault(sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
     ) {
+        if (fields != null) {
+            return ResponseEntity.ok(itemService.searchItems(query, ItemField.parse(fields), pageable));
+        }
         return ResponseEntity.ok(itemService.searchItems(query, pageable));
     }
 
+    @PostMapping(value = "/search/photo", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<List<PhotoMatchDTO>> searchItemsByPhoto(
+        @RequestPart("photo") MultipartFile photo
+    ) throws IOException {
+        try (InputStream image = photo.getInputStream()) {
+            return ResponseEntity.ok(photoSearchService.search(image));
+        }
+    }
+
     @PostMapping("")
     @PreAuthorize("hasAnyRole('SECRETARY', 'ADMIN')")
-    public ResponseEntity<Void> registerItem(
+    public ResponseEntity<ItemRegistrationDTO> registerItem(
         @Valid
         @RequestBody
         RegisterItemRequest request
     ) {
-        itemService.registerItem(request);
-        return ResponseEntity.status(201).build();
+        // possible duplicates are reported, not refused: the secretary knows which is which
+        return ResponseEntity.status(201).body(itemService.registerItem(request));
     }
 
     @PatchMapping("")
@@ -71,4 +236,30 @@ public class ItemController {
         return ResponseEntity.status(200).build();
     }
 
-}
\ No newline at end of file
+    // Whether content negotiation would pick JSON, the default, over Smile or CBOR.
+    private static boolean prefersJson(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return true;
+        }
+        List<MediaType> acceptable;
+        try {
+            acceptable = new ArrayList<>(MediaType.parseMediaTypes(accept));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+        acceptable.sort(Comparator.comparingDouble(MediaType::getQualityValue).reversed());
+        for (MediaType type : acceptable) {
+            if (type.getQualityValue() == 0) {
+                continue;
+            }
+            if (type.includes(MediaType.APPLICATION_JSON)) {
+                return true;
+            }
+            if (type.isCompatibleWith(SMILE) || type.isCompatibleWith(MediaType.APPLICATION_CBOR)) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+}
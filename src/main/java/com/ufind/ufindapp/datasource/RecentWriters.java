@@ -0,0 +1,52 @@
+package com.ufind.ufindapp.datasource;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers which users committed a write recently, so their reads can stay on the
+ * primary until the replicas have had time to catch up (read-your-writes).
+ */
+public class RecentWriters {
+
+    private final Map<UUID, Long> deadlines = new ConcurrentHashMap<>();
+    private final long windowNanos;
+    private final LongSupplier clock;
+
+    public RecentWriters(Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    RecentWriters(Duration window, LongSupplier clock) {
+        this.windowNanos = window.toNanos();
+        this.clock = clock;
+    }
+
+    public void recordWrite(UUID userId) {
+        deadlines.put(userId, clock.getAsLong() + windowNanos);
+    }
+
+    public boolean wroteRecently(UUID userId) {
+        Long deadline = deadlines.get(userId);
+        if (deadline == null) {
+            return false;
+        }
+        if (deadline - clock.getAsLong() > 0) {
+            return true;
+        }
+        deadlines.remove(userId, deadline);
+        return false;
+    }
+
+    public void evictExpired() {
+        long now = clock.getAsLong();
+        deadlines.values().removeIf(deadline -> deadline - now <= 0);
+    }
+
+    public int size() {
+        return deadlines.size();
+    }
+}
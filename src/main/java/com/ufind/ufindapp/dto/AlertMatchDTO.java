@@ -0,0 +1,13 @@
+package com.ufind.ufindapp.dto;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record AlertMatchDTO(
+    UUID itemId,
+    String title,
+    String locationFound,
+    LocalDate dateFound,
+    Instant matchedAt
+) {}
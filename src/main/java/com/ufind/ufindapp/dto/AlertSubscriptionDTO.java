@@ -0,0 +1,13 @@
+package com.ufind.ufindapp.dto;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public record AlertSubscriptionDTO(
+    UUID id,
+    String email,
+    String query,
+    List<String> terms,
+    Instant createdAt
+) {}
@@ -0,0 +1,8 @@
+package com.ufind.ufindapp.dto;
+
+import java.util.List;
+
+public record AutocompleteDTO(
+    List<String> titles,
+    List<String> locations
+) {}
@@ -0,0 +1,10 @@
+package com.ufind.ufindapp.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+public record CreateAlertRequest(
+    @NotBlank @Email @Size(max = 150) String email,
+    @NotBlank @Size(max = 200) String query
+) {}
@@ -0,0 +1,12 @@
+package com.ufind.ufindapp.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record DuplicateCandidateDTO(
+    UUID id,
+    String title,
+    String locationFound,
+    LocalDate dateFound,
+    double similarity
+) {}
@@ -0,0 +1,6 @@
+package com.ufind.ufindapp.dto;
+
+public record FacetCountDTO(
+    String value,
+    long count
+) {}
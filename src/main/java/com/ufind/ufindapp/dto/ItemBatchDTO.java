@@ -0,0 +1,15 @@
+package com.ufind.ufindapp.dto;
+
+import com.ufind.ufindapp.entity.Item;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The items found for a batch read, in the order their ids were asked for, and the ids that
+ * matched no item.
+ */
+public record ItemBatchDTO(
+    List<Item> items,
+    List<UUID> missing
+) {}
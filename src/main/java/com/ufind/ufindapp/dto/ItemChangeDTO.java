@@ -0,0 +1,37 @@
+package com.ufind.ufindapp.dto;
+
+import com.ufind.ufindapp.entity.Item;
+import com.ufind.ufindapp.entity.ItemStatus;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record ItemChangeDTO(
+    Type type,
+    UUID id,
+    String title,
+    String locationFound,
+    LocalDate dateFound,
+    ItemStatus status
+) {
+
+    public enum Type {
+        CREATED("item-created"),
+        CLAIMED("item-claimed");
+
+        private final String eventName;
+
+        Type(String eventName) {
+            this.eventName = eventName;
+        }
+
+        public String eventName() {
+            return eventName;
+        }
+    }
+
+    public static ItemChangeDTO of(Type type, Item item) {
+        return new ItemChangeDTO(
+                type, item.getId(), item.getTitle(), item.getLocationFound(), item.getDateFound(), item.getStatus());
+    }
+}
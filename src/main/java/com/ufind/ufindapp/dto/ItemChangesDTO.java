@@ -0,0 +1,17 @@
+package com.ufind.ufindapp.dto;
+
+import com.ufind.ufindapp.entity.Item;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One page of delta sync. {@code watermark} is passed back as {@code since} to continue;
+ * while {@code hasMore} is set the client should ask again straight away.
+ */
+public record ItemChangesDTO(
+    List<Item> items,
+    List<UUID> removed,
+    String watermark,
+    boolean hasMore
+) {}
@@ -0,0 +1,9 @@
+package com.ufind.ufindapp.dto;
+
+import java.util.List;
+
+public record ItemFacetsDTO(
+    List<FacetCountDTO> location,
+    List<FacetCountDTO> status,
+    List<FacetCountDTO> month
+) {}
@@ -0,0 +1,55 @@
+package com.ufind.ufindapp.dto;
+
+import com.ufind.ufindapp.exception.InvalidFieldsException;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * The {@link com.ufind.ufindapp.entity.Item} attributes a client may pick with {@code fields=}.
+ * Names are the JSON property names, which are also the entity attribute names.
+ */
+public enum ItemField {
+    ID("id"),
+    TITLE("title"),
+    DESCRIPTION("description"),
+    DATE_FOUND("dateFound"),
+    LOCATION_FOUND("locationFound"),
+    STATUS("status"),
+    IMAGE_URL("imageUrl"),
+    CONTACT_INFO("contactInfo"),
+    CREATED_AT("createdAt"),
+    UPDATED_AT("updatedAt");
+
+    private final String fieldName;
+
+    ItemField(String fieldName) {
+        this.fieldName = fieldName;
+    }
+
+    public String fieldName() {
+        return fieldName;
+    }
+
+    /**
+     * Parses a comma-separated {@code fields} parameter. {@code id} is always included so
+     * clients can address what they receive.
+     */
+    public static Set<ItemField> parse(String fields) {
+        Set<ItemField> selected = EnumSet.of(ID);
+        for (String name : fields.split(",")) {
+            String trimmed = name.strip();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            selected.add(Arrays.stream(values())
+                    .filter(field -> field.fieldName.equals(trimmed))
+                    .findFirst()
+                    .orElseThrow(() -> new InvalidFieldsException("Unknown field '" + trimmed + "'. Available fields: "
+                            + Arrays.stream(values()).map(ItemField::fieldName).collect(Collectors.joining(", ")))));
+        }
+        return selected;
+    }
+}
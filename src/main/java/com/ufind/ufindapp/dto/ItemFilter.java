@@ -0,0 +1,19 @@
+package com.ufind.ufindapp.dto;
+
+import com.ufind.ufindapp.entity.ItemStatus;
+
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+public record ItemFilter(
+    ItemStatus status,
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate foundFrom,
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate foundTo,
+    String location
+) {
+
+    public static ItemFilter none() {
+        return new ItemFilter(null, null, null, null);
+    }
+}
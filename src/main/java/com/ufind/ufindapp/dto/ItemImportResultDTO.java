@@ -0,0 +1,11 @@
+package com.ufind.ufindapp.dto;
+
+import java.util.List;
+
+public record ItemImportResultDTO(
+    long imported,
+    long rejected,
+    List<ImportRowErrorDTO> errors,
+    long durationMillis,
+    long rowsPerSecond
+) {}
@@ -0,0 +1,9 @@
+package com.ufind.ufindapp.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+public record ItemRegistrationDTO(
+    UUID id,
+    List<DuplicateCandidateDTO> possibleDuplicates
+) {}
@@ -1,4 +1,4 @@
 package com.ufind.ufindapp.dto;
 
-public record LoginDTO(String token, UserInfoDTO user) {
+public record LoginDTO(String token, String refreshToken, UserInfoDTO user) {
 }
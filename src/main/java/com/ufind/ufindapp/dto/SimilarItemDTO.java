@@ -0,0 +1,13 @@
+package com.ufind.ufindapp.dto;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+public record SimilarItemDTO(
+    UUID id,
+    String title,
+    String locationFound,
+    LocalDate dateFound,
+    String imageUrl,
+    double similarity
+) {}
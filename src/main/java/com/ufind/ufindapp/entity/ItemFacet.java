@@ -0,0 +1,7 @@
+package com.ufind.ufindapp.entity;
+
+public enum ItemFacet {
+    LOCATION,
+    STATUS,
+    MONTH
+}
@@ -0,0 +1,21 @@
+package com.ufind.ufindapp.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "item_facet_counts")
+@Getter
+@NoArgsConstructor
+public class ItemFacetCount {
+
+    @EmbeddedId
+    private ItemFacetCountId id;
+
+    @Column(name = "item_count", nullable = false)
+    private long itemCount;
+}
@@ -2,5 +2,7 @@ package com.ufind.ufindapp.entity;
 
 public enum ItemStatus {
     AVAILABLE,
-    CLAIMED
+    CLAIMED,
+    // unclaimed past app.expiry.retention, set by ItemExpiryService; handed on for donation
+    EXPIRED
 }
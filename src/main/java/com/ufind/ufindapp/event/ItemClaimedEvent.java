@@ -0,0 +1,8 @@
+package com.ufind.ufindapp.event;
+
+import com.ufind.ufindapp.entity.Item;
+
+/**
+ * Published inside the claiming transaction, after the status change.
+ */
+public record ItemClaimedEvent(Item item) {}
@@ -0,0 +1,9 @@
+package com.ufind.ufindapp.event;
+
+import com.ufind.ufindapp.entity.Item;
+
+/**
+ * Published inside the registering transaction. Listeners that keep in-memory state
+ * should use {@code @TransactionalEventListener} so they only see committed items.
+ */
+public record ItemRegisteredEvent(Item item) {}
@@ -0,0 +1,10 @@
+package com.ufind.ufindapp.event;
+
+import com.ufind.ufindapp.repository.ArchivedItem;
+
+import java.util.List;
+
+/**
+ * Published inside each archival batch's transaction, once per batch.
+ */
+public record ItemsArchivedEvent(List<ArchivedItem> items) {}
@@ -0,0 +1,9 @@
+package com.ufind.ufindapp.event;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published inside each expiry batch's transaction, once per batch.
+ */
+public record ItemsExpiredEvent(List<UUID> ids) {}
@@ -0,0 +1,7 @@
+package com.ufind.ufindapp.event;
+
+/**
+ * Published inside the import transaction once the staged rows have been swapped into
+ * {@code items}. Too many rows to describe one by one; listeners rebuild instead.
+ */
+public record ItemsImportedEvent(long count) {}
@@ -0,0 +1,8 @@
+package com.ufind.ufindapp.event;
+
+import com.ufind.ufindapp.entity.User;
+
+/**
+ * Published inside the registering transaction, once the user has been saved.
+ */
+public record UserRegisteredEvent(User user) {}
@@ -0,0 +1,7 @@
+package com.ufind.ufindapp.exception;
+
+public class AlertNotFoundException extends RuntimeException {
+    public AlertNotFoundException(String message) {
+        super(message);
+    }
+}
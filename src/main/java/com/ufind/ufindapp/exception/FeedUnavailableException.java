@@ -0,0 +1,7 @@
+package com.ufind.ufindapp.exception;
+
+public class FeedUnavailableException extends RuntimeException {
+    public FeedUnavailableException(String message) {
+        super(message);
+    }
+}
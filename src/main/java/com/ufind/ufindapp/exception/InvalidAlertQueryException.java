@@ -0,0 +1,7 @@
+package com.ufind.ufindapp.exception;
+
+public class InvalidAlertQueryException extends RuntimeException {
+    public InvalidAlertQueryException(String message) {
+        super(message);
+    }
+}
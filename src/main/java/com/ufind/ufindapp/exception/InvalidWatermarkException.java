@@ -0,0 +1,7 @@
+package com.ufind.ufindapp.exception;
+
+public class InvalidWatermarkException extends RuntimeException {
+    public InvalidWatermarkException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,164 @@
+package com.ufind.ufindapp.feed;
+
+import com.ufind.ufindapp.config.FeedProperties;
+import com.ufind.ufindapp.dto.ItemChangeDTO;
+import com.ufind.ufindapp.exception.FeedUnavailableException;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * Fans item changes out to this node's SSE clients; a client whose buffer fills up is
+ * disconnected.
+ */
+@Component
+public class ItemChangeBroadcaster implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemChangeBroadcaster.class);
+
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("keepalive").build();
+
+    private final FeedProperties properties;
+    private final ExecutorService senders;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    @Autowired
+    public ItemChangeBroadcaster(FeedProperties properties) {
+        this(properties, Executors.newFixedThreadPool(properties.getSenderThreads(), senderThreadFactory()));
+    }
+
+    ItemChangeBroadcaster(FeedProperties properties, ExecutorService senders) {
+        this.properties = properties;
+        this.senders = senders;
+    }
+
+    /**
+     * Registers a new client. Fails with {@link FeedUnavailableException} once this node
+     * holds {@code app.feed.max-subscribers} connections.
+     */
+    public SseEmitter subscribe() {
+        if (subscriberCount.incrementAndGet() > properties.getMaxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            throw new FeedUnavailableException("Too many feed subscribers, try again later.");
+        }
+        Subscriber subscriber = new Subscriber(newEmitter(), properties.getSubscriberBufferSize());
+        subscribers.add(subscriber);
+        subscriber.emitter.onCompletion(() -> remove(subscriber));
+        subscriber.emitter.onTimeout(() -> remove(subscriber));
+        subscriber.emitter.onError(error -> remove(subscriber));
+        // commits the response headers right away, so proxies and clients see the stream open
+        offer(subscriber, HEARTBEAT);
+        return subscriber.emitter;
+    }
+
+    /**
+     * Queues {@code change} for every connected client. {@code json} is the change as it
+     * went over NOTIFY; the event is built once and the same frames are written to each client.
+     */
+    public void broadcast(ItemChangeDTO change, String json) {
+        Set<DataWithMediaType> event = SseEmitter.event()
+                .name(change.type().eventName())
+                .data(json, MediaType.APPLICATION_JSON)
+                .build();
+        for (Subscriber subscriber : subscribers) {
+            offer(subscriber, event);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.feed.heartbeat-interval:20s}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            offer(subscriber, HEARTBEAT);
+        }
+    }
+
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @Override
+    public void close() {
+        senders.shutdownNow();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(properties.getEmitterTimeout().toMillis());
+    }
+
+    private void offer(Subscriber subscriber, Set<DataWithMediaType> event) {
+        if (!subscriber.queue.offer(event)) {
+            logger.info("Dropping feed subscriber: {} events behind", subscriber.queue.size());
+            remove(subscriber);
+            subscriber.emitter.complete();
+            return;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        do {
+            Set<DataWithMediaType> event;
+            while ((event = subscriber.queue.poll()) != null) {
+                try {
+                    subscriber.emitter.send(event);
+                } catch (IOException | IllegalStateException e) {
+                    // the client went away; the container reports it through onError as well
+                    remove(subscriber);
+                    subscriber.queue.clear();
+                    return;
+                }
+            }
+            subscriber.draining.set(false);
+            // an offer may have slipped in between the last poll and releasing the flag
+        } while (!subscriber.queue.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    private void remove(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    private static ThreadFactory senderThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "item-feed-sender-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, int bufferSize) {
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
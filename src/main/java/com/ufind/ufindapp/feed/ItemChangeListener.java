@@ -0,0 +1,126 @@
+package com.ufind.ufindapp.feed;
+
+import com.ufind.ufindapp.config.FeedProperties;
+import com.ufind.ufindapp.dto.ItemChangeDTO;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.boot.jdbc.autoconfigure.JdbcConnectionDetails;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Listens on the feed channel over one dedicated connection, reconnecting if it drops, and
+ * hands every notification to the {@link ItemChangeBroadcaster}.
+ */
+@Component
+public class ItemChangeListener implements SmartLifecycle {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemChangeListener.class);
+
+    private static final int POLL_TIMEOUT_MILLIS = 1000;
+
+    private final ItemChangeBroadcaster broadcaster;
+    private final ObjectMapper objectMapper;
+    private final FeedProperties properties;
+    private final ObjectProvider<JdbcConnectionDetails> connectionDetails;
+    private final DataSourceProperties dataSourceProperties;
+
+    private volatile boolean running;
+    private volatile Thread thread;
+
+    public ItemChangeListener(
+            ItemChangeBroadcaster broadcaster,
+            ObjectMapper objectMapper,
+            FeedProperties properties,
+            ObjectProvider<JdbcConnectionDetails> connectionDetails,
+            DataSourceProperties dataSourceProperties) {
+        this.broadcaster = broadcaster;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.connectionDetails = connectionDetails;
+        this.dataSourceProperties = dataSourceProperties;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        thread = new Thread(this::run, "item-change-listener");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        Thread listener = thread;
+        if (listener != null) {
+            listener.interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void run() {
+        while (running) {
+            try (Connection connection = connect(); Statement statement = connection.createStatement()) {
+                statement.execute("LISTEN " + properties.getChannel());
+                logger.info("Listening for item changes on channel '{}'", properties.getChannel());
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                while (running) {
+                    PGNotification[] notifications = pgConnection.getNotifications(POLL_TIMEOUT_MILLIS);
+                    if (notifications != null) {
+                        for (PGNotification notification : notifications) {
+                            dispatch(notification.getParameter());
+                        }
+                    }
+                }
+            } catch (SQLException e) {
+                if (!running) {
+                    return;
+                }
+                logger.warn("Item change listener lost its connection, reconnecting in {}: {}",
+                        properties.getReconnectDelay(), e.getMessage());
+                try {
+                    Thread.sleep(properties.getReconnectDelay());
+                } catch (InterruptedException interrupted) {
+                    return;
+                }
+            }
+        }
+    }
+
+    private void dispatch(String payload) {
+        try {
+            broadcaster.broadcast(objectMapper.readValue(payload, ItemChangeDTO.class), payload);
+        } catch (JacksonException e) {
+            logger.warn("Ignoring malformed item change notification: {}", e.getOriginalMessage());
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        JdbcConnectionDetails details = connectionDetails.getIfAvailable();
+        if (details != null) {
+            return DriverManager.getConnection(details.getJdbcUrl(), details.getUsername(), details.getPassword());
+        }
+        return DriverManager.getConnection(
+                dataSourceProperties.determineUrl(),
+                dataSourceProperties.determineUsername(),
+                dataSourceProperties.determinePassword());
+    }
+}
@@ -0,0 +1,52 @@
+package com.ufind.ufindapp.feed;
+
+import com.ufind.ufindapp.config.FeedProperties;
+import com.ufind.ufindapp.dto.ItemChangeDTO;
+import com.ufind.ufindapp.event.ItemClaimedEvent;
+import com.ufind.ufindapp.event.ItemRegisteredEvent;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Sends item changes to every node over Postgres NOTIFY. The notification is issued inside the
+ * writing transaction, so Postgres delivers it only if that transaction commits, and only after.
+ */
+@Component
+public class ItemChangeNotifier {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final FeedProperties properties;
+
+    public ItemChangeNotifier(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, FeedProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onItemRegistered(ItemRegisteredEvent event) {
+        notify(ItemChangeDTO.of(ItemChangeDTO.Type.CREATED, event.item()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onItemClaimed(ItemClaimedEvent event) {
+        notify(ItemChangeDTO.of(ItemChangeDTO.Type.CLAIMED, event.item()));
+    }
+
+    private void notify(ItemChangeDTO change) {
+        String payload = objectMapper.writeValueAsString(change);
+        jdbcTemplate.execute("SELECT pg_notify(?, ?)", (PreparedStatementCallback<Void>) statement -> {
+            statement.setString(1, properties.getChannel());
+            statement.setString(2, payload);
+            statement.execute();
+            return null;
+        });
+    }
+}
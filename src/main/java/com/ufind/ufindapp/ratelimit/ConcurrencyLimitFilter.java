@@ -0,0 +1,150 @@
+package com.ufind.ufindapp.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.ufind.ufindapp.config.ConcurrencyLimitProperties;
+import com.ufind.ufindapp.entity.UserRole;
+import com.ufind.ufindapp.ratelimit.ConcurrencyLimiter.Priority;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Caps the requests in flight per group under {@code app.concurrency-limit.groups} and answers
+ * the excess with 503; writes by secretaries and admins are high priority.
+ */
+@Component
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final byte[] SERVICE_UNAVAILABLE = "{\"error\": \"Server is busy, try again shortly.\"}"
+            .getBytes(StandardCharsets.UTF_8);
+    private static final Set<String> SAFE_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+    private static final Set<String> STAFF = Set.of(UserRole.ROLE_SECRETARY.name(), UserRole.ROLE_ADMIN.name());
+
+    private final List<LimitedGroup> groups;
+
+    public ConcurrencyLimitFilter(ConcurrencyLimitProperties properties, MeterRegistry meterRegistry) {
+        this.groups = !properties.isEnabled() ? List.of() : properties.getGroups().stream()
+                .map(group -> limitedGroup(group, properties.getLowPriorityShare(), meterRegistry))
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return groups.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        LimitedGroup group = match(request);
+        if (group == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+        Priority priority = priority(request);
+        if (!group.limiter().tryAcquire(priority)) {
+            (priority == Priority.HIGH ? group.rejectedHigh() : group.rejectedLow()).increment();
+            reject(response);
+            return;
+        }
+        long started = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            // a stream that outlives the request thread is not what the limit protects
+            if (request.isAsyncStarted()) {
+                group.limiter().releaseUnmeasured();
+            } else {
+                group.limiter().release(System.nanoTime() - started);
+            }
+        }
+    }
+
+    private LimitedGroup match(HttpServletRequest request) {
+        PathContainer path = PathContainer.parsePath(request.getRequestURI());
+        for (LimitedGroup group : groups) {
+            if (group.path().matches(path)) {
+                return group;
+            }
+        }
+        return null;
+    }
+
+    private static Priority priority(HttpServletRequest request) {
+        if (SAFE_METHODS.contains(request.getMethod())) {
+            return Priority.LOW;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()) {
+            for (GrantedAuthority authority : authentication.getAuthorities()) {
+                if (STAFF.contains(authority.getAuthority())) {
+                    return Priority.HIGH;
+                }
+            }
+        }
+        return Priority.LOW;
+    }
+
+    private static void reject(HttpServletResponse response) throws IOException {
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, "1");
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(SERVICE_UNAVAILABLE.length);
+        response.getOutputStream().write(SERVICE_UNAVAILABLE);
+    }
+
+    private static LimitedGroup limitedGroup(
+            ConcurrencyLimitProperties.Group group, double lowPriorityShare, MeterRegistry meterRegistry) {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(
+                group.getInitialLimit(), group.getMinLimit(), group.getMaxLimit(), lowPriorityShare);
+        Gauge.builder("http.concurrency.limit", limiter, ConcurrencyLimiter::limit)
+                .description("Requests the group may have in flight")
+                .tag("group", group.getName())
+                .register(meterRegistry);
+        Gauge.builder("http.concurrency.in-flight", limiter, ConcurrencyLimiter::inFlight)
+                .description("Requests the group has in flight")
+                .tag("group", group.getName())
+                .register(meterRegistry);
+        return new LimitedGroup(
+                PathPatternParser.defaultInstance.parse(group.getPath()),
+                limiter,
+                rejected(meterRegistry, group.getName(), Priority.HIGH),
+                rejected(meterRegistry, group.getName(), Priority.LOW));
+    }
+
+    private static Counter rejected(MeterRegistry meterRegistry, String group, Priority priority) {
+        return Counter.builder("http.concurrency.rejected")
+                .description("Requests turned away because the group was at its limit")
+                .tag("group", group)
+                .tag("priority", priority.name().toLowerCase())
+                .register(meterRegistry);
+    }
+
+    private record LimitedGroup(PathPattern path, ConcurrencyLimiter limiter, Counter rejectedHigh, Counter rejectedLow) {
+    }
+}
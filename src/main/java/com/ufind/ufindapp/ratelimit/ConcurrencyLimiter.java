@@ -0,0 +1,108 @@
+package com.ufind.ufindapp.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An adaptive cap on the requests in flight for one group of routes, after the gradient
+ * algorithm of Netflix's concurrency-limits library. Low-priority requests may only use a share
+ * of the cap.
+ */
+public final class ConcurrencyLimiter {
+
+    public enum Priority { HIGH, LOW }
+
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double SHORT_WEIGHT = 0.1;
+    private static final int LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double lowPriorityShare;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private volatile int limit;
+
+    // guarded by this
+    private double estimatedLimit;
+    private double shortLatency;
+    private double longLatency;
+
+    public ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double lowPriorityShare) {
+        if (minLimit < 1 || minLimit > initialLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("A concurrency limit needs 1 <= min <= initial <= max");
+        }
+        if (lowPriorityShare <= 0 || lowPriorityShare > 1) {
+            throw new IllegalArgumentException("The low-priority share must be in (0, 1]");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.lowPriorityShare = lowPriorityShare;
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    /**
+     * Takes a slot if one is free for {@code priority}; every slot taken must be given back with
+     * {@link #release(long)} or {@link #releaseUnmeasured()}.
+     */
+    public boolean tryAcquire(Priority priority) {
+        int current = limit;
+        int allowed = priority == Priority.HIGH ? current : Math.max(1, (int) (current * lowPriorityShare));
+        while (true) {
+            int taken = inFlight.get();
+            if (taken >= allowed) {
+                return false;
+            }
+            if (inFlight.compareAndSet(taken, taken + 1)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Gives back a slot held for {@code latencyNanos}, and adjusts the limit by that latency.
+     */
+    public void release(long latencyNanos) {
+        int taken = inFlight.getAndDecrement();
+        sample(Math.max(1, latencyNanos), taken);
+    }
+
+    /**
+     * Gives back a slot whose latency says nothing about the backend, a request handed over to
+     * an asynchronous stream say.
+     */
+    public void releaseUnmeasured() {
+        inFlight.decrementAndGet();
+    }
+
+    public int limit() {
+        return limit;
+    }
+
+    public int inFlight() {
+        return inFlight.get();
+    }
+
+    private synchronized void sample(long latency, int taken) {
+        if (longLatency == 0) {
+            shortLatency = latency;
+            longLatency = latency;
+            return;
+        }
+        shortLatency += (latency - shortLatency) * SHORT_WEIGHT;
+        longLatency += (latency - longLatency) / LONG_WINDOW;
+        // latency fell well below the baseline, the backend recovered: let the baseline follow
+        // it down faster than the long window would
+        if (longLatency > 2 * shortLatency) {
+            longLatency *= 0.95;
+        }
+        // a group far below its limit proves nothing about a higher one
+        if (taken < estimatedLimit / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, TOLERANCE * longLatency / shortLatency));
+        double next = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit, estimatedLimit * (1 - SMOOTHING) + next * SMOOTHING));
+        limit = (int) estimatedLimit;
+    }
+}
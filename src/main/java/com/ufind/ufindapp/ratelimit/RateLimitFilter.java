@@ -0,0 +1,119 @@
+package com.ufind.ufindapp.ratelimit;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import com.ufind.ufindapp.config.RateLimitProperties;
+import com.ufind.ufindapp.config.RateLimitProperties.ClientKey;
+
+/**
+ * Applies the token-bucket limits configured under {@code app.rate-limit.routes}; the first
+ * route matching a request's method and path decides its limit.
+ */
+@Component
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final byte[] TOO_MANY_REQUESTS = "{\"error\": \"Too many requests.\"}"
+            .getBytes(StandardCharsets.UTF_8);
+
+    private final List<LimitedRoute> routes;
+
+    public RateLimitFilter(RateLimitProperties properties) {
+        this.routes = !properties.isEnabled() ? List.of() : properties.getRoutes().stream()
+                .map(route -> new LimitedRoute(
+                        route.getMethod(),
+                        PathPatternParser.defaultInstance.parse(route.getPath()),
+                        route.getKey(),
+                        new RateLimiter(route.getCapacity(), route.getPeriod(), properties.getMaxClientsPerRoute())))
+                .toList();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return routes.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain) throws ServletException, IOException {
+
+        LimitedRoute route = match(request);
+        if (route != null) {
+            long wait = route.limiter().tryAcquire(clientKey(route.key(), request), System.nanoTime());
+            if (wait > 0) {
+                reject(response, wait);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval:1m}")
+    public void evictIdleClients() {
+        long now = System.nanoTime();
+        for (LimitedRoute route : routes) {
+            route.limiter().evictIdle(now);
+        }
+    }
+
+    private LimitedRoute match(HttpServletRequest request) {
+        String method = request.getMethod();
+        PathContainer path = null;
+        for (LimitedRoute route : routes) {
+            if (route.method() == null || route.method().equalsIgnoreCase(method)) {
+                if (path == null) {
+                    path = PathContainer.parsePath(request.getRequestURI());
+                }
+                if (route.path().matches(path)) {
+                    return route;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static String clientKey(ClientKey key, HttpServletRequest request) {
+        if (key == ClientKey.USER_OR_IP) {
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            if (authentication != null && authentication.isAuthenticated()
+                    && !(authentication instanceof AnonymousAuthenticationToken)) {
+                return "user:" + authentication.getName();
+            }
+        }
+        return request.getRemoteAddr();
+    }
+
+    private static void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER,
+                Long.toString(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999))));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setContentLength(TOO_MANY_REQUESTS.length);
+        response.getOutputStream().write(TOO_MANY_REQUESTS);
+    }
+
+    private record LimitedRoute(String method, PathPattern path, ClientKey key, RateLimiter limiter) {
+    }
+}
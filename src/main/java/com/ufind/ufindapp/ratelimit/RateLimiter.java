@@ -0,0 +1,88 @@
+package com.ufind.ufindapp.ratelimit;
+
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-client GCRA token buckets for one route. Once {@code maxClients} buckets exist and none
+ * are idle, new clients are let through untracked.
+ */
+public final class RateLimiter {
+
+    private final long emissionInterval;
+    private final long burstTolerance;
+    private final int maxClients;
+    private final ConcurrentHashMap<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+    // when the last inline sweep ran, so a full map of busy buckets is not rescanned per request
+    private final AtomicLong lastSweep;
+
+    /**
+     * Allows bursts of {@code capacity} requests and refills the bucket completely over {@code period}.
+     */
+    public RateLimiter(int capacity, Duration period, int maxClients) {
+        if (capacity < 1 || period.isNegative() || period.isZero()) {
+            throw new IllegalArgumentException("A rate limit needs a positive capacity and period");
+        }
+        this.emissionInterval = Math.max(1, period.toNanos() / capacity);
+        this.burstTolerance = emissionInterval * capacity;
+        this.maxClients = maxClients;
+        this.lastSweep = new AtomicLong(System.nanoTime() - emissionInterval);
+    }
+
+    /**
+     * Takes a token from {@code client}'s bucket. Returns 0 if one was available, otherwise
+     * how many nanoseconds until one will be; nothing is taken in that case.
+     */
+    public long tryAcquire(String client, long nowNanos) {
+        AtomicLong bucket = buckets.get(client);
+        if (bucket == null) {
+            bucket = register(client, nowNanos);
+        }
+        while (true) {
+            long arrival = bucket.get();
+            long next = (arrival - nowNanos < 0 ? nowNanos : arrival) + emissionInterval;
+            long wait = next - nowNanos - burstTolerance;
+            if (wait > 0) {
+                return wait;
+            }
+            if (bucket.compareAndSet(arrival, next)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * Drops every bucket that has refilled completely. A request racing the removal may still
+     * take its token from the dropped bucket, which costs the client at most that one token.
+     */
+    public void evictIdle(long nowNanos) {
+        buckets.values().removeIf(bucket -> bucket.get() - nowNanos <= 0);
+    }
+
+    public int clientCount() {
+        return buckets.size();
+    }
+
+    private AtomicLong register(String client, long nowNanos) {
+        if (buckets.size() >= maxClients && !sweep(nowNanos)) {
+            // fail open: a full bucket that is not stored grants this request and is then forgotten
+            return new AtomicLong(nowNanos);
+        }
+        AtomicLong fresh = new AtomicLong(nowNanos);
+        AtomicLong existing = buckets.putIfAbsent(client, fresh);
+        return existing != null ? existing : fresh;
+    }
+
+    /**
+     * Evicts idle buckets if no other caller did so within the last emission interval, and
+     * reports whether the map has room for another client.
+     */
+    private boolean sweep(long nowNanos) {
+        long last = lastSweep.get();
+        if (nowNanos - last >= emissionInterval && lastSweep.compareAndSet(last, nowNanos)) {
+            evictIdle(nowNanos);
+        }
+        return buckets.size() < maxClients;
+    }
+}
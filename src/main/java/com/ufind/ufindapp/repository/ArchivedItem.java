@@ -0,0 +1,18 @@
+package com.ufind.ufindapp.repository;
+
+/**
+ * What {@link ItemRepository#archiveClaimedBefore} reports back about each moved item:
+ * just enough to keep the facet counts and in-memory indexes in step.
+ */
+public interface ArchivedItem {
+
+	String getTitle();
+
+	String getLocationFound();
+
+	String getStatus();
+
+	// date_found as YYYY-MM, the MONTH facet value
+	String getMonth();
+
+}
@@ -0,0 +1,67 @@
+package com.ufind.ufindapp.repository;
+
+import com.ufind.ufindapp.entity.ItemFacetCount;
+import com.ufind.ufindapp.entity.ItemFacetCountId;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ItemFacetCountRepository extends JpaRepository<ItemFacetCount, ItemFacetCountId> {
+
+	@Query("""
+			SELECT f FROM ItemFacetCount f
+			WHERE f.itemCount > 0
+			ORDER BY f.id.facet, f.itemCount DESC, f.id.value
+			""")
+	List<ItemFacetCount> findAllNonEmpty();
+
+	@Modifying
+	@Query(value = """
+			INSERT INTO item_facet_counts (facet, facet_value, item_count)
+			VALUES (:facet, :value, :delta)
+			ON CONFLICT (facet, facet_value)
+			DO UPDATE SET item_count = item_facet_counts.item_count + EXCLUDED.item_count
+			""", nativeQuery = true)
+	void increment(@Param("facet") String facet, @Param("value") String value, @Param("delta") long delta);
+
+	// items_import_staging is ItemImportService's temp table; only callable inside an import transaction.
+	@Modifying
+	@Query(value = """
+			INSERT INTO item_facet_counts (facet, facet_value, item_count)
+			SELECT 'LOCATION', location_found, COUNT(*) FROM items_import_staging GROUP BY location_found
+			UNION ALL
+			SELECT 'STATUS', status, COUNT(*) FROM items_import_staging GROUP BY status
+			UNION ALL
+			SELECT 'MONTH', TO_CHAR(date_found, 'YYYY-MM'), COUNT(*) FROM items_import_staging GROUP BY TO_CHAR(date_found, 'YYYY-MM')
+			ON CONFLICT (facet, facet_value)
+			DO UPDATE SET item_count = item_facet_counts.item_count + EXCLUDED.item_count
+			""", nativeQuery = true)
+	void incrementFromImportStaging();
+
+	// Blocks concurrent increments (ROW EXCLUSIVE) until the rebuild commits; reads stay unblocked.
+	@Modifying
+	@Query(value = "LOCK TABLE item_facet_counts IN EXCLUSIVE MODE", nativeQuery = true)
+	void lockForRebuild();
+
+	@Modifying
+	@Query(value = "DELETE FROM item_facet_counts", nativeQuery = true)
+	void deleteAllCounts();
+
+	@Modifying
+	@Query(value = """
+			INSERT INTO item_facet_counts (facet, facet_value, item_count)
+			SELECT 'LOCATION', location_found, COUNT(*) FROM items GROUP BY location_found
+			UNION ALL
+			SELECT 'STATUS', status, COUNT(*) FROM items GROUP BY status
+			UNION ALL
+			SELECT 'MONTH', TO_CHAR(date_found, 'YYYY-MM'), COUNT(*) FROM items GROUP BY TO_CHAR(date_found, 'YYYY-MM')
+			""", nativeQuery = true)
+	void rebuildFromItems();
+
+}
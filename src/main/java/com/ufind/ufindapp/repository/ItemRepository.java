@@ -5,15 +5,28 @@ import com.ufind.ufindapp.entity.Item;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 @Repository
-public interface ItemRepository extends JpaRepository<Item, UUID> {
+public interface ItemRepository extends JpaRepository<Item, UUID>, JpaSpecificationExecutor<Item>, ItemRepositoryCustom {
 
+	@Transactional(readOnly = true)
 	@Query("""
 			SELECT i FROM Item i
 			WHERE (LOWER(i.title) LIKE LOWER(CONCAT('%', :query, '%'))
@@ -22,4 +35,113 @@ public interface ItemRepository extends JpaRepository<Item, UUID> {
 			""")
 	Page<Item> searchItems(@Param("query") String query, Pageable pageable);
 
+	// Holds the row until the caller commits, so the expiry job's SKIP LOCKED passes over it.
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT i FROM Item i WHERE i.id = :id")
+	Optional<Item> findByIdForUpdate(@Param("id") UUID id);
+
+	// The version ItemJsonCache checks an entry against; a scalar, so no entity is loaded.
+	@Transactional(readOnly = true)
+	@Query("SELECT i.updatedAt FROM Item i WHERE i.id = :id")
+	Optional<OffsetDateTime> findUpdatedAtById(@Param("id") UUID id);
+
+	// One array parameter, so every batch size shares one statement and one plan.
+	@Transactional(readOnly = true)
+	@Query(value = "SELECT * FROM items WHERE id = ANY(:ids)", nativeQuery = true)
+	List<Item> findAllByIdAny(@Param("ids") UUID[] ids);
+
+	// Must be consumed inside a transaction; the fetch size makes the driver stream with a cursor.
+	@QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+	@Query("SELECT i.title FROM Item i")
+	Stream<String> streamAllTitles();
+
+	/**
+	 * Moves up to {@code limit} items claimed before {@code cutoff} into {@code items_archive}
+	 * in one statement. SKIP LOCKED leaves rows other transactions hold alone, so neither a
+	 * concurrent claim nor a second instance running the same job ever waits on a batch.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	@Query(value = """
+			WITH batch AS (
+			    SELECT id FROM items
+			    WHERE status = 'CLAIMED' AND updated_at < :cutoff
+			    ORDER BY updated_at
+			    LIMIT :limit
+			    FOR UPDATE SKIP LOCKED
+			), moved AS (
+			    DELETE FROM items i USING batch b
+			    WHERE i.id = b.id
+			    RETURNING i.*
+			)
+			INSERT INTO items_archive (id, title, description, date_found, location_found, status,
+			                           image_url, contact_info, created_at, updated_at)
+			SELECT id, title, description, date_found, location_found, status,
+			       image_url, contact_info, created_at, updated_at
+			FROM moved
+			RETURNING title AS "title", location_found AS "locationFound", status AS "status",
+			          TO_CHAR(date_found, 'YYYY-MM') AS "month"
+			""", nativeQuery = true)
+	List<ArchivedItem> archiveClaimedBefore(@Param("cutoff") OffsetDateTime cutoff, @Param("limit") int limit);
+
+	/**
+	 * Marks up to {@code limit} items still unclaimed since before {@code cutoff} as expired, in
+	 * one statement, oldest first, and returns their ids. Like {@link #archiveClaimedBefore},
+	 * SKIP LOCKED lets concurrent instances take disjoint batches and never waits on a claim.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	@Query(value = """
+			WITH batch AS (
+			    SELECT id FROM items
+			    WHERE status = 'AVAILABLE' AND created_at < :cutoff
+			    ORDER BY created_at
+			    LIMIT :limit
+			    FOR UPDATE SKIP LOCKED
+			)
+			UPDATE items i SET status = 'EXPIRED', updated_at = now()
+			FROM batch b
+			WHERE i.id = b.id
+			RETURNING i.id
+			""", nativeQuery = true)
+	List<UUID> expireAvailableBefore(@Param("cutoff") OffsetDateTime cutoff, @Param("limit") int limit);
+
+	@Transactional(readOnly = true)
+	@Query(value = "SELECT COUNT(*) FROM items WHERE status = 'AVAILABLE' AND created_at < :cutoff", nativeQuery = true)
+	long countAvailableBefore(@Param("cutoff") OffsetDateTime cutoff);
+
+	/**
+	 * Items whose {@code (updated_at, id)} comes after the given position, oldest first. Rows
+	 * younger than {@code commitLagSeconds} are held back: a write stamps updated_at before it
+	 * commits, so a recent row may still be followed by an older one that has yet to commit.
+	 * On a replica the cut-off is taken from the last replayed commit instead of the clock.
+	 */
+	@Query(value = """
+			SELECT * FROM items
+			WHERE (updated_at, id) > (:since, :sinceId)
+			  AND updated_at < LEAST(now(), pg_last_xact_replay_timestamp()) - make_interval(secs => :commitLagSeconds)
+			ORDER BY updated_at, id
+			LIMIT :limit
+			""", nativeQuery = true)
+	List<Item> findChangedSince(
+			@Param("since") OffsetDateTime since,
+			@Param("sinceId") UUID sinceId,
+			@Param("commitLagSeconds") double commitLagSeconds,
+			@Param("limit") int limit);
+
+	/**
+	 * Ids archived after the given position, oldest first, under the same commit-lag cut-off
+	 * as {@link #findChangedSince}.
+	 */
+	@Query(value = """
+			SELECT id AS "id", archived_at AS "removedAt" FROM items_archive
+			WHERE (archived_at, id) > (:since, :sinceId)
+			  AND archived_at < LEAST(now(), pg_last_xact_replay_timestamp()) - make_interval(secs => :commitLagSeconds)
+			ORDER BY archived_at, id
+			LIMIT :limit
+			""", nativeQuery = true)
+	List<ItemTombstone> findRemovedSince(
+			@Param("since") OffsetDateTime since,
+			@Param("sinceId") UUID sinceId,
+			@Param("commitLagSeconds") double commitLagSeconds,
+			@Param("limit") int limit);
+
 }
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.ufind.ufindapp.repository;
+
+import com.ufind.ufindapp.dto.ItemField;
+import com.ufind.ufindapp.entity.Item;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Sparse-fieldset reads: the SELECT list holds only the requested columns, and each row
+ * comes back as a map keyed by {@link ItemField#fieldName()}, in declaration order.
+ */
+public interface ItemRepositoryCustom {
+
+	Page<Map<String, Object>> findAllFields(Specification<Item> specification, Set<ItemField> fields, Pageable pageable);
+
+	Optional<Map<String, Object>> findFieldsById(UUID id, Set<ItemField> fields);
+
+}
@@ -0,0 +1,102 @@
+package com.ufind.ufindapp.repository;
+
+import com.ufind.ufindapp.dto.ItemField;
+import com.ufind.ufindapp.entity.Item;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+class ItemRepositoryImpl implements ItemRepositoryCustom {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public Page<Map<String, Object>> findAllFields(
+			Specification<Item> specification, Set<ItemField> fields, Pageable pageable) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+		CriteriaQuery<Tuple> query = cb.createTupleQuery();
+		Root<Item> root = query.from(Item.class);
+		query.select(cb.tuple(selections(root, fields)));
+		Predicate predicate = specification.toPredicate(root, query, cb);
+		if (predicate != null) {
+			query.where(predicate);
+		}
+		query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+		var typedQuery = entityManager.createQuery(query);
+		if (pageable.isPaged()) {
+			typedQuery.setFirstResult((int) pageable.getOffset());
+			typedQuery.setMaxResults(pageable.getPageSize());
+		}
+		List<Map<String, Object>> content = typedQuery.getResultList().stream()
+				.map(tuple -> toRow(tuple, fields))
+				.toList();
+
+		// like the derived findAll: no count query when the first page already tells the total
+		return PageableExecutionUtils.getPage(content, pageable, () -> count(specification));
+	}
+
+	@Override
+	public Optional<Map<String, Object>> findFieldsById(UUID id, Set<ItemField> fields) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+		CriteriaQuery<Tuple> query = cb.createTupleQuery();
+		Root<Item> root = query.from(Item.class);
+		query.select(cb.tuple(selections(root, fields))).where(cb.equal(root.get("id"), id));
+
+		return entityManager.createQuery(query).getResultStream()
+				.findFirst()
+				.map(tuple -> toRow(tuple, fields));
+	}
+
+	private long count(Specification<Item> specification) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+
+		CriteriaQuery<Long> query = cb.createQuery(Long.class);
+		Root<Item> root = query.from(Item.class);
+		query.select(cb.count(root));
+		Predicate predicate = specification.toPredicate(root, query, cb);
+		if (predicate != null) {
+			query.where(predicate);
+		}
+		return entityManager.createQuery(query).getSingleResult();
+	}
+
+	private static Selection<?>[] selections(Root<Item> root, Set<ItemField> fields) {
+		List<Selection<?>> selections = new ArrayList<>(fields.size());
+		for (ItemField field : fields) {
+			selections.add(root.get(field.fieldName()).alias(field.fieldName()));
+		}
+		return selections.toArray(Selection[]::new);
+	}
+
+	private static Map<String, Object> toRow(Tuple tuple, Set<ItemField> fields) {
+		Map<String, Object> row = new LinkedHashMap<>();
+		for (ItemField field : fields) {
+			row.put(field.fieldName(), tuple.get(field.fieldName()));
+		}
+		return row;
+	}
+}
@@ -0,0 +1,68 @@
+package com.ufind.ufindapp.repository;
+
+import com.ufind.ufindapp.dto.ItemFilter;
+import com.ufind.ufindapp.entity.Item;
+import com.ufind.ufindapp.entity.ItemStatus;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+public final class ItemSpecifications {
+
+    private ItemSpecifications() {
+    }
+
+    /**
+     * Builds a predicate with only the filters that were actually given, so the generated
+     * SQL stays a plain conjunction the planner can match against the V5 indexes.
+     */
+    public static Specification<Item> matching(ItemFilter filter) {
+        List<Specification<Item>> specifications = new ArrayList<>();
+        if (filter.status() != null) {
+            specifications.add(hasStatus(filter.status()));
+        }
+        if (filter.foundFrom() != null) {
+            specifications.add(foundOnOrAfter(filter.foundFrom()));
+        }
+        if (filter.foundTo() != null) {
+            specifications.add(foundOnOrBefore(filter.foundTo()));
+        }
+        if (filter.location() != null && !filter.location().isBlank()) {
+            specifications.add(foundAt(filter.location()));
+        }
+        return Specification.allOf(specifications);
+    }
+
+    /**
+     * The same substring match as {@link ItemRepository#searchItems}, for callers that need
+     * a specification, such as sparse-fieldset reads.
+     */
+    public static Specification<Item> containing(String query) {
+        String pattern = "%" + query.toLowerCase(Locale.ROOT) + "%";
+        return (root, criteriaQuery, cb) -> cb.or(
+                cb.like(cb.lower(root.get("title")), pattern),
+                cb.like(cb.lower(root.get("description")), pattern),
+                cb.like(cb.lower(root.get("locationFound")), pattern));
+    }
+
+    public static Specification<Item> hasStatus(ItemStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Item> foundOnOrAfter(LocalDate date) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dateFound"), date);
+    }
+
+    public static Specification<Item> foundOnOrBefore(LocalDate date) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("dateFound"), date);
+    }
+
+    public static Specification<Item> foundAt(String location) {
+        String trimmed = location.strip();
+        return (root, query, cb) -> cb.equal(cb.lower(root.get("locationFound")), cb.lower(cb.literal(trimmed)));
+    }
+}
@@ -0,0 +1,15 @@
+package com.ufind.ufindapp.repository;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * An item that left the {@code items} table, as reported by {@link ItemRepository#findRemovedSince}.
+ */
+public interface ItemTombstone {
+
+	UUID getId();
+
+	OffsetDateTime getRemovedAt();
+
+}
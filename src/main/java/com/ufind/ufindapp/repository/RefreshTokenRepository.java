@@ -0,0 +1,61 @@
+package com.ufind.ufindapp.repository;
+
+import com.ufind.ufindapp.entity.RefreshToken;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, UUID> {
+
+	/**
+	 * Marks the token with this hash used, if it is live: not used, revoked or expired. The row
+	 * lock makes this the single point where two refreshes with the same token are told apart;
+	 * the second one finds it used and gets nothing back.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	@Query(value = """
+			UPDATE refresh_tokens t SET used_at = now()
+			FROM users u
+			WHERE t.token_hash = :hash
+			  AND u.id = t.user_id
+			  AND t.used_at IS NULL AND t.revoked_at IS NULL AND t.expires_at > now()
+			RETURNING t.family_id AS "familyId", u.id AS "userId", u.email AS "email", u.role AS "role"
+			""", nativeQuery = true)
+	Optional<RotatedRefreshToken> markUsed(@Param("hash") byte[] hash);
+
+	/**
+	 * Revokes the family of the token with this hash if that token was already used before
+	 * {@code usedBefore}, i.e. it is being replayed; returns the tokens revoked.
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	@Modifying
+	@Query(value = """
+			UPDATE refresh_tokens SET revoked_at = now()
+			WHERE revoked_at IS NULL
+			  AND family_id = (SELECT family_id FROM refresh_tokens WHERE token_hash = :hash AND used_at < :usedBefore)
+			""", nativeQuery = true)
+	int revokeFamilyIfUsedBefore(@Param("hash") byte[] hash, @Param("usedBefore") OffsetDateTime usedBefore);
+
+	@Transactional
+	@Modifying
+	@Query(value = """
+			UPDATE refresh_tokens SET revoked_at = now()
+			WHERE revoked_at IS NULL
+			  AND family_id = (SELECT family_id FROM refresh_tokens WHERE token_hash = :hash)
+			""", nativeQuery = true)
+	int revokeFamily(@Param("hash") byte[] hash);
+
+	@Transactional
+	@Modifying
+	@Query(value = "DELETE FROM refresh_tokens WHERE expires_at < :cutoff", nativeQuery = true)
+	int deleteExpiredBefore(@Param("cutoff") OffsetDateTime cutoff);
+
+}
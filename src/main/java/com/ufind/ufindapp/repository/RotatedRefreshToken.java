@@ -0,0 +1,19 @@
+package com.ufind.ufindapp.repository;
+
+import java.util.UUID;
+
+/**
+ * What {@link RefreshTokenRepository#markUsed} reports back about a token it accepted: the
+ * family the next token joins, and the user to issue the access token for, as of now.
+ */
+public interface RotatedRefreshToken {
+
+	UUID getFamilyId();
+
+	UUID getUserId();
+
+	String getEmail();
+
+	String getRole();
+
+}
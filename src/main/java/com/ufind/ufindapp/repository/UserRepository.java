@@ -2,14 +2,17 @@ package com.ufind.ufindapp.repository;
 
 import com.ufind.ufindapp.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UserRepository extends JpaRepository<User, UUID> {
 
+    @Transactional(readOnly = true)
     Optional<User> findByEmail(String email);
 
+    @Transactional(readOnly = true)
     Boolean existsByEmail(String email);
     
 }
\ No newline at end of file
@@ -0,0 +1,182 @@
+package com.ufind.ufindapp.search;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Radix tree of completion keys weighted by frequency, answering top-k prefix lookups.
+ * Writers are serialized; readers never lock.
+ */
+public class CompletionTrie {
+
+    public record Entry(String key, String display, long weight) {
+    }
+
+    private static final Entry[] NO_ENTRIES = new Entry[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    private final int maxResults;
+    private final Node root = new Node("", NO_CHILDREN, null, NO_ENTRIES);
+
+    public CompletionTrie(int maxResults) {
+        this.maxResults = maxResults;
+    }
+
+    /**
+     * Adds {@code delta} to the weight of {@code key}. The display form of the first
+     * insertion is kept. Keys whose weight drops to zero stop being suggested.
+     */
+    public synchronized void add(String key, String display, long delta) {
+        if (key.isEmpty() || delta == 0) {
+            return;
+        }
+        Node[] path = new Node[key.length() + 1];
+        int depth = 0;
+        Node node = root;
+        path[depth++] = node;
+        int offset = 0;
+
+        while (offset < key.length()) {
+            int index = childIndex(node.children, key.charAt(offset));
+            if (index < 0) {
+                Node leaf = new Node(key.substring(offset), NO_CHILDREN, null, NO_ENTRIES);
+                node.children = insertChild(node.children, -index - 1, leaf);
+                node = leaf;
+                path[depth++] = node;
+                offset = key.length();
+                break;
+            }
+
+            Node child = node.children[index];
+            int common = commonPrefix(child.label, key, offset);
+            if (common < child.label.length()) {
+                // split the edge: parent -> head(common) -> tail(rest of the old label)
+                Node tail = new Node(child.label.substring(common), child.children, child.terminal, child.top);
+                Node head = new Node(child.label.substring(0, common), new Node[] { tail }, null, tail.top);
+                Node[] children = node.children.clone();
+                children[index] = head;
+                node.children = children;
+                child = head;
+            }
+            node = child;
+            path[depth++] = node;
+            offset += common;
+        }
+
+        Entry current = node.terminal;
+        long weight = (current == null ? 0 : current.weight()) + delta;
+        node.terminal = weight > 0
+                ? new Entry(key, current == null ? display : current.display(), weight)
+                : null;
+
+        for (int i = depth - 1; i >= 0; i--) {
+            path[i].top = computeTop(path[i]);
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} completions for {@code prefix}, heaviest first.
+     */
+    public List<Entry> complete(String prefix, int limit) {
+        Node node = root;
+        int offset = 0;
+        while (offset < prefix.length()) {
+            Node[] children = node.children;
+            int index = childIndex(children, prefix.charAt(offset));
+            if (index < 0) {
+                return Collections.emptyList();
+            }
+            Node child = children[index];
+            int common = commonPrefix(child.label, prefix, offset);
+            if (common < child.label.length() && offset + common < prefix.length()) {
+                return Collections.emptyList();
+            }
+            node = child;
+            offset += common;
+        }
+        Entry[] top = node.top;
+        return Arrays.asList(top).subList(0, Math.min(limit, top.length));
+    }
+
+    private Entry[] computeTop(Node node) {
+        Entry[] best = new Entry[maxResults];
+        int size = 0;
+        if (node.terminal != null) {
+            best[size++] = node.terminal;
+        }
+        for (Node child : node.children) {
+            for (Entry entry : child.top) {
+                size = offer(best, size, entry);
+            }
+        }
+        return size == 0 ? NO_ENTRIES : Arrays.copyOf(best, size);
+    }
+
+    // insertion into a small sorted array; children's top arrays are already sorted so this stays cheap
+    private int offer(Entry[] best, int size, Entry entry) {
+        if (size == best.length && compare(entry, best[size - 1]) >= 0) {
+            return size;
+        }
+        int position = size == best.length ? size - 1 : size;
+        while (position > 0 && compare(entry, best[position - 1]) < 0) {
+            best[position] = best[position - 1];
+            position--;
+        }
+        best[position] = entry;
+        return Math.min(size + 1, best.length);
+    }
+
+    private static int compare(Entry a, Entry b) {
+        int byWeight = Long.compare(b.weight(), a.weight());
+        return byWeight != 0 ? byWeight : a.key().compareTo(b.key());
+    }
+
+    private static int childIndex(Node[] children, char c) {
+        int low = 0;
+        int high = children.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char midChar = children[mid].label.charAt(0);
+            if (midChar < c) {
+                low = mid + 1;
+            } else if (midChar > c) {
+                high = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    private static Node[] insertChild(Node[] children, int position, Node child) {
+        Node[] result = new Node[children.length + 1];
+        System.arraycopy(children, 0, result, 0, position);
+        result[position] = child;
+        System.arraycopy(children, position, result, position + 1, children.length - position);
+        return result;
+    }
+
+    private static int commonPrefix(String label, String key, int offset) {
+        int max = Math.min(label.length(), key.length() - offset);
+        int i = 0;
+        while (i < max && label.charAt(i) == key.charAt(offset + i)) {
+            i++;
+        }
+        return i;
+    }
+
+    private static final class Node {
+        private final String label;
+        private volatile Node[] children;
+        private volatile Entry terminal;
+        private volatile Entry[] top;
+
+        private Node(String label, Node[] children, Entry terminal, Entry[] top) {
+            this.label = label;
+            this.children = children;
+            this.terminal = terminal;
+            this.top = top;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.ufind.ufindapp.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Finds every stored 64-bit hash within a Hamming distance of a query, exactly, by multi-index
+ * hashing over four 16-bit chunks. Safe for concurrent use.
+ */
+public final class HammingIndex<K> {
+
+    public record Match<K>(K key, int distance) {
+    }
+
+    private static final int CHUNKS = 4;
+    private static final int CHUNK_BITS = Long.SIZE / CHUNKS;
+    private static final int NONE = -1;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<K, Integer> slots = new HashMap<>();
+    private final int[][] heads = new int[CHUNKS][1 << CHUNK_BITS];
+    private int[][] next = new int[CHUNKS][64];
+    private long[] hashes = new long[64];
+    private Object[] keys = new Object[64];
+    private int used;
+    // slots freed by remove, reused before the arrays grow
+    private int[] free = new int[16];
+    private int freeCount;
+
+    public HammingIndex() {
+        for (int[] head : heads) {
+            Arrays.fill(head, NONE);
+        }
+    }
+
+    /**
+     * Stores {@code hash} under {@code key}, replacing any hash already stored under it.
+     */
+    public void add(K key, long hash) {
+        lock.writeLock().lock();
+        try {
+            Integer previous = slots.remove(key);
+            if (previous != null) {
+                release(previous);
+            }
+            int slot = allocate();
+            slots.put(key, slot);
+            keys[slot] = key;
+            hashes[slot] = hash;
+            for (int chunk = 0; chunk < CHUNKS; chunk++) {
+                int value = chunk(hash, chunk);
+                next[chunk][slot] = heads[chunk][value];
+                heads[chunk][value] = slot;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(K key) {
+        lock.writeLock().lock();
+        try {
+            Integer slot = slots.remove(key);
+            if (slot == null) {
+                return false;
+            }
+            release(slot);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * The stored keys within {@code maxDistance} of {@code hash}, nearest first, at most
+     * {@code limit} of them.
+     */
+    public List<Match<K>> query(long hash, int maxDistance, int limit) {
+        int radius = maxDistance / CHUNKS;
+        // a hash close on several chunks is met several times; only matches need de-duplicating
+        Map<Integer, Integer> found = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            for (int chunk = 0; chunk < CHUNKS; chunk++) {
+                collect(chunk, chunk(hash, chunk), radius, 0, hash, maxDistance, found);
+            }
+            List<Match<K>> matches = new ArrayList<>(found.size());
+            for (Map.Entry<Integer, Integer> match : found.entrySet()) {
+                @SuppressWarnings("unchecked")
+                K key = (K) keys[match.getKey()];
+                matches.add(new Match<>(key, match.getValue()));
+            }
+            matches.sort(Comparator.comparingInt(Match<K>::distance));
+            return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slots.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Visits value and every value that differs from it in at most `radius` bits at or above `fromBit`.
+    private void collect(int chunk, int value, int radius, int fromBit, long hash, int maxDistance,
+            Map<Integer, Integer> into) {
+        int[] links = next[chunk];
+        for (int slot = heads[chunk][value]; slot != NONE; slot = links[slot]) {
+            int distance = Long.bitCount(hash ^ hashes[slot]);
+            if (distance <= maxDistance) {
+                into.put(slot, distance);
+            }
+        }
+        if (radius == 0) {
+            return;
+        }
+        for (int bit = fromBit; bit < CHUNK_BITS; bit++) {
+            collect(chunk, value ^ (1 << bit), radius - 1, bit + 1, hash, maxDistance, into);
+        }
+    }
+
+    private int allocate() {
+        if (freeCount > 0) {
+            return free[--freeCount];
+        }
+        if (used == hashes.length) {
+            int capacity = hashes.length * 2;
+            hashes = Arrays.copyOf(hashes, capacity);
+            keys = Arrays.copyOf(keys, capacity);
+            for (int chunk = 0; chunk < CHUNKS; chunk++) {
+                next[chunk] = Arrays.copyOf(next[chunk], capacity);
+            }
+        }
+        return used++;
+    }
+
+    // Unlinks the slot from its bucket in every table; buckets hold a handful of slots.
+    private void release(int slot) {
+        for (int chunk = 0; chunk < CHUNKS; chunk++) {
+            int[] links = next[chunk];
+            int value = chunk(hashes[slot], chunk);
+            if (heads[chunk][value] == slot) {
+                heads[chunk][value] = links[slot];
+                continue;
+            }
+            int previous = heads[chunk][value];
+            while (links[previous] != slot) {
+                previous = links[previous];
+            }
+            links[previous] = links[slot];
+        }
+        keys[slot] = null;
+        if (freeCount == free.length) {
+            free = Arrays.copyOf(free, freeCount * 2);
+        }
+        free[freeCount++] = slot;
+    }
+
+    private static int chunk(long hash, int chunk) {
+        return (int) (hash >>> (chunk * CHUNK_BITS)) & 0xFFFF;
+    }
+}
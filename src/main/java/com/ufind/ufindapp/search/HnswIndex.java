@@ -0,0 +1,532 @@
+package com.ufind.ufindapp.search;
+
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Approximate nearest-neighbour search over byte vectors by dot product, using a hierarchical
+ * navigable small world graph. Removed keys only stop being returned; safe for concurrent use.
+ */
+public final class HnswIndex<K> {
+
+    public record Match<K>(K key, double similarity) {
+    }
+
+    /**
+     * How keys are written to and read from a snapshot.
+     */
+    public interface KeyCodec<K> {
+
+        void write(DataOutput out, K key) throws IOException;
+
+        K read(DataInput in) throws IOException;
+    }
+
+    private static final int MAGIC = 0x484E5357;
+    private static final int VERSION = 1;
+    private static final int NONE = -1;
+    // vectors are unit length scaled to +-127, so a dot product of 127^2 is a cosine of 1
+    private static final double UNIT = 127.0 * 127.0;
+
+    private final int dimensions;
+    private final int m;
+    private final int efConstruction;
+    private final double levelFactor;
+    private final SplittableRandom random;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<K, Integer> nodes = new HashMap<>();
+    private final ThreadLocal<Visited> visited = ThreadLocal.withInitial(Visited::new);
+
+    private byte[] vectors;
+    private Object[] keys;
+    private boolean[] removed;
+    // links[node][level] = {count, neighbour, neighbour, ...}
+    private int[][][] links;
+    private int count;
+    private int entryPoint = NONE;
+    private int topLevel = NONE;
+
+    public HnswIndex(int dimensions, int m, int efConstruction, long seed) {
+        // link counts are written as single bytes, and the bottom layer holds 2m
+        if (dimensions < 1 || m < 2 || m > 127 || efConstruction < m) {
+            throw new IllegalArgumentException("Need dimensions >= 1, 2 <= m <= 127 and efConstruction >= m, got "
+                    + dimensions + ", " + m + ", " + efConstruction);
+        }
+        this.dimensions = dimensions;
+        this.m = m;
+        this.efConstruction = efConstruction;
+        this.levelFactor = 1 / Math.log(m);
+        this.random = new SplittableRandom(seed);
+        this.vectors = new byte[64 * dimensions];
+        this.keys = new Object[64];
+        this.removed = new boolean[64];
+        this.links = new int[64][][];
+    }
+
+    /**
+     * Stores {@code vector} under {@code key}, replacing any vector already stored under it.
+     */
+    public void add(K key, byte[] vector) {
+        if (vector.length != dimensions) {
+            throw new IllegalArgumentException("Expected " + dimensions + " dimensions, got " + vector.length);
+        }
+        lock.writeLock().lock();
+        try {
+            Integer previous = nodes.remove(key);
+            if (previous != null) {
+                removed[previous] = true;
+                keys[previous] = null;
+            }
+            int node = allocate();
+            System.arraycopy(vector, 0, vectors, node * dimensions, dimensions);
+            keys[node] = key;
+            nodes.put(key, node);
+            int level = (int) (-Math.log(1 - random.nextDouble()) * levelFactor);
+            links[node] = new int[level + 1][];
+            for (int l = 0; l <= level; l++) {
+                links[node][l] = new int[1 + maxLinks(l)];
+            }
+            if (entryPoint == NONE) {
+                entryPoint = node;
+                topLevel = level;
+                return;
+            }
+
+            int current = entryPoint;
+            for (int l = topLevel; l > level; l--) {
+                current = greedy(vectors, node * dimensions, current, l);
+            }
+            for (int l = Math.min(level, topLevel); l >= 0; l--) {
+                long[] nearest = searchLayer(vectors, node * dimensions, current, efConstruction, l);
+                int[] selected = selectNeighbours(node * dimensions, nearest, m);
+                int[] own = links[node][l];
+                own[0] = selected.length;
+                System.arraycopy(selected, 0, own, 1, selected.length);
+                for (int neighbour : selected) {
+                    connect(neighbour, node, l);
+                }
+                current = node(nearest[0]);
+            }
+            if (level > topLevel) {
+                entryPoint = node;
+                topLevel = level;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean remove(K key) {
+        lock.writeLock().lock();
+        try {
+            Integer node = nodes.remove(key);
+            if (node == null) {
+                return false;
+            }
+            removed[node] = true;
+            keys[node] = null;
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * A copy of the vector stored under {@code key}, or {@code null}.
+     */
+    public byte[] vector(K key) {
+        lock.readLock().lock();
+        try {
+            Integer node = nodes.get(key);
+            return node == null ? null : Arrays.copyOfRange(vectors, node * dimensions, (node + 1) * dimensions);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * About the {@code limit} stored vectors nearest to {@code query}, most similar first, with
+     * their cosine similarity. A larger {@code ef} finds more of the true nearest, more slowly.
+     */
+    public List<Match<K>> search(byte[] query, int limit, int ef) {
+        if (query.length != dimensions) {
+            throw new IllegalArgumentException("Expected " + dimensions + " dimensions, got " + query.length);
+        }
+        lock.readLock().lock();
+        try {
+            if (entryPoint == NONE) {
+                return List.of();
+            }
+            int current = entryPoint;
+            for (int l = topLevel; l > 0; l--) {
+                current = greedy(query, 0, current, l);
+            }
+            long[] nearest = searchLayer(query, 0, current, Math.max(ef, limit), 0);
+            List<Match<K>> matches = new ArrayList<>(limit);
+            for (int i = 0; i < nearest.length && matches.size() < limit; i++) {
+                int node = node(nearest[i]);
+                if (!removed[node]) {
+                    @SuppressWarnings("unchecked")
+                    K key = (K) keys[node];
+                    matches.add(new Match<>(key, similarity(nearest[i]) / UNIT));
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return nodes.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int dimensions() {
+        return dimensions;
+    }
+
+    public void writeTo(DataOutputStream out, KeyCodec<K> codec) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            out.writeInt(dimensions);
+            out.writeInt(m);
+            out.writeInt(count);
+            out.writeInt(entryPoint);
+            out.writeInt(topLevel);
+            for (int node = 0; node < count; node++) {
+                out.writeBoolean(removed[node]);
+                if (!removed[node]) {
+                    @SuppressWarnings("unchecked")
+                    K key = (K) keys[node];
+                    codec.write(out, key);
+                }
+                out.write(vectors, node * dimensions, dimensions);
+                out.writeByte(links[node].length);
+                for (int[] level : links[node]) {
+                    out.writeByte(level[0]);
+                    for (int i = 1; i <= level[0]; i++) {
+                        out.writeInt(level[i]);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reads an index written by {@link #writeTo}. Its dimensions and {@code m} come from the
+     * stream; {@code efConstruction} and {@code seed} apply to vectors added from now on.
+     */
+    public static <K> HnswIndex<K> readFrom(DataInputStream in, KeyCodec<K> codec, int efConstruction, long seed)
+            throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+            throw new IOException("Not an HNSW snapshot, or one from another version");
+        }
+        int dimensions = in.readInt();
+        int m = in.readInt();
+        HnswIndex<K> index = new HnswIndex<>(dimensions, m, Math.max(efConstruction, m), seed);
+        int count = in.readInt();
+        index.entryPoint = in.readInt();
+        index.topLevel = in.readInt();
+        index.grow(Math.max(count, 64));
+        for (int node = 0; node < count; node++) {
+            index.removed[node] = in.readBoolean();
+            if (!index.removed[node]) {
+                K key = codec.read(in);
+                index.keys[node] = key;
+                index.nodes.put(key, node);
+            }
+            in.readFully(index.vectors, node * dimensions, dimensions);
+            int levels = in.readUnsignedByte();
+            index.links[node] = new int[levels][];
+            for (int l = 0; l < levels; l++) {
+                int[] level = new int[1 + index.maxLinks(l)];
+                level[0] = in.readUnsignedByte();
+                for (int i = 1; i <= level[0]; i++) {
+                    level[i] = in.readInt();
+                }
+                index.links[node][l] = level;
+            }
+        }
+        index.count = count;
+        return index;
+    }
+
+    private int maxLinks(int level) {
+        return level == 0 ? 2 * m : m;
+    }
+
+    // Moves to ever closer neighbours on one layer until none is closer.
+    private int greedy(byte[] query, int offset, int entry, int level) {
+        int current = entry;
+        int best = dot(query, offset, current);
+        boolean moved = true;
+        while (moved) {
+            moved = false;
+            int[] neighbours = links[current][level];
+            for (int i = 1; i <= neighbours[0]; i++) {
+                int similarity = dot(query, offset, neighbours[i]);
+                if (similarity > best) {
+                    best = similarity;
+                    current = neighbours[i];
+                    moved = true;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * The {@code ef} nearest nodes reachable on one layer from {@code entry}, nearest first, each
+     * packed with its similarity (see {@link #pack}). Removed nodes are kept: they still route.
+     */
+    private long[] searchLayer(byte[] query, int offset, int entry, int ef, int level) {
+        Visited seen = visited.get().reset(count);
+        LongHeap candidates = new LongHeap(ef * 2);
+        LongHeap results = new LongHeap(ef + 1);
+        long start = pack(dot(query, offset, entry), entry);
+        seen.add(entry);
+        // candidates pops the most similar next (negated); results keeps the least similar on top
+        candidates.push(-start);
+        results.push(start);
+        while (!candidates.isEmpty()) {
+            long candidate = -candidates.pop();
+            if (results.size() >= ef && similarity(candidate) < similarity(results.peek())) {
+                break;
+            }
+            int[] neighbours = links[node(candidate)][level];
+            for (int i = 1; i <= neighbours[0]; i++) {
+                int neighbour = neighbours[i];
+                if (!seen.add(neighbour)) {
+                    continue;
+                }
+                int similarity = dot(query, offset, neighbour);
+                if (results.size() < ef || similarity > similarity(results.peek())) {
+                    long packed = pack(similarity, neighbour);
+                    candidates.push(-packed);
+                    results.push(packed);
+                    if (results.size() > ef) {
+                        results.pop();
+                    }
+                }
+            }
+        }
+        long[] nearest = new long[results.size()];
+        for (int i = nearest.length - 1; i >= 0; i--) {
+            nearest[i] = results.pop();
+        }
+        return nearest;
+    }
+
+    /**
+     * Picks up to {@code max} of the candidates (nearest first), skipping any that is closer to an
+     * already picked one than to the base: links then point in different directions, which keeps
+     * clusters reachable from each other. Skipped candidates fill any places left over.
+     */
+    private int[] selectNeighbours(int baseOffset, long[] candidates, int max) {
+        int[] selected = new int[Math.min(max, candidates.length)];
+        int picked = 0;
+        int[] skipped = new int[candidates.length];
+        int skippedCount = 0;
+        for (long candidate : candidates) {
+            if (picked == selected.length) {
+                break;
+            }
+            int node = node(candidate);
+            if (node * dimensions == baseOffset) {
+                continue;
+            }
+            boolean diverse = true;
+            for (int i = 0; i < picked && diverse; i++) {
+                diverse = dot(vectors, selected[i] * dimensions, node) <= similarity(candidate);
+            }
+            if (diverse) {
+                selected[picked++] = node;
+            } else {
+                skipped[skippedCount++] = node;
+            }
+        }
+        for (int i = 0; i < skippedCount && picked < selected.length; i++) {
+            selected[picked++] = skipped[i];
+        }
+        return picked == selected.length ? selected : Arrays.copyOf(selected, picked);
+    }
+
+    // Links `from` back to `to`, re-selecting `from`'s neighbours when its list is full.
+    private void connect(int from, int to, int level) {
+        int[] neighbours = links[from][level];
+        int max = maxLinks(level);
+        if (neighbours[0] < max) {
+            neighbours[++neighbours[0]] = to;
+            return;
+        }
+        int offset = from * dimensions;
+        long[] candidates = new long[max + 1];
+        for (int i = 0; i < max; i++) {
+            candidates[i] = pack(dot(vectors, offset, neighbours[i + 1]), neighbours[i + 1]);
+        }
+        candidates[max] = pack(dot(vectors, offset, to), to);
+        Arrays.sort(candidates);
+        reverse(candidates);
+        int[] selected = selectNeighbours(offset, candidates, max);
+        neighbours[0] = selected.length;
+        System.arraycopy(selected, 0, neighbours, 1, selected.length);
+    }
+
+    private int dot(byte[] query, int offset, int node) {
+        byte[] stored = vectors;
+        int base = node * dimensions;
+        int sum = 0;
+        for (int i = 0; i < dimensions; i++) {
+            sum += query[offset + i] * stored[base + i];
+        }
+        return sum;
+    }
+
+    private int allocate() {
+        if (count == keys.length) {
+            grow(count * 2);
+        }
+        return count++;
+    }
+
+    private void grow(int capacity) {
+        vectors = Arrays.copyOf(vectors, capacity * dimensions);
+        keys = Arrays.copyOf(keys, capacity);
+        removed = Arrays.copyOf(removed, capacity);
+        links = Arrays.copyOf(links, capacity);
+    }
+
+    // Similarity in the high half, so packed values sort by similarity; node in the low half.
+    private static long pack(int similarity, int node) {
+        return ((long) similarity << 32) | node;
+    }
+
+    private static int similarity(long packed) {
+        return (int) (packed >> 32);
+    }
+
+    private static int node(long packed) {
+        return (int) packed;
+    }
+
+    private static void reverse(long[] values) {
+        for (int i = 0, j = values.length - 1; i < j; i++, j--) {
+            long swap = values[i];
+            values[i] = values[j];
+            values[j] = swap;
+        }
+    }
+
+    /**
+     * Nodes seen by the current search, cleared in O(1) by moving to a new epoch.
+     */
+    private static final class Visited {
+
+        private int[] epochs = new int[0];
+        private int epoch;
+
+        Visited reset(int capacity) {
+            if (epochs.length < capacity) {
+                epochs = new int[Math.max(capacity, epochs.length * 2)];
+                epoch = 0;
+            }
+            if (++epoch == Integer.MAX_VALUE) {
+                Arrays.fill(epochs, 0);
+                epoch = 1;
+            }
+            return this;
+        }
+
+        boolean add(int node) {
+            if (epochs[node] == epoch) {
+                return false;
+            }
+            epochs[node] = epoch;
+            return true;
+        }
+    }
+
+    /**
+     * Binary min-heap of primitive longs.
+     */
+    private static final class LongHeap {
+
+        private long[] values;
+        private int size;
+
+        LongHeap(int capacity) {
+            values = new long[Math.max(capacity, 2)];
+        }
+
+        int size() {
+            return size;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        long peek() {
+            return values[0];
+        }
+
+        void push(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            int i = size++;
+            while (i > 0) {
+                int parent = (i - 1) >>> 1;
+                if (values[parent] <= value) {
+                    break;
+                }
+                values[i] = values[parent];
+                i = parent;
+            }
+            values[i] = value;
+        }
+
+        long pop() {
+            long top = values[0];
+            long last = values[--size];
+            int i = 0;
+            while (true) {
+                int child = 2 * i + 1;
+                if (child >= size) {
+                    break;
+                }
+                if (child + 1 < size && values[child + 1] < values[child]) {
+                    child++;
+                }
+                if (values[child] >= last) {
+                    break;
+                }
+                values[i] = values[child];
+                i = child;
+            }
+            values[i] = last;
+            return top;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.ufind.ufindapp.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Locality-sensitive hashing over {@link MinHash} signatures: finds the stored signatures most
+ * similar to a given one without comparing it against all of them. Safe for concurrent use.
+ */
+public final class LshIndex<K> {
+
+    public record Match<K>(K key, double similarity) {
+    }
+
+    private final int bands;
+    private final int rows;
+
+    private final Map<K, int[]> signatures = new ConcurrentHashMap<>();
+    // Buckets are immutable lists replaced on every change; nearly all of them hold one key.
+    private final Map<Long, List<K>> buckets = new ConcurrentHashMap<>();
+
+    public LshIndex(int bands, int rows) {
+        if (bands < 1 || rows < 1) {
+            throw new IllegalArgumentException("bands and rows must be positive");
+        }
+        this.bands = bands;
+        this.rows = rows;
+    }
+
+    public int signatureLength() {
+        return bands * rows;
+    }
+
+    /**
+     * Stores {@code signature} under {@code key}, replacing any signature already stored under it.
+     */
+    public void add(K key, int[] signature) {
+        requireLength(signature);
+        int[] previous = signatures.put(key, signature);
+        if (previous != null) {
+            unbucket(key, previous);
+        }
+        for (int band = 0; band < bands; band++) {
+            buckets.compute(bucket(signature, band), (bucket, keys) -> {
+                if (keys == null) {
+                    return List.of(key);
+                }
+                List<K> grown = new ArrayList<>(keys.size() + 1);
+                grown.addAll(keys);
+                grown.add(key);
+                return List.copyOf(grown);
+            });
+        }
+    }
+
+    public boolean remove(K key) {
+        int[] signature = signatures.remove(key);
+        if (signature == null) {
+            return false;
+        }
+        unbucket(key, signature);
+        return true;
+    }
+
+    /**
+     * The stored keys whose estimated similarity to {@code signature} is at least
+     * {@code threshold}, most similar first, at most {@code limit} of them.
+     */
+    public List<Match<K>> query(int[] signature, double threshold, int limit) {
+        requireLength(signature);
+        Set<K> candidates = new HashSet<>();
+        for (int band = 0; band < bands; band++) {
+            List<K> keys = buckets.get(bucket(signature, band));
+            if (keys != null) {
+                candidates.addAll(keys);
+            }
+        }
+        List<Match<K>> matches = new ArrayList<>();
+        for (K candidate : candidates) {
+            int[] other = signatures.get(candidate);
+            if (other == null) {
+                continue;
+            }
+            double similarity = MinHash.similarity(signature, other);
+            if (similarity >= threshold) {
+                matches.add(new Match<>(candidate, similarity));
+            }
+        }
+        matches.sort(Comparator.comparingDouble(Match<K>::similarity).reversed());
+        return matches.size() > limit ? List.copyOf(matches.subList(0, limit)) : matches;
+    }
+
+    public int size() {
+        return signatures.size();
+    }
+
+    private void unbucket(K key, int[] signature) {
+        for (int band = 0; band < bands; band++) {
+            buckets.computeIfPresent(bucket(signature, band), (bucket, keys) -> {
+                List<K> shrunk = new ArrayList<>(keys);
+                shrunk.remove(key);
+                return shrunk.isEmpty() ? null : List.copyOf(shrunk);
+            });
+        }
+    }
+
+    // The band number is hashed in, so equal rows in different bands are different buckets.
+    private long bucket(int[] signature, int band) {
+        long hash = band;
+        int from = band * rows;
+        for (int i = from; i < from + rows; i++) {
+            hash = MinHash.mix(hash * 31 + signature[i]);
+        }
+        return hash;
+    }
+
+    private void requireLength(int[] signature) {
+        if (signature.length != bands * rows) {
+            throw new IllegalArgumentException(
+                    "Expected a signature of " + bands * rows + " slots, got " + signature.length);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.ufind.ufindapp.search;
+
+import java.util.Arrays;
+
+/**
+ * MinHash signatures over character shingles, for estimating the Jaccard similarity of two
+ * short texts.
+ */
+public final class MinHash {
+
+    public static final int SHINGLE_LENGTH = 3;
+
+    private final long[] seeds;
+
+    public MinHash(int hashes, long seed) {
+        this.seeds = new long[hashes];
+        long state = seed;
+        for (int i = 0; i < hashes; i++) {
+            state += 0x9E3779B97F4A7C15L;
+            seeds[i] = mix(state);
+        }
+    }
+
+    public int hashes() {
+        return seeds.length;
+    }
+
+    /**
+     * Signature of {@code text}. A text shorter than one shingle is one shingle by itself;
+     * an empty text gets a signature that resembles nothing.
+     */
+    public int[] signature(String text) {
+        int[] shingles = shingles(text);
+        int[] signature = new int[seeds.length];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int shingle : shingles) {
+            for (int i = 0; i < seeds.length; i++) {
+                int hash = (int) mix(shingle ^ seeds[i]);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    /**
+     * Estimated Jaccard similarity of the texts behind two signatures of the same length.
+     */
+    public static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < a.length; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / a.length;
+    }
+
+    // Distinct shingle hashes; sorted so duplicates sit next to each other.
+    static int[] shingles(String text) {
+        String normalized = SearchText.normalize(text);
+        StringBuilder collapsed = new StringBuilder(normalized.length());
+        boolean space = true;
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                collapsed.append(c);
+                space = false;
+            } else if (!space) {
+                collapsed.append(' ');
+                space = true;
+            }
+        }
+        int length = collapsed.length();
+        if (length > 0 && collapsed.charAt(length - 1) == ' ') {
+            length--;
+        }
+        if (length == 0) {
+            return new int[0];
+        }
+
+        int count = Math.max(1, length - SHINGLE_LENGTH + 1);
+        int[] hashes = new int[count];
+        for (int start = 0; start < count; start++) {
+            int hash = 0;
+            for (int i = start; i < Math.min(start + SHINGLE_LENGTH, length); i++) {
+                hash = 31 * hash + collapsed.charAt(i);
+            }
+            hashes[start] = hash;
+        }
+        Arrays.sort(hashes);
+        int distinct = 1;
+        for (int i = 1; i < hashes.length; i++) {
+            if (hashes[i] != hashes[distinct - 1]) {
+                hashes[distinct++] = hashes[i];
+            }
+        }
+        return Arrays.copyOf(hashes, distinct);
+    }
+
+    // SplitMix64 finalizer
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,199 @@
+package com.ufind.ufindapp.search;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.ColorModel;
+import java.awt.image.ComponentColorModel;
+import java.awt.image.ComponentSampleModel;
+import java.awt.image.DataBufferByte;
+import java.awt.image.DataBufferInt;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.awt.image.WritableRaster;
+import java.util.Arrays;
+
+/**
+ * 64-bit DCT perceptual hash ("pHash") of an image: photos of the same object hash a few bits
+ * apart, unrelated ones about 32. Compare hashes with {@link #distance}.
+ */
+public final class PerceptualHash {
+
+    static final int SIZE = 32;
+    private static final int LOW = 8;
+
+    // COSINES[u][x] = cos((2x + 1) * u * pi / (2 * SIZE)), shared by rows and columns
+    private static final double[][] COSINES = new double[LOW][SIZE];
+
+    static {
+        for (int u = 0; u < LOW; u++) {
+            for (int x = 0; x < SIZE; x++) {
+                COSINES[u][x] = Math.cos((2 * x + 1) * u * Math.PI / (2 * SIZE));
+            }
+        }
+    }
+
+    private PerceptualHash() {
+    }
+
+    public static long hash(BufferedImage image) {
+        double[][] grey = thumbnail(image);
+
+        // separable DCT, keeping only the LOW x LOW corner: rows first, then columns
+        double[][] rows = new double[SIZE][LOW];
+        for (int y = 0; y < SIZE; y++) {
+            for (int u = 0; u < LOW; u++) {
+                double sum = 0;
+                for (int x = 0; x < SIZE; x++) {
+                    sum += grey[y][x] * COSINES[u][x];
+                }
+                rows[y][u] = sum;
+            }
+        }
+        double[] coefficients = new double[LOW * LOW];
+        for (int v = 0; v < LOW; v++) {
+            for (int u = 0; u < LOW; u++) {
+                double sum = 0;
+                for (int y = 0; y < SIZE; y++) {
+                    sum += rows[y][u] * COSINES[v][y];
+                }
+                coefficients[v * LOW + u] = sum;
+            }
+        }
+
+        // the DC term is the average brightness; leaving it out of the median keeps it from
+        // deciding the threshold, but its bit is still set from it
+        double[] ac = Arrays.copyOfRange(coefficients, 1, coefficients.length);
+        Arrays.sort(ac);
+        double median = ac[ac.length / 2];
+        long hash = 0;
+        for (int i = 0; i < coefficients.length; i++) {
+            if (coefficients[i] > median) {
+                hash |= 1L << i;
+            }
+        }
+        return hash;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    // Box-filtered luminance: each thumbnail cell is the mean of the pixels that fall in it.
+    static double[][] thumbnail(BufferedImage image) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        // columns firstColumn[c] until firstColumn[c + 1] fall in thumbnail column c
+        int[] firstColumn = new int[SIZE + 1];
+        for (int c = 0; c <= SIZE; c++) {
+            firstColumn[c] = (int) (((long) c * width + SIZE - 1) / SIZE);
+        }
+        long[][] sums = new long[SIZE][SIZE];
+        int[][] counts = new int[SIZE][SIZE];
+        RowReader rows = RowReader.of(image);
+        int[] row = new int[width];
+        for (int y = 0; y < height; y++) {
+            rows.luminance(y, row);
+            int cellY = (int) ((long) y * SIZE / height);
+            for (int c = 0; c < SIZE; c++) {
+                // summed in a local first: adding each pixel straight into the array is a chain
+                // of dependent stores that runs several times slower
+                long sum = 0;
+                for (int x = firstColumn[c]; x < firstColumn[c + 1]; x++) {
+                    sum += row[x];
+                }
+                sums[cellY][c] += sum;
+                counts[cellY][c] += firstColumn[c + 1] - firstColumn[c];
+            }
+        }
+        double[][] grey = new double[SIZE][SIZE];
+        for (int y = 0; y < SIZE; y++) {
+            for (int x = 0; x < SIZE; x++) {
+                // an image smaller than the thumbnail leaves cells empty; repeat the nearest pixel
+                int sourceY = counts[y][x] > 0 ? y : Math.min(y * height / SIZE, height - 1) * SIZE / height;
+                int sourceX = counts[y][x] > 0 ? x : Math.min(x * width / SIZE, width - 1) * SIZE / width;
+                grey[y][x] = (double) sums[sourceY][sourceX] / Math.max(1, counts[sourceY][sourceX]);
+            }
+        }
+        return grey;
+    }
+
+    /**
+     * One row of luminance (0-255 x 256) at a time. Decoded photos are almost always 8-bit RGB or
+     * grey in a plain array, which is read directly; {@link BufferedImage#getRGB} converts pixel by
+     * pixel through the colour model, 5-20 times slower, and is kept for everything else.
+     */
+    private interface RowReader {
+
+        void luminance(int y, int[] into);
+
+        static RowReader of(BufferedImage image) {
+            WritableRaster raster = image.getRaster();
+            ColorModel model = image.getColorModel();
+            int width = image.getWidth();
+            int originX = -raster.getSampleModelTranslateX();
+            int originY = -raster.getSampleModelTranslateY();
+
+            // JPEG, and PNG without a palette: interleaved bytes, bands in R, G, B (, A) order
+            if (raster.getDataBuffer() instanceof DataBufferByte buffer
+                    && raster.getSampleModel() instanceof ComponentSampleModel sampleModel
+                    && model instanceof ComponentColorModel
+                    && buffer.getNumBanks() == 1
+                    && model.getColorSpace().isCS_sRGB()) {
+                byte[] data = buffer.getData();
+                int[] offsets = sampleModel.getBandOffsets();
+                int pixelStride = sampleModel.getPixelStride();
+                int scanlineStride = sampleModel.getScanlineStride();
+                if (model.getNumColorComponents() == 3) {
+                    return (y, into) -> {
+                        int i = (originY + y) * scanlineStride + originX * pixelStride + buffer.getOffset();
+                        for (int x = 0; x < width; x++, i += pixelStride) {
+                            into[x] = luminance(data[i + offsets[0]] & 0xFF, data[i + offsets[1]] & 0xFF,
+                                    data[i + offsets[2]] & 0xFF);
+                        }
+                    };
+                }
+            }
+            if (raster.getDataBuffer() instanceof DataBufferByte buffer
+                    && raster.getSampleModel() instanceof ComponentSampleModel sampleModel
+                    && image.getType() == BufferedImage.TYPE_BYTE_GRAY) {
+                byte[] data = buffer.getData();
+                int offset = sampleModel.getBandOffsets()[0];
+                int pixelStride = sampleModel.getPixelStride();
+                int scanlineStride = sampleModel.getScanlineStride();
+                return (y, into) -> {
+                    int i = (originY + y) * scanlineStride + originX * pixelStride + buffer.getOffset() + offset;
+                    for (int x = 0; x < width; x++, i += pixelStride) {
+                        into[x] = (data[i] & 0xFF) << 8;
+                    }
+                };
+            }
+            // images drawn in memory: one packed 0x(AA)RRGGBB int per pixel
+            if (raster.getDataBuffer() instanceof DataBufferInt buffer
+                    && raster.getSampleModel() instanceof SinglePixelPackedSampleModel sampleModel
+                    && (image.getType() == BufferedImage.TYPE_INT_RGB || image.getType() == BufferedImage.TYPE_INT_ARGB)) {
+                int[] data = buffer.getData();
+                int scanlineStride = sampleModel.getScanlineStride();
+                return (y, into) -> {
+                    int i = (originY + y) * scanlineStride + originX + buffer.getOffset();
+                    for (int x = 0; x < width; x++, i++) {
+                        into[x] = luminance(data[i]);
+                    }
+                };
+            }
+            int[] rgb = new int[width];
+            return (y, into) -> {
+                image.getRGB(0, y, width, 1, rgb, 0, width);
+                for (int x = 0; x < width; x++) {
+                    into[x] = luminance(rgb[x]);
+                }
+            };
+        }
+
+        private static int luminance(int rgb) {
+            return luminance((rgb >> 16) & 0xFF, (rgb >> 8) & 0xFF, rgb & 0xFF);
+        }
+
+        // Rec. 601 weights, scaled by 256 to stay in integers
+        private static int luminance(int red, int green, int blue) {
+            return 77 * red + 150 * green + 29 * blue;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.ufind.ufindapp.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reverse search: stores queries, each a set of normalized terms, and finds those whose terms
+ * all occur in a given document. Safe for concurrent use.
+ */
+public final class Percolator<K> {
+
+    private record Query<K>(K id, String anchor, String[] terms) {
+    }
+
+    private final Map<String, Set<Query<K>>> byAnchor = new ConcurrentHashMap<>();
+    private final Map<K, Query<K>> byId = new ConcurrentHashMap<>();
+
+    /**
+     * Stores a query under {@code id}, replacing any query already stored under it.
+     * A query without terms matches nothing and is not stored.
+     */
+    public void add(K id, Collection<String> terms) {
+        if (terms.isEmpty()) {
+            remove(id);
+            return;
+        }
+        String[] sorted = new TreeSet<>(terms).toArray(String[]::new);
+        Query<K> query = new Query<>(id, anchor(sorted), sorted);
+        Query<K> previous = byId.put(id, query);
+        if (previous != null) {
+            unindex(previous);
+        }
+        // inside compute, so a concurrent unindex cannot drop the set between lookup and insert
+        byAnchor.compute(query.anchor(), (anchor, queries) -> {
+            Set<Query<K>> anchored = queries != null ? queries : ConcurrentHashMap.newKeySet();
+            anchored.add(query);
+            return anchored;
+        });
+    }
+
+    public boolean remove(K id) {
+        Query<K> query = byId.remove(id);
+        if (query == null) {
+            return false;
+        }
+        unindex(query);
+        return true;
+    }
+
+    /**
+     * Returns the ids of every stored query whose terms all occur in {@code documentTerms}.
+     */
+    public List<K> match(Set<String> documentTerms) {
+        List<K> matches = new ArrayList<>();
+        for (String term : documentTerms) {
+            Set<Query<K>> candidates = byAnchor.get(term);
+            if (candidates == null) {
+                continue;
+            }
+            for (Query<K> candidate : candidates) {
+                if (containsAll(documentTerms, candidate.terms())) {
+                    matches.add(candidate.id());
+                }
+            }
+        }
+        return matches;
+    }
+
+    public int size() {
+        return byId.size();
+    }
+
+    private void unindex(Query<K> query) {
+        byAnchor.computeIfPresent(query.anchor(), (anchor, queries) -> {
+            queries.remove(query);
+            return queries.isEmpty() ? null : queries;
+        });
+    }
+
+    // Fewest queries already anchored there, then longest: both push queries off the common
+    // words that nearly every document contains, which is what keeps the candidate lists short.
+    private String anchor(String[] terms) {
+        String anchor = null;
+        int anchorLoad = Integer.MAX_VALUE;
+        for (String term : terms) {
+            Set<Query<K>> anchored = byAnchor.get(term);
+            int load = anchored == null ? 0 : anchored.size();
+            if (load < anchorLoad || (load == anchorLoad && term.length() > anchor.length())) {
+                anchor = term;
+                anchorLoad = load;
+            }
+        }
+        return anchor;
+    }
+
+    private static boolean containsAll(Set<String> documentTerms, String[] terms) {
+        for (String term : terms) {
+            if (!documentTerms.contains(term)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,54 @@
+package com.ufind.ufindapp.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalization shared by the in-memory search structures, so "Café" typed on a phone
+ * and "cafe" typed on a laptop land on the same key.
+ */
+public final class SearchText {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_WORD = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SearchText() {
+    }
+
+    /**
+     * Lower-cases and strips accents. Fast path for plain ASCII, which is almost every keystroke.
+     */
+    public static String normalize(String text) {
+        if (isAscii(text)) {
+            return text.toLowerCase(Locale.ROOT);
+        }
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Splits on anything that is not a letter or digit and keeps words of at least
+     * {@code minLength} characters, in their original spelling.
+     */
+    public static List<String> words(String text, int minLength) {
+        List<String> words = new ArrayList<>();
+        for (String word : NON_WORD.split(text)) {
+            if (word.length() >= minLength) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private static boolean isAscii(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (text.charAt(i) > 0x7F) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
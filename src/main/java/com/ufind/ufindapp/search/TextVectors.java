@@ -0,0 +1,106 @@
+package com.ufind.ufindapp.search;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hashed TF-IDF vectors of short texts, L2-normalized and quantized to bytes for
+ * {@link HnswIndex}. Safe for concurrent use.
+ */
+public final class TextVectors {
+
+    private final int dimensions;
+    private final Map<String, Integer> documentFrequency = new ConcurrentHashMap<>();
+    private final AtomicInteger documents = new AtomicInteger();
+
+    public TextVectors(int dimensions) {
+        this.dimensions = dimensions;
+    }
+
+    /**
+     * Counts one document towards the frequencies of its distinct terms.
+     */
+    public void count(Collection<String> terms) {
+        documents.incrementAndGet();
+        for (String term : new HashSet<>(terms)) {
+            documentFrequency.merge(term, 1, Integer::sum);
+        }
+    }
+
+    /**
+     * The vector of a document, given how often each term occurs in it (occurrences may be
+     * weighted, a title word counting double say). All zeros for a document with no terms.
+     */
+    public byte[] vector(Map<String, Double> termFrequencies) {
+        double[] sums = new double[dimensions];
+        for (Map.Entry<String, Double> term : termFrequencies.entrySet()) {
+            if (term.getValue() <= 0) {
+                continue;
+            }
+            int hash = mix(term.getKey().hashCode());
+            double weight = (1 + Math.log(term.getValue())) * idf(term.getKey());
+            sums[Math.floorMod(hash, dimensions)] += hash < 0 ? -weight : weight;
+        }
+        double norm = 0;
+        for (double sum : sums) {
+            norm += sum * sum;
+        }
+        byte[] vector = new byte[dimensions];
+        if (norm == 0) {
+            return vector;
+        }
+        double scale = 127 / Math.sqrt(norm);
+        for (int i = 0; i < dimensions; i++) {
+            vector[i] = (byte) Math.round(sums[i] * scale);
+        }
+        return vector;
+    }
+
+    public int dimensions() {
+        return dimensions;
+    }
+
+    public int documents() {
+        return documents.get();
+    }
+
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeInt(dimensions);
+        out.writeInt(documents.get());
+        Map<String, Integer> frequencies = Map.copyOf(documentFrequency);
+        out.writeInt(frequencies.size());
+        for (Map.Entry<String, Integer> term : frequencies.entrySet()) {
+            out.writeUTF(term.getKey());
+            out.writeInt(term.getValue());
+        }
+    }
+
+    public static TextVectors readFrom(DataInput in) throws IOException {
+        TextVectors vectors = new TextVectors(in.readInt());
+        vectors.documents.set(in.readInt());
+        int terms = in.readInt();
+        for (int i = 0; i < terms; i++) {
+            vectors.documentFrequency.put(in.readUTF(), in.readInt());
+        }
+        return vectors;
+    }
+
+    private double idf(String term) {
+        return Math.log((1.0 + documents.get()) / (1.0 + documentFrequency.getOrDefault(term, 0))) + 1;
+    }
+
+    // String.hashCode clusters similar strings; spread it before taking bucket and sign from it
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -7,6 +7,7 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
 import java.util.Optional;
+import java.util.UUID;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -18,8 +19,10 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.ufind.ufindapp.config.JwtProperties;
+import com.ufind.ufindapp.entity.UserRole;
 import com.ufind.ufindapp.service.JwtService;
 
+import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -35,6 +38,8 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtAuthenticationFilter.class);
 
+    private static final String REFRESH_PATH = "/api/auth/refresh";
+
     private final JwtService jwtService;
     private final JwtProperties jwtProperties;
     private final UserDetailsService userDetailsService;
@@ -49,6 +54,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         this.userDetailsService = userDetailsService;
     }
 
+    // the access token may have expired by then; the refresh token is all that endpoint needs
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return REFRESH_PATH.equals(request.getRequestURI().substring(request.getContextPath().length()));
+    }
+
     @Override
     protected void doFilterInternal(
             HttpServletRequest request,
@@ -62,25 +73,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
 
         try {
-            String email = jwtService.extractUsername(jwt);
+            // parsing checks the signature and the expiry
+            Claims claims = jwtService.extractAllClaims(jwt);
+            String email = claims.getSubject();
 
             if (email != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-                if (jwtService.isTokenValid(jwt, userDetails)) {
-                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                            userDetails,
-                            null,
-                            userDetails.getAuthorities());
-                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authToken);
-                }
+                UserDetails userDetails = userDetails(claims, email);
+                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                        userDetails,
+                        null,
+                        userDetails.getAuthorities());
+                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authToken);
             }
 
         } catch (ExpiredJwtException e) {
             logger.warn("JWT expired: {}", e.getMessage());
             writeErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, "Token expirad.");
             return;
-        } catch (MalformedJwtException | UnsupportedJwtException e) {
+        } catch (MalformedJwtException | UnsupportedJwtException | IllegalArgumentException e) {
             logger.warn("JWT invalid: {}", e.getMessage());
             writeErrorResponse(response, HttpServletResponse.SC_UNAUTHORIZED, "Invalid token");
             return;
@@ -93,6 +104,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * The user an access token was issued to, taken from the token itself: it lives for minutes,
+     * and a refresh reads the user afresh, so no lookup per request is needed. Tokens issued
+     * before they carried the user fall back to loading it.
+     */
+    private UserDetails userDetails(Claims claims, String email) {
+        String userId = claims.get(JwtService.USER_ID_CLAIM, String.class);
+        String role = claims.get(JwtService.ROLE_CLAIM, String.class);
+        if (userId == null || role == null) {
+            return userDetailsService.loadUserByUsername(email);
+        }
+        return UserPrincipal.withoutPassword(UUID.fromString(userId), email, UserRole.valueOf(role));
+    }
+
     private void writeErrorResponse(HttpServletResponse response, int status, String message) throws java.io.IOException {
         clearTokenCookie(response);
         response.setStatus(status);
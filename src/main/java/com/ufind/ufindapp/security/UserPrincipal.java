@@ -3,9 +3,11 @@ package com.ufind.ufindapp.security;
 import com.ufind.ufindapp.entity.UserRole;
 import lombok.Getter;
 import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 @Getter
@@ -19,4 +21,12 @@ public class UserPrincipal extends User {
         this.id = id;
         this.role = role;
     }
+
+    /**
+     * A principal for a user known from a token rather than loaded from the database; it has no
+     * password, and needs none past login.
+     */
+    public static UserPrincipal withoutPassword(UUID id, String email, UserRole role) {
+        return new UserPrincipal(id, email, "", role, List.of(new SimpleGrantedAuthority(role.name())));
+    }
 }
@@ -0,0 +1,233 @@
+package com.ufind.ufindapp.service;
+
+import com.ufind.ufindapp.config.AlertProperties;
+import com.ufind.ufindapp.dto.AlertMatchDTO;
+import com.ufind.ufindapp.dto.AlertSubscriptionDTO;
+import com.ufind.ufindapp.dto.CreateAlertRequest;
+import com.ufind.ufindapp.entity.Item;
+import com.ufind.ufindapp.event.ItemRegisteredEvent;
+import com.ufind.ufindapp.exception.AlertNotFoundException;
+import com.ufind.ufindapp.exception.InvalidAlertQueryException;
+import com.ufind.ufindapp.search.Percolator;
+import com.ufind.ufindapp.search.SearchText;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Lost-item alerts: saved searches matched against every item registered after them, with
+ * each hit recorded in {@code alert_matches}.
+ */
+@Service
+public class AlertService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AlertService.class);
+
+    private static final String INSERT_SUBSCRIPTION_SQL = """
+            INSERT INTO alert_subscriptions (email, query)
+            VALUES (?, ?)
+            RETURNING id, created_at
+            """;
+
+    private static final String LOAD_SUBSCRIPTIONS_SQL = """
+            SELECT id, query, created_at
+            FROM alert_subscriptions
+            WHERE created_at > ?
+            """;
+
+    // Filters on the subscription still existing, so a percolator that has not yet seen
+    // another node's unsubscribe cannot resurrect it (or break the foreign key).
+    private static final String INSERT_MATCHES_SQL = """
+            INSERT INTO alert_matches (subscription_id, item_id)
+            SELECT id, ? FROM alert_subscriptions WHERE id = ANY(?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    private static final String FIND_MATCHES_SQL = """
+            SELECT i.id, i.title, i.location_found, i.date_found, m.matched_at
+            FROM alert_matches m
+            JOIN items i ON i.id = m.item_id
+            WHERE m.subscription_id = ?
+            ORDER BY m.matched_at DESC
+            LIMIT ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AlertProperties properties;
+
+    private final Timer percolateTimer;
+    private final Counter matchesRecorded;
+
+    private volatile Percolator<UUID> percolator = new Percolator<>();
+    private volatile Instant loadedUpTo = Instant.EPOCH;
+
+    public AlertService(JdbcTemplate jdbcTemplate, AlertProperties properties, MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+
+        Gauge.builder("alerts.subscriptions", this, service -> service.percolator.size())
+                .description("Alert subscriptions held in this node's percolator")
+                .register(meterRegistry);
+        this.percolateTimer = Timer.builder("alerts.percolate")
+                .description("Time to find the alerts a new item matches")
+                .register(meterRegistry);
+        this.matchesRecorded = Counter.builder("alerts.matches").register(meterRegistry);
+    }
+
+    public AlertSubscriptionDTO subscribe(CreateAlertRequest request) {
+        String query = request.query().strip();
+        List<String> terms = queryTerms(query);
+
+        Long existing = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM alert_subscriptions WHERE lower(email) = lower(?)", Long.class, request.email());
+        if (existing != null && existing >= properties.getMaxSubscriptionsPerEmail()) {
+            throw new InvalidAlertQueryException(
+                    "An email can have at most " + properties.getMaxSubscriptionsPerEmail() + " alerts.");
+        }
+
+        AlertSubscriptionDTO subscription = jdbcTemplate.queryForObject(INSERT_SUBSCRIPTION_SQL,
+                (rs, rowNum) -> new AlertSubscriptionDTO(
+                        rs.getObject("id", UUID.class),
+                        request.email(),
+                        query,
+                        terms,
+                        rs.getTimestamp("created_at").toInstant()),
+                request.email(), query);
+        percolator.add(subscription.id(), terms);
+        return subscription;
+    }
+
+    public void unsubscribe(UUID id) {
+        int deleted = jdbcTemplate.update("DELETE FROM alert_subscriptions WHERE id = ?", id);
+        percolator.remove(id);
+        if (deleted == 0) {
+            throw new AlertNotFoundException("Alert not found.");
+        }
+    }
+
+    public List<AlertMatchDTO> findMatches(UUID id) {
+        Boolean exists = jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM alert_subscriptions WHERE id = ?)", Boolean.class, id);
+        if (!Boolean.TRUE.equals(exists)) {
+            throw new AlertNotFoundException("Alert not found.");
+        }
+        return jdbcTemplate.query(FIND_MATCHES_SQL,
+                (rs, rowNum) -> new AlertMatchDTO(
+                        rs.getObject("id", UUID.class),
+                        rs.getString("title"),
+                        rs.getString("location_found"),
+                        rs.getObject("date_found", LocalDate.class),
+                        rs.getTimestamp("matched_at").toInstant()),
+                id, properties.getMaxMatchesReturned());
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onItemRegistered(ItemRegisteredEvent event) {
+        Item item = event.item();
+        List<UUID> matched = percolateTimer.record(() -> percolator.match(itemTerms(item)));
+        if (matched.isEmpty()) {
+            return;
+        }
+        int recorded = jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_MATCHES_SQL);
+            statement.setObject(1, item.getId());
+            statement.setArray(2, connection.createArrayOf("uuid", matched.toArray()));
+            return statement;
+        });
+        matchesRecorded.increment(recorded);
+    }
+
+    /**
+     * Loads every subscription into a fresh percolator and swaps it in, which also forgets
+     * alerts that were deleted on other nodes.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.alerts.rebuild-cron:0 15 4 * * *}")
+    public void rebuild() {
+        long started = System.nanoTime();
+        Percolator<UUID> fresh = new Percolator<>();
+        Instant upTo = load(fresh, Instant.EPOCH);
+        percolator = fresh;
+        loadedUpTo = upTo;
+        logger.info("Loaded {} alert subscriptions in {} ms", fresh.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Picks up subscriptions created on other nodes since the last load. Reloads an overlap
+     * window, since a subscription's {@code created_at} is stamped before it commits; adding a
+     * subscription twice is harmless.
+     */
+    @Scheduled(fixedDelayString = "${app.alerts.refresh-interval:30s}",
+            initialDelayString = "${app.alerts.refresh-interval:30s}")
+    public void refresh() {
+        loadedUpTo = load(percolator, loadedUpTo.minus(properties.getRefreshOverlap()));
+    }
+
+    private Instant load(Percolator<UUID> target, Instant since) {
+        Instant[] newest = {since};
+        jdbcTemplate.query(LOAD_SUBSCRIPTIONS_SQL, rs -> {
+            UUID id = rs.getObject("id", UUID.class);
+            Instant createdAt = rs.getTimestamp("created_at").toInstant();
+            try {
+                target.add(id, queryTerms(rs.getString("query")));
+            } catch (InvalidAlertQueryException e) {
+                // saved under a laxer configuration; it can never match now
+                target.remove(id);
+            }
+            if (createdAt.isAfter(newest[0])) {
+                newest[0] = createdAt;
+            }
+        }, Timestamp.from(since));
+        return newest[0];
+    }
+
+    /**
+     * The distinct words of an alert query, every one of which an item must contain.
+     */
+    List<String> queryTerms(String query) {
+        Set<String> terms = new LinkedHashSet<>(
+                SearchText.words(SearchText.normalize(query), properties.getMinTermLength()));
+        if (terms.isEmpty()) {
+            throw new InvalidAlertQueryException(
+                    "The query needs at least one word of " + properties.getMinTermLength() + " or more characters.");
+        }
+        if (terms.size() > properties.getMaxTerms()) {
+            throw new InvalidAlertQueryException(
+                    "The query can have at most " + properties.getMaxTerms() + " words.");
+        }
+        return new ArrayList<>(terms);
+    }
+
+    private Set<String> itemTerms(Item item) {
+        Set<String> terms = new LinkedHashSet<>();
+        for (String text : new String[] {item.getTitle(), item.getDescription(), item.getLocationFound()}) {
+            if (text != null) {
+                terms.addAll(SearchText.words(SearchText.normalize(text), properties.getMinTermLength()));
+            }
+        }
+        return terms;
+    }
+}
@@ -6,17 +6,20 @@ import com.ufind.ufindapp.dto.RegisterUserRequest;
 import com.ufind.ufindapp.dto.UserInfoDTO;
 import com.ufind.ufindapp.entity.User;
 import com.ufind.ufindapp.entity.UserRole;
+import com.ufind.ufindapp.event.UserRegisteredEvent;
 import com.ufind.ufindapp.exception.InvalidRoleException;
 import com.ufind.ufindapp.exception.UserAlreadyExistsException;
 import com.ufind.ufindapp.repository.UserRepository;
 import com.ufind.ufindapp.security.UserPrincipal;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 public class AuthService {
@@ -25,18 +28,24 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtService jwtService;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final RefreshTokenService refreshTokenService;
 
     public AuthService(
             AuthenticationManager authenticationManager,
             JwtService jwtService,
             PasswordEncoder passwordEncoder,
-            UserRepository userRepository
+            UserRepository userRepository,
+            ApplicationEventPublisher eventPublisher,
+            RefreshTokenService refreshTokenService
         ) {
 
         this.authenticationManager = authenticationManager;
         this.jwtService = jwtService;
         this.passwordEncoder = passwordEncoder;
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.refreshTokenService = refreshTokenService;
     }
 
     public LoginDTO login(LoginRequest request) {
@@ -46,12 +55,28 @@ public class AuthService {
             UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
             String token = jwtService.generateToken(principal);
             UserInfoDTO userInfo = new UserInfoDTO(principal.getId(), principal.getRole());
-            return new LoginDTO(token, userInfo);
+            return new LoginDTO(token, refreshTokenService.issue(principal.getId()), userInfo);
         } catch (BadCredentialsException e) {
             throw new BadCredentialsException("Bad Credentials.");
         }
     }
 
+    /**
+     * A new access token for the holder of a live refresh token, and the refresh token to use
+     * next time; no password, so no BCrypt check. The user's role is read afresh.
+     */
+    public LoginDTO refresh(String refreshToken) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+        UserPrincipal principal = rotation.user();
+        String token = jwtService.generateToken(principal);
+        return new LoginDTO(token, rotation.token(), new UserInfoDTO(principal.getId(), principal.getRole()));
+    }
+
+    public void logout(String refreshToken) {
+        refreshTokenService.revoke(refreshToken);
+    }
+
+    @Transactional
     public void register(RegisterUserRequest request) {
 
         UserRole role;
@@ -73,6 +98,7 @@ public class AuthService {
                 .build();
         
         userRepository.save(newUser);
-                
+        eventPublisher.publishEvent(new UserRegisteredEvent(newUser));
+
     }
 }
@@ -0,0 +1,73 @@
+package com.ufind.ufindapp.service;
+
+import com.ufind.ufindapp.exception.InvalidWatermarkException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Where a client's delta sync stands: the last changed item and the last tombstone it has
+ * seen, each as a {@code (timestamp, id)} keyset position. Opaque to clients; timestamps are
+ * kept in microseconds, the precision Postgres stores them at.
+ */
+record ChangeWatermark(Instant itemsAt, UUID itemsId, Instant removedAt, UUID removedId) {
+
+    private static final UUID NIL = new UUID(0, 0);
+    private static final String VERSION = "1";
+
+    static final ChangeWatermark INITIAL = new ChangeWatermark(Instant.EPOCH, NIL, Instant.EPOCH, NIL);
+
+    ChangeWatermark withItems(OffsetDateTime at, UUID id) {
+        return new ChangeWatermark(at.toInstant(), id, removedAt, removedId);
+    }
+
+    ChangeWatermark withRemoved(OffsetDateTime at, UUID id) {
+        return new ChangeWatermark(itemsAt, itemsId, at.toInstant(), id);
+    }
+
+    OffsetDateTime itemsAtUtc() {
+        return itemsAt.atOffset(ZoneOffset.UTC);
+    }
+
+    OffsetDateTime removedAtUtc() {
+        return removedAt.atOffset(ZoneOffset.UTC);
+    }
+
+    String encode() {
+        String raw = String.join(":", VERSION,
+                Long.toString(micros(itemsAt)), itemsId.toString(),
+                Long.toString(micros(removedAt)), removedId.toString());
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static ChangeWatermark decode(String watermark) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(watermark), StandardCharsets.US_ASCII).split(":");
+            if (parts.length != 5 || !VERSION.equals(parts[0])) {
+                throw invalid();
+            }
+            return new ChangeWatermark(
+                    fromMicros(Long.parseLong(parts[1])), UUID.fromString(parts[2]),
+                    fromMicros(Long.parseLong(parts[3])), UUID.fromString(parts[4]));
+        } catch (IllegalArgumentException e) {
+            throw invalid();
+        }
+    }
+
+    private static long micros(Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    private static Instant fromMicros(long micros) {
+        return Instant.EPOCH.plus(micros, ChronoUnit.MICROS);
+    }
+
+    private static InvalidWatermarkException invalid() {
+        return new InvalidWatermarkException("Invalid sync watermark; start over without 'since'.");
+    }
+}
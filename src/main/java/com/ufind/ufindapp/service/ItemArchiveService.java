@@ -0,0 +1,81 @@
+package com.ufind.ufindapp.service;
+
+import com.ufind.ufindapp.config.ArchiveProperties;
+import com.ufind.ufindapp.event.ItemsArchivedEvent;
+import com.ufind.ufindapp.repository.ArchivedItem;
+import com.ufind.ufindapp.repository.ItemRepository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Moves items that were claimed long ago from {@code items} to {@code items_archive}.
+ * Each batch is its own short transaction, so row locks are held for one batch only and
+ * the work can stop at any point without leaving anything half-moved.
+ */
+@Service
+public class ItemArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemArchiveService.class);
+
+    private final ItemRepository itemRepository;
+    private final ItemFacetService itemFacetService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ArchiveProperties properties;
+
+    public ItemArchiveService(
+            ItemRepository itemRepository,
+            ItemFacetService itemFacetService,
+            ApplicationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            ArchiveProperties properties) {
+        this.itemRepository = itemRepository;
+        this.itemFacetService = itemFacetService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+    }
+
+    /**
+     * Runs batches until one comes back short or the per-run cap is reached; a backlog
+     * larger than the cap is simply picked up by the next run.
+     */
+    @Scheduled(cron = "${app.archive.cron:0 */10 * * * *}")
+    public int archiveClaimedItems() {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        long started = System.nanoTime();
+        OffsetDateTime cutoff = OffsetDateTime.now().minus(properties.getClaimedRetention());
+        int total = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            int moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            total += moved;
+            if (moved < properties.getBatchSize()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            logger.info("Archived {} claimed items in {} ms", total, (System.nanoTime() - started) / 1_000_000);
+        }
+        return total;
+    }
+
+    private int archiveBatch(OffsetDateTime cutoff) {
+        List<ArchivedItem> archived = itemRepository.archiveClaimedBefore(cutoff, properties.getBatchSize());
+        if (archived.isEmpty()) {
+            return 0;
+        }
+        itemFacetService.recordArchived(archived);
+        eventPublisher.publishEvent(new ItemsArchivedEvent(archived));
+        return archived.size();
+    }
+}
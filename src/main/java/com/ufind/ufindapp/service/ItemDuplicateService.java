@@ -0,0 +1,278 @@
+package com.ufind.ufindapp.service;
+
+import com.ufind.ufindapp.config.DuplicateDetectionProperties;
+import com.ufind.ufindapp.dto.DuplicateCandidateDTO;
+import com.ufind.ufindapp.entity.Item;
+import com.ufind.ufindapp.event.ItemClaimedEvent;
+import com.ufind.ufindapp.event.ItemRegisteredEvent;
+import com.ufind.ufindapp.event.ItemsExpiredEvent;
+import com.ufind.ufindapp.event.ItemsImportedEvent;
+import com.ufind.ufindapp.search.LshIndex;
+import com.ufind.ufindapp.search.MinHash;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Flags available items whose title and description look like a newly registered item's,
+ * for the secretary to judge; registration is never blocked.
+ */
+@Service
+public class ItemDuplicateService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemDuplicateService.class);
+
+    static final int SIGNATURE_SLOTS = 128;
+    // Changing the seed invalidates every stored signature.
+    private static final long SIGNATURE_SEED = 0x75F1D;
+
+    private static final String INSERT_SIGNATURE_SQL = """
+            INSERT INTO item_signatures (item_id, signature)
+            VALUES (?, ?)
+            ON CONFLICT (item_id) DO UPDATE SET signature = EXCLUDED.signature
+            """;
+
+    // Skips items deleted since they were read, so a backfill never leaves an orphan behind.
+    private static final String BACKFILL_SIGNATURE_SQL = """
+            INSERT INTO item_signatures (item_id, signature)
+            SELECT id, ? FROM items WHERE id = ?
+            ON CONFLICT (item_id) DO NOTHING
+            """;
+
+    private static final String UNSIGNED_ITEMS_SQL = """
+            SELECT i.id, i.title, i.description
+            FROM items i
+            WHERE i.status = 'AVAILABLE'
+              AND NOT EXISTS (SELECT 1 FROM item_signatures s WHERE s.item_id = i.id)
+            LIMIT ?
+            """;
+
+    private static final String LOAD_SIGNATURES_SQL = """
+            SELECT s.item_id, s.signature, s.created_at
+            FROM item_signatures s
+            JOIN items i ON i.id = s.item_id
+            WHERE i.status = 'AVAILABLE' AND s.created_at > ?
+            """;
+
+    private static final String PRUNE_SIGNATURES_SQL = """
+            DELETE FROM item_signatures s
+            WHERE NOT EXISTS (SELECT 1 FROM items i WHERE i.id = s.item_id)
+            """;
+
+    private static final String CANDIDATES_SQL = """
+            SELECT id, title, location_found, date_found
+            FROM items
+            WHERE id = ANY(?) AND status = 'AVAILABLE'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DuplicateDetectionProperties properties;
+    private final MinHash minHash = new MinHash(SIGNATURE_SLOTS, SIGNATURE_SEED);
+
+    private final Counter flagged;
+
+    private volatile LshIndex<UUID> index;
+    private volatile Instant loadedUpTo = Instant.EPOCH;
+
+    public ItemDuplicateService(
+            JdbcTemplate jdbcTemplate,
+            DuplicateDetectionProperties properties,
+            MeterRegistry meterRegistry) {
+        if (properties.getBands() < 1 || SIGNATURE_SLOTS % properties.getBands() != 0) {
+            throw new IllegalStateException(
+                    "app.duplicates.bands must divide " + SIGNATURE_SLOTS + ", got " + properties.getBands());
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.index = newIndex();
+
+        Gauge.builder("items.duplicates.indexed", this, service -> service.index.size())
+                .description("Available items in this node's duplicate-detection index")
+                .register(meterRegistry);
+        this.flagged = Counter.builder("items.duplicates.flagged")
+                .description("Registrations that came back with possible duplicates")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Stores the signature of a just-saved item and returns the available items it most likely
+     * duplicates. The item joins the index once its transaction commits.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<DuplicateCandidateDTO> checkAndRecord(Item item) {
+        int[] signature = signature(item);
+        jdbcTemplate.update(INSERT_SIGNATURE_SQL, item.getId(), encode(signature));
+
+        List<LshIndex.Match<UUID>> matches = index.query(
+                signature, properties.getSimilarityThreshold(), properties.getMaxCandidates());
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+        List<DuplicateCandidateDTO> candidates = candidates(matches);
+        if (!candidates.isEmpty()) {
+            flagged.increment();
+            logger.info("Item {} ('{}') may duplicate {}", item.getId(), item.getTitle(),
+                    candidates.stream().map(DuplicateCandidateDTO::id).toList());
+        }
+        return candidates;
+    }
+
+    @TransactionalEventListener
+    public void onItemRegistered(ItemRegisteredEvent event) {
+        Item item = event.item();
+        index.add(item.getId(), signature(item));
+    }
+
+    // A claimed item has left the shelf; nothing new can duplicate it.
+    @TransactionalEventListener
+    public void onItemClaimed(ItemClaimedEvent event) {
+        index.remove(event.item().getId());
+    }
+
+    @TransactionalEventListener
+    public void onItemsExpired(ItemsExpiredEvent event) {
+        event.ids().forEach(index::remove);
+    }
+
+    @Async
+    @TransactionalEventListener
+    public void onItemsImported(ItemsImportedEvent event) {
+        backfill();
+    }
+
+    /**
+     * Signs the available items that have no signature yet (imported ones, or every item the
+     * first time this runs), drops signatures of items that are gone, and loads a fresh index.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.duplicates.rebuild-cron:0 45 4 * * *}")
+    public void rebuild() {
+        long started = System.nanoTime();
+        int pruned = jdbcTemplate.update(PRUNE_SIGNATURES_SQL);
+        LshIndex<UUID> fresh = newIndex();
+        Instant upTo = load(fresh, Instant.EPOCH);
+        index = fresh;
+        loadedUpTo = upTo;
+        int signed = backfill();
+        logger.info("Loaded {} item signatures in {} ms ({} signed, {} pruned)",
+                fresh.size(), (System.nanoTime() - started) / 1_000_000, signed, pruned);
+    }
+
+    /**
+     * Picks up items registered on other nodes since the last load, re-reading an overlap window
+     * because {@code created_at} is stamped before the row commits.
+     */
+    @Scheduled(fixedDelayString = "${app.duplicates.refresh-interval:30s}",
+            initialDelayString = "${app.duplicates.refresh-interval:30s}")
+    public void refresh() {
+        loadedUpTo = load(index, loadedUpTo.minus(properties.getRefreshOverlap()));
+    }
+
+    int backfill() {
+        int signed = 0;
+        while (true) {
+            List<Object[]> batch = new ArrayList<>();
+            LshIndex<UUID> target = index;
+            jdbcTemplate.query(UNSIGNED_ITEMS_SQL, rs -> {
+                UUID id = rs.getObject("id", UUID.class);
+                int[] signature = signature(rs.getString("title"), rs.getString("description"));
+                target.add(id, signature);
+                batch.add(new Object[] {encode(signature), id});
+            }, properties.getBackfillBatchSize());
+            if (batch.isEmpty()) {
+                return signed;
+            }
+            jdbcTemplate.batchUpdate(BACKFILL_SIGNATURE_SQL, batch);
+            signed += batch.size();
+            if (batch.size() < properties.getBackfillBatchSize()) {
+                return signed;
+            }
+        }
+    }
+
+    private Instant load(LshIndex<UUID> target, Instant since) {
+        Instant[] newest = {since};
+        jdbcTemplate.query(LOAD_SIGNATURES_SQL, rs -> {
+            target.add(rs.getObject("item_id", UUID.class), decode(rs.getBytes("signature")));
+            Instant createdAt = rs.getTimestamp("created_at").toInstant();
+            if (createdAt.isAfter(newest[0])) {
+                newest[0] = createdAt;
+            }
+        }, Timestamp.from(since));
+        return newest[0];
+    }
+
+    private List<DuplicateCandidateDTO> candidates(List<LshIndex.Match<UUID>> matches) {
+        Map<UUID, Double> similarity = new HashMap<>();
+        for (LshIndex.Match<UUID> match : matches) {
+            similarity.put(match.key(), match.similarity());
+        }
+        List<DuplicateCandidateDTO> candidates = jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(CANDIDATES_SQL);
+                    statement.setArray(1, connection.createArrayOf("uuid", similarity.keySet().toArray()));
+                    return statement;
+                },
+                (rs, rowNum) -> {
+                    UUID id = rs.getObject("id", UUID.class);
+                    return new DuplicateCandidateDTO(
+                            id,
+                            rs.getString("title"),
+                            rs.getString("location_found"),
+                            rs.getObject("date_found", LocalDate.class),
+                            similarity.get(id));
+                });
+        return candidates.stream()
+                .sorted((a, b) -> Double.compare(b.similarity(), a.similarity()))
+                .toList();
+    }
+
+    int[] signature(Item item) {
+        return signature(item.getTitle(), item.getDescription());
+    }
+
+    private int[] signature(String title, String description) {
+        return minHash.signature(title + " " + description);
+    }
+
+    private LshIndex<UUID> newIndex() {
+        return new LshIndex<>(properties.getBands(), SIGNATURE_SLOTS / properties.getBands());
+    }
+
+    static byte[] encode(int[] signature) {
+        ByteBuffer buffer = ByteBuffer.allocate(signature.length * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.asIntBuffer().put(signature);
+        return buffer.array();
+    }
+
+    static int[] decode(byte[] encoded) {
+        int[] signature = new int[encoded.length / Integer.BYTES];
+        ByteBuffer.wrap(encoded).order(ByteOrder.LITTLE_ENDIAN).asIntBuffer().get(signature);
+        return signature;
+    }
+}
@@ -0,0 +1,108 @@
+package com.ufind.ufindapp.service;
+
+import com.ufind.ufindapp.config.ExpiryProperties;
+import com.ufind.ufindapp.entity.ItemStatus;
+import com.ufind.ufindapp.event.ItemsExpiredEvent;
+import com.ufind.ufindapp.repository.ItemRepository;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Marks items nobody claimed within the retention period as {@link ItemStatus#EXPIRED}, in
+ * small batches that each commit on their own, so an interrupted run is resumed by the next.
+ */
+@Service
+public class ItemExpiryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemExpiryService.class);
+
+    private final ItemRepository itemRepository;
+    private final ItemFacetService itemFacetService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ExpiryProperties properties;
+
+    private final Counter expired;
+    private final Timer batchTimer;
+    private final AtomicLong remaining = new AtomicLong();
+
+    public ItemExpiryService(
+            ItemRepository itemRepository,
+            ItemFacetService itemFacetService,
+            ApplicationEventPublisher eventPublisher,
+            TransactionTemplate transactionTemplate,
+            ExpiryProperties properties,
+            MeterRegistry meterRegistry) {
+        this.itemRepository = itemRepository;
+        this.itemFacetService = itemFacetService;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.properties = properties;
+
+        this.expired = Counter.builder("items.expired")
+                .description("Items marked expired")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("items.expiry.batch")
+                .description("Time to expire one batch of items")
+                .register(meterRegistry);
+        Gauge.builder("items.expiry.remaining", remaining, AtomicLong::get)
+                .description("Items past retention still to be expired")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Runs batches until one comes back short or the per-run cap is reached; a backlog
+     * larger than the cap is simply picked up by the next run.
+     */
+    @Scheduled(cron = "${app.expiry.cron:0 5/10 * * * *}")
+    public int expireUnclaimedItems() {
+        if (!properties.isEnabled()) {
+            return 0;
+        }
+        long started = System.nanoTime();
+        OffsetDateTime cutoff = OffsetDateTime.now().minus(properties.getRetention());
+        remaining.set(itemRepository.countAvailableBefore(cutoff));
+        int total = 0;
+        for (int batch = 0; batch < properties.getMaxBatchesPerRun(); batch++) {
+            int count = batchTimer.record(() -> transactionTemplate.execute(status -> expireBatch(cutoff)));
+            total += count;
+            expired.increment(count);
+            remaining.updateAndGet(left -> Math.max(0, left - count));
+            if (count < properties.getBatchSize()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            long millis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+            logger.info("Expired {} unclaimed items in {} ms ({} items/s), {} left",
+                    total, millis, total * 1000L / millis, remaining.get());
+        }
+        return total;
+    }
+
+    private int expireBatch(OffsetDateTime cutoff) {
+        List<UUID> ids = itemRepository.expireAvailableBefore(cutoff, properties.getBatchSize());
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        itemFacetService.recordStatusChange(ItemStatus.AVAILABLE, ItemStatus.EXPIRED, ids.size());
+        eventPublisher.publishEvent(new ItemsExpiredEvent(ids));
+        return ids.size();
+    }
+}
@@ -0,0 +1,193 @@
+package com.ufind.ufindapp.service;
+
+import com.ufind.ufindapp.config.ExportProperties;
+import com.ufind.ufindapp.dto.ExportFormat;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.Objects;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Streams the whole items table to an output stream. Rows come from a server-side cursor
+ * ({@code fetchSize} rows per round trip) and are written out as they are read, so memory
+ * use does not depend on the number of rows.
+ */
+@Service
+public class ItemExportService {
+
+    // No ORDER BY on purpose: a full export in storage order is a plain sequential read,
+    // sorting 1M+ rows first would only add a server-side sort to wait for.
+    private static final String EXPORT_SQL = """
+            SELECT id, title, description, date_found, location_found, status,
+                   image_url, contact_info, created_at, updated_at
+            FROM items
+            """;
+
+    private static final String[] COLUMNS = {
+        "id", "title", "description", "dateFound", "locationFound", "status",
+        "imageUrl", "contactInfo", "createdAt", "updatedAt"
+    };
+
+    private static final int WRITE_BUFFER_SIZE = 64 * 1024;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ExportProperties properties;
+
+    public ItemExportService(
+            JdbcTemplate jdbcTemplate,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            ExportProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        // PostgreSQL only uses a cursor when auto-commit is off, so the query needs a transaction
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    public void export(ExportFormat format, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), WRITE_BUFFER_SIZE);
+        RowWriter rows = switch (format) {
+            case CSV -> new CsvRowWriter(writer);
+            case NDJSON -> new NdjsonRowWriter(objectMapper, writer);
+        };
+
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> jdbcTemplate.query(
+                    connection -> {
+                        PreparedStatement statement = connection.prepareStatement(
+                                EXPORT_SQL, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                        statement.setFetchSize(properties.getFetchSize());
+                        return statement;
+                    },
+                    resultSet -> {
+                        try {
+                            rows.write(resultSet);
+                        } catch (IOException e) {
+                            // usually the client went away; stop reading instead of draining the cursor
+                            throw new UncheckedIOException(e);
+                        }
+                    }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        rows.finish();
+        writer.flush();
+    }
+
+    /**
+     * Quotes a CSV field when needed (RFC 4180) and defuses values a spreadsheet would
+     * otherwise run as a formula.
+     */
+    static String csvField(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        char first = value.charAt(0);
+        if (first == '=' || first == '+' || first == '-' || first == '@') {
+            value = "'" + value;
+        }
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        return quote ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+
+    private interface RowWriter {
+        void write(ResultSet row) throws SQLException, IOException;
+
+        void finish() throws IOException;
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+        private boolean headerWritten;
+
+        private CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void write(ResultSet row) throws SQLException, IOException {
+            if (!headerWritten) {
+                writer.write(String.join(",", COLUMNS));
+                writer.write("\r\n");
+                headerWritten = true;
+            }
+            for (int column = 1; column <= COLUMNS.length; column++) {
+                if (column > 1) {
+                    writer.write(',');
+                }
+                writer.write(csvField(value(row, column)));
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void finish() throws IOException {
+            if (!headerWritten) {
+                writer.write(String.join(",", COLUMNS));
+                writer.write("\r\n");
+            }
+        }
+    }
+
+    private static final class NdjsonRowWriter implements RowWriter {
+        private final JsonGenerator generator;
+        private boolean rowsWritten;
+
+        private NdjsonRowWriter(ObjectMapper objectMapper, Writer writer) {
+            this.generator = objectMapper.writer().withRootValueSeparator("\n").createGenerator(writer);
+        }
+
+        @Override
+        public void write(ResultSet row) throws SQLException {
+            generator.writeStartObject();
+            for (int column = 1; column <= COLUMNS.length; column++) {
+                generator.writeStringProperty(COLUMNS[column - 1], value(row, column));
+            }
+            generator.writeEndObject();
+            rowsWritten = true;
+        }
+
+        @Override
+        public void finish() {
+            // flush, not close: closing would also close the response stream underneath
+            if (rowsWritten) {
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+        }
+    }
+
+    private static String value(ResultSet row, int column) throws SQLException {
+        return switch (column) {
+            case 4 -> Objects.toString(row.getObject(column, LocalDate.class), null);
+            case 9, 10 -> Objects.toString(row.getObject(column, OffsetDateTime.class), null);
+            default -> row.getString(column);
+        };
+    }
+}
@@ -0,0 +1,111 @@
+package com.ufind.ufindapp.service;
+
+import com.ufind.ufindapp.dto.FacetCountDTO;
+import com.ufind.ufindapp.dto.ItemFacetsDTO;
+import com.ufind.ufindapp.entity.Item;
+import com.ufind.ufindapp.entity.ItemFacet;
+import com.ufind.ufindapp.entity.ItemFacetCount;
+import com.ufind.ufindapp.entity.ItemFacetCountId;
+import com.ufind.ufindapp.entity.ItemStatus;
+import com.ufind.ufindapp.repository.ArchivedItem;
+import com.ufind.ufindapp.repository.ItemFacetCountRepository;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Keeps {@code item_facet_counts} in step with {@code items}. Item writes adjust the counts
+ * inside their own transaction; a scheduled rebuild corrects any drift.
+ */
+@Service
+public class ItemFacetService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemFacetService.class);
+
+    private final ItemFacetCountRepository itemFacetCountRepository;
+
+    public ItemFacetService(ItemFacetCountRepository itemFacetCountRepository) {
+        this.itemFacetCountRepository = itemFacetCountRepository;
+    }
+
+    @Transactional(readOnly = true)
+    public ItemFacetsDTO getFacets() {
+        Map<ItemFacet, List<FacetCountDTO>> facets = new EnumMap<>(ItemFacet.class);
+        for (ItemFacet facet : ItemFacet.values()) {
+            facets.put(facet, new ArrayList<>());
+        }
+        for (ItemFacetCount count : itemFacetCountRepository.findAllNonEmpty()) {
+            facets.get(count.getId().getFacet())
+                    .add(new FacetCountDTO(count.getId().getValue(), count.getItemCount()));
+        }
+        return new ItemFacetsDTO(
+                facets.get(ItemFacet.LOCATION),
+                facets.get(ItemFacet.STATUS),
+                facets.get(ItemFacet.MONTH));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordAdded(Item item) {
+        adjust(item.getLocationFound(), item.getStatus(), item.getDateFound(), 1);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordStatusChange(ItemStatus from, ItemStatus to, long count) {
+        if (from == to || count == 0) {
+            return;
+        }
+        itemFacetCountRepository.increment(ItemFacet.STATUS.name(), from.name(), -count);
+        itemFacetCountRepository.increment(ItemFacet.STATUS.name(), to.name(), count);
+    }
+
+    /**
+     * Takes a batch of archived items out of the counts, one upsert per distinct facet value
+     * rather than three per item.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordArchived(List<ArchivedItem> items) {
+        Map<ItemFacetCountId, Long> deltas = new HashMap<>();
+        for (ArchivedItem item : items) {
+            deltas.merge(new ItemFacetCountId(ItemFacet.LOCATION, item.getLocationFound()), -1L, Long::sum);
+            deltas.merge(new ItemFacetCountId(ItemFacet.STATUS, item.getStatus()), -1L, Long::sum);
+            deltas.merge(new ItemFacetCountId(ItemFacet.MONTH, item.getMonth()), -1L, Long::sum);
+        }
+        deltas.forEach((id, delta) -> itemFacetCountRepository.increment(id.getFacet().name(), id.getValue(), delta));
+    }
+
+    /**
+     * Adds the rows staged by {@link ItemImportService} with one grouped upsert.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordImported() {
+        itemFacetCountRepository.incrementFromImportStaging();
+    }
+
+    @Scheduled(cron = "${app.facets.reconcile-cron:0 30 3 * * *}")
+    @Transactional
+    public void reconcile() {
+        long started = System.nanoTime();
+        itemFacetCountRepository.lockForRebuild();
+        itemFacetCountRepository.deleteAllCounts();
+        itemFacetCountRepository.rebuildFromItems();
+        logger.info("Rebuilt item facet counts in {} ms", (System.nanoTime() - started) / 1_000_000);
+    }
+
+    private void adjust(String location, ItemStatus status, LocalDate dateFound, long delta) {
+        itemFacetCountRepository.increment(ItemFacet.LOCATION.name(), location, delta);
+        itemFacetCountRepository.increment(ItemFacet.STATUS.name(), status.name(), delta);
+        itemFacetCountRepository.increment(ItemFacet.MONTH.name(), YearMonth.from(dateFound).toString(), delta);
+    }
+}
@@ -0,0 +1,315 @@
+package com.ufind.ufindapp.service;
+
+import com.ufind.ufindapp.dto.ImportRowErrorDTO;
+import com.ufind.ufindapp.dto.ItemImportResultDTO;
+import com.ufind.ufindapp.entity.ItemStatus;
+import com.ufind.ufindapp.event.ItemsImportedEvent;
+import com.ufind.ufindapp.exception.InvalidImportException;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+
+/**
+ * Bulk-loads items from CSV. Valid rows are streamed into a temporary staging table with
+ * {@code COPY ... FROM STDIN}, then moved into {@code items} with a single INSERT ... SELECT,
+ * so an import lands completely or not at all and never holds more than one COPY batch in memory.
+ */
+@Service
+public class ItemImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemImportService.class);
+
+    static final int MAX_REPORTED_ERRORS = 100;
+    private static final int COPY_BATCH_BYTES = 256 * 1024;
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("title", "description", "dateFound", "locationFound");
+    private static final List<String> OPTIONAL_COLUMNS = List.of("status", "imageUrl", "contactInfo");
+
+    private static final String CREATE_STAGING_SQL = """
+            CREATE TEMP TABLE items_import_staging (
+                title VARCHAR(200) NOT NULL,
+                description VARCHAR(500) NOT NULL,
+                date_found DATE NOT NULL,
+                location_found VARCHAR(255) NOT NULL,
+                status VARCHAR(20) NOT NULL,
+                image_url VARCHAR(500),
+                contact_info VARCHAR(255)
+            ) ON COMMIT DROP
+            """;
+
+    private static final String COPY_SQL = """
+            COPY items_import_staging (title, description, date_found, location_found, status, image_url, contact_info)
+            FROM STDIN WITH (FORMAT csv)
+            """;
+
+    // Stamped when the swap-in starts rather than when the transaction did: delta sync only
+    // tolerates app.sync.commit-lag between a row's updated_at and its commit, and the COPY can take longer.
+    private static final String SWAP_IN_SQL = """
+            INSERT INTO items (title, description, date_found, location_found, status, image_url, contact_info,
+                               created_at, updated_at)
+            SELECT title, description, date_found, location_found, status, image_url, contact_info,
+                   statement_timestamp(), statement_timestamp()
+            FROM items_import_staging
+            """;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final ItemFacetService itemFacetService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    public ItemImportService(
+            DataSource dataSource,
+            JdbcTemplate jdbcTemplate,
+            ItemFacetService itemFacetService,
+            ApplicationEventPublisher eventPublisher) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+        this.itemFacetService = itemFacetService;
+        this.eventPublisher = eventPublisher;
+    }
+
+    /**
+     * Imports every valid row of {@code csv}. Unless {@code skipInvalid} is set, a single
+     * invalid row rolls the whole import back; either way every rejected row is reported
+     * (the first {@value #MAX_REPORTED_ERRORS} in detail).
+     */
+    @Transactional
+    public ItemImportResultDTO importCsv(InputStream csv, boolean skipInvalid) {
+        long started = System.nanoTime();
+        CsvRecordReader reader = new CsvRecordReader(
+                new BufferedReader(new InputStreamReader(csv, StandardCharsets.UTF_8), 64 * 1024));
+        Map<String, Integer> columns = readHeader(reader);
+
+        jdbcTemplate.execute(CREATE_STAGING_SQL);
+        CopyIn copy = startCopy();
+
+        List<ImportRowErrorDTO> errors = new ArrayList<>();
+        long rejected = 0;
+        ByteArrayOutputStream batch = new ByteArrayOutputStream(COPY_BATCH_BYTES + 4096);
+        try {
+            List<String> record;
+            while ((record = reader.next()) != null) {
+                String error = appendRow(record, columns, batch);
+                if (error != null) {
+                    rejected++;
+                    if (errors.size() < MAX_REPORTED_ERRORS) {
+                        errors.add(new ImportRowErrorDTO(reader.recordLine(), error));
+                    }
+                } else if (batch.size() >= COPY_BATCH_BYTES) {
+                    flush(copy, batch);
+                }
+            }
+            flush(copy, batch);
+            copy.endCopy();
+        } catch (IOException e) {
+            cancel(copy);
+            throw unreadable(e);
+        } catch (SQLException e) {
+            cancel(copy);
+            throw new IllegalStateException("COPY into staging failed", e);
+        } catch (RuntimeException e) {
+            cancel(copy);
+            throw e;
+        }
+
+        if (rejected > 0 && !skipInvalid) {
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            return new ItemImportResultDTO(0, rejected, errors, elapsedMillis(started), 0);
+        }
+
+        int imported = jdbcTemplate.update(SWAP_IN_SQL);
+        itemFacetService.recordImported();
+        eventPublisher.publishEvent(new ItemsImportedEvent(imported));
+
+        long millis = elapsedMillis(started);
+        long rowsPerSecond = millis == 0 ? imported : imported * 1000L / millis;
+        logger.info("Imported {} items ({} rejected) in {} ms, {} rows/s", imported, rejected, millis, rowsPerSecond);
+        return new ItemImportResultDTO(imported, rejected, errors, millis, rowsPerSecond);
+    }
+
+    private CopyIn startCopy() {
+        // the transaction's own connection, so the COPY sees the temp table and commits with the swap-in
+        Connection connection = DataSourceUtils.getConnection(dataSource);
+        try {
+            return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Could not start COPY into staging", e);
+        }
+    }
+
+    private static Map<String, Integer> readHeader(CsvRecordReader reader) {
+        List<String> header;
+        try {
+            header = reader.next();
+        } catch (IOException e) {
+            throw unreadable(e);
+        }
+        if (header == null) {
+            throw new InvalidImportException("The CSV is empty.");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).strip();
+            for (String known : REQUIRED_COLUMNS) {
+                if (known.equalsIgnoreCase(name)) {
+                    columns.put(known, i);
+                }
+            }
+            for (String known : OPTIONAL_COLUMNS) {
+                if (known.equalsIgnoreCase(name)) {
+                    columns.put(known, i);
+                }
+            }
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new InvalidImportException("Missing CSV columns: " + String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    /**
+     * Validates one record and, if it is valid, appends it to {@code batch} as a COPY CSV line.
+     * Returns the reason it was rejected, or {@code null}.
+     */
+    static String appendRow(List<String> record, Map<String, Integer> columns, ByteArrayOutputStream batch) {
+        String title = field(record, columns, "title");
+        String description = field(record, columns, "description");
+        String dateFound = field(record, columns, "dateFound");
+        String locationFound = field(record, columns, "locationFound");
+        String status = field(record, columns, "status");
+        String imageUrl = field(record, columns, "imageUrl");
+        String contactInfo = field(record, columns, "contactInfo");
+
+        if (title == null) {
+            return "title is required";
+        }
+        if (title.length() > 200) {
+            return "title must be at most 200 characters";
+        }
+        if (description == null) {
+            return "description is required";
+        }
+        if (description.length() > 500) {
+            return "description must be at most 500 characters";
+        }
+        if (locationFound == null) {
+            return "locationFound is required";
+        }
+        if (locationFound.length() > 255) {
+            return "locationFound must be at most 255 characters";
+        }
+        if (dateFound == null) {
+            return "dateFound is required";
+        }
+        try {
+            if (LocalDate.parse(dateFound).isAfter(LocalDate.now())) {
+                return "dateFound cannot be in the future";
+            }
+        } catch (DateTimeParseException e) {
+            return "dateFound must be an ISO date (yyyy-MM-dd)";
+        }
+        if (status == null) {
+            status = ItemStatus.AVAILABLE.name();
+        } else {
+            try {
+                status = ItemStatus.valueOf(status.toUpperCase(Locale.ROOT)).name();
+            } catch (IllegalArgumentException e) {
+                return "unknown status '" + status + "'";
+            }
+        }
+        if (imageUrl != null && imageUrl.length() > 500) {
+            return "imageUrl must be at most 500 characters";
+        }
+        if (contactInfo != null && contactInfo.length() > 255) {
+            return "contactInfo must be at most 255 characters";
+        }
+
+        StringBuilder line = new StringBuilder(128);
+        appendCopyField(line, title).append(',');
+        appendCopyField(line, description).append(',');
+        appendCopyField(line, dateFound).append(',');
+        appendCopyField(line, locationFound).append(',');
+        appendCopyField(line, status).append(',');
+        appendCopyField(line, imageUrl).append(',');
+        appendCopyField(line, contactInfo).append('\n');
+        batch.writeBytes(line.toString().getBytes(StandardCharsets.UTF_8));
+        return null;
+    }
+
+    // In COPY's CSV format an unquoted empty field is NULL, so every value is quoted.
+    private static StringBuilder appendCopyField(StringBuilder line, String value) {
+        if (value == null) {
+            return line;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        return line.append('"');
+    }
+
+    private static String field(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static void flush(CopyIn copy, ByteArrayOutputStream batch) throws SQLException {
+        if (batch.size() > 0) {
+            copy.writeToCopy(batch.toByteArray(), 0, batch.size());
+            batch.reset();
+        }
+    }
+
+    private static void cancel(CopyIn copy) {
+        if (copy.isActive()) {
+            try {
+                copy.cancelCopy();
+            } catch (SQLException e) {
+                logger.warn("Could not cancel COPY: {}", e.getMessage());
+            }
+        }
+    }
+
+    private static InvalidImportException unreadable(IOException e) {
+        return new InvalidImportException("Could not read the CSV: " + e.getMessage());
+    }
+
+    private static long elapsedMillis(long started) {
+        return (System.nanoTime() - started) / 1_000_000;
+    }
+}
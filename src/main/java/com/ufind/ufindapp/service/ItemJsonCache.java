@@ -0,0 +1,127 @@
+package com.ufind.ufindapp.service;
+
+import com.ufind.ufindapp.config.ItemCacheProperties;
+import com.ufind.ufindapp.entity.Item;
+import com.ufind.ufindapp.event.ItemClaimedEvent;
+import com.ufind.ufindapp.event.ItemsExpiredEvent;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Items as the JSON that {@code GET /api/item/{id}} writes, each served only to a caller who
+ * has just read the same {@code updated_at}. Bounded by bytes held.
+ */
+@Component
+public class ItemJsonCache {
+
+    // what an entry costs beyond its JSON: the key, the entry and Caffeine's node
+    private static final int ENTRY_OVERHEAD_BYTES = 160;
+
+    private record Entry(OffsetDateTime updatedAt, byte[] json) {
+    }
+
+    private final ObjectMapper objectMapper;
+    private final Cache<UUID, Entry> cache;
+
+    @Autowired
+    public ItemJsonCache(ObjectMapper objectMapper, ItemCacheProperties properties, MeterRegistry meterRegistry) {
+        this(objectMapper, properties, meterRegistry, ForkJoinPool.commonPool());
+    }
+
+    // Eviction runs on `maintenance`, after the write that went over the bound.
+    ItemJsonCache(ObjectMapper objectMapper, ItemCacheProperties properties, MeterRegistry meterRegistry,
+            Executor maintenance) {
+        this.objectMapper = objectMapper;
+        this.cache = !properties.isEnabled() ? null : Caffeine.newBuilder()
+                .executor(maintenance)
+                .maximumWeight(properties.getMaxBytes())
+                .weigher((UUID id, Entry entry) -> entry.json().length + ENTRY_OVERHEAD_BYTES)
+                .recordStats()
+                .build();
+        if (cache != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, "item-json");
+            Gauge.builder("item.json.cache.bytes", cache,
+                            c -> c.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0)).orElse(0L))
+                    .description("Bytes of serialized items held")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Whether some version of the item is cached, so that looking up its current version may pay
+     * off. This is the lookup the hit and miss counts are taken from.
+     */
+    public boolean contains(UUID id) {
+        return cache != null && cache.getIfPresent(id) != null;
+    }
+
+    /**
+     * The cached JSON of the item as of {@code updatedAt}, or {@code null}; an entry for any other
+     * version, or for an item that no longer exists ({@code updatedAt} null), is dropped.
+     */
+    public byte[] get(UUID id, OffsetDateTime updatedAt) {
+        if (cache == null) {
+            return null;
+        }
+        Entry entry = cache.policy().getIfPresentQuietly(id);
+        if (entry == null) {
+            return null;
+        }
+        if (updatedAt == null || !entry.updatedAt().isEqual(updatedAt)) {
+            cache.asMap().remove(id, entry);
+            return null;
+        }
+        return entry.json();
+    }
+
+    /**
+     * Serializes {@code item} and caches the result under its id and {@code updatedAt}.
+     */
+    public byte[] put(Item item) {
+        byte[] json = objectMapper.writeValueAsBytes(item);
+        if (cache != null) {
+            cache.put(item.getId(), new Entry(item.getUpdatedAt(), json));
+        }
+        return json;
+    }
+
+    /**
+     * Serializes {@code item} without caching it, for a version other callers may not see yet.
+     */
+    public byte[] serialize(Item item) {
+        return objectMapper.writeValueAsBytes(item);
+    }
+
+    public void invalidate(UUID id) {
+        if (cache != null) {
+            cache.invalidate(id);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onItemClaimed(ItemClaimedEvent event) {
+        invalidate(event.item().getId());
+    }
+
+    @TransactionalEventListener
+    public void onItemsExpired(ItemsExpiredEvent event) {
+        if (cache != null) {
+            cache.invalidateAll(event.ids());
+        }
+    }
+}
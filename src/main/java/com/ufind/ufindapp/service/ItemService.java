@@ -1,42 +1,187 @@
 package com.ufind.ufindapp.service;
 
+import com.ufind.ufindapp.config.ItemBatchProperties;
+import com.ufind.ufindapp.datasource.RecentWriters;
+import com.ufind.ufindapp.dto.DuplicateCandidateDTO;
+import com.ufind.ufindapp.dto.ItemBatchDTO;
+import com.ufind.ufindapp.dto.ItemField;
+import com.ufind.ufindapp.dto.ItemFilter;
 import com.ufind.ufindapp.dto.MarkItemClaimedRequest;
+import com.ufind.ufindapp.dto.ItemRegistrationDTO;
 import com.ufind.ufindapp.dto.RegisterItemRequest;
 import com.ufind.ufindapp.entity.Item;
 import com.ufind.ufindapp.entity.ItemStatus;
+import com.ufind.ufindapp.event.ItemClaimedEvent;
+import com.ufind.ufindapp.event.ItemRegisteredEvent;
+import com.ufind.ufindapp.exception.InvalidBatchException;
+import com.ufind.ufindapp.exception.InvalidSortException;
 import com.ufind.ufindapp.exception.ItemNotFoundException;
 import com.ufind.ufindapp.repository.ItemRepository;
+import com.ufind.ufindapp.repository.ItemSpecifications;
+import com.ufind.ufindapp.security.UserPrincipal;
 
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Supplier;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
 @Service
 public class ItemService {
 
+    // Every field here is backed by an index (V4/V5 migrations); keep both in sync.
+    static final Set<String> SORTABLE_FIELDS = Set.of("createdAt", "dateFound", "title");
+
     private final ItemRepository itemRepository;
+    private final ItemFacetService itemFacetService;
+    private final ItemDuplicateService itemDuplicateService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectProvider<RecentWriters> recentWriters;
+    private final ItemJsonCache itemJsonCache;
+    private final ItemBatchProperties batchProperties;
+
+    // A shared link or a common search term brings bursts of identical reads; they share one query.
+    private final SingleFlight<UUID, Item> itemReads;
+    private final SingleFlight<UUID, Optional<OffsetDateTime>> itemVersionReads;
+    private final SingleFlight<List<Object>, Map<String, Object>> itemFieldReads;
+    private final SingleFlight<List<Object>, Page<Item>> searchReads;
+    private final SingleFlight<List<Object>, Page<Map<String, Object>>> searchFieldReads;
 
-    public ItemService(ItemRepository itemRepository) {
+    public ItemService(
+            ItemRepository itemRepository,
+            ItemFacetService itemFacetService,
+            ItemDuplicateService itemDuplicateService,
+            ApplicationEventPublisher eventPublisher,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            ObjectProvider<RecentWriters> recentWriters,
+            ItemJsonCache itemJsonCache,
+            ItemBatchProperties batchProperties) {
         this.itemRepository = itemRepository;
+        this.itemFacetService = itemFacetService;
+        this.itemDuplicateService = itemDuplicateService;
+        this.eventPublisher = eventPublisher;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.recentWriters = recentWriters;
+        this.itemJsonCache = itemJsonCache;
+        this.batchProperties = batchProperties;
+        this.itemReads = new SingleFlight<>(meterRegistry, "getItemById");
+        this.itemVersionReads = new SingleFlight<>(meterRegistry, "getItemVersion");
+        this.itemFieldReads = new SingleFlight<>(meterRegistry, "getItemFieldsById");
+        this.searchReads = new SingleFlight<>(meterRegistry, "searchItems");
+        this.searchFieldReads = new SingleFlight<>(meterRegistry, "searchItemFields");
+    }
+
+    @Transactional(readOnly = true)
+    public Page<Item> getAllItems(ItemFilter filter, Pageable pageable) {
+        requireSortable(pageable);
+        return itemRepository.findAll(ItemSpecifications.matching(filter), pageable);
     }
 
-    public Page<Item> getAllItems(Pageable pageable) {
-        return itemRepository.findAll(pageable);
+    @Transactional(readOnly = true)
+    public Page<Map<String, Object>> getAllItems(ItemFilter filter, Set<ItemField> fields, Pageable pageable) {
+        requireSortable(pageable);
+        return itemRepository.findAllFields(ItemSpecifications.matching(filter), fields, pageable);
     }
 
     public Item getItemById(UUID id) {
-        return itemRepository.findById(id)
-            .orElseThrow(() -> new ItemNotFoundException("Item not found with id: "+id));
+        return coalesce(itemReads, id, () -> itemRepository.findById(id)
+            .orElseThrow(() -> new ItemNotFoundException("Item not found with id: "+id)));
+    }
+
+    /**
+     * The item as the JSON {@link #getItemById(UUID)} would serialize to. When a serialized copy
+     * is cached, one look at the item's {@code updated_at} decides whether it can be reused,
+     * instead of loading and serializing the item again. A user who wrote recently reads from the
+     * primary and might be ahead of what is cached, so they skip the cache.
+     */
+    public byte[] getItemJsonById(UUID id) {
+        if (TransactionSynchronizationManager.isActualTransactionActive() || currentUserWroteRecently()) {
+            return itemJsonCache.serialize(getItemById(id));
+        }
+        if (itemJsonCache.contains(id)) {
+            OffsetDateTime updatedAt = coalesce(itemVersionReads, id, () -> itemRepository.findUpdatedAtById(id))
+                    .orElse(null);
+            byte[] json = itemJsonCache.get(id, updatedAt);
+            if (json != null) {
+                return json;
+            }
+        }
+        return itemJsonCache.put(getItemById(id));
+    }
+
+    /**
+     * The items with the given ids, read with one query however many there are, in the order
+     * asked for; an id asked for twice is answered once. Ids that match no item are listed as
+     * missing instead of failing the whole batch.
+     */
+    @Transactional(readOnly = true)
+    public ItemBatchDTO getItemsByIds(List<UUID> ids) {
+        Set<UUID> wanted = new LinkedHashSet<>(ids);
+        if (wanted.size() > batchProperties.getMaxIds()) {
+            throw new InvalidBatchException("At most " + batchProperties.getMaxIds()
+                    + " ids can be read at once, got " + wanted.size() + ".");
+        }
+        if (wanted.isEmpty()) {
+            return new ItemBatchDTO(List.of(), List.of());
+        }
+        Map<UUID, Item> found = new HashMap<>();
+        for (Item item : itemRepository.findAllByIdAny(wanted.toArray(UUID[]::new))) {
+            found.put(item.getId(), item);
+        }
+        List<Item> items = new ArrayList<>(found.size());
+        List<UUID> missing = new ArrayList<>();
+        for (UUID id : wanted) {
+            Item item = found.get(id);
+            if (item != null) {
+                items.add(item);
+            } else {
+                missing.add(id);
+            }
+        }
+        return new ItemBatchDTO(items, missing);
+    }
+
+    public Map<String, Object> getItemById(UUID id, Set<ItemField> fields) {
+        return coalesce(itemFieldReads, List.of(id, fields), () -> itemRepository.findFieldsById(id, fields)
+            .orElseThrow(() -> new ItemNotFoundException("Item not found with id: "+id)));
     }
 
     public Page<Item> searchItems(String query, Pageable pageable) {
-        return itemRepository.searchItems(query, pageable);
+        requireSortable(pageable);
+        return coalesce(searchReads, List.of(query, pageable), () -> itemRepository.searchItems(query, pageable));
     }
 
-    public void registerItem(RegisterItemRequest request) {
+    public Page<Map<String, Object>> searchItems(String query, Set<ItemField> fields, Pageable pageable) {
+        requireSortable(pageable);
+        return coalesce(searchFieldReads, List.of(query, fields, pageable),
+                () -> itemRepository.findAllFields(ItemSpecifications.containing(query), fields, pageable));
+    }
+
+    @Transactional
+    public ItemRegistrationDTO registerItem(RegisterItemRequest request) {
 
         Item newItem = Item.builder()
                 .title(request.title())
@@ -49,17 +194,68 @@ public class ItemService {
                 .build();
    
         itemRepository.save(newItem);
+        itemFacetService.recordAdded(newItem);
+        List<DuplicateCandidateDTO> possibleDuplicates = itemDuplicateService.checkAndRecord(newItem);
+        eventPublisher.publishEvent(new ItemRegisteredEvent(newItem));
 
+        return new ItemRegistrationDTO(newItem.getId(), possibleDuplicates);
     }
 
     @Transactional
     public void markItemAsClaimed(MarkItemClaimedRequest request) {
 
-        Item item = itemRepository.findById(request.id())
+        Item item = itemRepository.findByIdForUpdate(request.id())
             .orElseThrow(() -> new ItemNotFoundException("The queried item wasn't found."));
 
+        // read under the row lock, so an expiry batch cannot change it before this commits;
+        // an expired item is still on the shelf and can be claimed like an available one
+        ItemStatus previousStatus = item.getStatus();
         item.setStatus(ItemStatus.CLAIMED);
+        itemFacetService.recordStatusChange(previousStatus, ItemStatus.CLAIMED, 1);
+        // a repeated claim changes nothing: no second feed event or audit row
+        if (previousStatus != ItemStatus.CLAIMED) {
+            eventPublisher.publishEvent(new ItemClaimedEvent(item));
+        }
+
+    }
+
+    /**
+     * Runs {@code read} in a read-only transaction, shared with identical calls already in flight.
+     * Inside a caller's transaction, or for a user who wrote recently and so reads from the
+     * primary, the read runs on its own: joining another caller's query would not see that
+     * transaction's or user's writes.
+     */
+    private <K, V> V coalesce(SingleFlight<K, V> flight, K key, Supplier<V> read) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return read.get();
+        }
+        if (currentUserWroteRecently()) {
+            return readOnlyTransaction.execute(status -> read.get());
+        }
+        return flight.execute(key, () -> readOnlyTransaction.execute(status -> read.get()));
+    }
+
+    private boolean currentUserWroteRecently() {
+        RecentWriters writers = recentWriters.getIfAvailable();
+        if (writers == null) {
+            return false;
+        }
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof UserPrincipal principal
+                && writers.wroteRecently(principal.getId());
+    }
 
+    private static void requireSortable(Pageable pageable) {
+        Sort sort = pageable.getSort();
+        if (sort.stream().count() > 1) {
+            throw new InvalidSortException("Only one sort field is supported.");
+        }
+        for (Sort.Order order : sort) {
+            if (!SORTABLE_FIELDS.contains(order.getProperty())) {
+                throw new InvalidSortException("Cannot sort by '" + order.getProperty()
+                        + "'. Sortable fields: " + String.join(", ", SORTABLE_FIELDS.stream().sorted().toList()));
+            }
+        }
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,55 @@
+package com.ufind.ufindapp.service;
+
+import com.ufind.ufindapp.config.SyncProperties;
+import com.ufind.ufindapp.dto.ItemChangesDTO;
+import com.ufind.ufindapp.entity.Item;
+import com.ufind.ufindapp.repository.ItemRepository;
+import com.ufind.ufindapp.repository.ItemTombstone;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Delta sync for offline clients: the items changed and the ids archived since a client's
+ * watermark, page by page.
+ */
+@Service
+public class ItemSyncService {
+
+    private final ItemRepository itemRepository;
+    private final SyncProperties properties;
+
+    public ItemSyncService(ItemRepository itemRepository, SyncProperties properties) {
+        this.itemRepository = itemRepository;
+        this.properties = properties;
+    }
+
+    @Transactional(readOnly = true)
+    public ItemChangesDTO changesSince(String since, int limit) {
+        ChangeWatermark from = since == null || since.isBlank() ? ChangeWatermark.INITIAL : ChangeWatermark.decode(since);
+        int pageSize = Math.clamp(limit, 1, properties.getMaxPageSize());
+        double commitLagSeconds = properties.getCommitLag().toMillis() / 1000.0;
+
+        List<Item> items = itemRepository.findChangedSince(
+                from.itemsAtUtc(), from.itemsId(), commitLagSeconds, pageSize);
+        List<ItemTombstone> tombstones = itemRepository.findRemovedSince(
+                from.removedAtUtc(), from.removedId(), commitLagSeconds, pageSize);
+
+        ChangeWatermark to = from;
+        if (!items.isEmpty()) {
+            Item last = items.getLast();
+            to = to.withItems(last.getUpdatedAt(), last.getId());
+        }
+        if (!tombstones.isEmpty()) {
+            ItemTombstone last = tombstones.getLast();
+            to = to.withRemoved(last.getRemovedAt(), last.getId());
+        }
+
+        List<UUID> removed = tombstones.stream().map(ItemTombstone::getId).toList();
+        boolean hasMore = items.size() == pageSize || tombstones.size() == pageSize;
+        return new ItemChangesDTO(items, removed, to.encode(), hasMore);
+    }
+}
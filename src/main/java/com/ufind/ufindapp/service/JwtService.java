@@ -1,6 +1,7 @@
 package com.ufind.ufindapp.service;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.io.Decoders;
@@ -9,6 +10,7 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import com.ufind.ufindapp.config.JwtProperties;
+import com.ufind.ufindapp.security.UserPrincipal;
 
 import java.security.Key;
 import java.util.Date;
@@ -18,8 +20,17 @@ import java.util.function.Function;
 @Service
 public class JwtService {
 
+    // Carried by access tokens so that a request is authenticated from the token alone.
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String ROLE_CLAIM = "role";
+
     private final JwtProperties jwtProperties;
 
+    // Built on first use and kept: every authenticated request parses a token, and building a
+    // parser looks up its JSON deserializer afresh.
+    private volatile Key signInKey;
+    private volatile JwtParser parser;
+
     public JwtService(JwtProperties jwtProperties) {
         this.jwtProperties = jwtProperties;
     }
@@ -34,6 +45,11 @@ public class JwtService {
     }
 
     public String generateToken(UserDetails userDetails) {
+        if (userDetails instanceof UserPrincipal principal) {
+            return generateToken(Map.of(
+                    USER_ID_CLAIM, principal.getId().toString(),
+                    ROLE_CLAIM, principal.getRole().name()), userDetails);
+        }
         return generateToken(Map.of(), userDetails);
     }
 
@@ -63,17 +79,28 @@ public class JwtService {
         return extractClaim(token, Claims::getExpiration);
     }
 
-    private Claims extractAllClaims(String token) {
-        return Jwts
-                .parserBuilder()
-                .setSigningKey(getSignInKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    /**
+     * Verifies the token's signature and expiry and returns its claims, parsing it once.
+     */
+    public Claims extractAllClaims(String token) {
+        JwtParser current = parser;
+        if (current == null) {
+            current = Jwts
+                    .parserBuilder()
+                    .setSigningKey(getSignInKey())
+                    .build();
+            parser = current;
+        }
+        return current.parseClaimsJws(token).getBody();
     }
 
     private Key getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(jwtProperties.getSecret());
-        return Keys.hmacShaKeyFor(keyBytes);
+        Key key = signInKey;
+        if (key == null) {
+            byte[] keyBytes = Decoders.BASE64.decode(jwtProperties.getSecret());
+            key = Keys.hmacShaKeyFor(keyBytes);
+            signInKey = key;
+        }
+        return key;
     }
 }
@@ -0,0 +1,446 @@
+package com.ufind.ufindapp.service;
+
+import com.ufind.ufindapp.config.PhotoSearchProperties;
+import com.ufind.ufindapp.dto.PhotoMatchDTO;
+import com.ufind.ufindapp.entity.Item;
+import com.ufind.ufindapp.event.ItemClaimedEvent;
+import com.ufind.ufindapp.event.ItemRegisteredEvent;
+import com.ufind.ufindapp.event.ItemsExpiredEvent;
+import com.ufind.ufindapp.exception.InvalidImageException;
+import com.ufind.ufindapp.search.HammingIndex;
+import com.ufind.ufindapp.search.PerceptualHash;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Inet6Address;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageInputStream;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Search by photo: finds the available items whose photos are within
+ * {@code app.photo-search.max-distance} bits of an uploaded photo's {@link PerceptualHash}.
+ */
+@Service
+public class PhotoSearchService implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(PhotoSearchService.class);
+
+    private static final String CLAIM_ITEM_SQL = """
+            UPDATE items SET image_hashed_at = now()
+            WHERE id = ? AND image_hashed_at IS NULL
+            """;
+
+    // Marks the batch as taken before any photo is fetched, so concurrent sweeps on other
+    // nodes, or a registration's own hasher, never fetch the same photo twice.
+    private static final String CLAIM_BATCH_SQL = """
+            UPDATE items SET image_hashed_at = now()
+            WHERE id IN (
+                SELECT id FROM items
+                WHERE image_url IS NOT NULL AND image_hashed_at IS NULL
+                ORDER BY created_at
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED)
+            RETURNING id, image_url
+            """;
+
+    private static final String STORE_HASH_SQL = """
+            UPDATE items SET image_phash = ?, image_hashed_at = now()
+            WHERE id = ?
+            RETURNING status
+            """;
+
+    private static final String LOAD_HASHES_SQL = """
+            SELECT id, image_phash, image_hashed_at
+            FROM items
+            WHERE image_phash IS NOT NULL AND status = 'AVAILABLE' AND image_hashed_at > ?
+            """;
+
+    private static final String MATCHES_SQL = """
+            SELECT id, title, location_found, date_found, image_url
+            FROM items
+            WHERE id = ANY(?) AND status = 'AVAILABLE'
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final PhotoSearchProperties properties;
+    private final ExecutorService hashers;
+    private final HttpClient httpClient;
+
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Timer hashTimer;
+    private final Counter failed;
+
+    private volatile HammingIndex<UUID> index = new HammingIndex<>();
+    private volatile Instant loadedUpTo = Instant.EPOCH;
+
+    @Autowired
+    public PhotoSearchService(JdbcTemplate jdbcTemplate, PhotoSearchProperties properties, MeterRegistry meterRegistry) {
+        this(jdbcTemplate, properties, meterRegistry,
+                Executors.newFixedThreadPool(properties.getHashThreads(), hasherThreadFactory()),
+                HttpClient.newBuilder()
+                        .connectTimeout(properties.getFetchTimeout())
+                        .followRedirects(HttpClient.Redirect.NEVER)
+                        .build());
+    }
+
+    PhotoSearchService(
+            JdbcTemplate jdbcTemplate,
+            PhotoSearchProperties properties,
+            MeterRegistry meterRegistry,
+            ExecutorService hashers,
+            HttpClient httpClient) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.hashers = hashers;
+        this.httpClient = httpClient;
+
+        Gauge.builder("photo.index.size", this, service -> service.index.size())
+                .description("Item photos in this node's search-by-photo index")
+                .register(meterRegistry);
+        Gauge.builder("photo.hash.pending", pending, AtomicInteger::get)
+                .description("Item photos queued for hashing")
+                .register(meterRegistry);
+        this.hashTimer = Timer.builder("photo.hash")
+                .description("Time to fetch, decode and hash one item photo")
+                .register(meterRegistry);
+        this.failed = Counter.builder("photo.hash.failed").register(meterRegistry);
+    }
+
+    /**
+     * The available items whose photos are nearest to {@code photo}, nearest first.
+     */
+    public List<PhotoMatchDTO> search(InputStream photo) {
+        long hash;
+        try {
+            hash = PerceptualHash.hash(decode(readLimited(photo)));
+        } catch (IOException e) {
+            throw new InvalidImageException("Could not read the photo.");
+        }
+        List<HammingIndex.Match<UUID>> matches =
+                index.query(hash, properties.getMaxDistance(), properties.getMaxResults());
+        if (matches.isEmpty()) {
+            return List.of();
+        }
+
+        Map<UUID, Integer> distances = new HashMap<>();
+        for (HammingIndex.Match<UUID> match : matches) {
+            distances.put(match.key(), match.distance());
+        }
+        List<PhotoMatchDTO> results = jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(MATCHES_SQL);
+                    statement.setArray(1, connection.createArrayOf("uuid", distances.keySet().toArray()));
+                    return statement;
+                },
+                (rs, rowNum) -> {
+                    UUID id = rs.getObject("id", UUID.class);
+                    return new PhotoMatchDTO(
+                            id,
+                            rs.getString("title"),
+                            rs.getString("location_found"),
+                            rs.getObject("date_found", LocalDate.class),
+                            rs.getString("image_url"),
+                            distances.get(id));
+                });
+        return results.stream().sorted(Comparator.comparingInt(PhotoMatchDTO::distance)).toList();
+    }
+
+    @TransactionalEventListener
+    public void onItemRegistered(ItemRegisteredEvent event) {
+        Item item = event.item();
+        if (item.getImageUrl() == null) {
+            return;
+        }
+        submit(() -> {
+            if (jdbcTemplate.update(CLAIM_ITEM_SQL, item.getId()) == 1) {
+                hashItem(item.getId(), item.getImageUrl());
+            }
+        });
+    }
+
+    @TransactionalEventListener
+    public void onItemClaimed(ItemClaimedEvent event) {
+        index.remove(event.item().getId());
+    }
+
+    @TransactionalEventListener
+    public void onItemsExpired(ItemsExpiredEvent event) {
+        event.ids().forEach(index::remove);
+    }
+
+    /**
+     * Tops the hashers' queue back up to one batch of unhashed photos.
+     */
+    @Scheduled(fixedDelayString = "${app.photo-search.sweep-interval:10s}",
+            initialDelayString = "${app.photo-search.sweep-interval:10s}")
+    public void sweep() {
+        int room = properties.getSweepBatchSize() - pending.get();
+        if (room <= 0) {
+            return;
+        }
+        jdbcTemplate.query(CLAIM_BATCH_SQL, rs -> {
+            UUID id = rs.getObject("id", UUID.class);
+            String imageUrl = rs.getString("image_url");
+            submit(() -> hashItem(id, imageUrl));
+        }, room);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.photo-search.rebuild-cron:0 50 4 * * *}")
+    public void rebuild() {
+        long started = System.nanoTime();
+        HammingIndex<UUID> fresh = new HammingIndex<>();
+        Instant upTo = load(fresh, Instant.EPOCH);
+        index = fresh;
+        loadedUpTo = upTo;
+        logger.info("Loaded {} photo hashes in {} ms", fresh.size(), (System.nanoTime() - started) / 1_000_000);
+    }
+
+    /**
+     * Picks up photos hashed on other nodes since the last load, re-reading an overlap window
+     * because {@code image_hashed_at} is stamped before the row commits.
+     */
+    @Scheduled(fixedDelayString = "${app.photo-search.refresh-interval:30s}",
+            initialDelayString = "${app.photo-search.refresh-interval:30s}")
+    public void refresh() {
+        loadedUpTo = load(index, loadedUpTo.minus(properties.getRefreshOverlap()));
+    }
+
+    @Override
+    public void close() {
+        hashers.shutdownNow();
+    }
+
+    void hashItem(UUID id, String imageUrl) {
+        long hash;
+        try {
+            hash = hashTimer.recordCallable(() -> PerceptualHash.hash(decode(fetch(imageUrl))));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (Exception e) {
+            failed.increment();
+            logger.info("Could not hash the photo of item {} ({}): {}", id, imageUrl, e.getMessage());
+            return;
+        }
+        List<String> status = jdbcTemplate.queryForList(STORE_HASH_SQL, String.class, hash, id);
+        if (status.contains("AVAILABLE")) {
+            index.add(id, hash);
+        }
+    }
+
+    private void submit(Runnable task) {
+        pending.incrementAndGet();
+        try {
+            hashers.execute(() -> {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    logger.warn("Photo hashing failed", e);
+                } finally {
+                    pending.decrementAndGet();
+                }
+            });
+        } catch (RuntimeException e) {
+            // shutting down; the photo stays claimed and unhashed
+            pending.decrementAndGet();
+        }
+    }
+
+    private Instant load(HammingIndex<UUID> target, Instant since) {
+        Instant[] newest = {since};
+        jdbcTemplate.query(LOAD_HASHES_SQL, rs -> {
+            target.add(rs.getObject("id", UUID.class), rs.getLong("image_phash"));
+            Instant hashedAt = rs.getTimestamp("image_hashed_at").toInstant();
+            if (hashedAt.isAfter(newest[0])) {
+                newest[0] = hashedAt;
+            }
+        }, Timestamp.from(since));
+        return newest[0];
+    }
+
+    private byte[] fetch(String imageUrl) throws IOException, InterruptedException {
+        URI uri = URI.create(imageUrl.strip());
+        if (!"http".equalsIgnoreCase(uri.getScheme()) && !"https".equalsIgnoreCase(uri.getScheme())) {
+            throw new InvalidImageException("Only http(s) photo URLs are fetched");
+        }
+        if (!properties.isAllowPrivateAddresses()) {
+            requirePublicHost(uri);
+        }
+        HttpRequest request = HttpRequest.newBuilder(uri).timeout(properties.getFetchTimeout()).GET().build();
+        // the request timeout only covers the headers, so the whole exchange gets a deadline of its own
+        CompletableFuture<HttpResponse<byte[]>> exchange = httpClient.sendAsync(request, info -> info.statusCode() == 200
+                ? new LimitedBody(properties.getMaxImageBytes())
+                : HttpResponse.BodySubscribers.replacing(null));
+        HttpResponse<byte[]> response;
+        try {
+            response = exchange.get(properties.getFetchTimeout().toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new IOException("Timed out after " + properties.getFetchTimeout());
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw e.getCause() instanceof IOException io ? io : new IOException(e.getCause());
+        } finally {
+            exchange.cancel(true);
+        }
+        if (response.statusCode() != 200) {
+            throw new IOException("HTTP " + response.statusCode());
+        }
+        return response.body();
+    }
+
+    // Photo URLs are typed in or imported by staff, so they must not reach this network or the host itself.
+    private static void requirePublicHost(URI uri) throws IOException {
+        if (uri.getHost() == null) {
+            throw new InvalidImageException("The photo URL has no host");
+        }
+        for (InetAddress address : InetAddress.getAllByName(uri.getHost())) {
+            if (address.isAnyLocalAddress() || address.isLoopbackAddress() || address.isLinkLocalAddress()
+                    || address.isSiteLocalAddress() || address.isMulticastAddress()
+                    || address instanceof Inet6Address && (address.getAddress()[0] & 0xfe) == 0xfc) {
+                throw new InvalidImageException("Photo URLs must point to a public host");
+            }
+        }
+    }
+
+    private byte[] readLimited(InputStream in) throws IOException {
+        byte[] bytes = in.readNBytes((int) Math.min(Integer.MAX_VALUE - 8, properties.getMaxImageBytes() + 1));
+        if (bytes.length > properties.getMaxImageBytes()) {
+            throw tooLarge(properties.getMaxImageBytes());
+        }
+        return bytes;
+    }
+
+    private static InvalidImageException tooLarge(long maxImageBytes) {
+        return new InvalidImageException("The photo is larger than " + maxImageBytes / (1024 * 1024) + " MB.");
+    }
+
+    // Checks the dimensions before decoding, so a small file cannot expand into a huge bitmap.
+    BufferedImage decode(byte[] bytes) throws IOException {
+        try (ImageInputStream input = new MemoryCacheImageInputStream(new ByteArrayInputStream(bytes))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new InvalidImageException("The photo is not an image format we can read.");
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                if ((long) reader.getWidth(0) * reader.getHeight(0) > properties.getMaxImagePixels()) {
+                    throw new InvalidImageException("The photo has too many pixels.");
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // Collects a response body, giving up as soon as it passes the byte cap.
+    private static final class LimitedBody implements HttpResponse.BodySubscriber<byte[]> {
+
+        private final long maxBytes;
+        private final ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        private final CompletableFuture<byte[]> body = new CompletableFuture<>();
+        private Flow.Subscription subscription;
+
+        LimitedBody(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> items) {
+            if (body.isDone()) {
+                return;
+            }
+            for (ByteBuffer item : items) {
+                if (buffer.size() + item.remaining() > maxBytes) {
+                    subscription.cancel();
+                    body.completeExceptionally(tooLarge(maxBytes));
+                    return;
+                }
+                byte[] chunk = new byte[item.remaining()];
+                item.get(chunk);
+                buffer.writeBytes(chunk);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            body.completeExceptionally(throwable);
+        }
+
+        @Override
+        public void onComplete() {
+            body.complete(buffer.toByteArray());
+        }
+
+        @Override
+        public CompletionStage<byte[]> getBody() {
+            return body;
+        }
+    }
+
+    private static ThreadFactory hasherThreadFactory() {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, "photo-hasher-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
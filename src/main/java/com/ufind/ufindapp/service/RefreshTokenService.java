@@ -0,0 +1,140 @@
+package com.ufind.ufindapp.service;
+
+import com.ufind.ufindapp.config.JwtProperties;
+import com.ufind.ufindapp.entity.RefreshToken;
+import com.ufind.ufindapp.entity.UserRole;
+import com.ufind.ufindapp.exception.UnauthorizedException;
+import com.ufind.ufindapp.repository.RefreshTokenRepository;
+import com.ufind.ufindapp.repository.RotatedRefreshToken;
+import com.ufind.ufindapp.security.UserPrincipal;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Issues and rotates refresh tokens; a used token presented again after
+ * {@code jwt.refresh-reuse-grace} revokes its whole family.
+ */
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final int TOKEN_BYTES = 32;
+
+    public record Rotation(String token, UserPrincipal user) {
+    }
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtProperties jwtProperties;
+    private final SecureRandom random = new SecureRandom();
+
+    private final Counter rotated;
+    private final Counter rejected;
+    private final Counter reused;
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            JwtProperties jwtProperties,
+            MeterRegistry meterRegistry) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtProperties = jwtProperties;
+        this.rotated = refreshCounter(meterRegistry, "rotated");
+        this.rejected = refreshCounter(meterRegistry, "rejected");
+        this.reused = refreshCounter(meterRegistry, "reused");
+    }
+
+    /**
+     * Starts a new family for a user who has just logged in, and returns its first token.
+     */
+    @Transactional
+    public String issue(UUID userId) {
+        return issue(userId, UUID.randomUUID());
+    }
+
+    /**
+     * Trades a live token for the next one in its family and the user it belongs to.
+     *
+     * @throws UnauthorizedException if the token is unknown, used, revoked or expired
+     */
+    // the revocation on reuse must commit although the caller is refused
+    @Transactional(noRollbackFor = UnauthorizedException.class)
+    public Rotation rotate(String token) {
+        byte[] hash = hash(token);
+        RotatedRefreshToken used = refreshTokenRepository.markUsed(hash).orElse(null);
+        if (used == null) {
+            OffsetDateTime usedBefore = OffsetDateTime.now().minus(Duration.ofMillis(jwtProperties.getRefreshReuseGrace()));
+            int revoked = refreshTokenRepository.revokeFamilyIfUsedBefore(hash, usedBefore);
+            if (revoked > 0) {
+                reused.increment();
+                logger.warn("Refresh token reused; revoked {} tokens of its family", revoked);
+            } else {
+                rejected.increment();
+            }
+            throw new UnauthorizedException("Invalid refresh token.");
+        }
+        rotated.increment();
+        UserPrincipal user = UserPrincipal.withoutPassword(
+                used.getUserId(), used.getEmail(), UserRole.valueOf(used.getRole()));
+        return new Rotation(issue(used.getUserId(), used.getFamilyId()), user);
+    }
+
+    /**
+     * Revokes the family of {@code token}, on logout; an unknown token is ignored.
+     */
+    public void revoke(String token) {
+        refreshTokenRepository.revokeFamily(hash(token));
+    }
+
+    // Kept a day past expiry, so that a replay just after still finds its family.
+    @Scheduled(cron = "${jwt.refresh-purge-cron:0 20 3 * * *}")
+    public void purgeExpired() {
+        int deleted = refreshTokenRepository.deleteExpiredBefore(OffsetDateTime.now().minusDays(1));
+        if (deleted > 0) {
+            logger.info("Purged {} expired refresh tokens", deleted);
+        }
+    }
+
+    private String issue(UUID userId, UUID familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        random.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        refreshTokenRepository.save(RefreshToken.builder()
+                .userId(userId)
+                .familyId(familyId)
+                .tokenHash(hash(token))
+                .expiresAt(OffsetDateTime.now().plus(Duration.ofMillis(jwtProperties.getRefreshExpiration())))
+                .build());
+        return token;
+    }
+
+    static byte[] hash(String token) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.refresh")
+                .description("Refresh token exchanges")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
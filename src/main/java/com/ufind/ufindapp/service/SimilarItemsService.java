@@ -0,0 +1,394 @@
+package com.ufind.ufindapp.service;
+
+import com.ufind.ufindapp.config.SimilarItemsProperties;
+import com.ufind.ufindapp.dto.SimilarItemDTO;
+import com.ufind.ufindapp.entity.Item;
+import com.ufind.ufindapp.event.ItemClaimedEvent;
+import com.ufind.ufindapp.event.ItemRegisteredEvent;
+import com.ufind.ufindapp.event.ItemsExpiredEvent;
+import com.ufind.ufindapp.exception.ItemNotFoundException;
+import com.ufind.ufindapp.search.HnswIndex;
+import com.ufind.ufindapp.search.SearchText;
+import com.ufind.ufindapp.search.TextVectors;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * The available items whose text is nearest to a given item's, from an {@link HnswIndex}
+ * that is kept current from committed changes and snapshotted to
+ * {@code app.similar-items.snapshot-path}.
+ */
+@Service
+public class SimilarItemsService implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(SimilarItemsService.class);
+
+    // Changing either invalidates every snapshot.
+    static final int DIMENSIONS = 256;
+    private static final long GRAPH_SEED = 0x51A1L;
+
+    private static final int SNAPSHOT_MAGIC = 0x55534953;
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int LOAD_BATCH_SIZE = 10_000;
+
+    private static final String AVAILABLE_ITEMS_SQL = """
+            SELECT id, title, description, location_found, updated_at
+            FROM items
+            WHERE status = 'AVAILABLE' AND id > ?
+            ORDER BY id
+            LIMIT ?
+            """;
+
+    private static final String CHANGED_ITEMS_SQL = """
+            SELECT id, title, description, location_found, status, updated_at
+            FROM items
+            WHERE updated_at > ?
+            """;
+
+    private static final String ITEM_TEXT_SQL = """
+            SELECT title, description, location_found FROM items WHERE id = ?
+            """;
+
+    private static final String SIMILAR_SQL = """
+            SELECT id, title, location_found, date_found, image_url
+            FROM items
+            WHERE id = ANY(?) AND status = 'AVAILABLE'
+            """;
+
+    private static final HnswIndex.KeyCodec<UUID> UUIDS = new HnswIndex.KeyCodec<>() {
+        @Override
+        public void write(DataOutput out, UUID key) throws IOException {
+            out.writeLong(key.getMostSignificantBits());
+            out.writeLong(key.getLeastSignificantBits());
+        }
+
+        @Override
+        public UUID read(DataInput in) throws IOException {
+            return new UUID(in.readLong(), in.readLong());
+        }
+    };
+
+    private record Model(TextVectors vectors, HnswIndex<UUID> index) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final SimilarItemsProperties properties;
+    private final AtomicBoolean changed = new AtomicBoolean();
+
+    private volatile Model model;
+    // null until the first load: there is nothing to catch up on before it
+    private volatile Instant loadedUpTo;
+
+    public SimilarItemsService(
+            JdbcTemplate jdbcTemplate,
+            SimilarItemsProperties properties,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.properties = properties;
+        this.model = newModel();
+
+        Gauge.builder("items.similar.indexed", this, service -> service.model.index().size())
+                .description("Available items in this node's similar-items index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * The available items most like {@code id}, most similar first, at most {@code limit}.
+     */
+    public List<SimilarItemDTO> findSimilar(UUID id, int limit) {
+        int wanted = Math.max(1, Math.min(limit, properties.getMaxResults()));
+        Model current = model;
+        byte[] vector = current.index().vector(id);
+        if (vector == null) {
+            // claimed, or not indexed yet: its text still says what it is like
+            vector = jdbcTemplate.query(ITEM_TEXT_SQL, rs -> rs.next()
+                    ? current.vectors().vector(termFrequencies(
+                            rs.getString("title"), rs.getString("description"), rs.getString("location_found")))
+                    : null, id);
+            if (vector == null) {
+                throw new ItemNotFoundException("Item not found with id: " + id);
+            }
+        }
+
+        // room for the item itself and for items claimed since they were indexed
+        List<HnswIndex.Match<UUID>> matches = current.index().search(vector, 2 * wanted + 1, properties.getEfSearch());
+        Map<UUID, Double> similarity = new HashMap<>();
+        for (HnswIndex.Match<UUID> match : matches) {
+            if (!match.key().equals(id) && match.similarity() >= properties.getMinSimilarity()) {
+                similarity.put(match.key(), match.similarity());
+            }
+        }
+        if (similarity.isEmpty()) {
+            return List.of();
+        }
+        List<SimilarItemDTO> similar = jdbcTemplate.query(
+                connection -> {
+                    PreparedStatement statement = connection.prepareStatement(SIMILAR_SQL);
+                    statement.setArray(1, connection.createArrayOf("uuid", similarity.keySet().toArray()));
+                    return statement;
+                },
+                (rs, rowNum) -> {
+                    UUID itemId = rs.getObject("id", UUID.class);
+                    return new SimilarItemDTO(
+                            itemId,
+                            rs.getString("title"),
+                            rs.getString("location_found"),
+                            rs.getObject("date_found", LocalDate.class),
+                            rs.getString("image_url"),
+                            similarity.get(itemId));
+                });
+        return similar.stream()
+                .sorted((a, b) -> Double.compare(b.similarity(), a.similarity()))
+                .limit(wanted)
+                .toList();
+    }
+
+    // An insert walks the graph for a few hundred microseconds; not on the request thread.
+    @Async
+    @TransactionalEventListener
+    public void onItemRegistered(ItemRegisteredEvent event) {
+        Item item = event.item();
+        add(model, item.getId(), item.getTitle(), item.getDescription(), item.getLocationFound());
+    }
+
+    @TransactionalEventListener
+    public void onItemClaimed(ItemClaimedEvent event) {
+        if (model.index().remove(event.item().getId())) {
+            changed.set(true);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onItemsExpired(ItemsExpiredEvent event) {
+        for (UUID id : event.ids()) {
+            if (model.index().remove(id)) {
+                changed.set(true);
+            }
+        }
+    }
+
+    /**
+     * Loads the snapshot if there is a usable one and catches up from it, or builds the index
+     * from scratch.
+     */
+    @Async
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (loadSnapshot()) {
+            refresh();
+        } else {
+            rebuild();
+        }
+    }
+
+    /**
+     * Builds a fresh index of every available item in two passes, one counting document
+     * frequencies and one adding vectors weighted by them, then snapshots it.
+     */
+    @Scheduled(cron = "${app.similar-items.rebuild-cron:0 55 4 * * *}")
+    public void rebuild() {
+        long started = System.nanoTime();
+        Model fresh = newModel();
+        forEachAvailableItem((id, title, description, location, updatedAt) ->
+                fresh.vectors().count(termFrequencies(title, description, location).keySet()));
+        Instant[] newest = {Instant.EPOCH};
+        forEachAvailableItem((id, title, description, location, updatedAt) -> {
+            fresh.index().add(id, fresh.vectors().vector(termFrequencies(title, description, location)));
+            if (updatedAt.isAfter(newest[0])) {
+                newest[0] = updatedAt;
+            }
+        });
+        model = fresh;
+        loadedUpTo = newest[0];
+        changed.set(true);
+        logger.info("Indexed {} items for similar items in {} ms",
+                fresh.index().size(), (System.nanoTime() - started) / 1_000_000);
+        snapshot();
+    }
+
+    /**
+     * Adds items registered, and drops items claimed, on other nodes since the last load,
+     * re-reading an overlap window because {@code updated_at} is stamped before the row commits.
+     */
+    @Scheduled(fixedDelayString = "${app.similar-items.refresh-interval:30s}",
+            initialDelayString = "${app.similar-items.refresh-interval:30s}")
+    public void refresh() {
+        Instant since = loadedUpTo;
+        if (since == null) {
+            return;
+        }
+        Model current = model;
+        Instant[] newest = {since};
+        jdbcTemplate.query(CHANGED_ITEMS_SQL, rs -> {
+            UUID id = rs.getObject("id", UUID.class);
+            if (!"AVAILABLE".equals(rs.getString("status"))) {
+                if (current.index().remove(id)) {
+                    changed.set(true);
+                }
+            } else if (current.index().vector(id) == null) {
+                add(current, id, rs.getString("title"), rs.getString("description"), rs.getString("location_found"));
+            }
+            Instant updatedAt = rs.getTimestamp("updated_at").toInstant();
+            if (updatedAt.isAfter(newest[0])) {
+                newest[0] = updatedAt;
+            }
+        }, Timestamp.from(since.minus(properties.getRefreshOverlap())));
+        loadedUpTo = newest[0];
+    }
+
+    @Scheduled(fixedDelayString = "${app.similar-items.snapshot-interval:15m}",
+            initialDelayString = "${app.similar-items.snapshot-interval:15m}")
+    public void snapshot() {
+        if (!properties.getSnapshotPath().isBlank() && loadedUpTo != null && changed.getAndSet(false)) {
+            writeSnapshot(Path.of(properties.getSnapshotPath()));
+        }
+    }
+
+    @Override
+    public void close() {
+        snapshot();
+    }
+
+    private void add(Model target, UUID id, String title, String description, String location) {
+        Map<String, Double> terms = termFrequencies(title, description, location);
+        if (terms.isEmpty()) {
+            return;
+        }
+        target.vectors().count(terms.keySet());
+        target.index().add(id, target.vectors().vector(terms));
+        changed.set(true);
+    }
+
+    private boolean loadSnapshot() {
+        if (properties.getSnapshotPath().isBlank()) {
+            return false;
+        }
+        Path path = Path.of(properties.getSnapshotPath());
+        if (!Files.isRegularFile(path)) {
+            return false;
+        }
+        long started = System.nanoTime();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path), 1 << 16))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                throw new IOException("not a snapshot of this version");
+            }
+            Instant upTo = Instant.ofEpochMilli(in.readLong());
+            TextVectors vectors = TextVectors.readFrom(in);
+            HnswIndex<UUID> index = HnswIndex.readFrom(in, UUIDS, properties.getEfConstruction(), GRAPH_SEED);
+            if (vectors.dimensions() != DIMENSIONS || index.dimensions() != DIMENSIONS) {
+                throw new IOException("snapshot has " + index.dimensions() + " dimensions, expected " + DIMENSIONS);
+            }
+            model = new Model(vectors, index);
+            loadedUpTo = upTo;
+            logger.info("Loaded {} similar-items vectors from {} in {} ms",
+                    index.size(), path, (System.nanoTime() - started) / 1_000_000);
+            return true;
+        } catch (IOException | RuntimeException e) {
+            logger.warn("Could not load the similar-items snapshot {}, rebuilding: {}", path, e.getMessage());
+            return false;
+        }
+    }
+
+    // Written beside the target and moved over it, so a crash mid-write leaves the old snapshot.
+    private void writeSnapshot(Path path) {
+        long started = System.nanoTime();
+        Model current = model;
+        Instant upTo = loadedUpTo;
+        Path partial = path.resolveSibling(path.getFileName() + ".partial");
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(partial), 1 << 16))) {
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeLong(upTo.toEpochMilli());
+                current.vectors().writeTo(out);
+                current.index().writeTo(out, UUIDS);
+            }
+            Files.move(partial, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            logger.info("Wrote {} similar-items vectors to {} in {} ms",
+                    current.index().size(), path, (System.nanoTime() - started) / 1_000_000);
+        } catch (IOException e) {
+            changed.set(true);
+            logger.warn("Could not write the similar-items snapshot {}", path, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ItemText {
+        void accept(UUID id, String title, String description, String location, Instant updatedAt);
+    }
+
+    // In keyset-paginated batches, so a large catalog is never held in one result set.
+    private void forEachAvailableItem(ItemText consumer) {
+        UUID after = new UUID(0, 0);
+        while (true) {
+            UUID[] last = {null};
+            jdbcTemplate.query(AVAILABLE_ITEMS_SQL, rs -> {
+                last[0] = rs.getObject("id", UUID.class);
+                consumer.accept(last[0], rs.getString("title"), rs.getString("description"),
+                        rs.getString("location_found"), rs.getTimestamp("updated_at").toInstant());
+            }, after, LOAD_BATCH_SIZE);
+            if (last[0] == null) {
+                return;
+            }
+            after = last[0];
+        }
+    }
+
+    static Map<String, Double> termFrequencies(String title, String description, String location) {
+        Map<String, Double> frequencies = new HashMap<>();
+        addTerms(frequencies, title, 2);
+        addTerms(frequencies, description, 1);
+        addTerms(frequencies, location, 1);
+        return frequencies;
+    }
+
+    private static void addTerms(Map<String, Double> frequencies, String text, double weight) {
+        if (text == null) {
+            return;
+        }
+        for (String word : SearchText.words(SearchText.normalize(text), 2)) {
+            frequencies.merge(word, weight, Double::sum);
+        }
+    }
+
+    private Model newModel() {
+        return new Model(
+                new TextVectors(DIMENSIONS),
+                new HnswIndex<>(DIMENSIONS, properties.getM(), properties.getEfConstruction(), GRAPH_SEED));
+    }
+}
@@ -0,0 +1,155 @@
+package com.ufind.ufindapp.service;
+
+import com.ufind.ufindapp.config.TypeaheadProperties;
+import com.ufind.ufindapp.dto.AutocompleteDTO;
+import com.ufind.ufindapp.entity.Item;
+import com.ufind.ufindapp.entity.ItemFacet;
+import com.ufind.ufindapp.entity.ItemFacetCount;
+import com.ufind.ufindapp.event.ItemRegisteredEvent;
+import com.ufind.ufindapp.event.ItemsArchivedEvent;
+import com.ufind.ufindapp.event.ItemsImportedEvent;
+import com.ufind.ufindapp.repository.ArchivedItem;
+import com.ufind.ufindapp.repository.ItemFacetCountRepository;
+import com.ufind.ufindapp.repository.ItemRepository;
+import com.ufind.ufindapp.search.CompletionTrie;
+import com.ufind.ufindapp.search.SearchText;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Serves search-box completions from in-memory tries, kept current from committed changes
+ * and rebuilt every {@code app.typeahead.rebuild-interval}.
+ */
+@Service
+public class TypeaheadService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TypeaheadService.class);
+
+    private final ItemRepository itemRepository;
+    private final ItemFacetCountRepository itemFacetCountRepository;
+    private final TypeaheadProperties properties;
+
+    private volatile Index index;
+
+    public TypeaheadService(
+            ItemRepository itemRepository,
+            ItemFacetCountRepository itemFacetCountRepository,
+            TypeaheadProperties properties) {
+        this.itemRepository = itemRepository;
+        this.itemFacetCountRepository = itemFacetCountRepository;
+        this.properties = properties;
+        this.index = newIndex();
+    }
+
+    public AutocompleteDTO complete(String prefix, int limit) {
+        String key = SearchText.normalize(prefix.strip());
+        if (key.isEmpty()) {
+            return new AutocompleteDTO(List.of(), List.of());
+        }
+        int clamped = Math.clamp(limit, 1, properties.getMaxResults());
+        Index current = index;
+        return new AutocompleteDTO(
+                displays(current.titles().complete(key, clamped)),
+                displays(current.locations().complete(key, clamped)));
+    }
+
+    /**
+     * Builds fresh tries from the database and swaps them in. Readers keep using the old
+     * pair until the swap, so there is never a half-built index to observe.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${app.typeahead.rebuild-interval:5m}",
+            initialDelayString = "${app.typeahead.rebuild-interval:5m}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        rebuildIndex();
+    }
+
+    // A bulk import is cheaper to pick up with one rebuild than row by row.
+    @TransactionalEventListener
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void onItemsImported(ItemsImportedEvent event) {
+        rebuildIndex();
+    }
+
+    private void rebuildIndex() {
+        long started = System.nanoTime();
+        Index fresh = newIndex();
+        try (Stream<String> titles = itemRepository.streamAllTitles()) {
+            titles.forEach(title -> addTitle(fresh.titles(), title, 1));
+        }
+        for (ItemFacetCount count : itemFacetCountRepository.findAllNonEmpty()) {
+            if (count.getId().getFacet() == ItemFacet.LOCATION) {
+                addLocation(fresh.locations(), count.getId().getValue(), count.getItemCount());
+            }
+        }
+        index = fresh;
+        logger.info("Built typeahead index in {} ms", (System.nanoTime() - started) / 1_000_000);
+    }
+
+    // A registration committed while rebuild() is running may be counted twice or not at all.
+    // The weights only rank suggestions, so that drift is harmless until the next rebuild.
+    @TransactionalEventListener
+    public void onItemRegistered(ItemRegisteredEvent event) {
+        Item item = event.item();
+        Index current = index;
+        addTitle(current.titles(), item.getTitle(), 1);
+        addLocation(current.locations(), item.getLocationFound(), 1);
+    }
+
+    @TransactionalEventListener
+    public void onItemsArchived(ItemsArchivedEvent event) {
+        Index current = index;
+        for (ArchivedItem item : event.items()) {
+            addTitle(current.titles(), item.getTitle(), -1);
+            addLocation(current.locations(), item.getLocationFound(), -1);
+        }
+    }
+
+    private void addTitle(CompletionTrie titles, String title, long count) {
+        // each word counts once per item, however often the title repeats it
+        Set<String> seen = new LinkedHashSet<>();
+        for (String word : SearchText.words(title, properties.getMinTermLength())) {
+            String key = SearchText.normalize(word);
+            if (seen.add(key)) {
+                titles.add(key, word, count);
+            }
+        }
+    }
+
+    private static void addLocation(CompletionTrie locations, String location, long count) {
+        String display = location.strip();
+        String key = SearchText.normalize(display);
+        locations.add(key, display, count);
+    }
+
+    private static List<String> displays(List<CompletionTrie.Entry> entries) {
+        List<String> displays = new ArrayList<>(entries.size());
+        for (CompletionTrie.Entry entry : entries) {
+            displays.add(entry.display());
+        }
+        return displays;
+    }
+
+    private Index newIndex() {
+        return new Index(
+                new CompletionTrie(properties.getMaxResults()),
+                new CompletionTrie(properties.getMaxResults()));
+    }
+
+    private record Index(CompletionTrie titles, CompletionTrie locations) {}
+}
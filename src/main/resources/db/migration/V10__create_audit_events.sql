@@ -0,0 +1,14 @@
+-- Append-only audit trail of item and user mutations, written in batches by AuditEventWriter.
+-- The actor is copied, not referenced: the trail has to outlive the user row.
+CREATE TABLE IF NOT EXISTS audit_events (
+    id BIGINT GENERATED ALWAYS AS IDENTITY PRIMARY KEY,
+    occurred_at TIMESTAMPTZ NOT NULL,
+    action VARCHAR(40) NOT NULL,
+    subject_id UUID NOT NULL,
+    actor_id UUID,
+    actor_email VARCHAR(255)
+);
+
+-- "What happened to this item/user", and "what did this person do".
+CREATE INDEX IF NOT EXISTS idx_audit_events_subject ON audit_events (subject_id, occurred_at);
+CREATE INDEX IF NOT EXISTS idx_audit_events_actor ON audit_events (actor_id, occurred_at) WHERE actor_id IS NOT NULL;
@@ -0,0 +1,21 @@
+-- Saved searches ("blue backpack library") that are matched against every newly registered item.
+-- Students have no accounts, so a subscription belongs to an email and its id is the handle for it.
+CREATE TABLE IF NOT EXISTS alert_subscriptions (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    email VARCHAR(150) NOT NULL,
+    query VARCHAR(200) NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+-- Per-address quota check, and the incremental reload of subscriptions made on other nodes.
+CREATE INDEX IF NOT EXISTS idx_alert_subscriptions_email ON alert_subscriptions (lower(email));
+CREATE INDEX IF NOT EXISTS idx_alert_subscriptions_created ON alert_subscriptions (created_at);
+
+-- Items an alert matched. No foreign key to items: archiving moves items out of that table,
+-- and a match should not block it.
+CREATE TABLE IF NOT EXISTS alert_matches (
+    subscription_id UUID NOT NULL REFERENCES alert_subscriptions (id) ON DELETE CASCADE,
+    item_id UUID NOT NULL,
+    matched_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    PRIMARY KEY (subscription_id, item_id)
+);
@@ -0,0 +1,12 @@
+-- MinHash signature of each item's title and description (128 little-endian int32 slots),
+-- so the duplicate-detection index can be loaded on startup instead of recomputed.
+-- No foreign key to items: archiving and the tests' TRUNCATE remove items without touching
+-- this table; orphans are pruned by the nightly rebuild.
+CREATE TABLE IF NOT EXISTS item_signatures (
+    item_id UUID PRIMARY KEY,
+    signature BYTEA NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+-- Incremental reload of signatures recorded on other nodes.
+CREATE INDEX IF NOT EXISTS idx_item_signatures_created ON item_signatures (created_at);
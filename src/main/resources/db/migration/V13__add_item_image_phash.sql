@@ -0,0 +1,13 @@
+-- 64-bit perceptual hash of the item's photo, for search by photo. Filled in off the request
+-- thread after registration (PhotoSearchService); image_hashed_at is set once hashing has been
+-- attempted, so a photo that could not be fetched or decoded is not retried forever.
+ALTER TABLE items ADD COLUMN IF NOT EXISTS image_phash BIGINT;
+ALTER TABLE items ADD COLUMN IF NOT EXISTS image_hashed_at TIMESTAMPTZ;
+
+-- Photos still waiting to be hashed (new registrations, imports, rows from before this migration).
+CREATE INDEX IF NOT EXISTS idx_items_image_unhashed ON items (created_at)
+    WHERE image_url IS NOT NULL AND image_hashed_at IS NULL;
+
+-- Incremental reload of hashes computed on other nodes.
+CREATE INDEX IF NOT EXISTS idx_items_image_hashed ON items (image_hashed_at)
+    WHERE image_phash IS NOT NULL;
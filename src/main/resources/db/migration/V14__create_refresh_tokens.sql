@@ -0,0 +1,23 @@
+-- Refresh tokens, stored as the SHA-256 of the token: they are random and long, so a fast hash
+-- is as good as BCrypt here, and a leaked table yields nothing to present. Every login starts a
+-- family; each refresh marks its token used and adds the next one to the family, so a used token
+-- coming back means it was stolen and the whole family is revoked.
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id UUID PRIMARY KEY DEFAULT gen_random_uuid(),
+    user_id UUID NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    family_id UUID NOT NULL,
+    token_hash BYTEA NOT NULL,
+    created_at TIMESTAMPTZ NOT NULL DEFAULT now(),
+    expires_at TIMESTAMPTZ NOT NULL,
+    used_at TIMESTAMPTZ,
+    revoked_at TIMESTAMPTZ
+);
+
+-- Every refresh looks its token up by hash.
+CREATE UNIQUE INDEX IF NOT EXISTS idx_refresh_tokens_hash ON refresh_tokens (token_hash);
+-- Revoking a family on reuse or logout.
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_family ON refresh_tokens (family_id);
+-- The nightly purge of expired tokens.
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expires ON refresh_tokens (expires_at);
+-- ON DELETE CASCADE from users.
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_user ON refresh_tokens (user_id);
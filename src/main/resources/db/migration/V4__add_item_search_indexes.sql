@@ -0,0 +1,9 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- Substring search (ItemRepository.searchItems) matches LOWER(column) LIKE '%term%'
+CREATE INDEX IF NOT EXISTS idx_items_title_trgm ON items USING GIN (LOWER(title) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_items_description_trgm ON items USING GIN (LOWER(description) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_items_location_found_trgm ON items USING GIN (LOWER(location_found) gin_trgm_ops);
+
+-- Default listing order (newest first)
+CREATE INDEX IF NOT EXISTS idx_items_created_at ON items (created_at DESC);
@@ -0,0 +1,10 @@
+-- Each sortable field (ItemService.SORTABLE_FIELDS) is backed by an index, alone and
+-- combined with the equality filters, so filtered + sorted listings never need a full sort.
+CREATE INDEX IF NOT EXISTS idx_items_date_found ON items (date_found DESC);
+CREATE INDEX IF NOT EXISTS idx_items_title ON items (title);
+
+CREATE INDEX IF NOT EXISTS idx_items_status_date_found ON items (status, date_found DESC);
+CREATE INDEX IF NOT EXISTS idx_items_status_created_at ON items (status, created_at DESC);
+
+CREATE INDEX IF NOT EXISTS idx_items_location_date_found ON items (LOWER(location_found), date_found DESC);
+CREATE INDEX IF NOT EXISTS idx_items_location_created_at ON items (LOWER(location_found), created_at DESC);
@@ -0,0 +1,15 @@
+-- Incrementally maintained facet counts (ItemFacetService); one row per facet value.
+CREATE TABLE IF NOT EXISTS item_facet_counts (
+    facet VARCHAR(20) NOT NULL,
+    facet_value VARCHAR(255) NOT NULL,
+    item_count BIGINT NOT NULL DEFAULT 0,
+    PRIMARY KEY (facet, facet_value)
+);
+
+INSERT INTO item_facet_counts (facet, facet_value, item_count)
+SELECT 'LOCATION', location_found, COUNT(*) FROM items GROUP BY location_found
+UNION ALL
+SELECT 'STATUS', status, COUNT(*) FROM items GROUP BY status
+UNION ALL
+SELECT 'MONTH', TO_CHAR(date_found, 'YYYY-MM'), COUNT(*) FROM items GROUP BY TO_CHAR(date_found, 'YYYY-MM')
+ON CONFLICT (facet, facet_value) DO NOTHING;
@@ -0,0 +1,20 @@
+-- Hot/archive split: ItemArchiveService moves long-claimed items out of items in small batches,
+-- so the table every listing and search query touches only grows with current items.
+CREATE TABLE IF NOT EXISTS items_archive (
+    id UUID PRIMARY KEY,
+    title VARCHAR(200) NOT NULL,
+    description VARCHAR(500) NOT NULL,
+    date_found DATE NOT NULL,
+    location_found VARCHAR(255) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    image_url VARCHAR(500),
+    contact_info VARCHAR(255),
+    created_at TIMESTAMPTZ NOT NULL,
+    updated_at TIMESTAMPTZ NOT NULL,
+    archived_at TIMESTAMPTZ NOT NULL DEFAULT now()
+);
+
+CREATE INDEX IF NOT EXISTS idx_items_archive_date_found ON items_archive (date_found DESC);
+
+-- Archival candidates, oldest claim first; partial so it only ever holds claimed rows.
+CREATE INDEX IF NOT EXISTS idx_items_claimed_updated_at ON items (updated_at) WHERE status = 'CLAIMED';
@@ -0,0 +1,6 @@
+-- Delta sync (GET /api/item/changes) walks changed items and archived ids in keyset order,
+-- so each page is an index range scan however large the catalog is.
+CREATE INDEX IF NOT EXISTS idx_items_updated_at_id ON items (updated_at, id);
+
+-- Archived items are the feed's tombstones: a client holding one of these ids drops it.
+CREATE INDEX IF NOT EXISTS idx_items_archive_archived_at_id ON items_archive (archived_at, id);
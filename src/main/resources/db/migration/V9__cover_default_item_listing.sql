@@ -0,0 +1,8 @@
+-- Sparse fieldsets: the kiosk lists newest items with title, location and status only.
+-- Carrying those columns in the created_at index lets that listing run as an index-only scan,
+-- so the heap (and description / contact_info with it) is not read at all. It replaces the
+-- plain V4 index rather than sitting next to it, so writes still maintain one index for this order.
+CREATE INDEX IF NOT EXISTS idx_items_created_at_covering
+    ON items (created_at DESC) INCLUDE (id, title, location_found, status, date_found);
+
+DROP INDEX IF EXISTS idx_items_created_at;
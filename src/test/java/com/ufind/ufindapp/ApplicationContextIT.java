@@ -0,0 +1,39 @@
+package com.ufind.ufindapp;
+
+import com.ufind.ufindapp.audit.AuditLog;
+import com.ufind.ufindapp.feed.ItemChangeBroadcaster;
+import com.ufind.ufindapp.service.ItemJsonCache;
+import com.ufind.ufindapp.service.PhotoSearchService;
+import com.ufind.ufindapp.support.AbstractPostgresIT;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the whole application against a real database, so that a bean Spring cannot create
+ * (two constructors and none marked for injection, a missing dependency) fails the build.
+ */
+class ApplicationContextIT extends AbstractPostgresIT {
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Test
+    @DisplayName("The application context starts")
+    void contextStarts() {
+        assertThat(context.getBeanDefinitionCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Beans with a second constructor for tests are created through the injection one")
+    void createsBeansWithTestConstructors() {
+        assertThat(context.getBean(AuditLog.class)).isNotNull();
+        assertThat(context.getBean(ItemChangeBroadcaster.class)).isNotNull();
+        assertThat(context.getBean(ItemJsonCache.class)).isNotNull();
+        assertThat(context.getBean(PhotoSearchService.class)).isNotNull();
+    }
+}
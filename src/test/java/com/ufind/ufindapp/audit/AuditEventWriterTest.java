@@ -0,0 +1,149 @@
+package com.ufind.ufindapp.audit;
+
+import com.ufind.ufindapp.config.AuditProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AuditEventWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private AuditEventWriter writer;
+
+    @AfterEach
+    void tearDown() {
+        if (writer != null) {
+            writer.stop();
+        }
+    }
+
+    // ===== Buffer =====
+
+    @Test
+    @DisplayName("Should drop and count events once the buffer is full")
+    void shouldDropWhenFull() {
+        writer = writer(2, AuditProperties.Durability.BEST_EFFORT);
+
+        assertThat(writer.enqueue(event())).isTrue();
+        assertThat(writer.enqueue(event())).isTrue();
+        assertThat(writer.enqueue(event())).isFalse();
+
+        assertThat(meterRegistry.get("audit.buffer.depth").gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get("audit.events.dropped").tag("reason", "buffer-full").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should wait for room in BLOCKING mode before dropping")
+    void shouldWaitInBlockingMode() {
+        writer = writer(1, AuditProperties.Durability.BLOCKING);
+        writer.enqueue(event());
+
+        long started = System.nanoTime();
+        assertThat(writer.enqueue(event())).isFalse();
+
+        assertThat(System.nanoTime() - started).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+    }
+
+    // ===== Writing =====
+
+    @Test
+    @DisplayName("Should write everything buffered as one batch")
+    void shouldWriteOneBatch() throws Exception {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        when(jdbcTemplate.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class))).thenAnswer(invocation -> {
+            batchSizes.add(invocation.<BatchPreparedStatementSetter>getArgument(1).getBatchSize());
+            return new int[0];
+        });
+        writer = writer(16, AuditProperties.Durability.BEST_EFFORT);
+        for (int i = 0; i < 3; i++) {
+            writer.enqueue(event());
+        }
+
+        writer.start();
+        waitUntil(() -> meterRegistry.get("audit.events.written").counter().count() == 3);
+
+        assertThat(batchSizes).containsExactly(3);
+        assertThat(meterRegistry.get("audit.flush").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should write what is still buffered when stopped")
+    void shouldDrainOnStop() {
+        writer = writer(16, AuditProperties.Durability.BEST_EFFORT);
+        writer.start();
+        writer.enqueue(event());
+        writer.enqueue(event());
+
+        writer.stop();
+
+        assertThat(writer.depth()).isZero();
+        assertThat(meterRegistry.get("audit.events.written").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should count a batch that fails to insert as dropped and keep going")
+    void shouldSurviveFailedBatch() throws Exception {
+        when(jdbcTemplate.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class)))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"))
+                .thenReturn(new int[] { 1 });
+        writer = writer(16, AuditProperties.Durability.BEST_EFFORT);
+        writer.enqueue(event());
+        writer.start();
+        waitUntil(() -> meterRegistry.get("audit.events.dropped").tag("reason", "write-failed").counter().count() == 1);
+
+        writer.enqueue(event());
+        waitUntil(() -> meterRegistry.get("audit.events.written").counter().count() == 1);
+
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+    }
+
+    private AuditEventWriter writer(int bufferSize, AuditProperties.Durability durability) {
+        AuditProperties properties = new AuditProperties();
+        properties.setBufferSize(bufferSize);
+        properties.setDurability(durability);
+        properties.setBlockTimeout(Duration.ofMillis(50));
+        return new AuditEventWriter(jdbcTemplate, properties, meterRegistry);
+    }
+
+    private static AuditEvent event() {
+        return new AuditEvent(Instant.now(), AuditAction.ITEM_REGISTERED, UUID.randomUUID(), UUID.randomUUID(),
+                "secretary@ufind.test");
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime() - deadline).as("timed out waiting").isNegative();
+            Thread.sleep(5);
+        }
+    }
+}
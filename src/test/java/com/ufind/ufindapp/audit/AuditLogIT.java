@@ -0,0 +1,109 @@
+package com.ufind.ufindapp.audit;
+
+import com.ufind.ufindapp.entity.UserRole;
+import com.ufind.ufindapp.security.UserPrincipal;
+import com.ufind.ufindapp.support.AbstractPostgresIT;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class AuditLogIT extends AbstractPostgresIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UserPrincipal secretary = new UserPrincipal(
+            UUID.randomUUID(), "audit.secretary@ufind.test", "", UserRole.ROLE_SECRETARY,
+            List.of(new SimpleGrantedAuthority(UserRole.ROLE_SECRETARY.name())));
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("TRUNCATE items");
+        jdbcTemplate.update("TRUNCATE audit_events");
+    }
+
+    @Test
+    @DisplayName("Registering and claiming an item are both written to audit_events with the actor")
+    void shouldAuditItemMutations() throws Exception {
+        mockMvc.perform(post("/api/item")
+                        .with(user(secretary))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"title": "Umbrella", "description": "Black umbrella", "dateFound": "2026-02-05",
+                                 "locationFound": "Central Library"}
+                                """))
+                .andExpect(status().isCreated());
+        UUID itemId = jdbcTemplate.queryForObject("SELECT id FROM items", UUID.class);
+
+        mockMvc.perform(patch("/api/item")
+                        .with(user(secretary))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\": \"" + itemId + "\"}"))
+                .andExpect(status().is2xxSuccessful());
+
+        List<Map<String, Object>> events = awaitAuditEvents(2);
+        assertThat(events).extracting(event -> event.get("action"))
+                .containsExactly("ITEM_REGISTERED", "ITEM_CLAIMED");
+        assertThat(events).allSatisfy(event -> {
+            assertThat(event.get("subject_id")).isEqualTo(itemId);
+            assertThat(event.get("actor_id")).isEqualTo(secretary.getId());
+            assertThat(event.get("actor_email")).isEqualTo("audit.secretary@ufind.test");
+        });
+    }
+
+    @Test
+    @DisplayName("Registering a user is written to audit_events with the admin who did it")
+    void shouldAuditUserRegistration() throws Exception {
+        UserPrincipal admin = new UserPrincipal(
+                UUID.randomUUID(), "audit.admin@ufind.test", "", UserRole.ROLE_ADMIN,
+                List.of(new SimpleGrantedAuthority(UserRole.ROLE_ADMIN.name())));
+        String email = UUID.randomUUID() + "@ufind.test";
+
+        mockMvc.perform(post("/api/auth/register")
+                        .with(user(admin))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"username": "audited", "email": "%s", "password": "password", "role": "ROLE_SECRETARY"}
+                                """.formatted(email)))
+                .andExpect(status().isCreated());
+
+        List<Map<String, Object>> events = awaitAuditEvents(1);
+        assertThat(events).singleElement().satisfies(event -> {
+            assertThat(event.get("action")).isEqualTo("USER_REGISTERED");
+            assertThat(event.get("subject_id"))
+                    .isEqualTo(jdbcTemplate.queryForObject("SELECT id FROM users WHERE email = ?", UUID.class, email));
+            assertThat(event.get("actor_id")).isEqualTo(admin.getId());
+        });
+    }
+
+    private List<Map<String, Object>> awaitAuditEvents(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        List<Map<String, Object>> events;
+        do {
+            Thread.sleep(20);
+            events = jdbcTemplate.queryForList("SELECT * FROM audit_events ORDER BY id");
+        } while (events.size() < expected && System.nanoTime() < deadline);
+        return events;
+    }
+}
@@ -0,0 +1,96 @@
+package com.ufind.ufindapp.audit;
+
+import com.ufind.ufindapp.config.AuditProperties;
+import com.ufind.ufindapp.entity.UserRole;
+import com.ufind.ufindapp.security.UserPrincipal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AuditLogTest {
+
+    private static final Instant NOW = Instant.parse("2026-03-02T10:15:30Z");
+
+    @Mock
+    private AuditEventWriter writer;
+
+    private final AuditProperties properties = new AuditProperties();
+    private final UserPrincipal secretary = new UserPrincipal(
+            UUID.randomUUID(), "secretary@ufind.test", "", UserRole.ROLE_SECRETARY,
+            List.of(new SimpleGrantedAuthority(UserRole.ROLE_SECRETARY.name())));
+
+    private AuditLog auditLog;
+
+    @BeforeEach
+    void setUp() {
+        auditLog = new AuditLog(writer, properties, Clock.fixed(NOW, ZoneOffset.UTC));
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(secretary, null, secretary.getAuthorities()));
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should buffer the event only once the transaction has committed")
+    void shouldEnqueueAfterCommit() {
+        UUID itemId = UUID.randomUUID();
+
+        auditLog.record(AuditAction.ITEM_CLAIMED, itemId);
+        verify(writer, never()).enqueue(any());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        verify(writer).enqueue(new AuditEvent(
+                NOW, AuditAction.ITEM_CLAIMED, itemId, secretary.getId(), "secretary@ufind.test"));
+    }
+
+    @Test
+    @DisplayName("Should insert inside the transaction in SYNCHRONOUS mode")
+    void shouldInsertSynchronously() {
+        properties.setDurability(AuditProperties.Durability.SYNCHRONOUS);
+        UUID itemId = UUID.randomUUID();
+
+        auditLog.record(AuditAction.ITEM_REGISTERED, itemId);
+
+        verify(writer).insert(List.of(new AuditEvent(
+                NOW, AuditAction.ITEM_REGISTERED, itemId, secretary.getId(), "secretary@ufind.test")));
+        verify(writer, never()).enqueue(any());
+    }
+
+    @Test
+    @DisplayName("Should record no actor for writes without a signed-in user")
+    void shouldRecordAnonymousActor() {
+        properties.setDurability(AuditProperties.Durability.SYNCHRONOUS);
+        SecurityContextHolder.clearContext();
+        UUID userId = UUID.randomUUID();
+
+        auditLog.record(AuditAction.USER_REGISTERED, userId);
+
+        verify(writer).insert(List.of(new AuditEvent(NOW, AuditAction.USER_REGISTERED, userId, null, null)));
+    }
+}
@@ -0,0 +1,91 @@
+package com.ufind.ufindapp.benchmark;
+
+import com.ufind.ufindapp.search.CompletionTrie;
+import com.ufind.ufindapp.search.SearchText;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Latency of one autocomplete lookup (normalize + trie walk) over a vocabulary the size of
+ * a busy campus: run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args=CompletionTrie}
+ * and read the p0.99 row.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompletionTrieBenchmark {
+
+    private static final String[] SYLLABLES = {
+        "ba", "ca", "de", "fo", "gu", "ha", "ki", "lo", "ma", "ne",
+        "pa", "qui", "ra", "se", "ti", "vo", "wa", "xe", "yo", "zu"
+    };
+
+    @Param({ "100000" })
+    private int keys;
+
+    private CompletionTrie trie;
+    private String[] prefixes;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        trie = new CompletionTrie(10);
+        for (int i = 0; i < keys; i++) {
+            String word = word(random);
+            // Zipf-like weights: a few very common words, a long tail of rare ones
+            trie.add(word, word, 1 + (long) (1000 / Math.pow(1 + random.nextInt(keys), 0.8)));
+        }
+        prefixes = new String[4096];
+        for (int i = 0; i < prefixes.length; i++) {
+            String word = word(random);
+            prefixes[i] = word.substring(0, 1 + random.nextInt(Math.min(4, word.length())));
+        }
+    }
+
+    @Benchmark
+    public List<CompletionTrie.Entry> complete() {
+        String prefix = prefixes[next++ & (prefixes.length - 1)];
+        return trie.complete(SearchText.normalize(prefix), 10);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public List<CompletionTrie.Entry> completeConcurrently(ThreadCursor cursor) {
+        String prefix = prefixes[cursor.next++ & (prefixes.length - 1)];
+        return trie.complete(SearchText.normalize(prefix), 10);
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadCursor {
+        int next;
+    }
+
+    private static String word(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 2 + random.nextInt(3);
+        for (int i = 0; i < length; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return word.toString();
+    }
+}
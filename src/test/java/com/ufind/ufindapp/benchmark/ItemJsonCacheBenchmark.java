@@ -0,0 +1,95 @@
+package com.ufind.ufindapp.benchmark;
+
+import com.ufind.ufindapp.config.ItemCacheProperties;
+import com.ufind.ufindapp.entity.Item;
+import com.ufind.ufindapp.entity.ItemStatus;
+import com.ufind.ufindapp.service.ItemJsonCache;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * The in-process cost of the body of one {@code GET /api/item/{id}} response: serializing the
+ * item, as the JSON converter does on every request, next to a cache hit, which checks the
+ * version and writes the stored bytes. Both write to a sink. Run with the GC profiler to see
+ * allocation per request: {@code mvn -Pbenchmark test-compile exec:exec
+ * "-Djmh.args=ItemJsonCache -prof gc"}. Neither side includes the query, which a miss also
+ * pays in loading and hydrating the entity, and a hit in reading {@code updated_at}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemJsonCacheBenchmark {
+
+    private static final int ITEMS = 10_000;
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+    private Item[] items;
+    private ItemJsonCache cache;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        OffsetDateTime now = OffsetDateTime.of(2026, 2, 5, 10, 0, 0, 0, ZoneOffset.UTC);
+        items = new Item[ITEMS];
+        for (int i = 0; i < ITEMS; i++) {
+            OffsetDateTime created = now.minusMinutes(random.nextInt(500_000));
+            items[i] = Item.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .title("Black wallet " + i)
+                    .description("Leather wallet with a student card, found under a desk on the second floor")
+                    .dateFound(LocalDate.of(2026, 1, 1).plusDays(random.nextInt(35)))
+                    .locationFound("Building " + random.nextInt(40))
+                    .status(ItemStatus.AVAILABLE)
+                    .imageUrl("https://cdn.ufind.test/items/" + i + ".jpg")
+                    .contactInfo("lostandfound@ufind.test")
+                    .createdAt(created)
+                    .updatedAt(created)
+                    .build();
+        }
+        cache = new ItemJsonCache(objectMapper, new ItemCacheProperties(), new SimpleMeterRegistry());
+        for (Item item : items) {
+            cache.put(item);
+        }
+    }
+
+    @Benchmark
+    public void serializeEveryRequest() {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), items[next++ % ITEMS]);
+    }
+
+    @Benchmark
+    public void writeCachedBytes() throws IOException {
+        Item item = items[next++ % ITEMS];
+        if (cache.contains(item.getId())) {
+            OutputStream.nullOutputStream().write(cache.get(item.getId(), item.getUpdatedAt()));
+        }
+    }
+}
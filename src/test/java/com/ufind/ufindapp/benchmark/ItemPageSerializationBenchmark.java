@@ -0,0 +1,101 @@
+package com.ufind.ufindapp.benchmark;
+
+import com.ufind.ufindapp.config.WireFormatConfig;
+import com.ufind.ufindapp.entity.Item;
+import com.ufind.ufindapp.entity.ItemStatus;
+
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * CPU cost of writing one {@code Page<Item>} response in each wire format, to a sink so only
+ * encoding is measured: {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args=ItemPageSerialization}.
+ * The encoded size of each page is printed once per trial, before the first iteration.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemPageSerializationBenchmark {
+
+    public enum Format {
+        JSON(JsonMapper.builder().build()),
+        SMILE(WireFormatConfig.smileMapper()),
+        CBOR(WireFormatConfig.cborMapper());
+
+        private final ObjectMapper mapper;
+
+        Format(ObjectMapper mapper) {
+            this.mapper = mapper;
+        }
+    }
+
+    @Param({ "20", "100", "1000" })
+    private int pageSize;
+
+    @Param({ "JSON", "SMILE", "CBOR" })
+    private Format format;
+
+    private ObjectWriter writer;
+    private Page<Item> page;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        List<Item> items = new ArrayList<>(pageSize);
+        OffsetDateTime now = OffsetDateTime.of(2026, 2, 5, 10, 0, 0, 0, ZoneOffset.UTC);
+        for (int i = 0; i < pageSize; i++) {
+            OffsetDateTime created = now.minusMinutes(random.nextInt(500_000));
+            items.add(Item.builder()
+                    .id(new UUID(random.nextLong(), random.nextLong()))
+                    .title("Black wallet " + i)
+                    .description("Leather wallet with a student card, found under a desk on the second floor")
+                    .dateFound(LocalDate.of(2026, 1, 1).plusDays(random.nextInt(35)))
+                    .locationFound("Building " + random.nextInt(40))
+                    .status(random.nextInt(3) == 0 ? ItemStatus.CLAIMED : ItemStatus.AVAILABLE)
+                    .imageUrl(random.nextBoolean() ? "https://cdn.ufind.test/items/" + i + ".jpg" : null)
+                    .contactInfo("lostandfound@ufind.test")
+                    .createdAt(created)
+                    .updatedAt(created)
+                    .build());
+        }
+        page = new PageImpl<>(items, PageRequest.of(0, pageSize, Sort.by(Sort.Direction.DESC, "createdAt")), 48_213);
+        writer = format.mapper.writer();
+        System.out.printf("%n%s page of %d items: %d bytes%n", format, pageSize, writer.writeValueAsBytes(page).length);
+    }
+
+    @Benchmark
+    public void serialize() {
+        writer.writeValue(OutputStream.nullOutputStream(), page);
+    }
+}
@@ -0,0 +1,119 @@
+package com.ufind.ufindapp.benchmark;
+
+import com.ufind.ufindapp.search.LshIndex;
+import com.ufind.ufindapp.search.MinHash;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Duplicate lookup for one new item (sign + LSH query) as the catalog grows, next to the
+ * brute-force comparison with every signature: run with
+ * {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args=LshIndex}. The LSH rows should stay
+ * flat across catalog sizes while the scan grows with them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LshIndexBenchmark {
+
+    private static final String[] WORDS = {
+        "black", "blue", "red", "green", "white", "silver", "small", "large", "leather", "plastic",
+        "umbrella", "backpack", "wallet", "phone", "charger", "notebook", "bottle", "jacket", "keys", "card",
+        "library", "gym", "cafeteria", "room", "building", "parking", "entrance", "hall", "lab", "stairs",
+        "with", "near", "inside", "found", "broken", "new", "old", "sticker", "name", "logo"
+    };
+
+    @Param({ "10000", "100000" })
+    private int items;
+
+    private static final String[] SYLLABLES = {
+        "ba", "ca", "de", "fo", "gu", "ha", "ki", "lo", "ma", "ne",
+        "pa", "qui", "ra", "se", "ti", "vo", "wa", "xe", "yo", "zu"
+    };
+
+    private final MinHash minHash = new MinHash(128, 7);
+    private String[] rareWords;
+    private LshIndex<Integer> index;
+    private List<int[]> signatures;
+    private String[] newItems;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        rareWords = new String[20_000];
+        for (int i = 0; i < rareWords.length; i++) {
+            rareWords[i] = word(random);
+        }
+        index = new LshIndex<>(32, 4);
+        signatures = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            int[] signature = minHash.signature(text(random));
+            index.add(i, signature);
+            signatures.add(signature);
+        }
+        newItems = new String[1024];
+        for (int i = 0; i < newItems.length; i++) {
+            newItems[i] = text(random);
+        }
+    }
+
+    @Benchmark
+    public List<LshIndex.Match<Integer>> lshQuery() {
+        int[] signature = minHash.signature(newItems[next++ & (newItems.length - 1)]);
+        return index.query(signature, 0.5, 5);
+    }
+
+    @Benchmark
+    public int scanEverySignature() {
+        int[] signature = minHash.signature(newItems[next++ & (newItems.length - 1)]);
+        int similar = 0;
+        for (int[] other : signatures) {
+            if (MinHash.similarity(signature, other) >= 0.5) {
+                similar++;
+            }
+        }
+        return similar;
+    }
+
+    // a few common words ("black", "library") around the specifics that tell items apart
+    private String text(Random random) {
+        StringBuilder text = new StringBuilder();
+        for (int i = 0; i < 3; i++) {
+            text.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        int specifics = 4 + random.nextInt(6);
+        for (int i = 0; i < specifics; i++) {
+            text.append(rareWords[random.nextInt(rareWords.length)]).append(' ');
+        }
+        return text.toString();
+    }
+
+    private static String word(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 2 + random.nextInt(3);
+        for (int i = 0; i < length; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return word.toString();
+    }
+}
@@ -0,0 +1,108 @@
+package com.ufind.ufindapp.benchmark;
+
+import com.ufind.ufindapp.search.Percolator;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Time to find the alerts one new item matches, against the naive alternative of testing every
+ * alert in turn: run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args=Percolator}.
+ * Alerts and items draw their words from the same Zipf-skewed vocabulary, so common words
+ * ("black", "library") are shared by many alerts, as they would be on a campus.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PercolatorBenchmark {
+
+    private static final String[] SYLLABLES = {
+        "ba", "ca", "de", "fo", "gu", "ha", "ki", "lo", "ma", "ne",
+        "pa", "qui", "ra", "se", "ti", "vo", "wa", "xe", "yo", "zu"
+    };
+
+    @Param({ "100000" })
+    private int subscriptions;
+
+    private Percolator<Integer> percolator;
+    private List<Set<String>> queries;
+    private List<Set<String>> items;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+        String[] vocabulary = new String[20_000];
+        for (int i = 0; i < vocabulary.length; i++) {
+            vocabulary[i] = word(random);
+        }
+
+        percolator = new Percolator<>();
+        queries = new ArrayList<>(subscriptions);
+        for (int i = 0; i < subscriptions; i++) {
+            Set<String> terms = terms(random, vocabulary, 1 + random.nextInt(3));
+            percolator.add(i, terms);
+            queries.add(terms);
+        }
+        items = new ArrayList<>(1024);
+        for (int i = 0; i < 1024; i++) {
+            items.add(terms(random, vocabulary, 12 + random.nextInt(20)));
+        }
+    }
+
+    @Benchmark
+    public List<Integer> percolate() {
+        return percolator.match(items.get(next++ & (items.size() - 1)));
+    }
+
+    @Benchmark
+    public List<Integer> scanEveryAlert() {
+        Set<String> item = items.get(next++ & (items.size() - 1));
+        List<Integer> matches = new ArrayList<>();
+        for (int i = 0; i < queries.size(); i++) {
+            if (item.containsAll(queries.get(i))) {
+                matches.add(i);
+            }
+        }
+        return matches;
+    }
+
+    private static Set<String> terms(Random random, String[] vocabulary, int count) {
+        Set<String> terms = new HashSet<>();
+        while (terms.size() < count) {
+            // Zipf-like: index ~ vocabulary.length ^ u, so low indexes are drawn far more often
+            int index = (int) Math.pow(vocabulary.length, random.nextDouble()) - 1;
+            terms.add(vocabulary[index]);
+        }
+        return terms;
+    }
+
+    private static String word(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 2 + random.nextInt(3);
+        for (int i = 0; i < length; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return word.toString();
+    }
+}
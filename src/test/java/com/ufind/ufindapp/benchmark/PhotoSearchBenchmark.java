@@ -0,0 +1,113 @@
+package com.ufind.ufindapp.benchmark;
+
+import com.ufind.ufindapp.search.HammingIndex;
+import com.ufind.ufindapp.search.PerceptualHash;
+
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Search by photo over 100k item photos: the multi-index lookup next to comparing the query
+ * with every stored hash, and the cost of hashing one upload: run with
+ * {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args=PhotoSearch}. The stored hashes are
+ * real perceptual hashes of synthetic pictures that all share a style (a gradient and a few
+ * ovals), so their bits are correlated as photos of similar objects are, not uniformly random.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PhotoSearchBenchmark {
+
+    private static final int MAX_DISTANCE = 10;
+
+    @Param({ "100000" })
+    private int photos;
+
+    private HammingIndex<Integer> index;
+    private long[] hashes;
+    private long[] queries;
+    private BufferedImage upload;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        index = new HammingIndex<>();
+        hashes = new long[photos];
+        for (int i = 0; i < photos; i++) {
+            hashes[i] = PerceptualHash.hash(photo(i, 64, 48));
+            index.add(i, hashes[i]);
+        }
+        // half are smaller copies of stored photos, half are photos of something else
+        Random random = new Random(42);
+        queries = new long[1024];
+        for (int i = 0; i < queries.length; i++) {
+            long seed = i % 2 == 0 ? random.nextInt(photos) : photos + random.nextInt(photos);
+            queries[i] = PerceptualHash.hash(photo(seed, 48, 36));
+        }
+        upload = photo(7, 1024, 768);
+    }
+
+    @Benchmark
+    public List<HammingIndex.Match<Integer>> multiIndexQuery() {
+        return index.query(queries[next++ & (queries.length - 1)], MAX_DISTANCE, 10);
+    }
+
+    @Benchmark
+    public List<Integer> scanEveryHash() {
+        long query = queries[next++ & (queries.length - 1)];
+        List<Integer> matches = new ArrayList<>();
+        for (int i = 0; i < hashes.length; i++) {
+            if (PerceptualHash.distance(query, hashes[i]) <= MAX_DISTANCE) {
+                matches.add(i);
+            }
+        }
+        return matches;
+    }
+
+    // decoding is left out: it depends on the format far more than on anything here
+    @Benchmark
+    public long hashUpload() {
+        return PerceptualHash.hash(upload);
+    }
+
+    private static BufferedImage photo(long seed, int width, int height) {
+        Random random = new Random(seed);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.scale(width / 640.0, height / 480.0);
+        graphics.setPaint(new GradientPaint(0, 0, randomColor(random), 640, 480, randomColor(random)));
+        graphics.fillRect(0, 0, 640, 480);
+        for (int i = 0; i < 6; i++) {
+            graphics.setColor(randomColor(random));
+            graphics.fillOval(random.nextInt(560), random.nextInt(400), 80 + random.nextInt(240), 80 + random.nextInt(200));
+        }
+        graphics.dispose();
+        return image;
+    }
+
+    private static Color randomColor(Random random) {
+        return new Color(random.nextInt(256), random.nextInt(256), random.nextInt(256));
+    }
+}
@@ -0,0 +1,107 @@
+package com.ufind.ufindapp.benchmark;
+
+import com.ufind.ufindapp.config.RateLimitProperties;
+import com.ufind.ufindapp.config.RateLimitProperties.ClientKey;
+import com.ufind.ufindapp.ratelimit.RateLimitFilter;
+import com.ufind.ufindapp.ratelimit.RateLimiter;
+
+import jakarta.servlet.FilterChain;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * What the rate limiter adds to a request, from four threads: a bare bucket acquire (each
+ * thread its own client, and all threads one client), and the whole filter on a limited and
+ * an unlimited route. Limits are set high enough that nothing is rejected.
+ * Run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args=RateLimitFilter}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class RateLimitFilterBenchmark {
+
+    private static final FilterChain PASS = (request, response) -> { };
+
+    private RateLimiter limiter;
+    private RateLimitFilter filter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        limiter = new RateLimiter(Integer.MAX_VALUE, Duration.ofSeconds(1), 100_000);
+
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setName("search");
+        route.setMethod("GET");
+        route.setPath("/api/item/search");
+        route.setCapacity(Integer.MAX_VALUE);
+        route.setPeriod(Duration.ofSeconds(1));
+        route.setKey(ClientKey.USER_OR_IP);
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRoutes(List.of(route));
+        filter = new RateLimitFilter(properties);
+    }
+
+    @State(Scope.Thread)
+    public static class Client {
+        private static final AtomicInteger NEXT = new AtomicInteger();
+
+        String address;
+        MockHttpServletRequest limited;
+        MockHttpServletRequest unlimited;
+        MockHttpServletResponse response;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            address = "10.0.0." + NEXT.incrementAndGet();
+            limited = new MockHttpServletRequest("GET", "/api/item/search");
+            limited.setRemoteAddr(address);
+            unlimited = new MockHttpServletRequest("GET", "/api/item/3f2b9c1e-0000-4000-8000-000000000001");
+            unlimited.setRemoteAddr(address);
+            response = new MockHttpServletResponse();
+        }
+    }
+
+    @Benchmark
+    public long acquireOwnBucket(Client client) {
+        return limiter.tryAcquire(client.address, System.nanoTime());
+    }
+
+    @Benchmark
+    public long acquireSharedBucket() {
+        return limiter.tryAcquire("10.0.0.0", System.nanoTime());
+    }
+
+    @Benchmark
+    public int filterLimitedRoute(Client client) throws Exception {
+        filter.doFilter(client.limited, client.response, PASS);
+        return client.response.getStatus();
+    }
+
+    @Benchmark
+    public int filterUnlimitedRoute(Client client) throws Exception {
+        filter.doFilter(client.unlimited, client.response, PASS);
+        return client.response.getStatus();
+    }
+}
@@ -0,0 +1,209 @@
+package com.ufind.ufindapp.benchmark;
+
+import com.ufind.ufindapp.search.HnswIndex;
+import com.ufind.ufindapp.search.SearchText;
+import com.ufind.ufindapp.search.TextVectors;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * "Similar items" for one item at a million items: the HNSW search next to scoring every
+ * vector: run with {@code mvn -Pbenchmark test-compile exec:exec -Djmh.args=SimilarItems}.
+ * Building the graph takes minutes, so the first run saves it under {@code target/} and later
+ * runs load it, which also times what a restart from a snapshot costs. Setup prints both, and
+ * the search's recall of the true 10 nearest at the configured ef.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Xmx3g")
+public class SimilarItemsBenchmark {
+
+    private static final int DIMENSIONS = 256;
+    private static final int EF_SEARCH = 64;
+
+    private static final String[] OBJECTS = {
+        "umbrella", "backpack", "wallet", "phone", "charger", "notebook", "bottle", "jacket", "keys", "card",
+        "headphones", "glasses", "calculator", "watch", "ring", "scarf", "cap", "laptop", "mouse", "pencil"
+    };
+    private static final String[] COLOURS = {
+        "black", "blue", "red", "green", "white", "silver", "grey", "pink", "brown", "yellow"
+    };
+    private static final String[] PLACES = {
+        "library", "gym", "cafeteria", "room", "building", "parking", "entrance", "hall", "lab", "stairs",
+        "auditorium", "chapel", "pool", "court", "garden", "bus", "stop", "office", "restroom", "corridor"
+    };
+    private static final String[] SYLLABLES = {
+        "ba", "ca", "de", "fo", "gu", "ha", "ki", "lo", "ma", "ne",
+        "pa", "qui", "ra", "se", "ti", "vo", "wa", "xe", "yo", "zu"
+    };
+
+    private static final HnswIndex.KeyCodec<Integer> INTS = new HnswIndex.KeyCodec<>() {
+        @Override
+        public void write(DataOutput out, Integer key) throws IOException {
+            out.writeInt(key);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    @Param({ "1000000" })
+    private int items;
+
+    private HnswIndex<Integer> index;
+    private byte[] flat;
+    private byte[][] queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        String[] rareWords = new String[50_000];
+        for (int i = 0; i < rareWords.length; i++) {
+            rareWords[i] = word(random);
+        }
+
+        Path snapshot = Path.of("target", "similar-items-" + items + ".snapshot");
+        TextVectors vectors;
+        long started = System.nanoTime();
+        if (Files.isRegularFile(snapshot)) {
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshot), 1 << 16))) {
+                vectors = TextVectors.readFrom(in);
+                index = HnswIndex.readFrom(in, INTS, 100, 1);
+            }
+            System.out.printf("%nLoaded %d vectors from %s in %d ms%n", index.size(), snapshot, elapsed(started));
+        } else {
+            vectors = new TextVectors(DIMENSIONS);
+            index = new HnswIndex<>(DIMENSIONS, 16, 100, 1);
+            List<Map<String, Double>> texts = new ArrayList<>(items);
+            for (int i = 0; i < items; i++) {
+                Map<String, Double> text = text(random, rareWords);
+                vectors.count(text.keySet());
+                texts.add(text);
+            }
+            for (int i = 0; i < items; i++) {
+                index.add(i, vectors.vector(texts.get(i)));
+                texts.set(i, null);
+            }
+            System.out.printf("%nBuilt %d vectors in %d ms%n", index.size(), elapsed(started));
+            started = System.nanoTime();
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(snapshot), 1 << 16))) {
+                vectors.writeTo(out);
+                index.writeTo(out, INTS);
+            }
+            System.out.printf("Wrote %s (%d MB) in %d ms%n", snapshot, Files.size(snapshot) >> 20, elapsed(started));
+        }
+
+        flat = new byte[items * DIMENSIONS];
+        for (int i = 0; i < items; i++) {
+            System.arraycopy(index.vector(i), 0, flat, i * DIMENSIONS, DIMENSIONS);
+        }
+        queries = new byte[256][];
+        for (int i = 0; i < queries.length; i++) {
+            queries[i] = vectors.vector(text(random, rareWords));
+        }
+
+        double found = 0;
+        for (int q = 0; q < 50; q++) {
+            Set<Integer> exact = new HashSet<>(scan(queries[q], 10));
+            found += index.search(queries[q], 10, EF_SEARCH).stream().filter(match -> exact.contains(match.key())).count();
+        }
+        System.out.printf("Recall of the 10 nearest at ef %d: %.3f%n", EF_SEARCH, found / 500);
+    }
+
+    @Benchmark
+    public List<HnswIndex.Match<Integer>> hnswSearch() {
+        return index.search(queries[next++ & (queries.length - 1)], 10, EF_SEARCH);
+    }
+
+    @Benchmark
+    public List<Integer> scanEveryVector() {
+        return scan(queries[next++ & (queries.length - 1)], 10);
+    }
+
+    // the k best by dot product, kept in a small sorted array
+    private List<Integer> scan(byte[] query, int k) {
+        int[] best = new int[k];
+        long[] scores = new long[k];
+        Arrays.fill(scores, Long.MIN_VALUE);
+        for (int node = 0; node < items; node++) {
+            int base = node * DIMENSIONS;
+            int sum = 0;
+            for (int i = 0; i < DIMENSIONS; i++) {
+                sum += query[i] * flat[base + i];
+            }
+            if (sum > scores[k - 1]) {
+                int at = k - 1;
+                while (at > 0 && scores[at - 1] < sum) {
+                    scores[at] = scores[at - 1];
+                    best[at] = best[at - 1];
+                    at--;
+                }
+                scores[at] = sum;
+                best[at] = node;
+            }
+        }
+        return Arrays.stream(best).boxed().toList();
+    }
+
+    // an object, a colour and a place, plus the specifics that tell items apart
+    private static Map<String, Double> text(Random random, String[] rareWords) {
+        Map<String, Double> terms = new HashMap<>();
+        terms.merge(OBJECTS[random.nextInt(OBJECTS.length)], 2.0, Double::sum);
+        terms.merge(COLOURS[random.nextInt(COLOURS.length)], 1.0, Double::sum);
+        terms.merge(PLACES[random.nextInt(PLACES.length)], 1.0, Double::sum);
+        int specifics = 2 + random.nextInt(6);
+        for (int i = 0; i < specifics; i++) {
+            terms.merge(SearchText.normalize(rareWords[random.nextInt(rareWords.length)]), 1.0, Double::sum);
+        }
+        return terms;
+    }
+
+    private static String word(Random random) {
+        StringBuilder word = new StringBuilder();
+        int length = 2 + random.nextInt(3);
+        for (int i = 0; i < length; i++) {
+            word.append(SYLLABLES[random.nextInt(SYLLABLES.length)]);
+        }
+        return word.toString();
+    }
+
+    private static long elapsed(long started) {
+        return (System.nanoTime() - started) / 1_000_000;
+    }
+}
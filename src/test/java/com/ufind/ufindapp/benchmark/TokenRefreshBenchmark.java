@@ -0,0 +1,88 @@
+package com.ufind.ufindapp.benchmark;
+
+import com.ufind.ufindapp.config.JwtProperties;
+import com.ufind.ufindapp.entity.UserRole;
+import com.ufind.ufindapp.security.UserPrincipal;
+import com.ufind.ufindapp.service.JwtService;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * The CPU one sign-in costs, whichever way it is done: a login checks the password against its
+ * BCrypt hash (the default strength, 10) and signs an access token; a refresh hashes the refresh
+ * token with SHA-256 and signs an access token; and every authenticated request verifies the
+ * access token. None of them includes the queries, one or two indexed lookups each.
+ * {@code mvn -Pbenchmark test-compile exec:exec "-Djmh.args=TokenRefresh"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TokenRefreshBenchmark {
+
+    private static final String PASSWORD = "password@2026";
+
+    private BCryptPasswordEncoder passwordEncoder;
+    private JwtService jwtService;
+    private UserPrincipal principal;
+    private String passwordHash;
+    private String refreshToken;
+    private String accessToken;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setSecret(Base64.getEncoder().encodeToString(new byte[32]));
+        properties.setExpiration(900_000);
+        passwordEncoder = new BCryptPasswordEncoder();
+        jwtService = new JwtService(properties);
+        principal = UserPrincipal.withoutPassword(UUID.randomUUID(), "maria.santos@icomp.ufam.edu.br", UserRole.ROLE_SECRETARY);
+        passwordHash = passwordEncoder.encode(PASSWORD);
+        refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(new byte[32]);
+        accessToken = jwtService.generateToken(principal);
+    }
+
+    @Benchmark
+    public String login() {
+        if (!passwordEncoder.matches(PASSWORD, passwordHash)) {
+            throw new IllegalStateException();
+        }
+        return jwtService.generateToken(principal);
+    }
+
+    @Benchmark
+    public String refresh() throws NoSuchAlgorithmException {
+        byte[] hash = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.US_ASCII));
+        if (hash.length != 32) {
+            throw new IllegalStateException();
+        }
+        return jwtService.generateToken(principal);
+    }
+
+    @Benchmark
+    public Claims authenticateRequest() {
+        return jwtService.extractAllClaims(accessToken);
+    }
+}
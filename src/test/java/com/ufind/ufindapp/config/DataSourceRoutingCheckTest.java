@@ -0,0 +1,47 @@
+package com.ufind.ufindapp.config;
+
+import com.ufind.ufindapp.datasource.ReadReplicaRoutingDataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DataSourceRoutingCheckTest {
+
+    @Mock
+    private ObjectProvider<ReadReplicaRoutingDataSource> routingDataSource;
+    @Mock
+    private ReadReplicaRoutingDataSource routing;
+
+    @Test
+    @DisplayName("Should start when the routing DataSource matches the property")
+    void shouldAcceptMatchingSetting() {
+        ReadReplicaProperties properties = new ReadReplicaProperties();
+        when(routingDataSource.getIfAvailable()).thenReturn(null);
+        assertThatCode(() -> new DataSourceRoutingCheck(properties, routingDataSource)).doesNotThrowAnyException();
+
+        properties.setEnabled(true);
+        when(routingDataSource.getIfAvailable()).thenReturn(routing);
+        assertThatCode(() -> new DataSourceRoutingCheck(properties, routingDataSource)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("Should refuse to start with routing enabled in an image built without it")
+    void shouldRejectRoutingMissingFromBuild() {
+        ReadReplicaProperties properties = new ReadReplicaProperties();
+        properties.setEnabled(true);
+        when(routingDataSource.getIfAvailable()).thenReturn(null);
+
+        assertThatThrownBy(() -> new DataSourceRoutingCheck(properties, routingDataSource))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("DATASOURCE_ROUTING_ENABLED=true");
+    }
+}
@@ -0,0 +1,120 @@
+package com.ufind.ufindapp.controller;
+
+import com.ufind.ufindapp.entity.UserRole;
+import com.ufind.ufindapp.security.UserPrincipal;
+import com.ufind.ufindapp.support.AbstractPostgresIT;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class AlertIT extends AbstractPostgresIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final UserPrincipal secretary = new UserPrincipal(
+            UUID.randomUUID(), "alert.secretary@ufind.test", "", UserRole.ROLE_SECRETARY,
+            List.of(new SimpleGrantedAuthority(UserRole.ROLE_SECRETARY.name())));
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("TRUNCATE items");
+        jdbcTemplate.update("TRUNCATE alert_subscriptions CASCADE");
+    }
+
+    @Test
+    @DisplayName("A registered item shows up in the matches of every alert whose words it contains")
+    void shouldMatchRegisteredItem() throws Exception {
+        UUID backpack = subscribe("blue backpack, library");
+        UUID umbrella = subscribe("umbrella");
+
+        registerItem("Blue backpack", "Navy blue, with a laptop inside", "Central Library");
+        UUID itemId = jdbcTemplate.queryForObject("SELECT id FROM items", UUID.class);
+
+        awaitMatches(backpack, 1);
+        mockMvc.perform(get("/api/alerts/{id}/matches", backpack))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].itemId").value(itemId.toString()))
+                .andExpect(jsonPath("$[0].title").value("Blue backpack"));
+        mockMvc.perform(get("/api/alerts/{id}/matches", umbrella))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("A cancelled alert is gone and matches nothing")
+    void shouldCancelAlert() throws Exception {
+        UUID id = subscribe("umbrella");
+
+        mockMvc.perform(delete("/api/alerts/{id}", id)).andExpect(status().isNoContent());
+        registerItem("Umbrella", "Black umbrella", "Gym");
+
+        mockMvc.perform(get("/api/alerts/{id}/matches", id)).andExpect(status().isNotFound());
+        mockMvc.perform(delete("/api/alerts/{id}", id)).andExpect(status().isNotFound());
+        Thread.sleep(500);
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM alert_matches", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("A query without a usable word is rejected")
+    void shouldRejectEmptyQuery() throws Exception {
+        mockMvc.perform(post("/api/alerts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\": \"student@ufind.test\", \"query\": \"- !\"}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("The query needs at least one word of 2 or more characters."));
+    }
+
+    private UUID subscribe(String query) throws Exception {
+        String body = mockMvc.perform(post("/api/alerts")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\": \"student@ufind.test\", \"query\": \"" + query + "\"}"))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return UUID.fromString(body.replaceAll(".*\"id\":\"([^\"]+)\".*", "$1"));
+    }
+
+    private void registerItem(String title, String description, String location) throws Exception {
+        mockMvc.perform(post("/api/item")
+                        .with(user(secretary))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"title": "%s", "description": "%s", "dateFound": "2026-02-05",
+                                 "locationFound": "%s", "imageUrl": "https://img.test/1.jpg"}
+                                """.formatted(title, description, location)))
+                .andExpect(status().isCreated());
+    }
+
+    private void awaitMatches(UUID subscriptionId, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        long matches;
+        do {
+            Thread.sleep(20);
+            matches = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM alert_matches WHERE subscription_id = ?", Long.class, subscriptionId);
+        } while (matches < expected && System.nanoTime() < deadline);
+        assertThat(matches).isEqualTo(expected);
+    }
+}
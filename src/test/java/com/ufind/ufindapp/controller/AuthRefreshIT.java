@@ -0,0 +1,119 @@
+package com.ufind.ufindapp.controller;
+
+import com.ufind.ufindapp.support.AbstractPostgresIT;
+
+import jakarta.servlet.http.Cookie;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class AuthRefreshIT extends AbstractPostgresIT {
+
+    private static final String EMAIL = "refresh.secretary@ufind.test";
+    private static final String PASSWORD = "password@2026";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM refresh_tokens");
+        jdbcTemplate.update("""
+                INSERT INTO users (username, email, password, role)
+                VALUES ('refresh.secretary', ?, ?, 'ROLE_SECRETARY')
+                ON CONFLICT (email) DO NOTHING
+                """, EMAIL, passwordEncoder.encode(PASSWORD));
+    }
+
+    @Test
+    @DisplayName("Login sets an access cookie and a refresh cookie scoped to /api/auth, storing only its hash")
+    void loginSetsBothCookies() throws Exception {
+        MockHttpServletResponse response = login();
+
+        Cookie refresh = response.getCookie("refresh_token");
+        assertThat(response.getCookie("token")).isNotNull();
+        assertThat(refresh).isNotNull();
+        assertThat(refresh.getPath()).isEqualTo("/api/auth");
+        assertThat(refresh.isHttpOnly()).isTrue();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM refresh_tokens WHERE token_hash = sha256(convert_to(?, 'UTF8'))",
+                Integer.class, refresh.getValue())).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A refresh hands out a new access token and a new refresh token that work in turn")
+    void refreshRotates() throws Exception {
+        Cookie first = login().getCookie("refresh_token");
+
+        MockHttpServletResponse refreshed = refresh(first);
+        Cookie second = refreshed.getCookie("refresh_token");
+
+        assertThat(refreshed.getStatus()).isEqualTo(200);
+        assertThat(second.getValue()).isNotEqualTo(first.getValue());
+        mockMvc.perform(get("/api/auth/me").cookie(refreshed.getCookie("token")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.role").value("ROLE_SECRETARY"));
+        assertThat(refresh(second).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Replaying a used refresh token revokes its whole family")
+    void replayRevokesFamily() throws Exception {
+        Cookie stolen = login().getCookie("refresh_token");
+        Cookie current = refresh(stolen).getCookie("refresh_token");
+
+        assertThat(refresh(stolen).getStatus()).isEqualTo(401);
+        assertThat(refresh(current).getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    @DisplayName("Logging out revokes the refresh token and clears both cookies")
+    void logoutRevokes() throws Exception {
+        Cookie refresh = login().getCookie("refresh_token");
+
+        MockHttpServletResponse loggedOut = mockMvc.perform(post("/api/auth/logout").cookie(refresh))
+                .andExpect(status().isNoContent())
+                .andReturn().getResponse();
+
+        assertThat(loggedOut.getCookie("token").getMaxAge()).isZero();
+        assertThat(loggedOut.getCookie("refresh_token").getMaxAge()).isZero();
+        assertThat(refresh(refresh).getStatus()).isEqualTo(401);
+    }
+
+    @Test
+    @DisplayName("A refresh without a refresh cookie is unauthorized")
+    void refreshWithoutCookie() throws Exception {
+        mockMvc.perform(post("/api/auth/refresh")).andExpect(status().isUnauthorized());
+    }
+
+    private MockHttpServletResponse login() throws Exception {
+        return mockMvc.perform(post("/api/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"email\": \"" + EMAIL + "\", \"password\": \"" + PASSWORD + "\"}"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse();
+    }
+
+    private MockHttpServletResponse refresh(Cookie refreshToken) throws Exception {
+        return mockMvc.perform(post("/api/auth/refresh").cookie(refreshToken)).andReturn().getResponse();
+    }
+}
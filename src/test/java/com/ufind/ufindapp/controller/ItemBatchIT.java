@@ -0,0 +1,121 @@
+package com.ufind.ufindapp.controller;
+
+import com.ufind.ufindapp.support.AbstractPostgresIT;
+import com.ufind.ufindapp.support.SqlStatementRecorder;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class ItemBatchIT extends AbstractPostgresIT {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemBatchIT.class);
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private List<UUID> ids;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("TRUNCATE items");
+        jdbcTemplate.update("""
+                INSERT INTO items (title, description, date_found, location_found, status, created_at, updated_at)
+                SELECT 'Item ' || g, 'Seeded item ' || g, CURRENT_DATE, 'Central Library', 'AVAILABLE', now(), now()
+                FROM generate_series(1, 50) g
+                """);
+        // an order the table would not return on its own
+        ids = jdbcTemplate.queryForList("SELECT id FROM items ORDER BY md5(id::text)", UUID.class);
+    }
+
+    @Test
+    @DisplayName("A batch read answers in request order with one = ANY query and lists missing ids")
+    void readsBatchInRequestOrder() throws Exception {
+        UUID gone = UUID.randomUUID();
+        SqlStatementRecorder.reset();
+
+        mockMvc.perform(get("/api/item/batch")
+                        .param("ids", ids.get(2).toString(), gone.toString(), ids.get(0).toString(), ids.get(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(3)))
+                .andExpect(jsonPath("$.items[0].id").value(ids.get(2).toString()))
+                .andExpect(jsonPath("$.items[1].id").value(ids.get(0).toString()))
+                .andExpect(jsonPath("$.items[2].id").value(ids.get(1).toString()))
+                .andExpect(jsonPath("$.missing[0]").value(gone.toString()));
+
+        assertThat(SqlStatementRecorder.statements())
+                .singleElement()
+                .satisfies(sql -> assertThat(sql.toLowerCase()).contains("= any("));
+    }
+
+    @Test
+    @DisplayName("A batch of more ids than allowed is refused")
+    void refusesOversizedBatch() throws Exception {
+        String[] tooMany = new String[101];
+        for (int i = 0; i < tooMany.length; i++) {
+            tooMany[i] = UUID.randomUUID().toString();
+        }
+
+        mockMvc.perform(get("/api/item/batch").param("ids", tooMany))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("At most 100 ids can be read at once, got 101."));
+    }
+
+    @Test
+    @DisplayName("Reading 50 items in one batch beats 50 sequential reads")
+    void batchBeatsSequentialReads() throws Exception {
+        String[] batch = ids.stream().map(UUID::toString).toArray(String[]::new);
+        // warm up both paths: the first requests pay for class loading and plan caching
+        for (int round = 0; round < 5; round++) {
+            readOneByOne();
+            readAsBatch(batch);
+        }
+
+        long sequential = Long.MAX_VALUE;
+        long batched = Long.MAX_VALUE;
+        for (int round = 0; round < 10; round++) {
+            long started = System.nanoTime();
+            readOneByOne();
+            sequential = Math.min(sequential, System.nanoTime() - started);
+
+            started = System.nanoTime();
+            readAsBatch(batch);
+            batched = Math.min(batched, System.nanoTime() - started);
+        }
+
+        logger.info("50 items: {} us as 50 sequential reads, {} us as one batch",
+                TimeUnit.NANOSECONDS.toMicros(sequential), TimeUnit.NANOSECONDS.toMicros(batched));
+        assertThat(batched).isLessThan(sequential);
+    }
+
+    private void readOneByOne() throws Exception {
+        for (UUID id : ids) {
+            mockMvc.perform(get("/api/item/{id}", id)).andExpect(status().isOk());
+        }
+    }
+
+    private void readAsBatch(String[] batch) throws Exception {
+        mockMvc.perform(get("/api/item/batch").param("ids", batch))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items", hasSize(batch.length)));
+    }
+}
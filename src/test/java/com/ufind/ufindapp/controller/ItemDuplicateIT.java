@@ -0,0 +1,107 @@
+package com.ufind.ufindapp.controller;
+
+import com.ufind.ufindapp.entity.UserRole;
+import com.ufind.ufindapp.security.UserPrincipal;
+import com.ufind.ufindapp.service.ItemDuplicateService;
+import com.ufind.ufindapp.support.AbstractPostgresIT;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class ItemDuplicateIT extends AbstractPostgresIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ItemDuplicateService itemDuplicateService;
+
+    private final UserPrincipal secretary = new UserPrincipal(
+            UUID.randomUUID(), "duplicate.secretary@ufind.test", "", UserRole.ROLE_SECRETARY,
+            List.of(new SimpleGrantedAuthority(UserRole.ROLE_SECRETARY.name())));
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("TRUNCATE items");
+        jdbcTemplate.update("TRUNCATE item_signatures");
+        itemDuplicateService.rebuild();
+    }
+
+    @Test
+    @DisplayName("Registering a reworded copy of an available item reports the original")
+    void shouldReportDuplicate() throws Exception {
+        String original = register("Black umbrella", "Black umbrella with a wooden handle, found near the entrance")
+                .andExpect(jsonPath("$.possibleDuplicates.length()").value(0))
+                .andReturn().getResponse().getContentAsString();
+        String originalId = original.replaceAll(".*\"id\":\"([^\"]+)\".*", "$1");
+
+        register("Umbrella (black)", "Black umbrella, wooden handle, found by the entrance")
+                .andExpect(jsonPath("$.possibleDuplicates[0].id").value(originalId))
+                .andExpect(jsonPath("$.possibleDuplicates[0].similarity").value(greaterThanOrEqualTo(0.5)));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM item_signatures", Long.class)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("A claimed item is no longer reported as a duplicate")
+    void shouldIgnoreClaimedItem() throws Exception {
+        String original = register("Blue backpack", "Blue backpack with a laptop inside")
+                .andReturn().getResponse().getContentAsString();
+        String originalId = original.replaceAll(".*\"id\":\"([^\"]+)\".*", "$1");
+        mockMvc.perform(patch("/api/item")
+                        .with(user(secretary))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\": \"" + originalId + "\"}"))
+                .andExpect(status().is2xxSuccessful());
+
+        register("Blue backpack", "Blue backpack with a laptop inside")
+                .andExpect(jsonPath("$.possibleDuplicates.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("Items that arrived without a signature are signed and indexed on rebuild")
+    void shouldBackfillSignatures() throws Exception {
+        jdbcTemplate.update("""
+                INSERT INTO items (title, description, date_found, location_found, status, created_at, updated_at)
+                VALUES ('Silver ring', 'Silver ring with a green stone', CURRENT_DATE, 'Gym', 'AVAILABLE', now(), now())
+                """);
+
+        itemDuplicateService.rebuild();
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM item_signatures", Long.class)).isEqualTo(1);
+        register("Silver ring", "Silver ring, green stone")
+                .andExpect(jsonPath("$.possibleDuplicates[0].title").value("Silver ring"));
+    }
+
+    private ResultActions register(String title, String description) throws Exception {
+        return mockMvc.perform(post("/api/item")
+                        .with(user(secretary))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"title": "%s", "description": "%s", "dateFound": "2026-02-05",
+                                 "locationFound": "Central Library", "imageUrl": "https://img.test/1.jpg"}
+                                """.formatted(title, description)))
+                .andExpect(status().isCreated());
+    }
+}
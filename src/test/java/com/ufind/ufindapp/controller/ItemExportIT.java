@@ -0,0 +1,122 @@
+package com.ufind.ufindapp.controller;
+
+import com.ufind.ufindapp.config.JwtProperties;
+import com.ufind.ufindapp.service.JwtService;
+import com.ufind.ufindapp.support.AbstractPostgresIT;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Exports more data than the test JVM's heap can hold (the integration-test profile runs
+ * with -Xmx256m), over a real HTTP connection so nothing buffers the response for us.
+ * Any implementation that collects rows before writing them fails with an OutOfMemoryError.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ItemExportIT extends AbstractPostgresIT {
+
+    private static final int ITEM_ROWS = 1_000_000;
+    private static final String ADMIN_EMAIL = "export.admin@ufind.test";
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private JwtService jwtService;
+    @Autowired
+    private JwtProperties jwtProperties;
+    @Autowired
+    private UserDetailsService userDetailsService;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private String sessionCookie;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("TRUNCATE items");
+        // ~400 bytes of description per row: the export is several times larger than the heap
+        jdbcTemplate.update("""
+                INSERT INTO items (title, description, date_found, location_found, status, created_at, updated_at)
+                SELECT 'Item ' || g, repeat(md5(g::text), 12), CURRENT_DATE, 'Building ' || (g % 40),
+                       'AVAILABLE', now(), now()
+                FROM generate_series(1, ?) g
+                """, ITEM_ROWS);
+        jdbcTemplate.update("""
+                INSERT INTO users (username, email, password, role)
+                VALUES ('export.admin', ?, 'x', 'ROLE_ADMIN')
+                ON CONFLICT (email) DO NOTHING
+                """, ADMIN_EMAIL);
+
+        String token = jwtService.generateToken(userDetailsService.loadUserByUsername(ADMIN_EMAIL));
+        sessionCookie = jwtProperties.getCookieName() + "=" + token;
+    }
+
+    @AfterAll
+    void cleanUp() {
+        jdbcTemplate.update("TRUNCATE items");
+    }
+
+    @Test
+    @DisplayName("CSV export streams every row under a capped heap")
+    void exportCsv() throws Exception {
+        assertThat(countLines(export("CSV"))).isEqualTo(ITEM_ROWS + 1);
+    }
+
+    @Test
+    @DisplayName("NDJSON export streams every row under a capped heap")
+    void exportNdjson() throws Exception {
+        assertThat(countLines(export("NDJSON"))).isEqualTo(ITEM_ROWS);
+    }
+
+    @Test
+    @DisplayName("Export is refused without the admin role")
+    void exportRequiresAdmin() throws Exception {
+        HttpResponse<Void> response = httpClient.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/item/export")).build(),
+                HttpResponse.BodyHandlers.discarding());
+
+        assertThat(response.statusCode()).isIn(401, 403);
+    }
+
+    private InputStream export(String format) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create("http://localhost:" + port + "/api/item/export?format=" + format))
+                .header("Cookie", sessionCookie)
+                .build();
+        HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        assertThat(response.statusCode()).isEqualTo(200);
+        return response.body();
+    }
+
+    private static long countLines(InputStream body) throws Exception {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(body, UTF_8))) {
+            long lines = 0;
+            while (reader.readLine() != null) {
+                lines++;
+            }
+            return lines;
+        }
+    }
+}
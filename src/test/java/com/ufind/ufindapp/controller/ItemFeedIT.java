@@ -0,0 +1,118 @@
+package com.ufind.ufindapp.controller;
+
+import com.ufind.ufindapp.dto.MarkItemClaimedRequest;
+import com.ufind.ufindapp.dto.RegisterItemRequest;
+import com.ufind.ufindapp.service.ItemService;
+import com.ufind.ufindapp.support.AbstractPostgresIT;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.UUID;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Drives the whole path over a real connection: the write issues NOTIFY, the listener
+ * receives it on its own connection, and the event reaches an EventSource-style client.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class ItemFeedIT extends AbstractPostgresIT {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+    private final BlockingQueue<String> lines = new LinkedBlockingQueue<>();
+    private Thread reader;
+
+    @BeforeEach
+    void connect() throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/item/stream"))
+                .header("Accept", "text/event-stream")
+                .build();
+        HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.headers().firstValue("Content-Type")).hasValueSatisfying(
+                type -> assertThat(type).startsWith("text/event-stream"));
+
+        reader = Thread.ofVirtual().start(() -> {
+            try (BufferedReader body = new BufferedReader(new InputStreamReader(response.body(), UTF_8))) {
+                String line;
+                while ((line = body.readLine()) != null) {
+                    lines.add(line);
+                }
+            } catch (Exception e) {
+                // closed by the test
+            }
+        });
+        // the listener may still be issuing LISTEN right after startup
+        Thread.sleep(Duration.ofMillis(500));
+    }
+
+    @AfterEach
+    void disconnect() {
+        reader.interrupt();
+    }
+
+    @Test
+    @DisplayName("A registered item is pushed to connected clients after commit")
+    void pushesCreatedItems() throws Exception {
+        itemService.registerItem(new RegisterItemRequest(
+                "Feed umbrella", "Black umbrella", LocalDate.of(2026, 2, 5), "Central Library",
+                null, null, null));
+
+        assertThat(awaitLine("event:item-created")).isNotNull();
+        assertThat(awaitLine("data:")).contains("\"title\":\"Feed umbrella\"").contains("\"type\":\"CREATED\"");
+    }
+
+    @Test
+    @DisplayName("A claimed item is pushed to connected clients after commit")
+    void pushesClaimedItems() throws Exception {
+        UUID itemId = jdbcTemplate.queryForObject("""
+                INSERT INTO items (title, description, date_found, location_found, status, created_at, updated_at)
+                VALUES ('Feed keys', 'Car keys', CURRENT_DATE, 'Gym', 'AVAILABLE', now(), now())
+                RETURNING id
+                """, UUID.class);
+
+        itemService.markItemAsClaimed(new MarkItemClaimedRequest(itemId));
+
+        assertThat(awaitLine("event:item-claimed")).isNotNull();
+        assertThat(awaitLine("data:")).contains(itemId.toString()).contains("\"status\":\"CLAIMED\"");
+    }
+
+    private String awaitLine(String prefix) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        String line;
+        while ((line = lines.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) != null) {
+            if (line.startsWith(prefix)) {
+                return line;
+            }
+        }
+        throw new AssertionError("No '" + prefix + "' line within 10s");
+    }
+}
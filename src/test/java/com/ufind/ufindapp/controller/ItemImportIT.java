@@ -0,0 +1,144 @@
+package com.ufind.ufindapp.controller;
+
+import com.ufind.ufindapp.dto.RegisterItemRequest;
+import com.ufind.ufindapp.entity.UserRole;
+import com.ufind.ufindapp.security.UserPrincipal;
+import com.ufind.ufindapp.service.ItemService;
+import com.ufind.ufindapp.support.AbstractPostgresIT;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class ItemImportIT extends AbstractPostgresIT {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemImportIT.class);
+
+    private static final String HEADER = "title,description,dateFound,locationFound,status\n";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ItemService itemService;
+
+    private final UserPrincipal admin = new UserPrincipal(
+            UUID.randomUUID(), "import.admin@ufind.test", "", UserRole.ROLE_ADMIN,
+            List.of(new SimpleGrantedAuthority(UserRole.ROLE_ADMIN.name())));
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("TRUNCATE items");
+        jdbcTemplate.update("TRUNCATE item_facet_counts");
+    }
+
+    @Test
+    @DisplayName("Should import every row and count it in the facets")
+    void shouldImportRows() throws Exception {
+        mockMvc.perform(upload(csv(3, false), false))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(3))
+                .andExpect(jsonPath("$.rejected").value(0));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM items", Long.class)).isEqualTo(3);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT item_count FROM item_facet_counts WHERE facet = 'STATUS' AND facet_value = 'AVAILABLE'",
+                Long.class)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should import nothing when a row is invalid, and say which one")
+    void shouldRollBackOnInvalidRow() throws Exception {
+        mockMvc.perform(upload(csv(3, true), false))
+                .andExpect(status().isUnprocessableContent())
+                .andExpect(jsonPath("$.imported").value(0))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(5))
+                .andExpect(jsonPath("$.errors[0].message").value("dateFound must be an ISO date (yyyy-MM-dd)"));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM items", Long.class)).isZero();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM item_facet_counts", Long.class)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should import the valid rows when asked to skip invalid ones")
+    void shouldSkipInvalidRows() throws Exception {
+        mockMvc.perform(upload(csv(3, true), true))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(3))
+                .andExpect(jsonPath("$.rejected").value(1));
+
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM items", Long.class)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("COPY import outpaces registering items one at a time through JPA")
+    void shouldOutpaceJpaPath() throws Exception {
+        int copyRows = 50_000;
+        long started = System.nanoTime();
+        mockMvc.perform(upload(csv(copyRows, false), false))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rowsPerSecond").value(greaterThan(0)));
+        double copyRate = copyRows / seconds(started);
+
+        int jpaRows = 2_000;
+        started = System.nanoTime();
+        for (int i = 0; i < jpaRows; i++) {
+            itemService.registerItem(new RegisterItemRequest(
+                    "Item " + i, "Imported item " + i, LocalDate.of(2025, 9, 1), "Building " + (i % 40),
+                    null, null, null));
+        }
+        double jpaRate = jpaRows / seconds(started);
+
+        logger.info("COPY import: {} rows/s, JPA registerItem: {} rows/s ({}x)",
+                Math.round(copyRate), Math.round(jpaRate), Math.round(copyRate / jpaRate));
+        assertThat(copyRate).isGreaterThan(jpaRate * 10);
+    }
+
+    private RequestBuilder upload(String csv, boolean skipInvalid) {
+        return multipart("/api/item/import")
+                .file(new MockMultipartFile("file", "items.csv", "text/csv", csv.getBytes(UTF_8)))
+                .param("skipInvalid", String.valueOf(skipInvalid))
+                .with(user(admin));
+    }
+
+    // The invalid row, when requested, follows data row 3 and so sits on line 5 (the header is line 1).
+    private static String csv(int rows, boolean withInvalidRow) {
+        StringBuilder csv = new StringBuilder(HEADER);
+        for (int i = 1; i <= rows; i++) {
+            csv.append("Item ").append(i).append(",\"Found item, number ").append(i).append("\",2025-09-01,")
+                    .append("Building ").append(i % 40).append(",AVAILABLE\n");
+            if (withInvalidRow && i == 3) {
+                csv.append("Broken,Bad date,01/09/2025,Gym,AVAILABLE\n");
+            }
+        }
+        return csv.toString();
+    }
+
+    private static double seconds(long startedNanos) {
+        return (System.nanoTime() - startedNanos) / 1_000_000_000.0;
+    }
+}
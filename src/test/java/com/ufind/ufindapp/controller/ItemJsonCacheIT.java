@@ -0,0 +1,94 @@
+package com.ufind.ufindapp.controller;
+
+import com.ufind.ufindapp.support.AbstractPostgresIT;
+import com.ufind.ufindapp.support.SqlStatementRecorder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class ItemJsonCacheIT extends AbstractPostgresIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private UUID itemId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("TRUNCATE items");
+        itemId = jdbcTemplate.queryForObject("""
+                INSERT INTO items (title, description, date_found, location_found, status, created_at, updated_at)
+                VALUES ('Umbrella', 'Black umbrella', DATE '2026-02-05', 'Central Library', 'AVAILABLE', now(), now())
+                RETURNING id
+                """, UUID.class);
+    }
+
+    @Test
+    @DisplayName("A repeated item read is served from the cache with the same body, after one version lookup")
+    void servesRepeatedReadsFromCache() throws Exception {
+        String first = read().andReturn().getResponse().getContentAsString();
+        double hits = hits();
+
+        SqlStatementRecorder.reset();
+        String second = read().andReturn().getResponse().getContentAsString();
+
+        assertThat(second).isEqualTo(first);
+        assertThat(hits()).isEqualTo(hits + 1);
+        assertThat(SqlStatementRecorder.statements())
+                .singleElement()
+                .satisfies(sql -> assertThat(sql.toLowerCase()).contains("select").contains("updated_at").doesNotContain("title"));
+    }
+
+    @Test
+    @DisplayName("A change made outside this instance shows on the next read")
+    void servesChangedItemFresh() throws Exception {
+        read().andExpect(jsonPath("$.status").value("AVAILABLE"));
+
+        jdbcTemplate.update("UPDATE items SET status = 'CLAIMED', updated_at = now() WHERE id = ?", itemId);
+
+        read().andExpect(jsonPath("$.status").value("CLAIMED"));
+    }
+
+    @Test
+    @DisplayName("A cached item that was deleted is not found")
+    void forgetsDeletedItem() throws Exception {
+        read();
+
+        jdbcTemplate.update("DELETE FROM items WHERE id = ?", itemId);
+
+        mockMvc.perform(get("/api/item/{id}", itemId)).andExpect(status().isNotFound());
+    }
+
+    private ResultActions read() throws Exception {
+        return mockMvc.perform(get("/api/item/{id}", itemId).accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+
+    private double hits() {
+        return meterRegistry.get("cache.gets").tag("cache", "item-json").tag("result", "hit")
+                .functionCounter().count();
+    }
+}
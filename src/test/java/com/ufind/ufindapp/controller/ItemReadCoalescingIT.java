@@ -0,0 +1,129 @@
+package com.ufind.ufindapp.controller;
+
+import com.ufind.ufindapp.support.AbstractPostgresIT;
+import com.ufind.ufindapp.support.SqlStatementRecorder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/**
+ * Fires bursts of identical reads while the items table is locked, so every request is
+ * guaranteed to arrive while the first one's query is still waiting, then counts the
+ * queries that actually reached PostgreSQL.
+ */
+@AutoConfigureMockMvc
+class ItemReadCoalescingIT extends AbstractPostgresIT {
+
+    private static final Logger logger = LoggerFactory.getLogger(ItemReadCoalescingIT.class);
+
+    private static final int BURST = 50;
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DataSource dataSource;
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private final ExecutorService clients = Executors.newFixedThreadPool(BURST);
+    private UUID itemId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("TRUNCATE items");
+        itemId = jdbcTemplate.queryForObject("""
+                INSERT INTO items (title, description, date_found, location_found, status, created_at, updated_at)
+                VALUES ('Blue umbrella', 'Shared in the campus group chat', CURRENT_DATE, 'Central Library',
+                        'AVAILABLE', now(), now())
+                RETURNING id
+                """, UUID.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        clients.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("A burst of identical GET /api/item/{id} runs one query")
+    void coalesceItemReads() throws Exception {
+        int queries = burst(get("/api/item/" + itemId), "getItemById");
+
+        assertThat(queries).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A burst of identical searches runs one page query and one count query")
+    void coalesceSearches() throws Exception {
+        int queries = burst(get("/api/item/search").param("query", "umbrella"), "searchItems");
+
+        assertThat(queries).isLessThanOrEqualTo(2);
+    }
+
+    /**
+     * Sends {@link #BURST} copies of {@code request} while the table is locked, releases the lock
+     * once they are all waiting, and returns how many SELECTs on items were executed.
+     */
+    private int burst(RequestBuilder request, String operation) throws Exception {
+        double before = reads(operation);
+        List<Future<Integer>> responses = new ArrayList<>();
+        try (Connection lock = dataSource.getConnection()) {
+            lock.setAutoCommit(false);
+            try (Statement statement = lock.createStatement()) {
+                statement.execute("LOCK TABLE items IN ACCESS EXCLUSIVE MODE");
+            }
+            SqlStatementRecorder.reset();
+
+            for (int i = 0; i < BURST; i++) {
+                responses.add(clients.submit(() -> mockMvc.perform(request).andReturn().getResponse().getStatus()));
+            }
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+            while (reads(operation) - before < BURST && System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            lock.rollback();
+        }
+
+        for (Future<Integer> response : responses) {
+            assertThat(response.get(30, TimeUnit.SECONDS)).isEqualTo(200);
+        }
+        int queries = (int) SqlStatementRecorder.statements().stream()
+                .map(sql -> sql.strip().toLowerCase())
+                .filter(sql -> sql.startsWith("select") && sql.contains("from items"))
+                .count();
+        logger.info("{} identical {} requests ran {} queries", BURST, operation, queries);
+        return queries;
+    }
+
+    private double reads(String operation) {
+        return meterRegistry.find("item.reads").tag("operation", operation).counters().stream()
+                .mapToDouble(counter -> counter.count())
+                .sum();
+    }
+}
@@ -0,0 +1,84 @@
+package com.ufind.ufindapp.controller;
+
+import com.ufind.ufindapp.config.WireFormatConfig;
+import com.ufind.ufindapp.support.AbstractPostgresIT;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.ByteBuffer;
+import java.util.UUID;
+
+import tools.jackson.databind.JsonNode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class ItemWireFormatIT extends AbstractPostgresIT {
+
+    private static final MediaType SMILE = MediaType.parseMediaType("application/x-jackson-smile");
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID itemId;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("TRUNCATE items");
+        itemId = jdbcTemplate.queryForObject("""
+                INSERT INTO items (title, description, date_found, location_found, status, created_at, updated_at)
+                VALUES ('Umbrella', 'Black umbrella', DATE '2026-02-05', 'Central Library', 'AVAILABLE', now(), now())
+                RETURNING id
+                """, UUID.class);
+    }
+
+    @Test
+    @DisplayName("Item responses stay JSON when the client does not ask for anything else")
+    void defaultsToJson() throws Exception {
+        mockMvc.perform(get("/api/item"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content[0].dateFound").value("2026-02-05"));
+    }
+
+    @Test
+    @DisplayName("Item list is served as Smile when the Accept header asks for it")
+    void servesSmileList() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/item").accept(SMILE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(SMILE))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode item = WireFormatConfig.smileMapper().readTree(body).path("content").path(0);
+        assertThat(item.path("title").asString()).isEqualTo("Umbrella");
+        assertThat(item.path("dateFound").isArray()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Item detail is served as CBOR when the Accept header asks for it")
+    void servesCborDetail() throws Exception {
+        byte[] body = mockMvc.perform(get("/api/item/{id}", itemId).accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode item = WireFormatConfig.cborMapper().readTree(body);
+        // UUIDs go out as 16 raw bytes in the binary formats
+        ByteBuffer id = ByteBuffer.wrap(item.path("id").binaryValue());
+        assertThat(new UUID(id.getLong(), id.getLong())).isEqualTo(itemId);
+        assertThat(item.path("createdAt").isIntegralNumber()).isTrue();
+    }
+}
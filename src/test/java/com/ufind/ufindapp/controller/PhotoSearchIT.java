@@ -0,0 +1,195 @@
+package com.ufind.ufindapp.controller;
+
+import com.sun.net.httpserver.HttpServer;
+import com.ufind.ufindapp.entity.UserRole;
+import com.ufind.ufindapp.security.UserPrincipal;
+import com.ufind.ufindapp.service.PhotoSearchService;
+import com.ufind.ufindapp.support.AbstractPostgresIT;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+@TestPropertySource(properties = "app.photo-search.allow-private-addresses=true")
+class PhotoSearchIT extends AbstractPostgresIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PhotoSearchService photoSearchService;
+
+    private final UserPrincipal secretary = new UserPrincipal(
+            UUID.randomUUID(), "photo.secretary@ufind.test", "", UserRole.ROLE_SECRETARY,
+            List.of(new SimpleGrantedAuthority(UserRole.ROLE_SECRETARY.name())));
+
+    private static final long UMBRELLA = 1;
+    private static final long BACKPACK = 2;
+
+    private HttpServer photos;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        jdbcTemplate.update("TRUNCATE items");
+        photoSearchService.rebuild();
+
+        photos = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        photos.createContext("/", exchange -> {
+            byte[] body = png(photo(exchange.getRequestURI().getPath().contains("umbrella") ? UMBRELLA : BACKPACK, 800, 600));
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            exchange.close();
+        });
+        photos.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        photos.stop(0);
+    }
+
+    @Test
+    @DisplayName("A registered item is found by a smaller copy of its photo, and not by another photo")
+    void shouldFindItemByPhoto() throws Exception {
+        UUID umbrella = register("Black umbrella", photoUrl("umbrella.png"));
+        UUID backpack = register("Blue backpack", photoUrl("backpack.png"));
+        awaitHashed(2);
+
+        searchByPhoto(photo(UMBRELLA, 400, 300))
+                .andExpect(jsonPath("$[0].id").value(umbrella.toString()))
+                .andExpect(jsonPath("$[0].imageUrl").value(photoUrl("umbrella.png")));
+        searchByPhoto(photo(BACKPACK, 200, 150))
+                .andExpect(jsonPath("$[0].id").value(backpack.toString()));
+    }
+
+    @Test
+    @DisplayName("A claimed item is no longer found by its photo")
+    void shouldIgnoreClaimedItem() throws Exception {
+        UUID umbrella = register("Black umbrella", photoUrl("umbrella.png"));
+        awaitHashed(1);
+        mockMvc.perform(patch("/api/item")
+                        .with(user(secretary))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\": \"" + umbrella + "\"}"))
+                .andExpect(status().is2xxSuccessful());
+
+        searchByPhoto(photo(UMBRELLA, 400, 300)).andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("Items that arrived without a hash are hashed by the sweep")
+    void shouldSweepUnhashedItems() throws Exception {
+        jdbcTemplate.update("""
+                INSERT INTO items (title, description, date_found, location_found, image_url, status, created_at, updated_at)
+                VALUES ('Black umbrella', 'Imported', CURRENT_DATE, 'Gym', ?, 'AVAILABLE', now(), now())
+                """, photoUrl("umbrella.png"));
+
+        photoSearchService.sweep();
+        awaitHashed(1);
+
+        searchByPhoto(photo(UMBRELLA, 400, 300))
+                .andExpect(jsonPath("$[0].title").value("Black umbrella"));
+    }
+
+    @Test
+    @DisplayName("An upload that is not an image is rejected")
+    void shouldRejectNonImage() throws Exception {
+        mockMvc.perform(multipart("/api/item/search/photo")
+                        .file(new MockMultipartFile("photo", "photo.jpg", "image/jpeg", "not a photo".getBytes())))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("The photo is not an image format we can read."));
+    }
+
+    private ResultActions searchByPhoto(BufferedImage photo) throws Exception {
+        return mockMvc.perform(multipart("/api/item/search/photo")
+                        .file(new MockMultipartFile("photo", "photo.png", "image/png", png(photo))))
+                .andExpect(status().isOk());
+    }
+
+    private UUID register(String title, String imageUrl) throws Exception {
+        String body = mockMvc.perform(post("/api/item")
+                        .with(user(secretary))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"title": "%s", "description": "Found on a bench", "dateFound": "2026-02-05",
+                                 "locationFound": "Central Library", "imageUrl": "%s"}
+                                """.formatted(title, imageUrl)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return UUID.fromString(body.replaceAll(".*\"id\":\"([^\"]+)\".*", "$1"));
+    }
+
+    private String photoUrl(String name) {
+        return "http://127.0.0.1:" + photos.getAddress().getPort() + "/" + name;
+    }
+
+    private void awaitHashed(long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        long hashed;
+        do {
+            Thread.sleep(20);
+            hashed = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM items WHERE image_phash IS NOT NULL", Long.class);
+        } while (hashed < expected && System.nanoTime() < deadline);
+        assertThat(hashed).isEqualTo(expected);
+    }
+
+    // A few large shapes on a gradient; the same seed draws the same picture at any size.
+    private static BufferedImage photo(long seed, int width, int height) {
+        Random random = new Random(seed);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.scale(width / 640.0, height / 480.0);
+        graphics.setPaint(new GradientPaint(0, 0, randomColor(random), 640, 480, randomColor(random)));
+        graphics.fillRect(0, 0, 640, 480);
+        for (int i = 0; i < 6; i++) {
+            graphics.setColor(randomColor(random));
+            graphics.fillOval(random.nextInt(560), random.nextInt(400), 80 + random.nextInt(240), 80 + random.nextInt(200));
+        }
+        graphics.dispose();
+        return image;
+    }
+
+    private static Color randomColor(Random random) {
+        return new Color(random.nextInt(256), random.nextInt(256), random.nextInt(256));
+    }
+
+    private static byte[] png(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
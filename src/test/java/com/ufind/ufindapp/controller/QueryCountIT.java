@@ -0,0 +1,238 @@
+package com.ufind.ufindapp.controller;
+
+import com.ufind.ufindapp.entity.UserRole;
+import com.ufind.ufindapp.security.UserPrincipal;
+import com.ufind.ufindapp.support.AbstractPostgresIT;
+import com.ufind.ufindapp.support.SqlStatementRecorder;
+
+import jakarta.servlet.http.Cookie;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Pins the exact number of SQL statements every endpoint issues, so an N+1 or an
+ * extra round trip shows up as a failing test instead of a production slowdown.
+ */
+@AutoConfigureMockMvc
+class QueryCountIT extends AbstractPostgresIT {
+
+    private static final String SECRETARY_EMAIL = "query.count@ufind.test";
+    private static final String SECRETARY_PASSWORD = "password@2026";
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    private UUID itemId;
+    private UserPrincipal secretary;
+    private UserPrincipal admin;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("TRUNCATE items");
+        // one more row than the default page size, so paged endpoints also issue their count query
+        jdbcTemplate.update("""
+                INSERT INTO items (title, description, date_found, location_found, status, created_at, updated_at)
+                SELECT 'Item ' || g, 'Seeded item ' || g, CURRENT_DATE, 'Central Library', 'AVAILABLE', now(), now()
+                FROM generate_series(1, 21) g
+                """);
+        itemId = jdbcTemplate.queryForObject("SELECT id FROM items LIMIT 1", UUID.class);
+
+        jdbcTemplate.update("""
+                INSERT INTO users (username, email, password, role)
+                VALUES ('query.count', ?, ?, 'ROLE_SECRETARY')
+                ON CONFLICT (email) DO NOTHING
+                """, SECRETARY_EMAIL, passwordEncoder.encode(SECRETARY_PASSWORD));
+
+        secretary = principal(UserRole.ROLE_SECRETARY);
+        admin = principal(UserRole.ROLE_ADMIN);
+    }
+
+    // ===== Items =====
+
+    @Test
+    @DisplayName("GET /api/item issues one page query and one count query")
+    void getAllItems() throws Exception {
+        assertStatementCount(get("/api/item"), 2);
+    }
+
+    @Test
+    @DisplayName("GET /api/item with filters issues one page query and one count query")
+    void getAllItemsFiltered() throws Exception {
+        assertStatementCount(get("/api/item")
+                .param("status", "AVAILABLE")
+                .param("location", "central library")
+                .param("sort", "dateFound,desc"), 2);
+    }
+
+    @Test
+    @DisplayName("GET /api/item/{id} issues a single lookup")
+    void getItemById() throws Exception {
+        assertStatementCount(get("/api/item/{id}", itemId), 1);
+    }
+
+    @Test
+    @DisplayName("GET /api/item/batch issues a single lookup however many ids are asked for")
+    void getItemsByIds() throws Exception {
+        List<UUID> ids = jdbcTemplate.queryForList("SELECT id FROM items", UUID.class);
+        assertStatementCount(get("/api/item/batch")
+                .param("ids", ids.stream().map(UUID::toString).toArray(String[]::new)), 1);
+    }
+
+    @Test
+    @DisplayName("GET /api/item/search issues one page query and one count query")
+    void searchItems() throws Exception {
+        assertStatementCount(get("/api/item/search").param("query", "item"), 2);
+    }
+
+    @Test
+    @DisplayName("GET /api/item with a fieldset issues one narrow page query and one count query")
+    void getAllItemsWithFields() throws Exception {
+        assertStatementCount(get("/api/item").param("fields", "title,locationFound"), 2);
+    }
+
+    @Test
+    @DisplayName("GET /api/item/{id} with a fieldset issues one narrow lookup")
+    void getItemByIdWithFields() throws Exception {
+        assertStatementCount(get("/api/item/{id}", itemId).param("fields", "title,status"), 1);
+    }
+
+    @Test
+    @DisplayName("GET /api/item/changes reads one page of items and one of tombstones")
+    void getChanges() throws Exception {
+        assertStatementCount(get("/api/item/changes"), 2);
+    }
+
+    @Test
+    @DisplayName("POST /api/item issues one insert, one facet upsert per facet, one signature insert and one NOTIFY")
+    void registerItem() throws Exception {
+        // unlike anything registered before, so no duplicate candidates are read back
+        UUID title = UUID.randomUUID();
+        UUID description = UUID.randomUUID();
+        assertStatementCount(post("/api/item")
+                .with(user(secretary))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"title": "Umbrella %s", "description": "Black umbrella %s", "dateFound": "2026-02-05",
+                         "locationFound": "Central Library", "imageUrl": "https://example.com/umbrella.png"}
+                        """.formatted(title, description)), 5);
+    }
+
+    @Test
+    @DisplayName("PATCH /api/item issues one lookup, one update, two status facet upserts and one NOTIFY")
+    void markItemAsClaimed() throws Exception {
+        assertStatementCount(patch("/api/item")
+                .with(user(secretary))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"id\": \"" + itemId + "\"}"), 5);
+    }
+
+    @Test
+    @DisplayName("GET /api/item/facets reads only the aggregate table")
+    void getFacets() throws Exception {
+        assertStatementCount(get("/api/item/facets"), 1);
+    }
+
+    @Test
+    @DisplayName("GET /api/item/autocomplete does not touch the database")
+    void autocomplete() throws Exception {
+        assertStatementCount(get("/api/item/autocomplete").param("prefix", "ite"), 0);
+    }
+
+    // ===== Auth =====
+
+    @Test
+    @DisplayName("POST /api/auth/login issues one user lookup and one refresh token insert")
+    void login() throws Exception {
+        assertStatementCount(loginRequest(), 2);
+    }
+
+    @Test
+    @DisplayName("POST /api/auth/refresh marks the token used and inserts the next one")
+    void refresh() throws Exception {
+        Cookie refreshToken = loginCookie("refresh_token");
+        assertStatementCount(post("/api/auth/refresh").cookie(refreshToken), 2);
+    }
+
+    @Test
+    @DisplayName("A request signed in with an access token does not look the user up")
+    void accessToken() throws Exception {
+        Cookie accessToken = loginCookie("token");
+        assertStatementCount(get("/api/auth/me").cookie(accessToken), 0);
+    }
+
+    @Test
+    @DisplayName("POST /api/auth/register issues one existence check and one insert")
+    void register() throws Exception {
+        assertStatementCount(post("/api/auth/register")
+                .with(user(admin))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                        {"username": "new.user", "email": "%s@ufind.test", "password": "password", "role": "ROLE_SECRETARY"}
+                        """.formatted(UUID.randomUUID())), 2);
+    }
+
+    @Test
+    @DisplayName("GET /api/auth/me does not touch the database")
+    void me() throws Exception {
+        assertStatementCount(get("/api/auth/me").with(user(secretary)), 0);
+    }
+
+    private void assertStatementCount(RequestBuilder request, int expected) throws Exception {
+        SqlStatementRecorder.reset();
+
+        mockMvc.perform(request).andExpect(status().is2xxSuccessful());
+
+        // the audit writer and the photo hashers work from their own threads, after the request,
+        // whenever they get to it
+        List<String> statements = SqlStatementRecorder.statements().stream()
+                .filter(sql -> !sql.contains("audit_events") && !sql.contains("image_hashed_at"))
+                .toList();
+        assertThat(statements)
+                .as("SQL statements issued:%n%s", String.join(System.lineSeparator(), statements))
+                .hasSize(expected);
+    }
+
+    private MockHttpServletRequestBuilder loginRequest() {
+        return post("/api/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"email\": \"" + SECRETARY_EMAIL + "\", \"password\": \"" + SECRETARY_PASSWORD + "\"}");
+    }
+
+    private Cookie loginCookie(String name) throws Exception {
+        return mockMvc.perform(loginRequest()).andExpect(status().isOk()).andReturn().getResponse().getCookie(name);
+    }
+
+    private static UserPrincipal principal(UserRole role) {
+        return new UserPrincipal(
+                UUID.randomUUID(),
+                role.name().toLowerCase() + "@ufind.test",
+                "",
+                role,
+                List.of(new SimpleGrantedAuthority(role.name())));
+    }
+}
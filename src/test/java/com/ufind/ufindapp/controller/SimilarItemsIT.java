@@ -0,0 +1,112 @@
+package com.ufind.ufindapp.controller;
+
+import com.ufind.ufindapp.entity.UserRole;
+import com.ufind.ufindapp.security.UserPrincipal;
+import com.ufind.ufindapp.service.SimilarItemsService;
+import com.ufind.ufindapp.support.AbstractPostgresIT;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureMockMvc
+class SimilarItemsIT extends AbstractPostgresIT {
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private SimilarItemsService similarItemsService;
+
+    private final UserPrincipal secretary = new UserPrincipal(
+            UUID.randomUUID(), "similar.secretary@ufind.test", "", UserRole.ROLE_SECRETARY,
+            List.of(new SimpleGrantedAuthority(UserRole.ROLE_SECRETARY.name())));
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("TRUNCATE items");
+        similarItemsService.rebuild();
+    }
+
+    @Test
+    @DisplayName("An item's similar items put the same kind of object first and leave out the item itself")
+    void shouldRankSameObjectFirst() throws Exception {
+        UUID umbrella = register("Black umbrella", "Folding umbrella with a wooden handle", "Central Library");
+        UUID otherUmbrella = register("Blue umbrella", "Large umbrella, broken rib", "Gym");
+        register("Black backpack", "Backpack with a laptop inside", "Cafeteria");
+        register("Student card", "Engineering faculty card", "Room 301");
+
+        awaitSimilar(umbrella);
+        mockMvc.perform(get("/api/item/{id}/similar", umbrella))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(otherUmbrella.toString()))
+                .andExpect(jsonPath("$[?(@.id == '" + umbrella + "')]").isEmpty());
+    }
+
+    @Test
+    @DisplayName("A claimed item is no longer offered as similar")
+    void shouldLeaveOutClaimedItems() throws Exception {
+        UUID umbrella = register("Black umbrella", "Folding umbrella", "Central Library");
+        UUID otherUmbrella = register("Blue umbrella", "Folding umbrella", "Gym");
+        awaitSimilar(umbrella);
+
+        mockMvc.perform(patch("/api/item")
+                        .with(user(secretary))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"id\": \"" + otherUmbrella + "\"}"))
+                .andExpect(status().is2xxSuccessful());
+
+        mockMvc.perform(get("/api/item/{id}/similar", umbrella))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("An unknown item is not found")
+    void shouldRejectUnknownItem() throws Exception {
+        mockMvc.perform(get("/api/item/{id}/similar", UUID.randomUUID())).andExpect(status().isNotFound());
+    }
+
+    private UUID register(String title, String description, String location) throws Exception {
+        String body = mockMvc.perform(post("/api/item")
+                        .with(user(secretary))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"title": "%s", "description": "%s", "dateFound": "2026-02-05",
+                                 "locationFound": "%s", "imageUrl": "https://img.test/1.jpg"}
+                                """.formatted(title, description, location)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        return UUID.fromString(body.replaceAll(".*\"id\":\"([^\"]+)\".*", "$1"));
+    }
+
+    // registrations reach the index asynchronously, after they commit
+    private void awaitSimilar(UUID id) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        int similar;
+        do {
+            Thread.sleep(20);
+            similar = similarItemsService.findSimilar(id, 10).size();
+        } while (similar == 0 && System.nanoTime() < deadline);
+        assertThat(similar).isPositive();
+    }
+}
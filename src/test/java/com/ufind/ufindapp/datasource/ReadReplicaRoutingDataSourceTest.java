@@ -0,0 +1,181 @@
+package com.ufind.ufindapp.datasource;
+
+import com.ufind.ufindapp.entity.UserRole;
+import com.ufind.ufindapp.security.UserPrincipal;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReadReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+    @Mock
+    private DataSource replicaA;
+    @Mock
+    private DataSource replicaB;
+    @Mock
+    private Connection primaryConnection;
+    @Mock
+    private Connection replicaAConnection;
+    @Mock
+    private Connection replicaBConnection;
+
+    private ReadReplicaRoutingDataSource routingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        routingDataSource = new ReadReplicaRoutingDataSource(
+                primary,
+                List.of(replicaA, replicaB),
+                new RecentWriters(Duration.ofMinutes(1)),
+                Duration.ofSeconds(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should send non read-only work to the primary")
+    void shouldSendWritesToPrimary() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        verifyNoInteractions(replicaA, replicaB);
+    }
+
+    @Test
+    @DisplayName("Should round-robin read-only work across replicas")
+    void shouldRoundRobinReadsAcrossReplicas() throws SQLException {
+        when(replicaA.getConnection()).thenReturn(replicaAConnection);
+        when(replicaB.getConnection()).thenReturn(replicaBConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaAConnection);
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaBConnection);
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaAConnection);
+        verifyNoInteractions(primary);
+    }
+
+    @Test
+    @DisplayName("Should route a request with explicit credentials like any other, passing them on")
+    void shouldRouteExplicitCredentials() throws SQLException {
+        when(primary.getConnection("reporting", "secret")).thenReturn(primaryConnection);
+        when(replicaA.getConnection("reporting", "secret")).thenReturn(replicaAConnection);
+
+        assertThat(routingDataSource.getConnection("reporting", "secret")).isSameAs(primaryConnection);
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routingDataSource.getConnection("reporting", "secret")).isSameAs(replicaAConnection);
+        verify(replicaA, never()).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should skip a failing replica and keep it out of rotation")
+    void shouldSkipFailingReplica() throws SQLException {
+        when(replicaA.getConnection()).thenThrow(new SQLException("connection refused"));
+        when(replicaB.getConnection()).thenReturn(replicaBConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaBConnection);
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaBConnection);
+        verify(replicaA, times(1)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Should fall back to the primary when no replica is healthy")
+    void shouldFallBackToPrimaryWhenNoReplicaIsHealthy() throws SQLException {
+        when(replicaA.getConnection()).thenThrow(new SQLException("down"));
+        when(replicaB.getConnection()).thenThrow(new SQLException("down"));
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+    }
+
+    @Test
+    @DisplayName("Should put a replica back into rotation once the health check passes")
+    void shouldRestoreReplicaAfterHealthCheck() throws SQLException {
+        when(replicaA.getConnection())
+                .thenThrow(new SQLException("down"))
+                .thenReturn(replicaAConnection);
+        when(replicaB.getConnection()).thenReturn(replicaBConnection);
+        when(replicaAConnection.isValid(anyInt())).thenReturn(true);
+        when(replicaBConnection.isValid(anyInt())).thenReturn(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+
+        routingDataSource.getConnection();
+        routingDataSource.checkHealth();
+
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaAConnection);
+    }
+
+    @Test
+    @DisplayName("Should keep a user's reads on the primary after that user's committed write")
+    void shouldKeepReadsOnPrimaryAfterOwnWrite() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        authenticate(UUID.randomUUID());
+
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        routingDataSource.getConnection();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routingDataSource.getConnection()).isSameAs(primaryConnection);
+        verifyNoInteractions(replicaA, replicaB);
+    }
+
+    @Test
+    @DisplayName("Should not pin other users to the primary")
+    void shouldNotPinOtherUsers() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replicaA.getConnection()).thenReturn(replicaAConnection);
+        authenticate(UUID.randomUUID());
+
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        routingDataSource.getConnection();
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        authenticate(UUID.randomUUID());
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        assertThat(routingDataSource.getConnection()).isSameAs(replicaAConnection);
+    }
+
+    private static void authenticate(UUID userId) {
+        UserPrincipal principal = new UserPrincipal(
+                userId, "secretary@ufind.test", "", UserRole.ROLE_SECRETARY, List.of());
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+}
@@ -0,0 +1,40 @@
+package com.ufind.ufindapp.dto;
+
+import com.ufind.ufindapp.exception.InvalidFieldsException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ItemFieldTest {
+
+    @Test
+    @DisplayName("Should parse field names and always include the id")
+    void shouldParseFields() {
+        assertThat(ItemField.parse("title, locationFound"))
+                .containsExactly(ItemField.ID, ItemField.TITLE, ItemField.LOCATION_FOUND);
+    }
+
+    @Test
+    @DisplayName("Should ignore empty entries")
+    void shouldIgnoreEmptyEntries() {
+        assertThat(ItemField.parse("status,,")).containsExactly(ItemField.ID, ItemField.STATUS);
+        assertThat(ItemField.parse("")).containsExactly(ItemField.ID);
+    }
+
+    @Test
+    @DisplayName("Should reject fields outside the allow-list")
+    void shouldRejectUnknownField() {
+        assertThatThrownBy(() -> ItemField.parse("title,password"))
+                .isInstanceOf(InvalidFieldsException.class)
+                .hasMessageStartingWith("Unknown field 'password'. Available fields: id, title,");
+    }
+
+    @Test
+    @DisplayName("Should match the JSON property name, not the constant name")
+    void shouldRejectConstantNames() {
+        assertThatThrownBy(() -> ItemField.parse("LOCATION_FOUND"))
+                .isInstanceOf(InvalidFieldsException.class);
+    }
+}
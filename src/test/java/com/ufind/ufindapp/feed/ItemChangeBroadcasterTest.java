@@ -0,0 +1,207 @@
+package com.ufind.ufindapp.feed;
+
+import com.ufind.ufindapp.config.FeedProperties;
+import com.ufind.ufindapp.dto.ItemChangeDTO;
+import com.ufind.ufindapp.entity.ItemStatus;
+import com.ufind.ufindapp.exception.FeedUnavailableException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.Mockito.*;
+
+class ItemChangeBroadcasterTest {
+
+    private static final ItemChangeDTO CHANGE = new ItemChangeDTO(
+            ItemChangeDTO.Type.CREATED, UUID.randomUUID(), "Umbrella", "Central Library",
+            LocalDate.of(2026, 2, 5), ItemStatus.AVAILABLE);
+
+    private FeedProperties properties;
+    private ManualExecutor senders;
+    private ItemChangeBroadcaster broadcaster;
+
+    @BeforeEach
+    void setUp() {
+        properties = new FeedProperties();
+        properties.setSubscriberBufferSize(3);
+        properties.setMaxSubscribers(2);
+        senders = new ManualExecutor();
+        broadcaster = new ItemChangeBroadcaster(properties, senders) {
+            @Override
+            SseEmitter newEmitter() {
+                return mock(SseEmitter.class);
+            }
+        };
+    }
+
+    // ===== Fan-out =====
+
+    @Test
+    @DisplayName("Should write the same event to every subscriber")
+    void shouldFanOutToEverySubscriber() throws IOException {
+        SseEmitter first = broadcaster.subscribe();
+        SseEmitter second = broadcaster.subscribe();
+
+        broadcaster.broadcast(CHANGE, "{\"title\":\"Umbrella\"}");
+        senders.runAll();
+
+        List<Set<DataWithMediaType>> firstSent = sent(first);
+        List<Set<DataWithMediaType>> secondSent = sent(second);
+        assertThat(firstSent).hasSize(2);
+        assertThat(firstSent.get(1)).isSameAs(secondSent.get(1));
+        assertThat(text(firstSent.get(1))).contains("event:item-created").contains("{\"title\":\"Umbrella\"}");
+    }
+
+    @Test
+    @DisplayName("Should schedule one drain per subscriber however many events are queued")
+    void shouldDrainEachSubscriberOnce() throws IOException {
+        SseEmitter emitter = broadcaster.subscribe();
+
+        broadcaster.broadcast(CHANGE, "{}");
+        broadcaster.broadcast(CHANGE, "{}");
+
+        assertThat(senders.pending()).isEqualTo(1);
+        senders.runAll();
+        verify(emitter, times(3)).send(anySet());
+    }
+
+    // ===== Back-pressure =====
+
+    @Test
+    @DisplayName("Should disconnect a subscriber whose buffer is full and keep serving the rest")
+    void shouldDropSlowSubscriber() throws IOException {
+        SseEmitter slow = broadcaster.subscribe();
+        senders.runAll();
+        // the slow subscriber's drain is scheduled but never gets to run
+        broadcaster.broadcast(CHANGE, "{}");
+        senders.discardAll();
+        SseEmitter fast = broadcaster.subscribe();
+        senders.runAll();
+
+        broadcaster.broadcast(CHANGE, "{}");
+        broadcaster.broadcast(CHANGE, "{}");
+        broadcaster.broadcast(CHANGE, "{}");
+        senders.runAll();
+
+        verify(slow).complete();
+        verify(fast, never()).complete();
+        verify(fast, times(4)).send(anySet());
+        assertThat(broadcaster.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should refuse subscribers beyond the per-node limit")
+    void shouldRejectBeyondMaxSubscribers() {
+        broadcaster.subscribe();
+        broadcaster.subscribe();
+
+        assertThatThrownBy(() -> broadcaster.subscribe())
+                .isInstanceOf(FeedUnavailableException.class);
+        assertThat(broadcaster.subscriberCount()).isEqualTo(2);
+    }
+
+    // ===== Disconnects =====
+
+    @Test
+    @DisplayName("Should forget a subscriber once a write to it fails")
+    void shouldRemoveSubscriberOnSendFailure() throws IOException {
+        SseEmitter emitter = broadcaster.subscribe();
+        doThrow(new IOException("Broken pipe")).when(emitter).send(anySet());
+
+        senders.runAll();
+        broadcaster.broadcast(CHANGE, "{}");
+
+        assertThat(broadcaster.subscriberCount()).isZero();
+        assertThat(senders.pending()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should forget a subscriber when its connection completes")
+    void shouldRemoveSubscriberOnCompletion() {
+        SseEmitter emitter = broadcaster.subscribe();
+        ArgumentCaptor<Runnable> onCompletion = ArgumentCaptor.forClass(Runnable.class);
+        verify(emitter).onCompletion(onCompletion.capture());
+
+        onCompletion.getValue().run();
+
+        assertThat(broadcaster.subscriberCount()).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Set<DataWithMediaType>> sent(SseEmitter emitter) throws IOException {
+        ArgumentCaptor<Set<DataWithMediaType>> events = ArgumentCaptor.forClass(Set.class);
+        verify(emitter, atLeastOnce()).send(events.capture());
+        return events.getAllValues();
+    }
+
+    private static String text(Set<DataWithMediaType> event) {
+        StringBuilder text = new StringBuilder();
+        event.forEach(part -> text.append(part.getData()));
+        return text.toString();
+    }
+
+    private static final class ManualExecutor extends AbstractExecutorService {
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            tasks.add(command);
+        }
+
+        int pending() {
+            return tasks.size();
+        }
+
+        void runAll() {
+            Runnable task;
+            while ((task = tasks.poll()) != null) {
+                task.run();
+            }
+        }
+
+        void discardAll() {
+            tasks.clear();
+        }
+
+        @Override
+        public void shutdown() {
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            return List.copyOf(tasks);
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return false;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return false;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
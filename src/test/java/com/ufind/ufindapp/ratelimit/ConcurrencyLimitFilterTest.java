@@ -0,0 +1,123 @@
+package com.ufind.ufindapp.ratelimit;
+
+import com.ufind.ufindapp.config.ConcurrencyLimitProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrencyLimitFilterTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should answer 503 to a low-priority request while the group's low-priority share is in flight")
+    void shouldRejectOverLimit() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(properties(true, 0.5), meterRegistry);
+        List<MockHttpServletResponse> nested = new ArrayList<>();
+
+        MockHttpServletResponse outer = perform(filter, "GET", "/api/item/search",
+                (request, response) -> nested.add(perform(filter, "GET", "/api/item", null)));
+
+        assertThat(outer.getStatus()).isEqualTo(200);
+        assertThat(nested.getFirst().getStatus()).isEqualTo(503);
+        assertThat(nested.getFirst().getHeader("Retry-After")).isEqualTo("1");
+        assertThat(nested.getFirst().getContentAsString()).isEqualTo("{\"error\": \"Server is busy, try again shortly.\"}");
+        assertThat(meterRegistry.get("http.concurrency.rejected").tag("group", "items").tag("priority", "low")
+                .counter().count()).isEqualTo(1);
+        assertThat(perform(filter, "GET", "/api/item", null).getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should admit a secretary's write into the slots kept from low-priority requests")
+    void shouldPrioritizeStaffWrites() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(properties(true, 0.5), meterRegistry);
+        List<MockHttpServletResponse> nested = new ArrayList<>();
+
+        perform(filter, "GET", "/api/item/search", (request, response) -> {
+            SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                    "ana@ufind.test", null, AuthorityUtils.createAuthorityList("ROLE_SECRETARY")));
+            nested.add(perform(filter, "GET", "/api/item", null));
+            nested.add(perform(filter, "POST", "/api/item", null));
+        });
+
+        assertThat(nested).extracting(MockHttpServletResponse::getStatus).containsExactly(503, 200);
+    }
+
+    @Test
+    @DisplayName("Should count a request against the first group whose path matches only")
+    void shouldIsolateGroups() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(properties(true, 0.5), meterRegistry);
+        List<MockHttpServletResponse> nested = new ArrayList<>();
+
+        perform(filter, "GET", "/api/item", (request, response) -> {
+            nested.add(perform(filter, "POST", "/api/auth/login", null));
+            nested.add(perform(filter, "GET", "/actuator/health", null));
+        });
+
+        assertThat(nested).extracting(MockHttpServletResponse::getStatus).containsExactly(200, 200);
+        assertThat(meterRegistry.get("http.concurrency.limit").tag("group", "items").gauge().value()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should limit nothing when disabled")
+    void shouldDoNothingWhenDisabled() throws Exception {
+        ConcurrencyLimitFilter filter = new ConcurrencyLimitFilter(properties(false, 0.5), meterRegistry);
+        List<MockHttpServletResponse> nested = new ArrayList<>();
+
+        perform(filter, "GET", "/api/item", (request, response) -> nested.add(perform(filter, "GET", "/api/item", null)));
+
+        assertThat(nested.getFirst().getStatus()).isEqualTo(200);
+    }
+
+    // Runs `inside` while the request holds its slot, standing in for the controller.
+    private static MockHttpServletResponse perform(ConcurrencyLimitFilter filter, String method, String uri,
+            FilterChain inside) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        try {
+            filter.doFilter(request, response, inside != null ? inside : new MockFilterChain());
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return response;
+    }
+
+    private static ConcurrencyLimitProperties properties(boolean enabled, double lowPriorityShare) {
+        ConcurrencyLimitProperties properties = new ConcurrencyLimitProperties();
+        properties.setEnabled(enabled);
+        properties.setLowPriorityShare(lowPriorityShare);
+        properties.setGroups(List.of(group("items", "/api/item/**"), group("auth", "/api/auth/**")));
+        return properties;
+    }
+
+    private static ConcurrencyLimitProperties.Group group(String name, String path) {
+        ConcurrencyLimitProperties.Group group = new ConcurrencyLimitProperties.Group();
+        group.setName(name);
+        group.setPath(path);
+        group.setInitialLimit(2);
+        group.setMinLimit(1);
+        group.setMaxLimit(2);
+        return group;
+    }
+}
@@ -0,0 +1,116 @@
+package com.ufind.ufindapp.ratelimit;
+
+import com.ufind.ufindapp.ratelimit.ConcurrencyLimiter.Priority;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ConcurrencyLimiterTest {
+
+    private static final long MILLISECOND = 1_000_000L;
+
+    // ===== Acquire =====
+
+    @Test
+    @DisplayName("Should turn requests away at the limit and admit them again once a slot is released")
+    void shouldCapInFlight() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(3, 1, 10, 1.0);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire(Priority.LOW)).isTrue();
+        }
+        assertThat(limiter.tryAcquire(Priority.LOW)).isFalse();
+        assertThat(limiter.tryAcquire(Priority.HIGH)).isFalse();
+
+        limiter.releaseUnmeasured();
+        assertThat(limiter.tryAcquire(Priority.LOW)).isTrue();
+        assertThat(limiter.inFlight()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should keep the slots beyond the low-priority share for high-priority requests")
+    void shouldReserveSlotsForHighPriority() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(4, 1, 10, 0.5);
+
+        assertThat(limiter.tryAcquire(Priority.LOW)).isTrue();
+        assertThat(limiter.tryAcquire(Priority.LOW)).isTrue();
+        assertThat(limiter.tryAcquire(Priority.LOW)).isFalse();
+
+        assertThat(limiter.tryAcquire(Priority.HIGH)).isTrue();
+        assertThat(limiter.tryAcquire(Priority.HIGH)).isTrue();
+        assertThat(limiter.tryAcquire(Priority.HIGH)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should reject inconsistent bounds")
+    void shouldRejectBadBounds() {
+        assertThatThrownBy(() -> new ConcurrencyLimiter(5, 6, 10, 0.5)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ConcurrencyLimiter(5, 1, 4, 0.5)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new ConcurrencyLimiter(5, 1, 10, 0)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    // ===== Adapt =====
+
+    @Test
+    @DisplayName("Should raise the limit while a busy group's latency holds steady")
+    void shouldGrowWhileLatencyHolds() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(10, 2, 100, 1.0);
+
+        saturate(limiter, 50, 10 * MILLISECOND);
+
+        assertThat(limiter.limit()).isGreaterThan(20);
+    }
+
+    @Test
+    @DisplayName("Should cut the limit to a handful as soon as latency climbs")
+    void shouldShrinkWhenLatencyClimbs() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(10, 2, 100, 1.0);
+        saturate(limiter, 50, 10 * MILLISECOND);
+        assertThat(limiter.limit()).isEqualTo(100);
+
+        saturate(limiter, 10, 200 * MILLISECOND);
+
+        assertThat(limiter.limit()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should recover once latency is back to normal")
+    void shouldRecover() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(10, 2, 100, 1.0);
+        saturate(limiter, 50, 10 * MILLISECOND);
+        saturate(limiter, 100, 200 * MILLISECOND);
+
+        saturate(limiter, 100, 10 * MILLISECOND);
+
+        assertThat(limiter.limit()).isGreaterThan(20);
+    }
+
+    @Test
+    @DisplayName("Should not raise the limit of a group that never comes near it")
+    void shouldNotGrowWhenIdle() {
+        ConcurrencyLimiter limiter = new ConcurrencyLimiter(10, 2, 100, 1.0);
+
+        for (int i = 0; i < 500; i++) {
+            assertThat(limiter.tryAcquire(Priority.LOW)).isTrue();
+            limiter.release(10 * MILLISECOND);
+        }
+
+        assertThat(limiter.limit()).isEqualTo(10);
+    }
+
+    // Fills every slot, then releases them all after `latency`, `rounds` times over.
+    private static void saturate(ConcurrencyLimiter limiter, int rounds, long latency) {
+        for (int round = 0; round < rounds; round++) {
+            int taken = 0;
+            while (limiter.tryAcquire(Priority.HIGH)) {
+                taken++;
+            }
+            for (int i = 0; i < taken; i++) {
+                limiter.release(latency);
+            }
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.ufind.ufindapp.ratelimit;
+
+import com.ufind.ufindapp.config.RateLimitProperties;
+import com.ufind.ufindapp.config.RateLimitProperties.ClientKey;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should answer 429 with Retry-After once the route's bucket is empty")
+    void shouldRejectOverLimit() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(properties(true, route("POST", "/api/auth/login", 2, ClientKey.IP)));
+
+        assertThat(perform(filter, "POST", "/api/auth/login", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(perform(filter, "POST", "/api/auth/login", "10.0.0.1").getStatus()).isEqualTo(200);
+        MockHttpServletResponse rejected = perform(filter, "POST", "/api/auth/login", "10.0.0.1");
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("30");
+        assertThat(rejected.getContentAsString()).isEqualTo("{\"error\": \"Too many requests.\"}");
+        assertThat(perform(filter, "POST", "/api/auth/login", "10.0.0.2").getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("Should leave requests that match no route alone")
+    void shouldIgnoreOtherRoutes() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(properties(true, route("GET", "/api/item/search", 1, ClientKey.IP)));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(perform(filter, "GET", "/api/item", "10.0.0.1").getStatus()).isEqualTo(200);
+            assertThat(perform(filter, "POST", "/api/item/search", "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+    }
+
+    @Test
+    @DisplayName("Should give signed-in users their own bucket, apart from their address")
+    void shouldKeyByUser() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(
+                properties(true, route("GET", "/api/item/search", 1, ClientKey.USER_OR_IP)));
+
+        assertThat(perform(filter, "GET", "/api/item/search", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(perform(filter, "GET", "/api/item/search", "10.0.0.1").getStatus()).isEqualTo(429);
+
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                "ana@ufind.test", null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+        assertThat(perform(filter, "GET", "/api/item/search", "10.0.0.1").getStatus()).isEqualTo(200);
+        assertThat(perform(filter, "GET", "/api/item/search", "10.0.0.1").getStatus()).isEqualTo(429);
+    }
+
+    @Test
+    @DisplayName("Should limit nothing when disabled")
+    void shouldDoNothingWhenDisabled() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(properties(false, route("GET", "/api/item/search", 1, ClientKey.IP)));
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(perform(filter, "GET", "/api/item/search", "10.0.0.1").getStatus()).isEqualTo(200);
+        }
+    }
+
+    private static MockHttpServletResponse perform(RateLimitFilter filter, String method, String uri, String address)
+            throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(address);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static RateLimitProperties properties(boolean enabled, RateLimitProperties.Route route) {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setEnabled(enabled);
+        properties.setRoutes(List.of(route));
+        return properties;
+    }
+
+    private static RateLimitProperties.Route route(String method, String path, int capacity, ClientKey key) {
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setName(path);
+        route.setMethod(method);
+        route.setPath(path);
+        route.setCapacity(capacity);
+        route.setPeriod(Duration.ofMinutes(1));
+        route.setKey(key);
+        return route;
+    }
+}
@@ -0,0 +1,135 @@
+package com.ufind.ufindapp.ratelimit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private static final long SECOND = 1_000_000_000L;
+
+    private final long start = System.nanoTime();
+
+    // ===== Acquire =====
+
+    @Test
+    @DisplayName("Should allow a burst of capacity requests, then reject")
+    void shouldAllowBurst() {
+        RateLimiter limiter = new RateLimiter(5, Duration.ofSeconds(10), 100);
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("10.0.0.1", start)).isZero();
+        }
+        assertThat(limiter.tryAcquire("10.0.0.1", start)).isEqualTo(2 * SECOND);
+    }
+
+    @Test
+    @DisplayName("Should refill one token per period / capacity")
+    void shouldRefillGradually() {
+        RateLimiter limiter = new RateLimiter(5, Duration.ofSeconds(10), 100);
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("10.0.0.1", start);
+        }
+
+        assertThat(limiter.tryAcquire("10.0.0.1", start + SECOND)).isEqualTo(SECOND);
+        assertThat(limiter.tryAcquire("10.0.0.1", start + 2 * SECOND)).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1", start + 2 * SECOND)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should keep a separate bucket per client")
+    void shouldSeparateClients() {
+        RateLimiter limiter = new RateLimiter(1, Duration.ofSeconds(10), 100);
+
+        assertThat(limiter.tryAcquire("10.0.0.1", start)).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1", start)).isPositive();
+        assertThat(limiter.tryAcquire("10.0.0.2", start)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should hand out exactly capacity tokens to concurrent callers")
+    void shouldNotOverGrantUnderContention() throws Exception {
+        RateLimiter limiter = new RateLimiter(1000, Duration.ofHours(1), 100);
+        int threads = 8;
+        CountDownLatch ready = new CountDownLatch(threads);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Callable<Integer>> tasks = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                tasks.add(() -> {
+                    ready.countDown();
+                    ready.await();
+                    int granted = 0;
+                    for (int i = 0; i < 500; i++) {
+                        if (limiter.tryAcquire("10.0.0.1", start) == 0) {
+                            granted++;
+                        }
+                    }
+                    return granted;
+                });
+            }
+            int granted = 0;
+            for (Future<Integer> result : executor.invokeAll(tasks)) {
+                granted += result.get();
+            }
+
+            assertThat(granted).isEqualTo(1000);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // ===== Memory =====
+
+    @Test
+    @DisplayName("Should evict only buckets that have refilled completely")
+    void shouldEvictFullBuckets() {
+        RateLimiter limiter = new RateLimiter(5, Duration.ofSeconds(10), 100);
+        limiter.tryAcquire("idle", start);
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("busy", start + 5 * SECOND);
+        }
+
+        limiter.evictIdle(start + 5 * SECOND);
+
+        assertThat(limiter.clientCount()).isEqualTo(1);
+        assertThat(limiter.tryAcquire("busy", start + 5 * SECOND)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Should evict idle buckets inline to make room once the map is full")
+    void shouldEvictInlineWhenFull() {
+        RateLimiter limiter = new RateLimiter(2, Duration.ofSeconds(10), 1);
+        limiter.tryAcquire("10.0.0.1", start);
+
+        assertThat(limiter.tryAcquire("10.0.0.2", start + 5 * SECOND)).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.2", start + 5 * SECOND)).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.2", start + 5 * SECOND)).isPositive();
+        assertThat(limiter.clientCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should let new clients through untracked while the map is full of busy buckets")
+    void shouldFailOpenWhenFull() {
+        RateLimiter limiter = new RateLimiter(2, Duration.ofSeconds(10), 1);
+        limiter.tryAcquire("10.0.0.1", start);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(limiter.tryAcquire("10.0.0.2", start)).isZero();
+            assertThat(limiter.tryAcquire("10.0.0.3", start)).isZero();
+        }
+        assertThat(limiter.clientCount()).isEqualTo(1);
+        assertThat(limiter.tryAcquire("10.0.0.1", start)).isZero();
+        assertThat(limiter.tryAcquire("10.0.0.1", start)).isPositive();
+    }
+}
@@ -0,0 +1,192 @@
+package com.ufind.ufindapp.repository;
+
+import com.ufind.ufindapp.dto.ItemField;
+import com.ufind.ufindapp.dto.ItemFilter;
+import com.ufind.ufindapp.entity.ItemStatus;
+import com.ufind.ufindapp.support.AbstractPostgresIT;
+import com.ufind.ufindapp.support.SqlStatementRecorder;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs EXPLAIN on the SQL each repository query actually executes against a seeded,
+ * analyzed dataset and fails when the planner falls back to a sequential scan on
+ * {@code items} or {@code users}.
+ */
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class QueryPlanIT extends AbstractPostgresIT {
+
+    private static final int ITEM_ROWS = 200_000;
+    private static final int USER_ROWS = 50_000;
+
+    private static final Pattern SEQ_SCAN = Pattern.compile("Seq Scan on (items|users)\\b");
+    // A COUNT over a whole table has no predicate an index could serve, so it is the one exemption.
+    private static final Pattern UNFILTERED_COUNT = Pattern.compile(
+            "(?i)^select count\\([^)]*\\) from (items|users) \\w+$");
+
+    private static final Pageable NEWEST_FIRST = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Autowired
+    private ItemRepository itemRepository;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private UUID itemId;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.update("TRUNCATE items");
+        jdbcTemplate.update("""
+                INSERT INTO items (title, description, date_found, location_found, status, created_at, updated_at)
+                SELECT CASE WHEN g % 100 = 0 THEN 'Black wallet ' || g ELSE md5(g::text) END,
+                       md5((g * 7)::text),
+                       CURRENT_DATE - (g % 730),
+                       'Building ' || (g % 40),
+                       CASE WHEN g % 3 = 0 THEN 'CLAIMED' ELSE 'AVAILABLE' END,
+                       now() - g * INTERVAL '1 minute',
+                       now() - g * INTERVAL '1 minute'
+                FROM generate_series(1, ?) g
+                """, ITEM_ROWS);
+        jdbcTemplate.update("""
+                INSERT INTO users (username, email, password, role)
+                SELECT 'user' || g, 'user' || g || '@plan.ufind.test', 'x', 'ROLE_SECRETARY'
+                FROM generate_series(1, ?) g
+                ON CONFLICT (email) DO NOTHING
+                """, USER_ROWS);
+        // VACUUM as well, so the visibility map allows index-only scans
+        jdbcTemplate.execute("VACUUM ANALYZE items");
+        jdbcTemplate.execute("ANALYZE users");
+
+        itemId = jdbcTemplate.queryForObject("SELECT id FROM items LIMIT 1", UUID.class);
+    }
+
+    // ===== ItemRepository =====
+
+    @Test
+    @DisplayName("findAll (newest first) uses an index")
+    void findAll() {
+        assertNoSequentialScan(() -> itemRepository.findAll(ItemSpecifications.matching(ItemFilter.none()), NEWEST_FIRST));
+    }
+
+    @Test
+    @DisplayName("findAll filtered by status, date range and location uses an index for every sortable field")
+    void findAllFiltered() {
+        ItemFilter filter = new ItemFilter(
+                ItemStatus.AVAILABLE, LocalDate.now().minusDays(7), LocalDate.now(), "building 7");
+        for (String field : List.of("createdAt", "dateFound", "title")) {
+            assertNoSequentialScan(() -> itemRepository.findAll(
+                    ItemSpecifications.matching(filter), PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, field))));
+        }
+    }
+
+    @Test
+    @DisplayName("findById uses the primary key")
+    void findById() {
+        assertNoSequentialScan(() -> itemRepository.findById(itemId));
+    }
+
+    @Test
+    @DisplayName("searchItems uses the trigram indexes")
+    void searchItems() {
+        assertNoSequentialScan(() -> itemRepository.searchItems("wallet", NEWEST_FIRST));
+    }
+
+    @Test
+    @DisplayName("archiveClaimedBefore finds its batch through the partial claimed index")
+    void archiveClaimedBefore() {
+        assertNoSequentialScan(() -> transactionTemplate.executeWithoutResult(status -> {
+            itemRepository.archiveClaimedBefore(OffsetDateTime.now().minusDays(30), 500);
+            status.setRollbackOnly();
+        }));
+    }
+
+    @Test
+    @DisplayName("expireAvailableBefore finds its batch through the (status, created_at) index")
+    void expireAvailableBefore() {
+        assertNoSequentialScan(() -> transactionTemplate.executeWithoutResult(status -> {
+            itemRepository.expireAvailableBefore(OffsetDateTime.now().minusDays(130), 200);
+            status.setRollbackOnly();
+        }));
+    }
+
+    @Test
+    @DisplayName("countAvailableBefore counts through the (status, created_at) index")
+    void countAvailableBefore() {
+        assertNoSequentialScan(() -> itemRepository.countAvailableBefore(OffsetDateTime.now().minusDays(130)));
+    }
+
+    @Test
+    @DisplayName("findAllFields for the kiosk fieldset reads only the covering index")
+    void findAllFieldsKiosk() {
+        Set<ItemField> kiosk = ItemField.parse("title,locationFound,status");
+        assertNoSequentialScan(() -> itemRepository.findAllFields(
+                ItemSpecifications.matching(ItemFilter.none()), kiosk, NEWEST_FIRST));
+
+        SqlStatementRecorder.reset();
+        itemRepository.findAllFields(ItemSpecifications.matching(ItemFilter.none()), kiosk, NEWEST_FIRST);
+        String plan = String.join(System.lineSeparator(),
+                jdbcTemplate.queryForList("EXPLAIN " + SqlStatementRecorder.statements().getFirst(), String.class));
+        assertThat(plan).contains("Index Only Scan using idx_items_created_at_covering");
+    }
+
+    @Test
+    @DisplayName("findChangedSince walks the (updated_at, id) index")
+    void findChangedSince() {
+        assertNoSequentialScan(() -> itemRepository.findChangedSince(
+                OffsetDateTime.now().minusHours(6), new UUID(0, 0), 30, 500));
+    }
+
+    // ===== UserRepository =====
+
+    @Test
+    @DisplayName("findByEmail uses the unique email index")
+    void findByEmail() {
+        assertNoSequentialScan(() -> userRepository.findByEmail("user42@plan.ufind.test"));
+    }
+
+    @Test
+    @DisplayName("existsByEmail uses the unique email index")
+    void existsByEmail() {
+        assertNoSequentialScan(() -> userRepository.existsByEmail("user42@plan.ufind.test"));
+    }
+
+    private void assertNoSequentialScan(Runnable query) {
+        SqlStatementRecorder.reset();
+        query.run();
+        List<String> statements = SqlStatementRecorder.statements();
+
+        assertThat(statements).as("statements recorded for the query").isNotEmpty();
+        for (String sql : statements) {
+            if (UNFILTERED_COUNT.matcher(sql.strip()).matches()) {
+                continue;
+            }
+            String plan = String.join(System.lineSeparator(),
+                    jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+            assertThat(SEQ_SCAN.matcher(plan).find())
+                    .as("sequential scan in plan for:%n%s%n%s", sql, plan)
+                    .isFalse();
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.ufind.ufindapp.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CompletionTrieTest {
+
+    private CompletionTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new CompletionTrie(3);
+    }
+
+    @Test
+    @DisplayName("Should return completions heaviest first, ties by key")
+    void shouldRankByWeight() {
+        trie.add("wallet", "Wallet", 5);
+        trie.add("watch", "Watch", 9);
+        trie.add("water", "Water", 5);
+        trie.add("umbrella", "Umbrella", 20);
+
+        assertThat(keys(trie.complete("wa", 10))).containsExactly("watch", "wallet", "water");
+    }
+
+    @Test
+    @DisplayName("Should keep only the configured number of completions per prefix")
+    void shouldLimitToTopK() {
+        for (int i = 0; i < 10; i++) {
+            trie.add("key" + i, "Key " + i, i + 1);
+        }
+
+        assertThat(keys(trie.complete("key", 10))).containsExactly("key9", "key8", "key7");
+        assertThat(keys(trie.complete("key", 1))).containsExactly("key9");
+    }
+
+    @Test
+    @DisplayName("Should complete prefixes that end inside a compressed edge")
+    void shouldCompleteInsideEdge() {
+        trie.add("backpack", "Backpack", 1);
+
+        assertThat(keys(trie.complete("bac", 3))).containsExactly("backpack");
+        assertThat(trie.complete("bax", 3)).isEmpty();
+        assertThat(trie.complete("backpacks", 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should split edges and keep both branches reachable")
+    void shouldSplitEdges() {
+        trie.add("card", "Card", 1);
+        trie.add("car", "Car", 2);
+        trie.add("cable", "Cable", 3);
+
+        assertThat(keys(trie.complete("ca", 3))).containsExactly("cable", "car", "card");
+        assertThat(keys(trie.complete("car", 3))).containsExactly("car", "card");
+    }
+
+    @Test
+    @DisplayName("Should accumulate weights and keep the first display form")
+    void shouldAccumulateWeights() {
+        trie.add("keys", "Keys", 1);
+        trie.add("keyboard", "Keyboard", 2);
+        trie.add("keys", "KEYS", 2);
+
+        List<CompletionTrie.Entry> entries = trie.complete("key", 3);
+        assertThat(entries.getFirst()).isEqualTo(new CompletionTrie.Entry("keys", "Keys", 3));
+    }
+
+    @Test
+    @DisplayName("Should stop suggesting a key whose weight drops to zero")
+    void shouldDropKeyAtZeroWeight() {
+        trie.add("phone", "Phone", 2);
+        trie.add("phone", "Phone", -2);
+
+        assertThat(trie.complete("ph", 3)).isEmpty();
+    }
+
+    private static List<String> keys(List<CompletionTrie.Entry> entries) {
+        return entries.stream().map(CompletionTrie.Entry::key).toList();
+    }
+}
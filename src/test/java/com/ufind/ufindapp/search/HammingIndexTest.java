@@ -0,0 +1,74 @@
+package com.ufind.ufindapp.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HammingIndexTest {
+
+    private final HammingIndex<Integer> index = new HammingIndex<>();
+
+    @Test
+    @DisplayName("Should find every hash within the distance, nearest first, and nothing beyond it")
+    void shouldMatchLinearScan() {
+        Random random = new Random(11);
+        List<Long> hashes = new ArrayList<>();
+        long query = random.nextLong();
+        for (int i = 0; i < 5_000; i++) {
+            // a third of them near the query, so there is something to find
+            long hash = i % 3 == 0 ? flip(query, random.nextInt(20), random) : random.nextLong();
+            hashes.add(hash);
+            index.add(i, hash);
+        }
+
+        List<HammingIndex.Match<Integer>> matches = index.query(query, 12, Integer.MAX_VALUE);
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < hashes.size(); i++) {
+            if (PerceptualHash.distance(query, hashes.get(i)) <= 12) {
+                expected.add(i);
+            }
+        }
+        assertThat(matches).extracting(HammingIndex.Match::key).containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(matches).extracting(HammingIndex.Match::distance).isSorted();
+    }
+
+    @Test
+    @DisplayName("Should return at most the limit, keeping the nearest")
+    void shouldLimitResults() {
+        index.add(1, 0b1111L);
+        index.add(2, 0b1L);
+        index.add(3, 0b11L);
+
+        assertThat(index.query(0L, 8, 2)).containsExactly(new HammingIndex.Match<>(2, 1), new HammingIndex.Match<>(3, 2));
+    }
+
+    @Test
+    @DisplayName("Should stop finding a removed hash, and replace one re-added under the same key")
+    void shouldRemoveAndReplace() {
+        index.add(1, 0L);
+        index.add(2, -1L);
+
+        assertThat(index.remove(1)).isTrue();
+        assertThat(index.remove(1)).isFalse();
+        assertThat(index.query(0L, 4, 10)).isEmpty();
+
+        index.add(2, 0b101L);
+        assertThat(index.query(0L, 4, 10)).containsExactly(new HammingIndex.Match<>(2, 2));
+        assertThat(index.query(-1L, 4, 10)).isEmpty();
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    private static long flip(long hash, int bits, Random random) {
+        long flipped = hash;
+        for (int i = 0; i < bits; i++) {
+            flipped ^= 1L << random.nextInt(Long.SIZE);
+        }
+        return flipped;
+    }
+}
@@ -0,0 +1,147 @@
+package com.ufind.ufindapp.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.assertj.core.data.Offset;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HnswIndexTest {
+
+    private static final int DIMENSIONS = 32;
+
+    private static final HnswIndex.KeyCodec<Integer> INTS = new HnswIndex.KeyCodec<>() {
+        @Override
+        public void write(DataOutput out, Integer key) throws IOException {
+            out.writeInt(key);
+        }
+
+        @Override
+        public Integer read(DataInput in) throws IOException {
+            return in.readInt();
+        }
+    };
+
+    private final Random random = new Random(5);
+    private final HnswIndex<Integer> index = new HnswIndex<>(DIMENSIONS, 16, 100, 1);
+
+    @Test
+    @DisplayName("Should find nearly all of the true nearest neighbours, most similar first")
+    void shouldApproximateExactSearch() {
+        byte[][] vectors = fill(5_000);
+
+        int found = 0;
+        for (int q = 0; q < 50; q++) {
+            byte[] query = vector();
+            List<HnswIndex.Match<Integer>> matches = index.search(query, 10, 64);
+            List<Integer> exact = IntStream.range(0, vectors.length).boxed()
+                    .sorted(Comparator.comparingInt((Integer i) -> -dot(query, vectors[i])))
+                    .limit(10)
+                    .toList();
+            found += (int) matches.stream().filter(match -> exact.contains(match.key())).count();
+            assertThat(matches).extracting(HnswIndex.Match::similarity).isSortedAccordingTo(Comparator.reverseOrder());
+        }
+        assertThat(found / 500.0).isGreaterThan(0.9);
+    }
+
+    @Test
+    @DisplayName("Should find a stored vector first when queried with it, with a similarity of about 1")
+    void shouldFindItself() {
+        byte[][] vectors = fill(1_000);
+
+        HnswIndex.Match<Integer> best = index.search(vectors[123], 1, 32).getFirst();
+
+        assertThat(best.key()).isEqualTo(123);
+        assertThat(best.similarity()).isCloseTo(1.0, Offset.offset(0.05));
+    }
+
+    @Test
+    @DisplayName("Should not return removed keys, and return a replaced key by its new vector only")
+    void shouldRemoveAndReplace() {
+        byte[][] vectors = fill(1_000);
+
+        assertThat(index.remove(123)).isTrue();
+        assertThat(index.remove(123)).isFalse();
+        assertThat(index.search(vectors[123], 5, 32)).extracting(HnswIndex.Match::key).doesNotContain(123);
+
+        index.add(7, vectors[500]);
+        assertThat(index.search(vectors[500], 2, 32)).extracting(HnswIndex.Match::key).containsExactlyInAnyOrder(7, 500);
+        assertThat(index.vector(7)).isEqualTo(vectors[500]);
+        assertThat(index.size()).isEqualTo(999);
+    }
+
+    @Test
+    @DisplayName("Should answer the same after a snapshot round trip")
+    void shouldRoundTripSnapshot() throws IOException {
+        fill(2_000);
+        index.remove(5);
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes), INTS);
+
+        HnswIndex<Integer> restored = HnswIndex.readFrom(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), INTS, 64, 1);
+
+        assertThat(restored.size()).isEqualTo(index.size());
+        for (int q = 0; q < 20; q++) {
+            byte[] query = vector();
+            assertThat(restored.search(query, 10, 64)).isEqualTo(index.search(query, 10, 64));
+        }
+        restored.add(5_000, vector());
+        assertThat(restored.size()).isEqualTo(index.size() + 1);
+    }
+
+    @Test
+    @DisplayName("Should reject a vector of the wrong length and a stream that is not a snapshot")
+    void shouldRejectBadInput() {
+        assertThatThrownBy(() -> index.add(1, new byte[DIMENSIONS + 1])).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> HnswIndex.readFrom(
+                new DataInputStream(new ByteArrayInputStream(new byte[64])), INTS, 64, 1))
+                .isInstanceOf(IOException.class);
+    }
+
+    private byte[][] fill(int count) {
+        byte[][] vectors = new byte[count][];
+        for (int i = 0; i < count; i++) {
+            vectors[i] = vector();
+            index.add(i, vectors[i]);
+        }
+        return vectors;
+    }
+
+    // unit length scaled to 127, like TextVectors
+    private byte[] vector() {
+        double[] values = new double[DIMENSIONS];
+        double norm = 0;
+        for (int i = 0; i < DIMENSIONS; i++) {
+            values[i] = random.nextGaussian();
+            norm += values[i] * values[i];
+        }
+        byte[] vector = new byte[DIMENSIONS];
+        for (int i = 0; i < DIMENSIONS; i++) {
+            vector[i] = (byte) Math.round(values[i] / Math.sqrt(norm) * 127);
+        }
+        return vector;
+    }
+
+    private static int dot(byte[] a, byte[] b) {
+        int sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum;
+    }
+}
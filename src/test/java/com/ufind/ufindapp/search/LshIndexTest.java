@@ -0,0 +1,59 @@
+package com.ufind.ufindapp.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LshIndexTest {
+
+    private final MinHash minHash = new MinHash(128, 7);
+    private LshIndex<String> index;
+
+    @BeforeEach
+    void setUp() {
+        index = new LshIndex<>(32, 4);
+        index.add("umbrella", minHash.signature("Black umbrella with wooden handle, found near the library"));
+        index.add("backpack", minHash.signature("Blue backpack with a laptop inside, found in room 301"));
+        index.add("card", minHash.signature("Student ID card, engineering faculty"));
+    }
+
+    @Test
+    @DisplayName("Should find a reworded item and rank it first")
+    void shouldFindNearDuplicate() {
+        List<LshIndex.Match<String>> matches = index.query(
+                minHash.signature("Black umbrella, wooden handle, found by the library"), 0.5, 5);
+
+        assertThat(matches).extracting(LshIndex.Match::key).containsExactly("umbrella");
+        assertThat(matches.getFirst().similarity()).isGreaterThan(0.5);
+    }
+
+    @Test
+    @DisplayName("Should find nothing for an unrelated item")
+    void shouldIgnoreUnrelated() {
+        assertThat(index.query(minHash.signature("Silver ring with a green stone"), 0.5, 5)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should stop finding a removed item, and replace one re-added under the same key")
+    void shouldRemoveAndReplace() {
+        int[] query = minHash.signature("Black umbrella with wooden handle, found near the library");
+
+        assertThat(index.remove("umbrella")).isTrue();
+        assertThat(index.query(query, 0.5, 5)).isEmpty();
+
+        index.add("card", query);
+        assertThat(index.query(query, 0.5, 5)).extracting(LshIndex.Match::key).containsExactly("card");
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reject a signature that does not fit its bands")
+    void shouldRejectWrongLength() {
+        assertThatThrownBy(() -> index.add("short", new int[64])).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,57 @@
+package com.ufind.ufindapp.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+class MinHashTest {
+
+    private final MinHash minHash = new MinHash(128, 7);
+
+    @Test
+    @DisplayName("Should give texts that differ only in case, accents and punctuation the same signature")
+    void shouldIgnoreSurfaceDifferences() {
+        assertThat(minHash.signature("Mochila azul — Biblioteca Central"))
+                .isEqualTo(minHash.signature("mochila AZUL, biblioteca central!"));
+        assertThat(minHash.signature("Guarda-chuva café")).isEqualTo(minHash.signature("guarda chuva cafe"));
+    }
+
+    @Test
+    @DisplayName("Should rate reworded descriptions of one object well above unrelated ones")
+    void shouldEstimateSimilarity() {
+        int[] original = minHash.signature("Black umbrella with wooden handle, found near the library entrance");
+        int[] reworded = minHash.signature("Black umbrella, wooden handle, found by the library entrance");
+        int[] unrelated = minHash.signature("Student ID card issued to the engineering faculty");
+
+        assertThat(MinHash.similarity(original, reworded)).isGreaterThan(0.6);
+        assertThat(MinHash.similarity(original, unrelated)).isLessThan(0.2);
+    }
+
+    @Test
+    @DisplayName("Should track the exact Jaccard similarity of the shingle sets")
+    void shouldApproximateJaccard() {
+        String a = "blue backpack with laptop";
+        String b = "blue backpack with charger";
+        int[] shinglesA = MinHash.shingles(a);
+        int[] shinglesB = MinHash.shingles(b);
+        long shared = Arrays.stream(shinglesA)
+                .filter(shingle -> Arrays.binarySearch(shinglesB, shingle) >= 0)
+                .count();
+        double jaccard = (double) shared / (shinglesA.length + shinglesB.length - shared);
+
+        double estimate = MinHash.similarity(minHash.signature(a), minHash.signature(b));
+
+        assertThat(estimate).isCloseTo(jaccard, offset(0.15));
+    }
+
+    @Test
+    @DisplayName("Should sign texts shorter than a shingle, and give empty text a signature nothing matches")
+    void shouldHandleShortText() {
+        assertThat(MinHash.shingles("ab")).hasSize(1);
+        assertThat(MinHash.similarity(minHash.signature(""), minHash.signature("umbrella"))).isZero();
+    }
+}
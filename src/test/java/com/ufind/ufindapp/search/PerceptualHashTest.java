@@ -0,0 +1,98 @@
+package com.ufind.ufindapp.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.awt.image.RescaleOp;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PerceptualHashTest {
+
+    private final BufferedImage photo = photo(1);
+
+    @Test
+    @DisplayName("Should hash a resized copy of a photo a few bits from the original")
+    void shouldTolerateResizing() {
+        assertThat(PerceptualHash.distance(PerceptualHash.hash(photo), PerceptualHash.hash(resize(photo, 160, 120))))
+                .isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should hash a brighter, JPEG re-encoded copy of a photo a few bits from the original")
+    void shouldTolerateBrightnessAndCompression() throws IOException {
+        BufferedImage brighter = new RescaleOp(1.2f, 15f, null).filter(photo, null);
+
+        assertThat(PerceptualHash.distance(PerceptualHash.hash(photo), PerceptualHash.hash(jpeg(brighter))))
+                .isLessThanOrEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Should hash unrelated photos far apart")
+    void shouldSeparateDifferentPhotos() {
+        long hash = PerceptualHash.hash(photo);
+        for (int seed = 2; seed < 10; seed++) {
+            assertThat(PerceptualHash.distance(hash, PerceptualHash.hash(photo(seed)))).isGreaterThan(16);
+        }
+    }
+
+    @Test
+    @DisplayName("Should hash an image smaller than the thumbnail")
+    void shouldHashTinyImage() {
+        assertThat(PerceptualHash.distance(PerceptualHash.hash(photo), PerceptualHash.hash(resize(photo, 20, 15))))
+                .isLessThanOrEqualTo(12);
+    }
+
+    // A few large shapes on a gradient, roughly what a photo of an object on a table looks like at 32x32.
+    static BufferedImage photo(long seed) {
+        Random random = new Random(seed);
+        BufferedImage image = new BufferedImage(640, 480, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_ON);
+        graphics.setPaint(new GradientPaint(0, 0, randomColor(random), 640, 480, randomColor(random)));
+        graphics.fillRect(0, 0, 640, 480);
+        for (int i = 0; i < 6; i++) {
+            graphics.setColor(randomColor(random));
+            int x = random.nextInt(560);
+            int y = random.nextInt(400);
+            int width = 80 + random.nextInt(240);
+            int height = 80 + random.nextInt(200);
+            if (random.nextBoolean()) {
+                graphics.fillOval(x, y, width, height);
+            } else {
+                graphics.fillRect(x, y, width, height);
+            }
+        }
+        graphics.dispose();
+        return image;
+    }
+
+    private static Color randomColor(Random random) {
+        return new Color(random.nextInt(256), random.nextInt(256), random.nextInt(256));
+    }
+
+    private static BufferedImage resize(BufferedImage image, int width, int height) {
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        graphics.drawImage(image, 0, 0, width, height, null);
+        graphics.dispose();
+        return resized;
+    }
+
+    private static BufferedImage jpeg(BufferedImage image) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "jpg", out);
+        return ImageIO.read(new ByteArrayInputStream(out.toByteArray()));
+    }
+}
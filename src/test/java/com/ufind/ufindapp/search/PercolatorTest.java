@@ -0,0 +1,92 @@
+package com.ufind.ufindapp.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PercolatorTest {
+
+    private Percolator<String> percolator;
+
+    @BeforeEach
+    void setUp() {
+        percolator = new Percolator<>();
+    }
+
+    @Test
+    @DisplayName("Should match a query only when the document has every one of its terms")
+    void shouldRequireAllTerms() {
+        percolator.add("backpack", List.of("blue", "backpack", "library"));
+
+        assertThat(percolator.match(Set.of("blue", "backpack", "found", "library", "floor"))).containsExactly("backpack");
+        assertThat(percolator.match(Set.of("blue", "backpack", "gym"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should match a query whichever of its terms the document is looked up by")
+    void shouldMatchRegardlessOfAnchor() {
+        percolator.add("keys", List.of("keys"));
+        percolator.add("car keys", List.of("car", "keys"));
+        percolator.add("red car", List.of("red", "car"));
+
+        assertThat(percolator.match(Set.of("car", "keys", "parking"))).containsExactlyInAnyOrder("keys", "car keys");
+    }
+
+    @Test
+    @DisplayName("Should replace a query re-added under the same id")
+    void shouldReplaceQuery() {
+        percolator.add("alert", List.of("umbrella"));
+        percolator.add("alert", List.of("wallet"));
+
+        assertThat(percolator.size()).isEqualTo(1);
+        assertThat(percolator.match(Set.of("umbrella"))).isEmpty();
+        assertThat(percolator.match(Set.of("wallet"))).containsExactly("alert");
+    }
+
+    @Test
+    @DisplayName("Should stop matching a removed query")
+    void shouldRemoveQuery() {
+        percolator.add("alert", List.of("black", "umbrella"));
+
+        assertThat(percolator.remove("alert")).isTrue();
+        assertThat(percolator.remove("alert")).isFalse();
+        assertThat(percolator.match(Set.of("black", "umbrella"))).isEmpty();
+        assertThat(percolator.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should ignore a query without terms")
+    void shouldIgnoreEmptyQuery() {
+        percolator.add("empty", List.of());
+
+        assertThat(percolator.size()).isZero();
+        assertThat(percolator.match(Set.of("anything"))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should keep a query added while another query on the same anchor is removed")
+    void shouldNotLoseQueryToConcurrentRemove() throws Exception {
+        Thread churn = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                percolator.add("other", List.of("umbrella"));
+                percolator.remove("other");
+            }
+        });
+        churn.start();
+        try {
+            for (int i = 0; i < 200_000; i++) {
+                percolator.add("alert", List.of("umbrella"));
+                assertThat(percolator.match(Set.of("umbrella"))).contains("alert");
+                percolator.remove("alert");
+            }
+        } finally {
+            churn.interrupt();
+            churn.join();
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.ufind.ufindapp.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TextVectorsTest {
+
+    private static final List<String> CATALOG = List.of(
+            "black umbrella found near the library",
+            "blue umbrella found in the gym",
+            "black backpack found near the library",
+            "student card found in the cafeteria",
+            "silver ring found in the gym",
+            "phone charger found in room 301");
+
+    private TextVectors vectors;
+
+    @BeforeEach
+    void setUp() {
+        vectors = new TextVectors(256);
+        for (String text : CATALOG) {
+            vectors.count(terms(text).keySet());
+        }
+    }
+
+    @Test
+    @DisplayName("Should rate texts sharing a rare word above texts sharing only common ones")
+    void shouldWeightRareWords() {
+        byte[] umbrella = vector("black umbrella found near the library");
+
+        double sameObject = cosine(umbrella, vector("blue umbrella found in the gym"));
+        double commonWordsOnly = cosine(umbrella, vector("silver ring found in the gym"));
+
+        assertThat(sameObject).isGreaterThan(commonWordsOnly);
+        assertThat(cosine(umbrella, umbrella)).isGreaterThan(0.99);
+    }
+
+    @Test
+    @DisplayName("Should give a text without terms an all-zero vector")
+    void shouldHandleEmptyText() {
+        assertThat(vector("")).containsOnly((byte) 0);
+    }
+
+    @Test
+    @DisplayName("Should produce the same vectors after a round trip")
+    void shouldRoundTrip() throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        vectors.writeTo(new DataOutputStream(bytes));
+
+        TextVectors restored = TextVectors.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertThat(restored.documents()).isEqualTo(CATALOG.size());
+        assertThat(restored.vector(terms("blue umbrella"))).isEqualTo(vector("blue umbrella"));
+    }
+
+    private byte[] vector(String text) {
+        return vectors.vector(terms(text));
+    }
+
+    private static Map<String, Double> terms(String text) {
+        Map<String, Double> terms = new HashMap<>();
+        for (String word : SearchText.words(text, 2)) {
+            terms.merge(word, 1.0, Double::sum);
+        }
+        return terms;
+    }
+
+    private static double cosine(byte[] a, byte[] b) {
+        int sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+        return sum / (127.0 * 127.0);
+    }
+}
@@ -0,0 +1,150 @@
+package com.ufind.ufindapp.service;
+
+import com.ufind.ufindapp.config.AlertProperties;
+import com.ufind.ufindapp.dto.AlertSubscriptionDTO;
+import com.ufind.ufindapp.dto.CreateAlertRequest;
+import com.ufind.ufindapp.entity.Item;
+import com.ufind.ufindapp.event.ItemRegisteredEvent;
+import com.ufind.ufindapp.exception.AlertNotFoundException;
+import com.ufind.ufindapp.exception.InvalidAlertQueryException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AlertServiceTest {
+
+    private static final String EMAIL = "student@ufam.edu.br";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private AlertProperties properties;
+    private AlertService alertService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new AlertProperties();
+        properties.setMaxTerms(3);
+        properties.setMaxSubscriptionsPerEmail(2);
+        alertService = new AlertService(jdbcTemplate, properties, new SimpleMeterRegistry());
+    }
+
+    // ===== Queries =====
+
+    @Test
+    @DisplayName("Should reduce a query to its distinct normalized words")
+    void shouldNormalizeQueryTerms() {
+        assertThat(alertService.queryTerms("Blue backpack, Bibliotéca — blue"))
+                .containsExactly("blue", "backpack", "biblioteca");
+    }
+
+    @Test
+    @DisplayName("Should reject a query with no usable words, or too many, before touching the database")
+    void shouldRejectUnusableQueries() {
+        assertThatThrownBy(() -> alertService.subscribe(new CreateAlertRequest(EMAIL, "a ! ?")))
+                .isInstanceOf(InvalidAlertQueryException.class)
+                .hasMessage("The query needs at least one word of 2 or more characters.");
+        assertThatThrownBy(() -> alertService.subscribe(new CreateAlertRequest(EMAIL, "red blue green pink")))
+                .isInstanceOf(InvalidAlertQueryException.class)
+                .hasMessage("The query can have at most 3 words.");
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should refuse an alert once the email has reached its quota")
+    void shouldEnforceQuota() {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq(EMAIL))).thenReturn(2L);
+
+        assertThatThrownBy(() -> alertService.subscribe(new CreateAlertRequest(EMAIL, "umbrella")))
+                .isInstanceOf(InvalidAlertQueryException.class)
+                .hasMessage("An email can have at most 2 alerts.");
+    }
+
+    // ===== Matching =====
+
+    @Test
+    @DisplayName("Should record a match for a new item that has every word of an alert")
+    void shouldRecordMatch() {
+        subscribe("blue backpack library");
+
+        alertService.onItemRegistered(new ItemRegisteredEvent(item("Blue backpack", "Central library, 2nd floor")));
+
+        verify(jdbcTemplate).update(any(PreparedStatementCreator.class));
+    }
+
+    @Test
+    @DisplayName("Should not touch the database for an item no alert matches")
+    void shouldSkipUnmatchedItem() {
+        subscribe("blue backpack library");
+
+        alertService.onItemRegistered(new ItemRegisteredEvent(item("Blue backpack", "Gym")));
+
+        verify(jdbcTemplate, never()).update(any(PreparedStatementCreator.class));
+    }
+
+    @Test
+    @DisplayName("Should stop matching an alert once it is cancelled")
+    void shouldForgetCancelledAlert() {
+        UUID id = subscribe("umbrella");
+        when(jdbcTemplate.update(anyString(), eq(id))).thenReturn(1);
+
+        alertService.unsubscribe(id);
+        alertService.onItemRegistered(new ItemRegisteredEvent(item("Black umbrella", "Library")));
+
+        verify(jdbcTemplate, never()).update(any(PreparedStatementCreator.class));
+    }
+
+    @Test
+    @DisplayName("Should report an unknown alert as not found")
+    void shouldRejectUnknownAlert() {
+        UUID id = UUID.randomUUID();
+        when(jdbcTemplate.update(anyString(), eq(id))).thenReturn(0);
+
+        assertThatThrownBy(() -> alertService.unsubscribe(id)).isInstanceOf(AlertNotFoundException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private UUID subscribe(String query) {
+        UUID id = UUID.randomUUID();
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq(EMAIL))).thenReturn(0L);
+        when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class), eq(EMAIL), eq(query)))
+                .thenReturn(new AlertSubscriptionDTO(id, EMAIL, query, List.of(), Instant.now()));
+        alertService.subscribe(new CreateAlertRequest(EMAIL, query));
+        return id;
+    }
+
+    private static Item item(String title, String location) {
+        return Item.builder()
+                .id(UUID.randomUUID())
+                .title(title)
+                .description("Found on a bench")
+                .dateFound(LocalDate.of(2026, 2, 5))
+                .locationFound(location)
+                .build();
+    }
+}
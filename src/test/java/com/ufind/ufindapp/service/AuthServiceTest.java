@@ -5,9 +5,12 @@ import com.ufind.ufindapp.dto.LoginRequest;
 import com.ufind.ufindapp.dto.RegisterUserRequest;
 import com.ufind.ufindapp.entity.User;
 import com.ufind.ufindapp.entity.UserRole;
+import com.ufind.ufindapp.event.UserRegisteredEvent;
 import com.ufind.ufindapp.exception.InvalidRoleException;
 import com.ufind.ufindapp.exception.UserAlreadyExistsException;
+import com.ufind.ufindapp.exception.UnauthorizedException;
 import com.ufind.ufindapp.repository.UserRepository;
+import com.ufind.ufindapp.security.UserPrincipal;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +24,7 @@ import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
@@ -29,6 +33,8 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.UUID;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
@@ -49,6 +55,10 @@ class AuthServiceTest {
     private PasswordEncoder passwordEncoder;
     @Mock
     private Authentication authentication;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private RefreshTokenService refreshTokenService;
     @InjectMocks
     private AuthService authService;
 
@@ -95,6 +105,17 @@ class AuthServiceTest {
         assertThat(savedUser.getRole()).isEqualTo(UserRole.ROLE_SECRETARY);
     }
 
+    @Test
+    @DisplayName("Should publish the registered user for the audit log")
+    void shouldPublishRegisteredUser() {
+        when(userRepository.existsByEmail(requestSecretary.email())).thenReturn(false);
+
+        authService.register(requestSecretary);
+
+        verify(userRepository).save(userCaptor.capture());
+        verify(eventPublisher).publishEvent(new UserRegisteredEvent(userCaptor.getValue()));
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"ROLE_SECRETARY", "ROLE_ADMIN"})
     @DisplayName("Should accept valid roles")
@@ -198,6 +219,43 @@ class AuthServiceTest {
         verify(jwtService).generateToken(adminUserDetails);
     }
 
+    // === Happy Path Tests - Token Refresh ===
+
+    @Test
+    @DisplayName("Should issue an access token and the next refresh token without checking a password")
+    void shouldRefreshWithoutPasswordCheck() {
+        UserPrincipal principal = UserPrincipal.withoutPassword(
+                UUID.randomUUID(), "maria.santos@icomp.ufam.edu.br", UserRole.ROLE_SECRETARY);
+        when(refreshTokenService.rotate("refresh")).thenReturn(new RefreshTokenService.Rotation("next", principal));
+        when(jwtService.generateToken(principal)).thenReturn("access");
+
+        LoginDTO result = authService.refresh("refresh");
+
+        assertThat(result.token()).isEqualTo("access");
+        assertThat(result.refreshToken()).isEqualTo("next");
+        assertThat(result.user().id()).isEqualTo(principal.getId());
+        assertThat(result.user().role()).isEqualTo(UserRole.ROLE_SECRETARY);
+        verifyNoInteractions(authenticationManager, passwordEncoder, userRepository);
+    }
+
+    @Test
+    @DisplayName("Should not issue an access token for a refused refresh token")
+    void shouldNotIssueTokenForRefusedRefresh() {
+        when(refreshTokenService.rotate("stale")).thenThrow(new UnauthorizedException("Invalid refresh token."));
+
+        assertThatThrownBy(() -> authService.refresh("stale"))
+                .isInstanceOf(UnauthorizedException.class);
+        verify(jwtService, never()).generateToken(any());
+    }
+
+    @Test
+    @DisplayName("Should revoke the refresh token on logout")
+    void shouldRevokeRefreshTokenOnLogout() {
+        authService.logout("refresh");
+
+        verify(refreshTokenService).revoke("refresh");
+    }
+
     // === Error Scenarios - Invalid Role ===
 
     @ParameterizedTest
@@ -0,0 +1,59 @@
+package com.ufind.ufindapp.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvRecordReaderTest {
+
+    @Test
+    @DisplayName("Should split plain records on commas and line breaks")
+    void shouldReadPlainRecords() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("a,b,c\r\n1,,3\n"));
+
+        assertThat(reader.next()).containsExactly("a", "b", "c");
+        assertThat(reader.next()).containsExactly("1", "", "3");
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    @DisplayName("Should unquote fields with commas, doubled quotes and line breaks")
+    void shouldReadQuotedFields() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(
+                new StringReader("\"Black, leather\",\"say \"\"hi\"\"\",\"two\nlines\"\nlast,row,here"));
+
+        assertThat(reader.next()).containsExactly("Black, leather", "say \"hi\"", "two\nlines");
+        assertThat(reader.next()).containsExactly("last", "row", "here");
+        assertThat(reader.recordLine()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Should skip a byte order mark and blank lines")
+    void shouldSkipBomAndBlankLines() throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("\uFEFFtitle\n\n\nUmbrella\n"));
+
+        assertThat(reader.next()).containsExactly("title");
+        assertThat(reader.next()).containsExactly("Umbrella");
+        assertThat(reader.recordLine()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Should reject an unterminated quoted field")
+    void shouldRejectUnterminatedQuote() {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader("\"never closed,1\n"));
+
+        assertThatThrownBy(reader::next).isInstanceOf(IOException.class).hasMessageContaining("line 1");
+    }
+
+    @Test
+    @DisplayName("Should keep a trailing empty field")
+    void shouldKeepTrailingEmptyField() throws IOException {
+        assertThat(new CsvRecordReader(new StringReader("a,\n")).next()).isEqualTo(List.of("a", ""));
+    }
+}
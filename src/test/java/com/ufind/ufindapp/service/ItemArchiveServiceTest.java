@@ -0,0 +1,138 @@
+package com.ufind.ufindapp.service;
+
+import com.ufind.ufindapp.config.ArchiveProperties;
+import com.ufind.ufindapp.event.ItemsArchivedEvent;
+import com.ufind.ufindapp.repository.ArchivedItem;
+import com.ufind.ufindapp.repository.ItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemArchiveServiceTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+    @Mock
+    private ItemFacetService itemFacetService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ArchiveProperties properties;
+    private ItemArchiveService itemArchiveService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ArchiveProperties();
+        properties.setBatchSize(2);
+        properties.setMaxBatchesPerRun(3);
+        itemArchiveService = new ItemArchiveService(
+                itemRepository, itemFacetService, eventPublisher, transactionTemplate, properties);
+    }
+
+    // ===== Batching =====
+
+    @Test
+    @DisplayName("Should keep running batches until one comes back short")
+    void shouldStopAfterShortBatch() {
+        runCallbacksInline();
+        when(itemRepository.archiveClaimedBefore(any(OffsetDateTime.class), eq(2)))
+                .thenReturn(items(2))
+                .thenReturn(items(1));
+
+        int archived = itemArchiveService.archiveClaimedItems();
+
+        assertThat(archived).isEqualTo(3);
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+
+    @Test
+    @DisplayName("Should stop at the per-run batch cap")
+    void shouldStopAtBatchCap() {
+        runCallbacksInline();
+        when(itemRepository.archiveClaimedBefore(any(OffsetDateTime.class), anyInt())).thenReturn(items(2));
+
+        int archived = itemArchiveService.archiveClaimedItems();
+
+        assertThat(archived).isEqualTo(6);
+        verify(transactionTemplate, times(3)).execute(any());
+    }
+
+    @Test
+    @DisplayName("Should archive items claimed before the retention cutoff")
+    void shouldUseRetentionCutoff() {
+        runCallbacksInline();
+        when(itemRepository.archiveClaimedBefore(any(OffsetDateTime.class), anyInt())).thenReturn(List.of());
+        OffsetDateTime before = OffsetDateTime.now().minus(properties.getClaimedRetention());
+
+        itemArchiveService.archiveClaimedItems();
+
+        verify(itemRepository).archiveClaimedBefore(
+                argThat(cutoff -> !cutoff.isBefore(before)
+                        && cutoff.isBefore(OffsetDateTime.now().minusDays(89))),
+                eq(2));
+    }
+
+    @Test
+    @DisplayName("Should do nothing when archival is disabled")
+    void shouldDoNothingWhenDisabled() {
+        properties.setEnabled(false);
+
+        assertThat(itemArchiveService.archiveClaimedItems()).isZero();
+        verifyNoInteractions(transactionTemplate, itemRepository);
+    }
+
+    // ===== Side effects =====
+
+    @Test
+    @DisplayName("Should update facets and publish each non-empty batch")
+    void shouldUpdateFacetsAndPublishBatch() {
+        runCallbacksInline();
+        List<ArchivedItem> batch = items(1);
+        when(itemRepository.archiveClaimedBefore(any(OffsetDateTime.class), anyInt())).thenReturn(batch);
+
+        itemArchiveService.archiveClaimedItems();
+
+        verify(itemFacetService).recordArchived(batch);
+        verify(eventPublisher).publishEvent(new ItemsArchivedEvent(batch));
+    }
+
+    @Test
+    @DisplayName("Should leave facets alone when nothing was archived")
+    void shouldSkipSideEffectsForEmptyBatch() {
+        runCallbacksInline();
+        when(itemRepository.archiveClaimedBefore(any(OffsetDateTime.class), anyInt())).thenReturn(List.of());
+
+        itemArchiveService.archiveClaimedItems();
+
+        verifyNoInteractions(itemFacetService, eventPublisher);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runCallbacksInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+    }
+
+    private static List<ArchivedItem> items(int count) {
+        return Collections.nCopies(count, mock(ArchivedItem.class));
+    }
+}
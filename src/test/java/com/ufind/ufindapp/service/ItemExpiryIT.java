@@ -0,0 +1,123 @@
+package com.ufind.ufindapp.service;
+
+import com.ufind.ufindapp.dto.MarkItemClaimedRequest;
+import com.ufind.ufindapp.support.AbstractPostgresIT;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemExpiryIT extends AbstractPostgresIT {
+
+    @Autowired
+    private ItemExpiryService itemExpiryService;
+    @Autowired
+    private ItemFacetService itemFacetService;
+    @Autowired
+    private ItemService itemService;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("TRUNCATE items");
+        insert(5, "AVAILABLE", 200);
+        insert(1, "CLAIMED", 200);
+        insert(1, "AVAILABLE", 1);
+        itemFacetService.reconcile();
+    }
+
+    @Test
+    @DisplayName("Items unclaimed past retention expire, with their facet counts and updated_at")
+    void shouldExpireOldUnclaimedItems() {
+        int expired = itemExpiryService.expireUnclaimedItems();
+
+        assertThat(expired).isEqualTo(5);
+        assertThat(statusCount("EXPIRED")).isEqualTo(5);
+        assertThat(statusCount("AVAILABLE")).isEqualTo(1);
+        assertThat(statusCount("CLAIMED")).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM items WHERE status = 'EXPIRED' AND updated_at > now() - INTERVAL '1 minute'",
+                Long.class)).isEqualTo(5);
+        assertThat(facetCount("EXPIRED")).isEqualTo(5);
+        assertThat(facetCount("AVAILABLE")).isEqualTo(1);
+        assertThat(itemExpiryService.expireUnclaimedItems()).isZero();
+    }
+
+    @Test
+    @DisplayName("A row locked elsewhere is skipped rather than waited on, and expires on a later run")
+    void shouldSkipLockedRows() throws Exception {
+        UUID locked = jdbcTemplate.queryForObject(
+                "SELECT id FROM items WHERE status = 'AVAILABLE' ORDER BY created_at LIMIT 1", UUID.class);
+        try (Connection other = dataSource.getConnection()) {
+            other.setAutoCommit(false);
+            try (PreparedStatement statement = other.prepareStatement("SELECT id FROM items WHERE id = ? FOR UPDATE")) {
+                statement.setObject(1, locked);
+                statement.executeQuery();
+            }
+
+            assertThat(itemExpiryService.expireUnclaimedItems()).isEqualTo(4);
+            other.rollback();
+        }
+
+        assertThat(itemExpiryService.expireUnclaimedItems()).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM items WHERE id = ?", String.class, locked))
+                .isEqualTo("EXPIRED");
+    }
+
+    @Test
+    @DisplayName("A claim in progress holds its row, so expiry skips it and the facet counts stay exact")
+    void shouldNotExpireItemBeingClaimed() throws Exception {
+        UUID claimed = jdbcTemplate.queryForObject(
+                "SELECT id FROM items WHERE status = 'AVAILABLE' ORDER BY created_at LIMIT 1", UUID.class);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            itemService.markItemAsClaimed(new MarkItemClaimedRequest(claimed));
+            // the expiry batch runs in its own transaction while the claim is still open
+            int expired = CompletableFuture.supplyAsync(itemExpiryService::expireUnclaimedItems).join();
+            assertThat(expired).isEqualTo(4);
+        });
+
+        assertThat(jdbcTemplate.queryForObject("SELECT status FROM items WHERE id = ?", String.class, claimed))
+                .isEqualTo("CLAIMED");
+        for (String status : List.of("AVAILABLE", "CLAIMED", "EXPIRED")) {
+            assertThat(facetCount(status)).as(status).isEqualTo(statusCount(status));
+        }
+    }
+
+    private void insert(int count, String status, int daysAgo) {
+        jdbcTemplate.update("""
+                INSERT INTO items (title, description, date_found, location_found, status, created_at, updated_at)
+                SELECT 'Umbrella ' || g, 'Left behind', CURRENT_DATE - ?, 'Central Library', ?,
+                       now() - make_interval(days => ?) + g * INTERVAL '1 second',
+                       now() - make_interval(days => ?)
+                FROM generate_series(1, ?) g
+                """, daysAgo, status, daysAgo, daysAgo, count);
+    }
+
+    private long statusCount(String status) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM items WHERE status = ?", Long.class, status);
+    }
+
+    private long facetCount(String status) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(item_count), 0) FROM item_facet_counts WHERE facet = 'STATUS' AND facet_value = ?",
+                Long.class, status);
+    }
+}
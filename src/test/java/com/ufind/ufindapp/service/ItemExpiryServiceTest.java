@@ -0,0 +1,171 @@
+package com.ufind.ufindapp.service;
+
+import com.ufind.ufindapp.config.ExpiryProperties;
+import com.ufind.ufindapp.entity.ItemStatus;
+import com.ufind.ufindapp.event.ItemsExpiredEvent;
+import com.ufind.ufindapp.repository.ItemRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemExpiryServiceTest {
+
+    @Mock
+    private ItemRepository itemRepository;
+    @Mock
+    private ItemFacetService itemFacetService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private ExpiryProperties properties;
+    private ItemExpiryService itemExpiryService;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ExpiryProperties();
+        properties.setBatchSize(2);
+        properties.setMaxBatchesPerRun(3);
+        itemExpiryService = new ItemExpiryService(
+                itemRepository, itemFacetService, eventPublisher, transactionTemplate, properties, meterRegistry);
+    }
+
+    // ===== Batching =====
+
+    @Test
+    @DisplayName("Should keep running batches until one comes back short")
+    void shouldStopAfterShortBatch() {
+        runCallbacksInline();
+        when(itemRepository.expireAvailableBefore(any(OffsetDateTime.class), eq(2)))
+                .thenReturn(ids(2))
+                .thenReturn(ids(1));
+
+        int expired = itemExpiryService.expireUnclaimedItems();
+
+        assertThat(expired).isEqualTo(3);
+        verify(transactionTemplate, times(2)).execute(any());
+    }
+
+    @Test
+    @DisplayName("Should stop at the per-run batch cap")
+    void shouldStopAtBatchCap() {
+        runCallbacksInline();
+        when(itemRepository.expireAvailableBefore(any(OffsetDateTime.class), anyInt())).thenAnswer(invocation -> ids(2));
+
+        int expired = itemExpiryService.expireUnclaimedItems();
+
+        assertThat(expired).isEqualTo(6);
+        verify(transactionTemplate, times(3)).execute(any());
+    }
+
+    @Test
+    @DisplayName("Should expire items registered before the retention cutoff")
+    void shouldUseRetentionCutoff() {
+        runCallbacksInline();
+        when(itemRepository.expireAvailableBefore(any(OffsetDateTime.class), anyInt())).thenReturn(List.of());
+        OffsetDateTime before = OffsetDateTime.now().minus(properties.getRetention());
+
+        itemExpiryService.expireUnclaimedItems();
+
+        verify(itemRepository).expireAvailableBefore(
+                argThat(cutoff -> !cutoff.isBefore(before)
+                        && cutoff.isBefore(OffsetDateTime.now().minusDays(179))),
+                eq(2));
+    }
+
+    @Test
+    @DisplayName("Should do nothing when expiry is disabled")
+    void shouldDoNothingWhenDisabled() {
+        properties.setEnabled(false);
+
+        assertThat(itemExpiryService.expireUnclaimedItems()).isZero();
+        verifyNoInteractions(transactionTemplate, itemRepository);
+    }
+
+    // ===== Side effects =====
+
+    @Test
+    @DisplayName("Should move each batch from AVAILABLE to EXPIRED in the facets and publish it")
+    void shouldUpdateFacetsAndPublishBatch() {
+        runCallbacksInline();
+        List<UUID> batch = ids(1);
+        when(itemRepository.expireAvailableBefore(any(OffsetDateTime.class), anyInt())).thenReturn(batch);
+
+        itemExpiryService.expireUnclaimedItems();
+
+        verify(itemFacetService).recordStatusChange(ItemStatus.AVAILABLE, ItemStatus.EXPIRED, 1);
+        verify(eventPublisher).publishEvent(new ItemsExpiredEvent(batch));
+    }
+
+    @Test
+    @DisplayName("Should leave facets alone when nothing expired")
+    void shouldSkipSideEffectsForEmptyBatch() {
+        runCallbacksInline();
+        when(itemRepository.expireAvailableBefore(any(OffsetDateTime.class), anyInt())).thenReturn(List.of());
+
+        itemExpiryService.expireUnclaimedItems();
+
+        verifyNoInteractions(itemFacetService, eventPublisher);
+    }
+
+    // ===== Metrics =====
+
+    @Test
+    @DisplayName("Should count expired items and count down what is left of the run's backlog")
+    void shouldReportProgress() {
+        runCallbacksInline();
+        when(itemRepository.countAvailableBefore(any(OffsetDateTime.class))).thenReturn(10L);
+        when(itemRepository.expireAvailableBefore(any(OffsetDateTime.class), anyInt()))
+                .thenReturn(ids(2))
+                .thenReturn(ids(1));
+
+        itemExpiryService.expireUnclaimedItems();
+
+        assertThat(meterRegistry.get("items.expired").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("items.expiry.remaining").gauge().value()).isEqualTo(7);
+        assertThat(meterRegistry.get("items.expiry.batch").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should not count a batch whose transaction failed")
+    void shouldNotCountFailedBatch() {
+        when(transactionTemplate.execute(any())).thenThrow(new IllegalStateException("connection lost"));
+
+        assertThatThrownBy(() -> itemExpiryService.expireUnclaimedItems()).isInstanceOf(IllegalStateException.class);
+
+        assertThat(meterRegistry.get("items.expired").counter().count()).isZero();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void runCallbacksInline() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+    }
+
+    private static List<UUID> ids(int count) {
+        return Stream.generate(UUID::randomUUID).limit(count).toList();
+    }
+}
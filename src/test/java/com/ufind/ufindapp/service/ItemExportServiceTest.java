@@ -0,0 +1,145 @@
+package com.ufind.ufindapp.service;
+
+import com.ufind.ufindapp.config.ExportProperties;
+import com.ufind.ufindapp.dto.ExportFormat;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemExportServiceTest {
+
+    private static final UUID ITEM_ID = UUID.fromString("6f1c1c8e-4a55-4b8e-9a55-0d7d3e3f9a01");
+    private static final OffsetDateTime CREATED_AT = OffsetDateTime.of(2026, 2, 5, 9, 30, 0, 0, ZoneOffset.UTC);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ResultSet row;
+
+    private ItemExportService itemExportService;
+
+    @BeforeEach
+    void setUp() {
+        itemExportService = new ItemExportService(
+                jdbcTemplate, JsonMapper.builder().build(), transactionManager, new ExportProperties());
+    }
+
+    // ===== Formats =====
+
+    @Test
+    @DisplayName("Should write a CSV header and one line per row")
+    void shouldWriteCsv() throws Exception {
+        streamOneRow();
+
+        String csv = export(ExportFormat.CSV);
+
+        assertThat(csv).isEqualTo(
+                "id,title,description,dateFound,locationFound,status,imageUrl,contactInfo,createdAt,updatedAt\r\n"
+                + ITEM_ID + ",Umbrella,\"Black, with a \"\"Ufind\"\" tag\",2026-02-05,Central Library,AVAILABLE,,"
+                + "desk@ufind.test,2026-02-05T09:30Z,2026-02-05T09:30Z\r\n");
+    }
+
+    @Test
+    @DisplayName("Should write one JSON object per line")
+    void shouldWriteNdjson() throws Exception {
+        streamOneRow();
+
+        String ndjson = export(ExportFormat.NDJSON);
+
+        assertThat(ndjson).isEqualTo("{\"id\":\"" + ITEM_ID + "\",\"title\":\"Umbrella\","
+                + "\"description\":\"Black, with a \\\"Ufind\\\" tag\",\"dateFound\":\"2026-02-05\","
+                + "\"locationFound\":\"Central Library\",\"status\":\"AVAILABLE\",\"imageUrl\":null,"
+                + "\"contactInfo\":\"desk@ufind.test\",\"createdAt\":\"2026-02-05T09:30Z\","
+                + "\"updatedAt\":\"2026-02-05T09:30Z\"}\n");
+    }
+
+    @Test
+    @DisplayName("Should read through a cursor with the configured fetch size in a read-only transaction")
+    void shouldUseCursorInReadOnlyTransaction() throws Exception {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        export(ExportFormat.CSV);
+
+        verify(transactionManager).getTransaction(argThat(TransactionDefinition::isReadOnly));
+        verify(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    @DisplayName("Should still write the CSV header when there are no items")
+    void shouldWriteHeaderForEmptyExport() throws Exception {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+
+        assertThat(export(ExportFormat.CSV)).startsWith("id,title,").endsWith("updatedAt\r\n");
+        assertThat(export(ExportFormat.NDJSON)).isEmpty();
+    }
+
+    // ===== CSV escaping =====
+
+    @Test
+    @DisplayName("Should quote fields with separators, quotes and line breaks")
+    void shouldQuoteCsvFields() {
+        assertThat(ItemExportService.csvField("plain")).isEqualTo("plain");
+        assertThat(ItemExportService.csvField("a,b")).isEqualTo("\"a,b\"");
+        assertThat(ItemExportService.csvField("say \"hi\"")).isEqualTo("\"say \"\"hi\"\"\"");
+        assertThat(ItemExportService.csvField("two\nlines")).isEqualTo("\"two\nlines\"");
+        assertThat(ItemExportService.csvField(null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Should defuse values a spreadsheet would evaluate as formulas")
+    void shouldDefuseFormulas() {
+        assertThat(ItemExportService.csvField("=HYPERLINK(\"x\")")).isEqualTo("\"'=HYPERLINK(\"\"x\"\")\"");
+        assertThat(ItemExportService.csvField("+1")).isEqualTo("'+1");
+        assertThat(ItemExportService.csvField("@cmd")).isEqualTo("'@cmd");
+    }
+
+    private void streamOneRow() throws Exception {
+        when(transactionManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        when(row.getString(1)).thenReturn(ITEM_ID.toString());
+        when(row.getString(2)).thenReturn("Umbrella");
+        when(row.getString(3)).thenReturn("Black, with a \"Ufind\" tag");
+        when(row.getObject(4, LocalDate.class)).thenReturn(LocalDate.of(2026, 2, 5));
+        when(row.getString(5)).thenReturn("Central Library");
+        when(row.getString(6)).thenReturn("AVAILABLE");
+        when(row.getString(7)).thenReturn(null);
+        when(row.getString(8)).thenReturn("desk@ufind.test");
+        when(row.getObject(anyInt(), eq(OffsetDateTime.class))).thenReturn(CREATED_AT);
+        doAnswer(invocation -> {
+            invocation.getArgument(1, RowCallbackHandler.class).processRow(row);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+    }
+
+    private String export(ExportFormat format) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        itemExportService.export(format, out);
+        return out.toString(UTF_8);
+    }
+}
@@ -0,0 +1,109 @@
+package com.ufind.ufindapp.service;
+
+import com.ufind.ufindapp.exception.InvalidImportException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ItemImportServiceTest {
+
+    private static final Map<String, Integer> COLUMNS = Map.of(
+            "title", 0, "description", 1, "dateFound", 2, "locationFound", 3,
+            "status", 4, "imageUrl", 5, "contactInfo", 6);
+
+    @Mock
+    private DataSource dataSource;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private ItemFacetService itemFacetService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private ItemImportService itemImportService;
+
+    // ===== Header =====
+
+    @Test
+    @DisplayName("Should reject a CSV without the required columns before touching the database")
+    void shouldRejectMissingColumns() {
+        ByteArrayInputStream csv = new ByteArrayInputStream("title,description\nUmbrella,Black\n".getBytes(UTF_8));
+
+        assertThatThrownBy(() -> itemImportService.importCsv(csv, false))
+                .isInstanceOf(InvalidImportException.class)
+                .hasMessage("Missing CSV columns: dateFound, locationFound");
+        verifyNoInteractions(jdbcTemplate, dataSource);
+    }
+
+    @Test
+    @DisplayName("Should reject an empty upload")
+    void shouldRejectEmptyCsv() {
+        assertThatThrownBy(() -> itemImportService.importCsv(new ByteArrayInputStream(new byte[0]), false))
+                .isInstanceOf(InvalidImportException.class)
+                .hasMessage("The CSV is empty.");
+    }
+
+    // ===== Rows =====
+
+    @Test
+    @DisplayName("Should encode a valid row as a quoted COPY line")
+    void shouldEncodeValidRow() {
+        ByteArrayOutputStream batch = new ByteArrayOutputStream();
+
+        String error = ItemImportService.appendRow(
+                List.of("Umbrella", "Black, \"big\"", "2026-02-05", "Central Library", "claimed", "", ""),
+                COLUMNS, batch);
+
+        assertThat(error).isNull();
+        assertThat(batch.toString(UTF_8))
+                .isEqualTo("\"Umbrella\",\"Black, \"\"big\"\"\",\"2026-02-05\",\"Central Library\",\"CLAIMED\",,\n");
+    }
+
+    @Test
+    @DisplayName("Should default a missing status to AVAILABLE")
+    void shouldDefaultStatus() {
+        ByteArrayOutputStream batch = new ByteArrayOutputStream();
+
+        ItemImportService.appendRow(List.of("Keys", "Car keys", "2026-02-05", "Gym"), COLUMNS, batch);
+
+        assertThat(batch.toString(UTF_8)).contains("\"AVAILABLE\"");
+    }
+
+    @Test
+    @DisplayName("Should report why a row was rejected and not encode it")
+    void shouldRejectInvalidRows() {
+        ByteArrayOutputStream batch = new ByteArrayOutputStream();
+        String tomorrow = LocalDate.now().plusDays(1).toString();
+
+        assertThat(ItemImportService.appendRow(List.of("", "d", "2026-02-05", "Gym"), COLUMNS, batch))
+                .isEqualTo("title is required");
+        assertThat(ItemImportService.appendRow(List.of("t", "d", "05/02/2026", "Gym"), COLUMNS, batch))
+                .isEqualTo("dateFound must be an ISO date (yyyy-MM-dd)");
+        assertThat(ItemImportService.appendRow(List.of("t", "d", tomorrow, "Gym"), COLUMNS, batch))
+                .isEqualTo("dateFound cannot be in the future");
+        assertThat(ItemImportService.appendRow(List.of("t", "d", "2026-02-05", "Gym", "LOST"), COLUMNS, batch))
+                .isEqualTo("unknown status 'LOST'");
+        assertThat(ItemImportService.appendRow(List.of("t", "x".repeat(501), "2026-02-05", "Gym"), COLUMNS, batch))
+                .isEqualTo("description must be at most 500 characters");
+        assertThat(batch.size()).isZero();
+    }
+}
@@ -0,0 +1,130 @@
+package com.ufind.ufindapp.service;
+
+import com.ufind.ufindapp.config.ItemCacheProperties;
+import com.ufind.ufindapp.entity.Item;
+import com.ufind.ufindapp.entity.ItemStatus;
+import com.ufind.ufindapp.event.ItemClaimedEvent;
+import com.ufind.ufindapp.event.ItemsExpiredEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemJsonCacheTest {
+
+    private static final OffsetDateTime UPDATED_AT = OffsetDateTime.parse("2026-02-05T10:15:30.123456Z");
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().build();
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // ===== Lookup =====
+
+    @Test
+    @DisplayName("Should serve the serialized item for the version it was cached at")
+    void shouldServeSameVersion() {
+        ItemJsonCache cache = cache(true, 1 << 20);
+        Item item = item("Black umbrella");
+
+        byte[] json = cache.put(item);
+
+        assertThat(new String(json, StandardCharsets.UTF_8)).isEqualTo(objectMapper.writeValueAsString(item));
+        assertThat(cache.contains(item.getId())).isTrue();
+        assertThat(cache.get(item.getId(), UPDATED_AT)).isSameAs(json);
+        // the same instant read back in another offset is the same version
+        assertThat(cache.get(item.getId(), UPDATED_AT.withOffsetSameInstant(ZoneOffset.ofHours(-4)))).isSameAs(json);
+    }
+
+    @Test
+    @DisplayName("Should drop an entry whose item has changed or gone")
+    void shouldDropStaleEntry() {
+        ItemJsonCache cache = cache(true, 1 << 20);
+        Item changed = item("Black umbrella");
+        Item gone = item("Blue backpack");
+        cache.put(changed);
+        cache.put(gone);
+
+        assertThat(cache.get(changed.getId(), UPDATED_AT.plusNanos(1_000))).isNull();
+        assertThat(cache.get(gone.getId(), null)).isNull();
+
+        assertThat(cache.contains(changed.getId())).isFalse();
+        assertThat(cache.contains(gone.getId())).isFalse();
+    }
+
+    @Test
+    @DisplayName("Should only serialize when disabled")
+    void shouldNotCacheWhenDisabled() {
+        ItemJsonCache cache = cache(false, 1 << 20);
+        Item item = item("Black umbrella");
+
+        assertThat(cache.put(item)).isNotEmpty();
+        assertThat(cache.contains(item.getId())).isFalse();
+        assertThat(cache.get(item.getId(), UPDATED_AT)).isNull();
+    }
+
+    // ===== Bounds =====
+
+    @Test
+    @DisplayName("Should keep the bytes held within the configured maximum")
+    void shouldBoundBytesHeld() {
+        ItemJsonCache cache = cache(true, 20_000);
+
+        for (int i = 0; i < 200; i++) {
+            cache.put(item("Item " + i));
+        }
+
+        double held = meterRegistry.get("item.json.cache.bytes").gauge().value();
+        assertThat(held).isPositive().isLessThanOrEqualTo(20_000);
+    }
+
+    // ===== Invalidation =====
+
+    @Test
+    @DisplayName("Should drop claimed and expired items once their transaction commits")
+    void shouldInvalidateOnWrites() {
+        ItemJsonCache cache = cache(true, 1 << 20);
+        Item claimed = item("Black umbrella");
+        Item expired = item("Blue backpack");
+        Item untouched = item("Student card");
+        cache.put(claimed);
+        cache.put(expired);
+        cache.put(untouched);
+
+        cache.onItemClaimed(new ItemClaimedEvent(claimed));
+        cache.onItemsExpired(new ItemsExpiredEvent(List.of(expired.getId())));
+
+        assertThat(cache.contains(claimed.getId())).isFalse();
+        assertThat(cache.contains(expired.getId())).isFalse();
+        assertThat(cache.contains(untouched.getId())).isTrue();
+    }
+
+    private ItemJsonCache cache(boolean enabled, long maxBytes) {
+        ItemCacheProperties properties = new ItemCacheProperties();
+        properties.setEnabled(enabled);
+        properties.setMaxBytes(maxBytes);
+        return new ItemJsonCache(objectMapper, properties, meterRegistry, Runnable::run);
+    }
+
+    private static Item item(String title) {
+        return Item.builder()
+                .id(UUID.randomUUID())
+                .title(title)
+                .description("Found after the evening lecture, left under a seat in the second row")
+                .dateFound(LocalDate.of(2026, 2, 5))
+                .locationFound("Central Library")
+                .status(ItemStatus.AVAILABLE)
+                .createdAt(UPDATED_AT)
+                .updatedAt(UPDATED_AT)
+                .build();
+    }
+}
@@ -1,20 +1,51 @@
 package com.ufind.ufindapp.service;
 
+import com.ufind.ufindapp.config.ItemBatchProperties;
+import com.ufind.ufindapp.datasource.RecentWriters;
+import com.ufind.ufindapp.dto.DuplicateCandidateDTO;
+import com.ufind.ufindapp.dto.ItemBatchDTO;
+import com.ufind.ufindapp.dto.ItemField;
+import com.ufind.ufindapp.dto.ItemFilter;
+import com.ufind.ufindapp.dto.ItemRegistrationDTO;
 import com.ufind.ufindapp.dto.MarkItemClaimedRequest;
+import com.ufind.ufindapp.dto.RegisterItemRequest;
 import com.ufind.ufindapp.entity.Item;
 import com.ufind.ufindapp.entity.ItemStatus;
+import com.ufind.ufindapp.event.ItemClaimedEvent;
+import com.ufind.ufindapp.event.ItemRegisteredEvent;
+import com.ufind.ufindapp.exception.InvalidBatchException;
+import com.ufind.ufindapp.exception.InvalidSortException;
 import com.ufind.ufindapp.exception.ItemNotFoundException;
 import com.ufind.ufindapp.repository.ItemRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -23,6 +54,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,6 +62,22 @@ class ItemServiceTest {
 
     @Mock
     private ItemRepository itemRepository;
+    @Mock
+    private ItemFacetService itemFacetService;
+    @Mock
+    private ItemDuplicateService itemDuplicateService;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    @Mock
+    private ObjectProvider<RecentWriters> recentWriters;
+    @Mock
+    private ItemJsonCache itemJsonCache;
+    @Spy
+    private ItemBatchProperties batchProperties = new ItemBatchProperties();
 
     @InjectMocks
     private ItemService itemService;
@@ -59,7 +107,7 @@ class ItemServiceTest {
     @Test
     @DisplayName("Should mark available item as claimed")
     void shouldMarkAvailableItemAsClaimed() {
-        when(itemRepository.findById(itemId)).thenReturn(Optional.of(availableItem));
+        when(itemRepository.findByIdForUpdate(itemId)).thenReturn(Optional.of(availableItem));
 
         itemService.markItemAsClaimed(request);
 
@@ -67,19 +115,19 @@ class ItemServiceTest {
     }
 
     @Test
-    @DisplayName("Should find item by ID from request")
+    @DisplayName("Should lock the item by ID from request")
     void shouldFindItemByIdFromRequest() {
-        when(itemRepository.findById(itemId)).thenReturn(Optional.of(availableItem));
+        when(itemRepository.findByIdForUpdate(itemId)).thenReturn(Optional.of(availableItem));
 
         itemService.markItemAsClaimed(request);
 
-        verify(itemRepository).findById(itemId);
+        verify(itemRepository).findByIdForUpdate(itemId);
     }
 
     @Test
     @DisplayName("Should change status from AVAILABLE to CLAIMED")
     void shouldChangeStatusFromAvailableToClaimed() {
-        when(itemRepository.findById(itemId)).thenReturn(Optional.of(availableItem));
+        when(itemRepository.findByIdForUpdate(itemId)).thenReturn(Optional.of(availableItem));
         assertThat(availableItem.getStatus()).isEqualTo(ItemStatus.AVAILABLE); // verify initial state
 
         itemService.markItemAsClaimed(request);
@@ -99,13 +147,105 @@ class ItemServiceTest {
                 .status(ItemStatus.CLAIMED) // already claimed
                 .build();
 
-        when(itemRepository.findById(itemId)).thenReturn(Optional.of(alreadyClaimedItem));
+        when(itemRepository.findByIdForUpdate(itemId)).thenReturn(Optional.of(alreadyClaimedItem));
 
         itemService.markItemAsClaimed(request);
 
         assertThat(alreadyClaimedItem.getStatus()).isEqualTo(ItemStatus.CLAIMED);
     }
 
+    @Test
+    @DisplayName("Should move the status facet from AVAILABLE to CLAIMED")
+    void shouldUpdateStatusFacetWhenClaimed() {
+        when(itemRepository.findByIdForUpdate(itemId)).thenReturn(Optional.of(availableItem));
+
+        itemService.markItemAsClaimed(request);
+
+        verify(itemFacetService).recordStatusChange(ItemStatus.AVAILABLE, ItemStatus.CLAIMED, 1);
+    }
+
+    @Test
+    @DisplayName("Should claim an expired item and move its facet count from EXPIRED")
+    void shouldClaimExpiredItem() {
+        availableItem.setStatus(ItemStatus.EXPIRED);
+        when(itemRepository.findByIdForUpdate(itemId)).thenReturn(Optional.of(availableItem));
+
+        itemService.markItemAsClaimed(request);
+
+        assertThat(availableItem.getStatus()).isEqualTo(ItemStatus.CLAIMED);
+        verify(itemFacetService).recordStatusChange(ItemStatus.EXPIRED, ItemStatus.CLAIMED, 1);
+    }
+
+    @Test
+    @DisplayName("Should publish the claimed item for the change feed")
+    void shouldPublishClaimedItem() {
+        when(itemRepository.findByIdForUpdate(itemId)).thenReturn(Optional.of(availableItem));
+
+        itemService.markItemAsClaimed(request);
+
+        ArgumentCaptor<ItemClaimedEvent> event = ArgumentCaptor.forClass(ItemClaimedEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().item().getStatus()).isEqualTo(ItemStatus.CLAIMED);
+    }
+
+    @Test
+    @DisplayName("Should not publish a second claim for an item already claimed")
+    void shouldNotPublishRepeatedClaim() {
+        availableItem.setStatus(ItemStatus.CLAIMED);
+        when(itemRepository.findByIdForUpdate(itemId)).thenReturn(Optional.of(availableItem));
+
+        itemService.markItemAsClaimed(request);
+
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("Should count a registered item in the facets")
+    void shouldRecordFacetsForRegisteredItem() {
+        RegisterItemRequest registerRequest = new RegisterItemRequest(
+                "Umbrella", "Black umbrella", LocalDate.of(2026, 2, 5), "Central Library",
+                null, "https://example.com/umbrella.png", null);
+
+        itemService.registerItem(registerRequest);
+
+        InOrder inOrder = inOrder(itemRepository, itemFacetService);
+        inOrder.verify(itemRepository).save(any(Item.class));
+        inOrder.verify(itemFacetService).recordAdded(any(Item.class));
+    }
+
+    @Test
+    @DisplayName("Should publish the registered item for in-memory indexes")
+    void shouldPublishRegisteredItem() {
+        RegisterItemRequest registerRequest = new RegisterItemRequest(
+                "Umbrella", "Black umbrella", LocalDate.of(2026, 2, 5), "Central Library",
+                null, "https://example.com/umbrella.png", null);
+
+        itemService.registerItem(registerRequest);
+
+        ArgumentCaptor<ItemRegisteredEvent> event = ArgumentCaptor.forClass(ItemRegisteredEvent.class);
+        verify(eventPublisher).publishEvent(event.capture());
+        assertThat(event.getValue().item().getTitle()).isEqualTo("Umbrella");
+        assertThat(event.getValue().item().getLocationFound()).isEqualTo("Central Library");
+    }
+
+    @Test
+    @DisplayName("Should return the possible duplicates of a registered item")
+    void shouldReturnPossibleDuplicates() {
+        RegisterItemRequest registerRequest = new RegisterItemRequest(
+                "Umbrella", "Black umbrella", LocalDate.of(2026, 2, 5), "Central Library",
+                null, "https://example.com/umbrella.png", null);
+        DuplicateCandidateDTO candidate = new DuplicateCandidateDTO(
+                UUID.randomUUID(), "Black umbrella", "Central Library", LocalDate.of(2026, 2, 4), 0.8);
+        when(itemDuplicateService.checkAndRecord(any(Item.class))).thenReturn(List.of(candidate));
+
+        ItemRegistrationDTO result = itemService.registerItem(registerRequest);
+
+        assertThat(result.possibleDuplicates()).containsExactly(candidate);
+        InOrder inOrder = inOrder(itemRepository, itemDuplicateService);
+        inOrder.verify(itemRepository).save(any(Item.class));
+        inOrder.verify(itemDuplicateService).checkAndRecord(any(Item.class));
+    }
+
     @Test
     void getItemByIdWhenItemExistsReturnsItem() {
         UUID id = UUID.randomUUID();
@@ -120,16 +260,143 @@ class ItemServiceTest {
         assertEquals(id, result.getId());
     }
 
+    @Test
+    @DisplayName("Should list items with filters and an allowed sort")
+    void shouldListItemsWithFiltersAndAllowedSort() {
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "dateFound"));
+        ItemFilter filter = new ItemFilter(ItemStatus.AVAILABLE, LocalDate.of(2026, 2, 1), null, "Central Library");
+        when(itemRepository.findAll(ArgumentMatchers.<Specification<Item>>any(), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(availableItem)));
+
+        Page<Item> result = itemService.getAllItems(filter, pageable);
+
+        assertThat(result.getContent()).containsExactly(availableItem);
+    }
+
+    @Test
+    @DisplayName("Should read only the requested fields when a fieldset is given")
+    void shouldListSparseFieldset() {
+        Pageable pageable = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+        Set<ItemField> fields = ItemField.parse("title,locationFound");
+        Map<String, Object> row = Map.of("id", itemId, "title", "Umbrella", "locationFound", "Central Library");
+        when(itemRepository.findAllFields(ArgumentMatchers.<Specification<Item>>any(), eq(fields), eq(pageable)))
+                .thenReturn(new PageImpl<>(List.of(row)));
+
+        Page<Map<String, Object>> result = itemService.getAllItems(ItemFilter.none(), fields, pageable);
+
+        assertThat(result.getContent()).containsExactly(row);
+        verify(itemRepository, never()).findAll(ArgumentMatchers.<Specification<Item>>any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should read a batch with one query, in request order, answering repeated ids once and listing missing ones")
+    void shouldReadBatchInRequestOrder() {
+        UUID second = UUID.randomUUID();
+        UUID gone = UUID.randomUUID();
+        Item secondItem = Item.builder().id(second).title("Keys").status(ItemStatus.AVAILABLE).build();
+        when(itemRepository.findAllByIdAny(new UUID[] {second, gone, itemId}))
+                .thenReturn(List.of(availableItem, secondItem));
+
+        ItemBatchDTO result = itemService.getItemsByIds(List.of(second, gone, itemId, second));
+
+        assertThat(result.items()).containsExactly(secondItem, availableItem);
+        assertThat(result.missing()).containsExactly(gone);
+        verify(itemRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should answer an empty batch without querying")
+    void shouldReadEmptyBatch() {
+        ItemBatchDTO result = itemService.getItemsByIds(List.of());
+
+        assertThat(result.items()).isEmpty();
+        assertThat(result.missing()).isEmpty();
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    @DisplayName("Should reject a batch of more distinct ids than allowed")
+    void shouldRejectOversizedBatch() {
+        batchProperties.setMaxIds(2);
+        List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+        assertThatThrownBy(() -> itemService.getItemsByIds(ids))
+                .isInstanceOf(InvalidBatchException.class)
+                .hasMessageContaining("At most 2");
+        verifyNoInteractions(itemRepository);
+    }
+
+    @Test
+    @DisplayName("Should serve cached JSON while the item's updated_at is unchanged, without loading it")
+    void shouldServeCachedJson() {
+        OffsetDateTime updatedAt = OffsetDateTime.parse("2026-02-05T10:15:30Z");
+        byte[] json = "{}".getBytes();
+        when(itemJsonCache.contains(itemId)).thenReturn(true);
+        when(itemRepository.findUpdatedAtById(itemId)).thenReturn(Optional.of(updatedAt));
+        when(itemJsonCache.get(itemId, updatedAt)).thenReturn(json);
+
+        assertThat(itemService.getItemJsonById(itemId)).isSameAs(json);
+        verify(itemRepository, never()).findById(any());
+    }
+
+    @Test
+    @DisplayName("Should load, serialize and cache an item that is not cached")
+    void shouldCacheJsonOnMiss() {
+        byte[] json = "{}".getBytes();
+        when(itemRepository.findById(itemId)).thenReturn(Optional.of(availableItem));
+        when(itemJsonCache.put(availableItem)).thenReturn(json);
+
+        assertThat(itemService.getItemJsonById(itemId)).isSameAs(json);
+        verify(itemRepository, never()).findUpdatedAtById(any());
+    }
+
+    @Test
+    @DisplayName("Should reload an item whose cached JSON is of an older version")
+    void shouldReloadStaleJson() {
+        OffsetDateTime updatedAt = OffsetDateTime.parse("2026-02-05T10:15:30Z");
+        byte[] json = "{}".getBytes();
+        when(itemJsonCache.contains(itemId)).thenReturn(true);
+        when(itemRepository.findUpdatedAtById(itemId)).thenReturn(Optional.of(updatedAt));
+        when(itemJsonCache.get(itemId, updatedAt)).thenReturn(null);
+        when(itemRepository.findById(itemId)).thenReturn(Optional.of(availableItem));
+        when(itemJsonCache.put(availableItem)).thenReturn(json);
+
+        assertThat(itemService.getItemJsonById(itemId)).isSameAs(json);
+    }
+
 
     // ===== Error Cases =====
 
+    @Test
+    @DisplayName("Should reject sorting by a field without an index")
+    void shouldRejectSortingByUnindexedField() {
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("description"));
+
+        assertThatThrownBy(() -> itemService.getAllItems(ItemFilter.none(), pageable))
+                .isInstanceOf(InvalidSortException.class)
+                .hasMessageContaining("description");
+
+        verify(itemRepository, never()).findAll(ArgumentMatchers.<Specification<Item>>any(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should reject sorting by more than one field")
+    void shouldRejectMultiFieldSort() {
+        Pageable pageable = PageRequest.of(0, 20, Sort.by("dateFound", "title"));
+
+        assertThatThrownBy(() -> itemService.searchItems("wallet", pageable))
+                .isInstanceOf(InvalidSortException.class);
+
+        verify(itemRepository, never()).searchItems(anyString(), any(Pageable.class));
+    }
+
     @Test
     @DisplayName("Should throw ItemNotFoundException when item does not exist")
     void shouldThrowItemNotFoundExceptionWhenItemDoesNotExist() {
         UUID nonExistentId = UUID.randomUUID();
         MarkItemClaimedRequest requestWithNonExistentId = new MarkItemClaimedRequest(nonExistentId);
         
-        when(itemRepository.findById(nonExistentId)).thenReturn(Optional.empty());
+        when(itemRepository.findByIdForUpdate(nonExistentId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> itemService.markItemAsClaimed(requestWithNonExistentId))
                 .isInstanceOf(ItemNotFoundException.class)
@@ -139,7 +406,7 @@ class ItemServiceTest {
     @Test
     @DisplayName("Should throw ItemNotFoundException with correct message")
     void shouldThrowItemNotFoundExceptionWithCorrectMessage() {
-        when(itemRepository.findById(itemId)).thenReturn(Optional.empty());
+        when(itemRepository.findByIdForUpdate(itemId)).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> itemService.markItemAsClaimed(request))
                 .isInstanceOf(ItemNotFoundException.class)
@@ -150,7 +417,7 @@ class ItemServiceTest {
     @Test
     @DisplayName("Should NOT change status when item is not found")
     void shouldNotChangeStatusWhenItemNotFound() {
-        when(itemRepository.findById(itemId)).thenReturn(Optional.empty());
+        when(itemRepository.findByIdForUpdate(itemId)).thenReturn(Optional.empty());
 
         try {
             itemService.markItemAsClaimed(request);
@@ -174,10 +441,21 @@ class ItemServiceTest {
 
     // ===== Transactional Behavior =====
 
+    @Test
+    @DisplayName("Should report a missing item when reading a fieldset")
+    void shouldThrowWhenSparseItemNotFound() {
+        UUID id = UUID.randomUUID();
+        when(itemRepository.findFieldsById(eq(id), any())).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> itemService.getItemById(id, ItemField.parse("title")))
+                .isInstanceOf(ItemNotFoundException.class)
+                .hasMessage("Item not found with id: " + id);
+    }
+
     @Test
     @DisplayName("Should rely on @Transactional to persist status change without explicit save")
     void shouldRelyOnTransactionalToPersistChanges() {
-        when(itemRepository.findById(itemId)).thenReturn(Optional.of(availableItem));
+        when(itemRepository.findByIdForUpdate(itemId)).thenReturn(Optional.of(availableItem));
 
         itemService.markItemAsClaimed(request);
 
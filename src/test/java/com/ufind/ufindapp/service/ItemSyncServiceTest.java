@@ -0,0 +1,136 @@
+package com.ufind.ufindapp.service;
+
+import com.ufind.ufindapp.config.SyncProperties;
+import com.ufind.ufindapp.dto.ItemChangesDTO;
+import com.ufind.ufindapp.entity.Item;
+import com.ufind.ufindapp.exception.InvalidWatermarkException;
+import com.ufind.ufindapp.repository.ItemRepository;
+import com.ufind.ufindapp.repository.ItemTombstone;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemSyncServiceTest {
+
+    private static final OffsetDateTime EPOCH = OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC);
+    private static final UUID NIL = new UUID(0, 0);
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    private ItemSyncService itemSyncService;
+
+    @BeforeEach
+    void setUp() {
+        SyncProperties properties = new SyncProperties();
+        properties.setCommitLag(Duration.ofSeconds(30));
+        properties.setMaxPageSize(100);
+        itemSyncService = new ItemSyncService(itemRepository, properties);
+    }
+
+    // ===== Paging =====
+
+    @Test
+    @DisplayName("Should start from the beginning when no watermark is given")
+    void shouldStartFromBeginning() {
+        itemSyncService.changesSince(null, 50);
+
+        verify(itemRepository).findChangedSince(EPOCH, NIL, 30.0, 50);
+        verify(itemRepository).findRemovedSince(EPOCH, NIL, 30.0, 50);
+    }
+
+    @Test
+    @DisplayName("Should cap the page size")
+    void shouldClampPageSize() {
+        itemSyncService.changesSince(null, 10_000);
+
+        verify(itemRepository).findChangedSince(any(), any(), anyDouble(), eq(100));
+    }
+
+    @Test
+    @DisplayName("Should report more when a page comes back full")
+    void shouldReportHasMore() {
+        when(itemRepository.findChangedSince(any(), any(), anyDouble(), anyInt()))
+                .thenReturn(List.of(item(at(1)), item(at(2))));
+
+        assertThat(itemSyncService.changesSince(null, 2).hasMore()).isTrue();
+        assertThat(itemSyncService.changesSince(null, 3).hasMore()).isFalse();
+    }
+
+    // ===== Watermark =====
+
+    @Test
+    @DisplayName("Should continue after the last item and tombstone returned")
+    void shouldAdvanceWatermark() {
+        Item last = item(at(2).plusNanos(123_000));
+        UUID archivedId = UUID.randomUUID();
+        when(itemRepository.findChangedSince(any(), any(), anyDouble(), anyInt()))
+                .thenReturn(List.of(item(at(1)), last));
+        when(itemRepository.findRemovedSince(any(), any(), anyDouble(), anyInt()))
+                .thenReturn(List.of(tombstone(archivedId, at(5))));
+
+        ItemChangesDTO page = itemSyncService.changesSince(null, 50);
+        itemSyncService.changesSince(page.watermark(), 50);
+
+        assertThat(page.removed()).containsExactly(archivedId);
+        verify(itemRepository).findChangedSince(last.getUpdatedAt(), last.getId(), 30.0, 50);
+        verify(itemRepository).findRemovedSince(at(5), archivedId, 30.0, 50);
+    }
+
+    @Test
+    @DisplayName("Should keep the watermark when nothing changed")
+    void shouldKeepWatermarkWithoutChanges() {
+        String watermark = ChangeWatermark.INITIAL.withItems(at(7), UUID.randomUUID()).encode();
+
+        assertThat(itemSyncService.changesSince(watermark, 50).watermark()).isEqualTo(watermark);
+    }
+
+    @Test
+    @DisplayName("Should reject a watermark it did not issue")
+    void shouldRejectInvalidWatermark() {
+        assertThatThrownBy(() -> itemSyncService.changesSince("not-a-watermark", 50))
+                .isInstanceOf(InvalidWatermarkException.class);
+        verifyNoInteractions(itemRepository);
+    }
+
+    private static OffsetDateTime at(long minutes) {
+        return Instant.parse("2026-02-05T10:00:00Z").plus(Duration.ofMinutes(minutes)).atOffset(ZoneOffset.UTC);
+    }
+
+    private static Item item(OffsetDateTime updatedAt) {
+        return Item.builder().id(UUID.randomUUID()).title("Umbrella").updatedAt(updatedAt).build();
+    }
+
+    private static ItemTombstone tombstone(UUID id, OffsetDateTime removedAt) {
+        return new ItemTombstone() {
+            @Override
+            public UUID getId() {
+                return id;
+            }
+
+            @Override
+            public OffsetDateTime getRemovedAt() {
+                return removedAt;
+            }
+        };
+    }
+}
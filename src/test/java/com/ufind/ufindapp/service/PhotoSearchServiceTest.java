@@ -0,0 +1,246 @@
+package com.ufind.ufindapp.service;
+
+import com.sun.net.httpserver.HttpServer;
+import com.ufind.ufindapp.config.PhotoSearchProperties;
+import com.ufind.ufindapp.dto.PhotoMatchDTO;
+import com.ufind.ufindapp.entity.Item;
+import com.ufind.ufindapp.event.ItemRegisteredEvent;
+import com.ufind.ufindapp.exception.InvalidImageException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.RowMapper;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class PhotoSearchServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private PhotoSearchProperties properties;
+    private ExecutorService hashers;
+    private HttpServer server;
+    private final CountDownLatch unstall = new CountDownLatch(1);
+    private PhotoSearchService photoSearchService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        properties = new PhotoSearchProperties();
+        properties.setMaxImageBytes(1024 * 1024);
+        properties.setMaxImagePixels(2_000_000);
+        properties.setFetchTimeout(Duration.ofSeconds(1));
+        properties.setAllowPrivateAddresses(true);
+        hashers = Executors.newSingleThreadExecutor();
+        photoSearchService = new PhotoSearchService(
+                jdbcTemplate, properties, new SimpleMeterRegistry(), hashers, HttpClient.newHttpClient());
+
+        byte[] photo = encode(photo(Color.ORANGE, 640, 480), "png");
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/photo.png", exchange -> {
+            exchange.sendResponseHeaders(200, photo.length);
+            exchange.getResponseBody().write(photo);
+            exchange.close();
+        });
+        server.createContext("/moved.png", exchange -> {
+            exchange.getResponseHeaders().add("Location", "/photo.png");
+            exchange.sendResponseHeaders(302, -1);
+            exchange.close();
+        });
+        server.createContext("/stalled.png", exchange -> {
+            exchange.sendResponseHeaders(200, photo.length);
+            exchange.getResponseBody().write(photo, 0, 100);
+            exchange.getResponseBody().flush();
+            try {
+                unstall.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        unstall.countDown();
+        server.stop(0);
+        photoSearchService.close();
+    }
+
+    // ===== Hashing =====
+
+    @Test
+    @DisplayName("Should fetch and hash a registered item's photo off the request thread, then find it by a similar photo")
+    @SuppressWarnings("unchecked")
+    void shouldHashRegisteredPhotoAndFindIt() throws Exception {
+        Item item = item("http://127.0.0.1:" + server.getAddress().getPort() + "/photo.png");
+        when(jdbcTemplate.update(anyString(), eq(item.getId()))).thenReturn(1);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), anyLong(), eq(item.getId())))
+                .thenReturn(List.of("AVAILABLE"));
+
+        photoSearchService.onItemRegistered(new ItemRegisteredEvent(item));
+        hashers.shutdown();
+        assertThat(hashers.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        PhotoMatchDTO match = new PhotoMatchDTO(
+                item.getId(), item.getTitle(), item.getLocationFound(), item.getDateFound(), item.getImageUrl(), 0);
+        when(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class))).thenReturn(List.of(match));
+
+        // a smaller JPEG of the same picture, as a phone would upload it
+        byte[] upload = encode(photo(Color.ORANGE, 320, 240), "jpg");
+        assertThat(photoSearchService.search(new ByteArrayInputStream(upload))).containsExactly(match);
+    }
+
+    @Test
+    @DisplayName("Should leave an item unhashed when its photo cannot be fetched")
+    void shouldSkipUnfetchablePhoto() {
+        UUID id = UUID.randomUUID();
+
+        photoSearchService.hashItem(id, "file:///etc/passwd");
+        photoSearchService.hashItem(id, "http://127.0.0.1:" + server.getAddress().getPort() + "/missing.png");
+
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class), anyLong(), eq(id));
+    }
+
+    @Test
+    @DisplayName("Should give up on a photo whose body stalls after the headers")
+    void shouldGiveUpOnStalledPhoto() {
+        UUID id = UUID.randomUUID();
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5),
+                () -> photoSearchService.hashItem(id, "http://127.0.0.1:" + server.getAddress().getPort() + "/stalled.png"));
+
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class), anyLong(), eq(id));
+    }
+
+    @Test
+    @DisplayName("Should refuse private addresses and not follow redirects")
+    void shouldRefusePrivateAddressesAndRedirects() {
+        UUID id = UUID.randomUUID();
+        String base = "http://127.0.0.1:" + server.getAddress().getPort();
+
+        photoSearchService.hashItem(id, base + "/moved.png");
+        properties.setAllowPrivateAddresses(false);
+        photoSearchService.hashItem(id, base + "/photo.png");
+        photoSearchService.hashItem(id, "http://169.254.169.254/latest/meta-data/");
+
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(String.class), anyLong(), eq(id));
+    }
+
+    @Test
+    @DisplayName("Should claim only enough photos to refill the queue to one batch")
+    void shouldTopUpQueueToOneBatch() throws Exception {
+        properties.setSweepBatchSize(3);
+        Item item = item("http://127.0.0.1:" + server.getAddress().getPort() + "/stalled.png");
+        when(jdbcTemplate.update(anyString(), eq(item.getId()))).thenReturn(1);
+        photoSearchService.onItemRegistered(new ItemRegisteredEvent(item));
+
+        photoSearchService.sweep();
+
+        verify(jdbcTemplate).query(anyString(), any(RowCallbackHandler.class), eq(2));
+    }
+
+    @Test
+    @DisplayName("Should not queue an item without a photo")
+    void shouldIgnoreItemWithoutPhoto() {
+        photoSearchService.onItemRegistered(new ItemRegisteredEvent(item(null)));
+
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    // ===== Search =====
+
+    @Test
+    @DisplayName("Should not look anything up for a photo that matches nothing indexed")
+    void shouldReturnNothingForEmptyIndex() throws IOException {
+        assertThat(photoSearchService.search(new ByteArrayInputStream(encode(photo(Color.BLUE, 64, 48), "png"))))
+                .isEmpty();
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("Should reject an upload that is not an image, too large, or has too many pixels")
+    void shouldRejectBadUploads() throws IOException {
+        assertThatThrownBy(() -> photoSearchService.search(new ByteArrayInputStream("not a photo".getBytes())))
+                .isInstanceOf(InvalidImageException.class)
+                .hasMessage("The photo is not an image format we can read.");
+        assertThatThrownBy(() -> photoSearchService.search(new ByteArrayInputStream(new byte[2 * 1024 * 1024])))
+                .isInstanceOf(InvalidImageException.class)
+                .hasMessage("The photo is larger than 1 MB.");
+        // a few kilobytes of PNG that would decode into 3 million pixels
+        byte[] huge = encode(new BufferedImage(2000, 1500, BufferedImage.TYPE_BYTE_BINARY), "png");
+        assertThatThrownBy(() -> photoSearchService.search(new ByteArrayInputStream(huge)))
+                .isInstanceOf(InvalidImageException.class)
+                .hasMessage("The photo has too many pixels.");
+    }
+
+    private static BufferedImage photo(Color color, int width, int height) {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = image.createGraphics();
+        graphics.setColor(Color.DARK_GRAY);
+        graphics.fillRect(0, 0, width, height);
+        graphics.setColor(color);
+        graphics.fillOval(width / 4, height / 5, width / 2, height * 3 / 5);
+        graphics.setColor(Color.WHITE);
+        graphics.fillRect(0, height * 4 / 5, width / 3, height / 5);
+        graphics.dispose();
+        return image;
+    }
+
+    private static byte[] encode(BufferedImage image, String format) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, format, out);
+        return out.toByteArray();
+    }
+
+    private static Item item(String imageUrl) {
+        return Item.builder()
+                .id(UUID.randomUUID())
+                .title("Orange ball")
+                .description("Found on the court")
+                .dateFound(LocalDate.of(2026, 2, 5))
+                .locationFound("Gym")
+                .imageUrl(imageUrl)
+                .build();
+    }
+}
@@ -0,0 +1,161 @@
+package com.ufind.ufindapp.service;
+
+import com.ufind.ufindapp.config.JwtProperties;
+import com.ufind.ufindapp.entity.RefreshToken;
+import com.ufind.ufindapp.entity.UserRole;
+import com.ufind.ufindapp.exception.UnauthorizedException;
+import com.ufind.ufindapp.repository.RefreshTokenRepository;
+import com.ufind.ufindapp.repository.RotatedRefreshToken;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RefreshTokenService refreshTokenService;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        JwtProperties properties = new JwtProperties();
+        properties.setRefreshExpiration(30L * 24 * 60 * 60 * 1000);
+        properties.setRefreshReuseGrace(10_000);
+        meterRegistry = new SimpleMeterRegistry();
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, properties, meterRegistry);
+        userId = UUID.randomUUID();
+    }
+
+    // ===== Issue =====
+
+    @Test
+    @DisplayName("Should store only the hash of a new token, in a new family, expiring after the refresh lifetime")
+    void shouldStoreHashOfNewToken() {
+        String token = refreshTokenService.issue(userId);
+
+        RefreshToken saved = saved();
+        assertThat(token).hasSize(43);
+        assertThat(saved.getTokenHash()).isEqualTo(RefreshTokenService.hash(token));
+        assertThat(saved.getUserId()).isEqualTo(userId);
+        assertThat(saved.getFamilyId()).isNotNull();
+        assertThat(saved.getExpiresAt()).isCloseTo(OffsetDateTime.now().plusDays(30), within(1, ChronoUnit.MINUTES));
+    }
+
+    @Test
+    @DisplayName("Should start a different family, with a different token, on every login")
+    void shouldStartNewFamilyPerLogin() {
+        String first = refreshTokenService.issue(userId);
+        String second = refreshTokenService.issue(userId);
+
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository, times(2)).save(captor.capture());
+        List<RefreshToken> saved = captor.getAllValues();
+        assertThat(first).isNotEqualTo(second);
+        assertThat(saved.get(0).getFamilyId()).isNotEqualTo(saved.get(1).getFamilyId());
+    }
+
+    // ===== Rotate =====
+
+    @Test
+    @DisplayName("Should trade a live token for the next one in its family and the user it belongs to")
+    void shouldRotateLiveToken() {
+        UUID familyId = UUID.randomUUID();
+        when(refreshTokenRepository.markUsed(RefreshTokenService.hash("live")))
+                .thenReturn(Optional.of(rotated(familyId, "ROLE_SECRETARY")));
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate("live");
+
+        RefreshToken next = saved();
+        assertThat(rotation.token()).isNotEqualTo("live");
+        assertThat(next.getTokenHash()).isEqualTo(RefreshTokenService.hash(rotation.token()));
+        assertThat(next.getFamilyId()).isEqualTo(familyId);
+        assertThat(rotation.user().getId()).isEqualTo(userId);
+        assertThat(rotation.user().getUsername()).isEqualTo("maria.santos@icomp.ufam.edu.br");
+        assertThat(rotation.user().getRole()).isEqualTo(UserRole.ROLE_SECRETARY);
+        assertThat(rotation.user().getAuthorities()).extracting(Object::toString).containsExactly("ROLE_SECRETARY");
+        assertThat(count("rotated")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should refuse an unknown, expired or revoked token without revoking anything")
+    void shouldRefuseDeadToken() {
+        when(refreshTokenRepository.markUsed(any())).thenReturn(Optional.empty());
+        when(refreshTokenRepository.revokeFamilyIfUsedBefore(any(), any())).thenReturn(0);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate("dead"))
+                .isInstanceOf(UnauthorizedException.class);
+        verify(refreshTokenRepository, never()).save(any());
+        assertThat(count("rejected")).isEqualTo(1);
+        assertThat(count("reused")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should revoke the family of a token used before the grace period, and refuse it")
+    void shouldRevokeFamilyOnReuse() {
+        when(refreshTokenRepository.markUsed(any())).thenReturn(Optional.empty());
+        when(refreshTokenRepository.revokeFamilyIfUsedBefore(eq(RefreshTokenService.hash("stolen")), any()))
+                .thenReturn(3);
+
+        assertThatThrownBy(() -> refreshTokenService.rotate("stolen"))
+                .isInstanceOf(UnauthorizedException.class);
+
+        ArgumentCaptor<OffsetDateTime> usedBefore = ArgumentCaptor.forClass(OffsetDateTime.class);
+        verify(refreshTokenRepository).revokeFamilyIfUsedBefore(any(), usedBefore.capture());
+        assertThat(usedBefore.getValue()).isCloseTo(OffsetDateTime.now().minusSeconds(10), within(1, ChronoUnit.SECONDS));
+        verify(refreshTokenRepository, never()).save(any());
+        assertThat(count("reused")).isEqualTo(1);
+    }
+
+    // ===== Revoke =====
+
+    @Test
+    @DisplayName("Should revoke the family of the token presented on logout")
+    void shouldRevokeFamilyOnLogout() {
+        refreshTokenService.revoke("live");
+
+        verify(refreshTokenRepository).revokeFamily(RefreshTokenService.hash("live"));
+    }
+
+    private RefreshToken saved() {
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        return captor.getValue();
+    }
+
+    private double count(String result) {
+        return meterRegistry.get("auth.refresh").tag("result", result).counter().count();
+    }
+
+    private RotatedRefreshToken rotated(UUID familyId, String role) {
+        return new RotatedRefreshToken() {
+            public UUID getFamilyId() { return familyId; }
+            public UUID getUserId() { return userId; }
+            public String getEmail() { return "maria.santos@icomp.ufam.edu.br"; }
+            public String getRole() { return role; }
+        };
+    }
+}
@@ -0,0 +1,117 @@
+package com.ufind.ufindapp.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String, String> flight = new SingleFlight<>(meterRegistry, "test");
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should run concurrent identical calls once and give every caller the result")
+    void shouldShareOneExecution() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executions = new AtomicInteger();
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> flight.execute("key", () -> {
+                executions.incrementAndGet();
+                await(release);
+                return "result";
+            })));
+        }
+        waitUntil(() -> count("joined") == 7);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+        }
+        assertThat(executions).hasValue(1);
+        assertThat(count("executed")).isEqualTo(1);
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("Should give every joined caller the leader's exception")
+    void shouldShareFailure() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        Future<String> leader = executor.submit(() -> flight.execute("key", () -> {
+            await(release);
+            throw new IllegalStateException("boom");
+        }));
+        waitUntil(() -> flight.inFlight() == 1);
+        Future<String> follower = executor.submit(() -> flight.execute("key", () -> "unused"));
+        waitUntil(() -> count("joined") == 1);
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS)).hasCauseInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS)).cause()
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("boom");
+    }
+
+    @Test
+    @DisplayName("Should not cache: a call after completion runs again")
+    void shouldForgetCompletedCalls() {
+        AtomicInteger executions = new AtomicInteger();
+
+        flight.execute("key", () -> "first " + executions.incrementAndGet());
+        String second = flight.execute("key", () -> "second " + executions.incrementAndGet());
+
+        assertThat(second).isEqualTo("second 2");
+        assertThat(count("joined")).isZero();
+    }
+
+    @Test
+    @DisplayName("Should keep different keys apart")
+    void shouldNotShareAcrossKeys() {
+        assertThat(flight.execute("a", () -> "A")).isEqualTo("A");
+        assertThat(flight.execute("b", () -> "B")).isEqualTo("B");
+        assertThat(count("executed")).isEqualTo(2);
+    }
+
+    private double count(String outcome) {
+        return meterRegistry.get("item.reads").tag("outcome", outcome).counter().count();
+    }
+
+    private static void waitUntil(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime() - deadline).as("timed out waiting").isNegative();
+            Thread.sleep(5);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
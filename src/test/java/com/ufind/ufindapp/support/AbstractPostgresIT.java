@@ -0,0 +1,24 @@
+package com.ufind.ufindapp.support;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * Base class for integration tests. A single PostgreSQL container is started once per JVM
+ * and shared by every subclass; Flyway migrates it on context startup.
+ */
+@SpringBootTest
+@ActiveProfiles("it")
+@Import(SqlStatementRecorder.class)
+public abstract class AbstractPostgresIT {
+
+    @ServiceConnection
+    protected static final PostgreSQLContainer POSTGRES = new PostgreSQLContainer("postgres:16-alpine");
+
+    static {
+        POSTGRES.start();
+    }
+}
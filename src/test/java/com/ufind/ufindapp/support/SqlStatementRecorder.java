@@ -0,0 +1,88 @@
+package com.ufind.ufindapp.support;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Wraps every {@link DataSource} bean so that each executed JDBC statement is recorded
+ * together with its bound values. The PostgreSQL driver renders a prepared statement
+ * with its parameters inlined, which makes the recorded SQL directly EXPLAIN-able.
+ */
+public class SqlStatementRecorder implements BeanPostProcessor {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch");
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    public static void reset() {
+        STATEMENTS.clear();
+    }
+
+    public static List<String> statements() {
+        return List.copyOf(STATEMENTS);
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource) {
+            return proxy(DataSource.class, dataSource, (target, method, args) -> {
+                Object result = method.invoke(target, args);
+                return result instanceof Connection connection
+                        ? proxy(Connection.class, connection, SqlStatementRecorder::onConnection)
+                        : result;
+            });
+        }
+        return bean;
+    }
+
+    private static Object onConnection(Object target, Method method, Object[] args) throws Exception {
+        Object result = method.invoke(target, args);
+        if (result instanceof PreparedStatement statement) {
+            return proxy(PreparedStatement.class, statement, SqlStatementRecorder::onStatement);
+        }
+        if (result instanceof Statement statement) {
+            return proxy(Statement.class, statement, SqlStatementRecorder::onStatement);
+        }
+        return result;
+    }
+
+    private static Object onStatement(Object target, Method method, Object[] args) throws Exception {
+        if (EXECUTE_METHODS.contains(method.getName())) {
+            if (args != null && args.length > 0 && args[0] instanceof String sql) {
+                STATEMENTS.add(sql);
+            } else if (target instanceof PreparedStatement statement) {
+                STATEMENTS.add(statement.unwrap(PreparedStatement.class).toString());
+            }
+        }
+        return method.invoke(target, args);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, T target, Handler handler) {
+        InvocationHandler invocationHandler = (proxy, method, args) -> {
+            try {
+                return handler.handle(target, method, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type }, invocationHandler);
+    }
+
+    @FunctionalInterface
+    private interface Handler {
+        Object handle(Object target, Method method, Object[] args) throws Exception;
+    }
+}